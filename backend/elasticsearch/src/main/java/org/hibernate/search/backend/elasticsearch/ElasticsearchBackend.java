@@ -6,8 +6,12 @@
  */
 package org.hibernate.search.backend.elasticsearch;
 
+import java.util.Optional;
+
+import org.hibernate.search.backend.elasticsearch.client.RequestBufferPoolStatistics;
 import org.hibernate.search.engine.backend.Backend;
 import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.annotation.Incubating;
 
 public interface ElasticsearchBackend extends Backend {
 
@@ -23,4 +27,12 @@ public interface ElasticsearchBackend extends Backend {
 	 */
 	<T> T client(Class<T> clientClass);
 
+	/**
+	 * @return Statistics about the pool of buffers used to serialize the body of requests sent to Elasticsearch.
+	 * See {@link RequestBufferPoolStatistics} for details.
+	 * Empty if a custom client that does not rely on such a pool is used.
+	 */
+	@Incubating
+	Optional<RequestBufferPoolStatistics> requestBufferPoolStatistics();
+
 }
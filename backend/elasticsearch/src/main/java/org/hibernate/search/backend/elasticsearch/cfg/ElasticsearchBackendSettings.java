@@ -203,6 +203,36 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String DISCOVERY_REFRESH_INTERVAL = "discovery.refresh_interval";
 
+	/**
+	 * Whether HTTP compression is enabled when communicating with the Elasticsearch cluster.
+	 * <p>
+	 * When enabled, request bodies larger than {@link #COMPRESSION_THRESHOLD} are compressed using gzip,
+	 * and the Elasticsearch cluster is asked to compress its responses using gzip.
+	 * This reduces network traffic, at the cost of some CPU usage on both ends.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#COMPRESSION_ENABLED}.
+	 */
+	public static final String COMPRESSION_ENABLED = "compression.enabled";
+
+	/**
+	 * The size above which request bodies are compressed, in bytes,
+	 * when {@link #COMPRESSION_ENABLED compression is enabled}.
+	 * <p>
+	 * Small request bodies are sent uncompressed,
+	 * as the overhead of compression would outweigh the benefits.
+	 * Request bodies up to this size are serialized in memory before being sent,
+	 * so very high values will increase memory usage.
+	 * <p>
+	 * Expects a positive or zero Integer value, such as {@code 1024},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#COMPRESSION_THRESHOLD}.
+	 */
+	public static final String COMPRESSION_THRESHOLD = "compression.threshold";
+
 	/**
 	 * Allows to define a {@link ElasticsearchHttpClientConfigurer},
 	 * that can be used for instance to set custom HTTP client configurations,
@@ -287,6 +317,23 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String SCROLL_TIMEOUT = "scroll_timeout";
 
+	/**
+	 * Whether search query responses are filtered while being parsed,
+	 * keeping only the parts that are needed to extract hits, projections, aggregations and other results.
+	 * <p>
+	 * When enabled, the rest of the response is skipped instead of being built into a JSON tree,
+	 * which reduces memory usage for large responses.
+	 * As a result, {@code ElasticsearchSearchResult#responseBody()} only contains the parts of the response
+	 * that are needed by Hibernate Search,
+	 * except for queries that use a request transformer, whose responses are never filtered.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_RESPONSE_FILTERING_ENABLED}.
+	 */
+	public static final String QUERY_RESPONSE_FILTERING_ENABLED = "query.response_filtering.enabled";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -304,6 +351,8 @@ private Defaults() {
 		public static final int MAX_CONNECTIONS_PER_ROUTE = 10;
 		public static final boolean DISCOVERY_ENABLED = false;
 		public static final int DISCOVERY_REFRESH_INTERVAL = 10;
+		public static final boolean COMPRESSION_ENABLED = false;
+		public static final int COMPRESSION_THRESHOLD = 1024;
 		public static final boolean LOG_JSON_PRETTY_PRINTING = false;
 		public static final boolean VERSION_CHECK_ENABLED = true;
 
@@ -319,5 +368,6 @@ private Defaults() {
 		public static final BeanReference<IndexLayoutStrategy> LAYOUT_STRATEGY =
 				BeanReference.of( IndexLayoutStrategy.class, SimpleIndexLayoutStrategy.NAME );
 		public static final int SCROLL_TIMEOUT = 60;
+		public static final boolean QUERY_RESPONSE_FILTERING_ENABLED = false;
 	}
 }
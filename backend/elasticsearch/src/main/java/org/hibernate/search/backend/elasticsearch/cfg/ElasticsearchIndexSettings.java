@@ -144,6 +144,105 @@ private ElasticsearchIndexSettings() {
 	 */
 	public static final String INDEXING_MAX_BULK_SIZE = INDEXING_PREFIX + IndexingRadicals.MAX_BULK_SIZE;
 
+	/**
+	 * The maximum size of bulk requests created when processing indexing queues, in bytes.
+	 * <p>
+	 * Bulk requests are sent as soon as adding one more document would make them exceed this size,
+	 * even if they contain less than {@link #INDEXING_MAX_BULK_SIZE} operations.
+	 * A single document exceeding this size is still sent, in a bulk request of its own.
+	 * <p>
+	 * Sizes are computed as documents are built, before they are serialized,
+	 * and do not take request compression into account.
+	 * <p>
+	 * Expects a strictly positive integer value in bytes, such as {@code 10485760},
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_MAX_BULK_BYTE_SIZE}.
+	 */
+	public static final String INDEXING_MAX_BULK_BYTE_SIZE = INDEXING_PREFIX + IndexingRadicals.MAX_BULK_BYTE_SIZE;
+
+	/**
+	 * Whether the number of operations in bulk requests should adapt to the observed behavior of the cluster.
+	 * <p>
+	 * When enabled, each indexing queue starts with bulk requests of {@link #INDEXING_MAX_BULK_SIZE} operations,
+	 * halves that number whenever a bulk request takes longer than
+	 * {@link #INDEXING_ADAPTIVE_BULK_SIZE_TARGET_LATENCY the target latency} or gets (partially) rejected,
+	 * and progressively grows it back, up to {@link #INDEXING_MAX_BULK_SIZE}, while bulk requests are fast enough.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_ADAPTIVE_BULK_SIZE_ENABLED}.
+	 */
+	public static final String INDEXING_ADAPTIVE_BULK_SIZE_ENABLED = INDEXING_PREFIX + IndexingRadicals.ADAPTIVE_BULK_SIZE_ENABLED;
+
+	/**
+	 * The target execution time of bulk requests, in milliseconds,
+	 * when {@link #INDEXING_ADAPTIVE_BULK_SIZE_ENABLED adaptive bulk sizing} is enabled.
+	 * <p>
+	 * Expects a strictly positive integer value in milliseconds, such as {@code 1000},
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_ADAPTIVE_BULK_SIZE_TARGET_LATENCY}.
+	 */
+	public static final String INDEXING_ADAPTIVE_BULK_SIZE_TARGET_LATENCY = INDEXING_PREFIX + IndexingRadicals.ADAPTIVE_BULK_SIZE_TARGET_LATENCY;
+
+	/**
+	 * The maximum number of times an indexing operation rejected by an overloaded Elasticsearch cluster
+	 * (HTTP status 429) gets retried.
+	 * <p>
+	 * Only rejected operations are retried, in a new bulk request, after a delay
+	 * growing exponentially with each retry, between {@link #INDEXING_RETRY_INITIAL_BACKOFF}
+	 * and {@link #INDEXING_RETRY_MAX_BACKOFF}.
+	 * While operations are being retried, processing of all indexing queues of the same index is delayed,
+	 * so as to give the cluster some time to recover.
+	 * <p>
+	 * Set to {@code 0} to report rejected operations as failures immediately.
+	 * <p>
+	 * Expects a positive or zero integer value,
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_RETRY_MAX_RETRIES}.
+	 */
+	public static final String INDEXING_RETRY_MAX_RETRIES = INDEXING_PREFIX + IndexingRadicals.RETRY_MAX_RETRIES;
+
+	/**
+	 * The delay before the first retry of indexing operations rejected by an overloaded Elasticsearch cluster,
+	 * in milliseconds.
+	 * <p>
+	 * The delay doubles with each retry, and a random jitter of up to half the delay is applied.
+	 * <p>
+	 * Expects a strictly positive integer value in milliseconds, such as {@code 100},
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_RETRY_INITIAL_BACKOFF}.
+	 */
+	public static final String INDEXING_RETRY_INITIAL_BACKOFF = INDEXING_PREFIX + IndexingRadicals.RETRY_INITIAL_BACKOFF;
+
+	/**
+	 * The maximum delay before a retry of indexing operations rejected by an overloaded Elasticsearch cluster,
+	 * in milliseconds.
+	 * <p>
+	 * Expects a strictly positive integer value in milliseconds, such as {@code 5000},
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_RETRY_MAX_BACKOFF}.
+	 */
+	public static final String INDEXING_RETRY_MAX_BACKOFF = INDEXING_PREFIX + IndexingRadicals.RETRY_MAX_BACKOFF;
+
+	/**
+	 * The maximum time spent retrying the rejected operations of a bulk request, in milliseconds.
+	 * <p>
+	 * When this time is elapsed, operations that are still rejected are reported as failures,
+	 * even if {@link #INDEXING_RETRY_MAX_RETRIES the maximum number of retries} was not reached.
+	 * <p>
+	 * Expects a strictly positive integer value in milliseconds, such as {@code 60000},
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_RETRY_TIMEOUT}.
+	 */
+	public static final String INDEXING_RETRY_TIMEOUT = INDEXING_PREFIX + IndexingRadicals.RETRY_TIMEOUT;
+
 	/**
 	 * Configuration property keys for indexing, without the {@link #INDEXING_PREFIX prefix}.
 	 */
@@ -155,6 +254,13 @@ private IndexingRadicals() {
 		public static final String QUEUE_COUNT = "queue_count";
 		public static final String QUEUE_SIZE = "queue_size";
 		public static final String MAX_BULK_SIZE = "max_bulk_size";
+		public static final String MAX_BULK_BYTE_SIZE = "max_bulk_byte_size";
+		public static final String ADAPTIVE_BULK_SIZE_ENABLED = "adaptive_bulk_size.enabled";
+		public static final String ADAPTIVE_BULK_SIZE_TARGET_LATENCY = "adaptive_bulk_size.target_latency";
+		public static final String RETRY_MAX_RETRIES = "retry.max_retries";
+		public static final String RETRY_INITIAL_BACKOFF = "retry.initial_backoff";
+		public static final String RETRY_MAX_BACKOFF = "retry.max_backoff";
+		public static final String RETRY_TIMEOUT = "retry.timeout";
 	}
 
 	/**
@@ -170,6 +276,13 @@ private Defaults() {
 		public static final int INDEXING_QUEUE_COUNT = 10;
 		public static final int INDEXING_QUEUE_SIZE = 1000;
 		public static final int INDEXING_MAX_BULK_SIZE = 100;
+		public static final int INDEXING_MAX_BULK_BYTE_SIZE = 10 * 1024 * 1024;
+		public static final boolean INDEXING_ADAPTIVE_BULK_SIZE_ENABLED = false;
+		public static final int INDEXING_ADAPTIVE_BULK_SIZE_TARGET_LATENCY = 1000;
+		public static final int INDEXING_RETRY_MAX_RETRIES = 5;
+		public static final int INDEXING_RETRY_INITIAL_BACKOFF = 100;
+		public static final int INDEXING_RETRY_MAX_BACKOFF = 5000;
+		public static final int INDEXING_RETRY_TIMEOUT = 60_000;
 		public static final DynamicMapping DYNAMIC_MAPPING = DynamicMapping.STRICT;
 	}
 
@@ -0,0 +1,56 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client;
+
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * Statistics about the pool of buffers used to serialize the body of requests sent to Elasticsearch.
+ * <p>
+ * The pool holds a bounded number of fixed-size, direct buffers.
+ * When all of them are in use, a heap buffer is allocated instead: this is counted as a {@link #missCount() miss}.
+ * Frequent misses suggest that many large requests are being sent concurrently.
+ * <p>
+ * Statistics are collected since the backend started.
+ */
+@Incubating
+public interface RequestBufferPoolStatistics {
+
+	/**
+	 * @return The size of each buffer, in bytes.
+	 */
+	int bufferSize();
+
+	/**
+	 * @return The maximum number of direct buffers held by the pool.
+	 */
+	int maxBufferCount();
+
+	/**
+	 * @return The number of direct buffers allocated so far, either idle in the pool or in use.
+	 */
+	int allocatedBufferCount();
+
+	/**
+	 * @return The number of direct buffers currently idle in the pool.
+	 */
+	int idleBufferCount();
+
+	/**
+	 * @return The number of times a direct buffer was acquired, either from the pool or newly allocated
+	 * while the pool was not fully populated yet.
+	 */
+	long hitCount();
+
+	/**
+	 * @return The number of times a buffer was acquired while all direct buffers were in use,
+	 * resulting in the allocation of a heap buffer.
+	 * Acquiring a buffer never waits for another request to release its buffers.
+	 */
+	long missCount();
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.search.backend.elasticsearch.client.RequestBufferPoolStatistics;
+
+/**
+ * A bounded pool of direct, fixed-size byte buffers,
+ * used to serialize request bodies off-heap without allocating new buffers for every request.
+ * <p>
+ * Direct buffers are allocated lazily, up to the maximum number of pooled buffers,
+ * and are never freed: they are always returned to the pool once released.
+ * <p>
+ * Acquiring a buffer never blocks: buffers are acquired and released from HTTP client I/O threads,
+ * and waiting for another request to release its buffers there could stall or even deadlock the client.
+ * Instead, when the pool is empty and all direct buffers are in use,
+ * a heap buffer is allocated; this is counted as a {@link #missCount() miss}.
+ * Heap buffers are cheap to allocate and collect, unlike direct buffers,
+ * so they are simply dropped when released.
+ * <p>
+ * This class is thread-safe.
+ */
+final class ByteBufferPool implements RequestBufferPoolStatistics {
+
+	private final int bufferSize;
+	private final int maxPooledBufferCount;
+	private final BlockingQueue<ByteBuffer> pooledBuffers;
+	private final AtomicInteger allocatedDirectBufferCount = new AtomicInteger();
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+
+	ByteBufferPool(int bufferSize, int maxPooledBufferCount) {
+		this.bufferSize = bufferSize;
+		this.maxPooledBufferCount = maxPooledBufferCount;
+		this.pooledBuffers = new ArrayBlockingQueue<>( maxPooledBufferCount );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "bufferSize=" + bufferSize
+				+ ", maxBufferCount=" + maxPooledBufferCount
+				+ ", allocatedBufferCount=" + allocatedBufferCount()
+				+ ", idleBufferCount=" + idleBufferCount()
+				+ ", hitCount=" + hitCount()
+				+ ", missCount=" + missCount()
+				+ "]";
+	}
+
+	/**
+	 * @return An empty buffer of size {@link #bufferSize()}, ready for writing.
+	 * Should be passed to {@link #release(ByteBuffer)} once it's no longer used.
+	 */
+	ByteBuffer acquire() {
+		ByteBuffer buffer = pooledBuffers.poll();
+		if ( buffer != null ) {
+			hitCount.increment();
+			return buffer;
+		}
+		if ( tryReserveDirectBuffer() ) {
+			// The pool is not fully populated yet: this is not a miss.
+			hitCount.increment();
+			return ByteBuffer.allocateDirect( bufferSize );
+		}
+		missCount.increment();
+		return ByteBuffer.allocate( bufferSize );
+	}
+
+	/**
+	 * @param buffer A buffer previously returned by {@link #acquire()}, which must no longer be used by the caller.
+	 */
+	void release(ByteBuffer buffer) {
+		if ( !buffer.isDirect() ) {
+			// Allocated on a miss: just drop the buffer.
+			return;
+		}
+		buffer.clear();
+		// There are never more direct buffers than the pool can hold, so this always succeeds.
+		pooledBuffers.offer( buffer );
+	}
+
+	@Override
+	public int bufferSize() {
+		return bufferSize;
+	}
+
+	@Override
+	public int maxBufferCount() {
+		return maxPooledBufferCount;
+	}
+
+	@Override
+	public int allocatedBufferCount() {
+		return allocatedDirectBufferCount.get();
+	}
+
+	@Override
+	public int idleBufferCount() {
+		return pooledBuffers.size();
+	}
+
+	@Override
+	public long hitCount() {
+		return hitCount.sum();
+	}
+
+	@Override
+	public long missCount() {
+		return missCount.sum();
+	}
+
+	private boolean tryReserveDirectBuffer() {
+		int allocated;
+		do {
+			allocated = allocatedDirectBufferCount.get();
+			if ( allocated >= maxPooledBufferCount ) {
+				return false;
+			}
+		}
+		while ( !allocatedDirectBufferCount.compareAndSet( allocated, allocated + 1 ) );
+		return true;
+	}
+
+}
@@ -136,11 +136,39 @@ public class ElasticsearchClientFactoryImpl implements ElasticsearchClientFactor
 					.withDefault( ElasticsearchBackendSettings.Defaults.DISCOVERY_REFRESH_INTERVAL )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> COMPRESSION_ENABLED =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.COMPRESSION_ENABLED )
+					.asBoolean()
+					.withDefault( ElasticsearchBackendSettings.Defaults.COMPRESSION_ENABLED )
+					.build();
+
+	private static final ConfigurationProperty<Integer> COMPRESSION_THRESHOLD =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.COMPRESSION_THRESHOLD )
+					.asIntegerPositiveOrZero()
+					.withDefault( ElasticsearchBackendSettings.Defaults.COMPRESSION_THRESHOLD )
+					.build();
+
 	private static final OptionalConfigurationProperty<BeanReference<? extends ElasticsearchHttpClientConfigurer>>
 			CLIENT_CONFIGURER = ConfigurationProperty.forKey( ElasticsearchBackendSettings.CLIENT_CONFIGURER )
 			.asBeanReference( ElasticsearchHttpClientConfigurer.class )
 			.build();
 
+	/**
+	 * The size of the byte buffer pages request bodies are serialized to.
+	 * Requests fitting in a single page have their content length reported upfront;
+	 * larger requests are streamed using chunked encoding.
+	 * It's a tradeoff between avoiding chunked encoding for small requests
+	 * and not holding too much memory for requests waiting for a connection.
+	 */
+	private static final int REQUEST_BUFFER_PAGE_SIZE = 1024;
+
+	/**
+	 * The number of byte buffer pages to keep in the pool for each connection to Elasticsearch.
+	 * Pages are returned to the pool as soon as the HTTP client has consumed them,
+	 * so a request being sent rarely holds more than a few pages at once.
+	 */
+	private static final int POOLED_REQUEST_BUFFER_PAGES_PER_CONNECTION = 8;
+
 	private final List<ElasticsearchHttpClientConfigurer> httpClientConfigurers;
 
 	ElasticsearchClientFactoryImpl(List<ElasticsearchHttpClientConfigurer> httpClientConfigurers) {
@@ -160,11 +188,16 @@ public ElasticsearchClientImplementor create(BeanResolver beanResolver, Configur
 		RestClient restClient = createClient( beanResolver, propertySource, threadProvider, threadNamePrefix, hosts,
 				PATH_PREFIX.get( propertySource ) );
 		Sniffer sniffer = createSniffer( propertySource, restClient, hosts );
+		ByteBufferPool requestBufferPool = new ByteBufferPool( REQUEST_BUFFER_PAGE_SIZE,
+				POOLED_REQUEST_BUFFER_PAGES_PER_CONNECTION * MAX_TOTAL_CONNECTION.get( propertySource ) );
+		Integer compressionThreshold = COMPRESSION_ENABLED.get( propertySource )
+				? COMPRESSION_THRESHOLD.get( propertySource ) : null;
 
 		return new ElasticsearchClientImpl(
 				restClient, sniffer, timeoutExecutorService,
 				requestTimeoutMs, connectionTimeoutMs,
-				gsonProvider.getGson(), gsonProvider.getLogHelper()
+				gsonProvider.getGson(), gsonProvider.getLogHelper(),
+				requestBufferPool, compressionThreshold
 		);
 	}
 
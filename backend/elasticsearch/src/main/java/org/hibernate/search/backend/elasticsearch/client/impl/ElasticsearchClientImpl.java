@@ -21,10 +21,12 @@
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
+import org.hibernate.search.backend.elasticsearch.client.RequestBufferPoolStatistics;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientImplementor;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.gson.spi.JsonLogHelper;
+import org.hibernate.search.backend.elasticsearch.gson.spi.JsonPathFilter;
 import org.hibernate.search.backend.elasticsearch.logging.impl.ElasticsearchLogCategories;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.engine.common.timing.Deadline;
@@ -34,7 +36,9 @@
 
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.entity.ContentType;
 import org.elasticsearch.client.Request;
@@ -64,10 +68,16 @@ public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
 	private final Gson gson;
 	private final JsonLogHelper jsonLogHelper;
 
+	private final ByteBufferPool requestBufferPool;
+	// null if compression is disabled
+	private final Integer compressionThreshold;
+	private final RequestOptions defaultRequestOptions;
+
 	ElasticsearchClientImpl(RestClient restClient, Sniffer sniffer,
 			ScheduledExecutorService timeoutExecutorService,
 			Optional<Integer> requestTimeoutMs, int connectionTimeoutMs,
-			Gson gson, JsonLogHelper jsonLogHelper) {
+			Gson gson, JsonLogHelper jsonLogHelper,
+			ByteBufferPool requestBufferPool, Integer compressionThreshold) {
 		this.restClient = restClient;
 		this.sniffer = sniffer;
 		this.timeoutExecutorService = timeoutExecutorService;
@@ -75,12 +85,23 @@ public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
 		this.connectionTimeoutMs = connectionTimeoutMs;
 		this.gson = gson;
 		this.jsonLogHelper = jsonLogHelper;
+		this.requestBufferPool = requestBufferPool;
+		this.compressionThreshold = compressionThreshold;
+		if ( compressionThreshold != null ) {
+			// The RestClient decompresses gzip responses automatically.
+			this.defaultRequestOptions = RequestOptions.DEFAULT.toBuilder()
+					.addHeader( HttpHeaders.ACCEPT_ENCODING, "gzip" )
+					.build();
+		}
+		else {
+			this.defaultRequestOptions = RequestOptions.DEFAULT;
+		}
 	}
 
 	@Override
 	public CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest request) {
 		CompletableFuture<ElasticsearchResponse> result = Futures.create( () -> send( request ) )
-				.thenApply( this::convertResponse );
+				.thenApply( response -> convertResponse( request, response ) );
 		if ( requestLog.isDebugEnabled() ) {
 			long startTime = System.nanoTime();
 			result.thenAccept( response -> log( request, startTime, response ) );
@@ -102,7 +123,8 @@ private CompletableFuture<Response> send(ElasticsearchRequest elasticsearchReque
 
 		HttpEntity entity;
 		try {
-			entity = ElasticsearchClientUtils.toEntity( gson, elasticsearchRequest );
+			entity = ElasticsearchClientUtils.toEntity( gson, requestBufferPool, compressionThreshold,
+					elasticsearchRequest );
 		}
 		catch (IOException | RuntimeException e) {
 			completableFuture.completeExceptionally( e );
@@ -167,6 +189,7 @@ public void onFailure(Exception exception) {
 
 	private Request toRequest(ElasticsearchRequest elasticsearchRequest, HttpEntity entity) {
 		Request request = new Request( elasticsearchRequest.method(), elasticsearchRequest.path() );
+		request.setOptions( defaultRequestOptions );
 		setPerRequestSocketTimeout( elasticsearchRequest, request );
 
 		for ( Entry<String, String> parameter : elasticsearchRequest.parameters().entrySet() ) {
@@ -194,15 +217,15 @@ private void setPerRequestSocketTimeout(ElasticsearchRequest elasticsearchReques
 				.setConnectTimeout( connectionTimeoutMs )
 				.build();
 
-		RequestOptions.Builder requestOptions = RequestOptions.DEFAULT.toBuilder()
+		RequestOptions.Builder requestOptions = defaultRequestOptions.toBuilder()
 				.setRequestConfig( requestConfig );
 
 		request.setOptions( requestOptions );
 	}
 
-	private ElasticsearchResponse convertResponse(Response response) {
+	private ElasticsearchResponse convertResponse(ElasticsearchRequest request, Response response) {
 		try {
-			JsonObject body = parseBody( response );
+			JsonObject body = parseBody( request, response );
 			return new ElasticsearchResponse(
 					response.getHost(),
 					response.getStatusLine().getStatusCode(),
@@ -215,15 +238,27 @@ private ElasticsearchResponse convertResponse(Response response) {
 		}
 	}
 
-	private JsonObject parseBody(Response response) throws IOException {
+	private JsonObject parseBody(ElasticsearchRequest request, Response response) throws IOException {
 		HttpEntity entity = response.getEntity();
 		if ( entity == null ) {
 			return null;
 		}
 
+		JsonPathFilter filter = request.responseBodyFilter();
+		// Failures and traced requests need the whole body, for reporting.
+		boolean filtered = filter != null
+				&& ElasticsearchClientUtils.isSuccessCode( response.getStatusLine().getStatusCode() )
+				&& !requestLog.isTraceEnabled();
+
 		Charset charset = getCharset( entity );
 		try ( InputStream inputStream = entity.getContent();
 				Reader reader = new InputStreamReader( inputStream, charset ) ) {
+			if ( filtered ) {
+				// Stream through the body, skipping the parts we don't need instead of building a tree for them.
+				JsonReader jsonReader = gson.newJsonReader( reader );
+				jsonReader.setLenient( true );
+				return filter.readObject( jsonReader );
+			}
 			return gson.fromJson( reader, JsonObject.class );
 		}
 	}
@@ -270,6 +305,14 @@ public void close() {
 		catch (RuntimeException | IOException e) {
 			throw log.unableToShutdownClient( e.getMessage(), e );
 		}
+		finally {
+			log.requestBufferPoolStatistics( requestBufferPool );
+		}
+	}
+
+	@Override
+	public Optional<RequestBufferPoolStatistics> requestBufferPoolStatistics() {
+		return Optional.of( requestBufferPool );
 	}
 
 }
@@ -11,6 +11,7 @@
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
@@ -40,6 +41,11 @@
  * we can defer the serialisation to write directly into the ByteBuffer
  * of the HTTP client, this has the additional benefit of making the
  * intermediary buffers short lived.
+ * Those intermediary buffers are direct buffers borrowed from a {@link ByteBufferPool}
+ * shared by all requests of a client (or heap buffers when all pooled buffers are in use),
+ * into which JSON is encoded as UTF-8
+ * without any intermediary char buffer; they are returned to the pool
+ * as soon as they have been handed over to the HTTP client, or on {@link #close()}.
  *
  * The one complexity to watch for is flow control: when writing into
  * the output buffer chances are that not all bytes are accepted; in
@@ -55,6 +61,12 @@
  * report the content length; if not the encoding completion will be deferred
  * but not resetting so to avoid repeating encoding work.
  *
+ * Optionally, content larger than a given threshold gets compressed using gzip,
+ * as it is being produced.
+ * To find out whether the content is larger than the threshold,
+ * we encode it upfront until we reach the threshold or the end of the content;
+ * if we reach the threshold, we start over with compression enabled.
+ *
  * @author Sanne Grinovero (C) 2017 Red Hat Inc.
  */
 final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
@@ -63,26 +75,18 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 
 	private static final BasicHeader CONTENT_TYPE = new BasicHeader( HTTP.CONTENT_TYPE, ContentType.APPLICATION_JSON.toString() );
 
-	/**
-	 * The size of byte buffer pages in {@link ProgressiveCharBufferWriter}
-	 * It's a rather large size: a tradeoff for very large JSON
-	 * documents as we do heavy bulking, and not too large to
-	 * be a penalty for small requests.
-	 * 1024 has been shown to produce reasonable, TLAB only garbage.
-	 */
-	private static final int BYTE_BUFFER_PAGE_SIZE = 1024;
-
-	/**
-	 * We want the char buffer and byte buffer pages of approximately
-	 * the same size, however one is in characters and the other in bytes.
-	 * Considering we hardcoded UTF-8 as encoding, which has an average
-	 * conversion ratio of almost 1.0, this should be close enough.
-	 */
-	private static final int CHAR_BUFFER_SIZE = BYTE_BUFFER_PAGE_SIZE;
+	private static final BasicHeader CONTENT_ENCODING_GZIP = new BasicHeader( HTTP.CONTENT_ENCODING, "gzip" );
 
 	private final Gson gson;
+	private final ByteBufferPool bufferPool;
 	private final List<JsonObject> bodyParts;
 
+	/**
+	 * Whether the content is compressed using gzip.
+	 * Decided upon construction, and constant after that.
+	 */
+	private final boolean compressed;
+
 	/**
 	 * We don't want to compute the length in advance as it would defeat the optimisations
 	 * for large bulks.
@@ -118,16 +122,39 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 	 * partially rendered JSON stored in its buffers while flow control
 	 * refuses to accept more bytes.
 	 */
-	private ProgressiveCharBufferWriter writer =
-			new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE );
+	private ProgressiveUtf8Writer writer;
+
+	public GsonHttpEntity(Gson gson, ByteBufferPool bufferPool, List<JsonObject> bodyParts) throws IOException {
+		this( gson, bufferPool, bodyParts, null );
+	}
 
-	public GsonHttpEntity(Gson gson, List<JsonObject> bodyParts) throws IOException {
+	/**
+	 * @param compressionThreshold The size in bytes above which content should be compressed using gzip,
+	 * or {@code null} to never compress content.
+	 */
+	public GsonHttpEntity(Gson gson, ByteBufferPool bufferPool, List<JsonObject> bodyParts,
+			Integer compressionThreshold) throws IOException {
 		Contracts.assertNotNull( gson, "gson" );
+		Contracts.assertNotNull( bufferPool, "bufferPool" );
 		Contracts.assertNotNull( bodyParts, "bodyParts" );
 		this.gson = gson;
+		this.bufferPool = bufferPool;
 		this.bodyParts = bodyParts;
 		this.contentLength = -1;
-		attemptOnePassEncoding();
+		this.writer = new ProgressiveUtf8Writer( bufferPool, false );
+		if ( compressionThreshold == null ) {
+			this.compressed = false;
+			attemptOnePassEncoding();
+		}
+		else {
+			this.compressed = !attemptEncodingUpToCompressionThreshold( compressionThreshold );
+			if ( compressed ) {
+				// Start over, compressing the content this time.
+				this.nextBodyToEncodeIndex = 0;
+				this.writer.close();
+				this.writer = new ProgressiveUtf8Writer( bufferPool, true );
+			}
+		}
 	}
 
 	@Override
@@ -153,13 +180,13 @@ public Header getContentType() {
 
 	@Override
 	public Header getContentEncoding() {
-		//Apparently this is the correct value:
-		return null;
+		//Apparently this is the correct value for uncompressed content:
+		return compressed ? CONTENT_ENCODING_GZIP : null;
 	}
 
 	@Override
 	public InputStream getContent() {
-		return new HttpAsyncContentProducerInputStream( this, BYTE_BUFFER_PAGE_SIZE );
+		return new HttpAsyncContentProducerInputStream( this, bufferPool.bufferSize() );
 	}
 
 	@Override
@@ -170,6 +197,10 @@ public void writeTo(OutputStream out) throws IOException {
 		 * Note we don't close the counting stream or the writer,
 		 * because we must not close the output stream that was passed as a parameter.
 		 */
+		if ( compressed ) {
+			writeCompressedTo( out );
+			return;
+		}
 		CountingOutputStream countingStream = new CountingOutputStream( out );
 		Writer outWriter = new OutputStreamWriter( countingStream, CHARSET );
 		for ( JsonObject bodyPart : bodyParts ) {
@@ -181,6 +212,27 @@ public void writeTo(OutputStream out) throws IOException {
 		hintContentLength( countingStream.getBytesWritten() );
 	}
 
+	/**
+	 * Compress using the same encoder as {@link #produceContent(ContentEncoder, IOControl)},
+	 * so that the content, and thus its length, is the same regardless of the method used to retrieve it.
+	 */
+	private void writeCompressedTo(OutputStream out) throws IOException {
+		ProgressiveUtf8Writer compressingWriter = new ProgressiveUtf8Writer( bufferPool, true );
+		try {
+			compressingWriter.setOutput( new OutputStreamContentEncoder( out, bufferPool.bufferSize() ) );
+			for ( JsonObject bodyPart : bodyParts ) {
+				gson.toJson( bodyPart, compressingWriter );
+				compressingWriter.append( '\n' );
+			}
+			compressingWriter.flushToOutput();
+			//Now we finally know the content size in bytes:
+			hintContentLength( compressingWriter.contentLength() );
+		}
+		finally {
+			compressingWriter.close();
+		}
+	}
+
 	@Override
 	public boolean isStreaming() {
 		return false;
@@ -194,11 +246,12 @@ public void consumeContent() {
 
 	@Override
 	public void close() {
-		//Nothing to close but let's make sure we re-wind the stream
+		//Return the buffers to the pool, but let's make sure we re-wind the stream
 		//so that we can start from the beginning if needed
 		this.nextBodyToEncodeIndex = 0;
 		//Discard previous buffers as they might contain in-process content:
-		this.writer = new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE );
+		this.writer.close();
+		this.writer = new ProgressiveUtf8Writer( bufferPool, compressed );
 	}
 
 	/**
@@ -217,13 +270,37 @@ private void attemptOnePassEncoding() throws IOException {
 		// as it's not set yet.
 		triggerFullWrite();
 		if ( nextBodyToEncodeIndex == bodyParts.size() ) {
-			writer.flush();
 			// The buffer's content length so far is the final content length,
 			// as we know the entire content has been encoded already.
 			hintContentLength( writer.contentLength() );
 		}
 	}
 
+	/**
+	 * Encode the content until we either reach the end of the content,
+	 * or the given threshold.
+	 *
+	 * @return {@code true} if the entire content was encoded without exceeding the threshold,
+	 * in which case we know the content length and can send the content uncompressed,
+	 * {@code false} otherwise.
+	 * @throws IOException This is unlikely to be caused by a real IO operation as there's no output buffer yet,
+	 * but it could also be triggered by the UTF8 encoding operations.
+	 */
+	private boolean attemptEncodingUpToCompressionThreshold(int compressionThreshold) throws IOException {
+		while ( nextBodyToEncodeIndex < bodyParts.size() && writer.contentLength() <= compressionThreshold ) {
+			JsonObject bodyPart = bodyParts.get( nextBodyToEncodeIndex++ );
+			gson.toJson( bodyPart, writer );
+			writer.append( '\n' );
+		}
+		if ( nextBodyToEncodeIndex == bodyParts.size() && writer.contentLength() <= compressionThreshold ) {
+			hintContentLength( writer.contentLength() );
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
 	/**
 	 * Higher level write loop. It will start writing the JSON objects
 	 * from either the  beginning or the next object which wasn't written yet
@@ -237,7 +314,6 @@ private void triggerFullWrite() throws IOException {
 			JsonObject bodyPart = bodyParts.get( nextBodyToEncodeIndex++ );
 			gson.toJson( bodyPart, writer );
 			writer.append( '\n' );
-			writer.flush();
 			if ( writer.isFlowControlPushingBack() ) {
 				//Just quit: return control to the caller and trust we'll be called again.
 				return;
@@ -293,4 +369,39 @@ private void hintContentLength(long contentLength) {
 		}
 	}
 
+	/**
+	 * A content encoder that accepts all content, writing it to an output stream.
+	 */
+	private static final class OutputStreamContentEncoder implements ContentEncoder {
+		private final OutputStream outputStream;
+		private final byte[] copyBuffer;
+		private boolean complete = false;
+
+		private OutputStreamContentEncoder(OutputStream outputStream, int copyBufferSize) {
+			this.outputStream = outputStream;
+			this.copyBuffer = new byte[copyBufferSize];
+		}
+
+		@Override
+		public int write(ByteBuffer src) throws IOException {
+			int written = src.remaining();
+			while ( src.hasRemaining() ) {
+				int length = Math.min( src.remaining(), copyBuffer.length );
+				src.get( copyBuffer, 0, length );
+				outputStream.write( copyBuffer, 0, length );
+			}
+			return written;
+		}
+
+		@Override
+		public void complete() {
+			complete = true;
+		}
+
+		@Override
+		public boolean isCompleted() {
+			return complete;
+		}
+	}
+
 }
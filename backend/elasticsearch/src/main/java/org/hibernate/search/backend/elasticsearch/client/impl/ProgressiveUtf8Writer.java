@@ -0,0 +1,422 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import org.apache.http.nio.ContentEncoder;
+
+/**
+ * A writer to a ContentEncoder, encoding chars to UTF-8 straight into a paged buffer,
+ * whose pages are borrowed from a {@link ByteBufferPool},
+ * and automatically grows to store input when flow control pushes back.
+ * <p>
+ * To be used when your input source is not reactive (uses {@link Writer}),
+ * but you have multiple elements to write and thus could take advantage of
+ * reactive output to some extent.
+ * <p>
+ * Pages are returned to the pool as soon as they have been written to the output,
+ * and on {@link #close()}: the writer must always be closed, and must not be used after that.
+ * <p>
+ * Optionally, the UTF-8 bytes can be compressed using gzip before being stored in buffer pages,
+ * in which case {@link #flushToOutput()} must only be called once all content has been written.
+ *
+ * @author Sanne Grinovero
+ */
+class ProgressiveUtf8Writer extends Writer {
+
+	/**
+	 * The byte written in place of unpaired surrogates,
+	 * consistently with {@link java.io.OutputStreamWriter}.
+	 */
+	private static final byte REPLACEMENT_BYTE = '?';
+
+	private static final byte[] GZIP_HEADER = new byte[] {
+			(byte) 0x1f, (byte) 0x8b, // Magic number
+			Deflater.DEFLATED, // Compression method
+			0, // Flags
+			0, 0, 0, 0, // Modification time
+			0, // Extra flags
+			(byte) 0xff // Operating system: unknown
+	};
+
+	private final ByteBufferPool pagePool;
+
+	/**
+	 * Filled buffer pages to be written, in write order.
+	 */
+	private final Deque<ByteBuffer> needWritingPages = new ArrayDeque<>( 5 );
+
+	/**
+	 * Current buffer page, potentially null,
+	 * which may have some content but isn't full yet.
+	 */
+	private ByteBuffer currentPage;
+
+	/**
+	 * The page chars are encoded into:
+	 * the {@link #currentPage current page} when not compressing,
+	 * or a heap buffer whose content gets compressed into buffer pages when full.
+	 */
+	private ByteBuffer encodingPage;
+
+	// The following are only used when compressing, null otherwise.
+	private final Deflater deflater;
+	private final CRC32 crc;
+	private final byte[] deflatedBytes;
+	private int uncompressedLength = 0;
+	private boolean compressionStarted = false;
+	private boolean compressionFinished = false;
+
+	/**
+	 * A high surrogate char whose low surrogate wasn't written yet,
+	 * or 0 if there is none.
+	 */
+	private char pendingHighSurrogate = 0;
+
+	/**
+	 * Initially null: must be set before writing is started and each
+	 * time it's resumed as it might change between writes during
+	 * chunked encoding.
+	 */
+	private ContentEncoder output;
+
+	/**
+	 * Set this to true when we detect clogging, so we can stop trying.
+	 * Make sure to reset this when the HTTP Client hints so.
+	 * It's never dangerous to re-enable, just not efficient to try writing
+	 * unnecessarily.
+	 */
+	private boolean flowControlPushingBack = false;
+
+	private int contentLength = 0;
+
+	public ProgressiveUtf8Writer(ByteBufferPool pagePool, boolean gzip) {
+		this.pagePool = pagePool;
+		if ( gzip ) {
+			// Favor speed: JSON is very repetitive and compresses well even at the lowest level.
+			this.deflater = new Deflater( Deflater.BEST_SPEED, true );
+			this.crc = new CRC32();
+			this.deflatedBytes = new byte[pagePool.bufferSize()];
+			this.encodingPage = ByteBuffer.allocate( pagePool.bufferSize() );
+		}
+		else {
+			this.deflater = null;
+			this.crc = null;
+			this.deflatedBytes = null;
+		}
+	}
+
+	/**
+	 * Set the encoder to write to when buffers are full.
+	 */
+	public void setOutput(ContentEncoder output) {
+		this.output = output;
+	}
+
+	// Overrides super.write(int) to remove the synchronized() wrapper.
+	@Override
+	public void write(int c) throws IOException {
+		encode( (char) c );
+	}
+
+	// Overrides super.write(String, int, int) to remove the synchronized() wrapper.
+	// WARNING: when you update this method, make sure to update write(char[], int, int) too.
+	@Override
+	public void write(String str, int off, int len) throws IOException {
+		int end = off + len;
+		for ( int i = off; i < end; i++ ) {
+			char c = str.charAt( i );
+			// Fast path for ASCII chars, by far the most common in JSON
+			if ( c < 0x80 && pendingHighSurrogate == 0 && encodingPage != null && encodingPage.hasRemaining() ) {
+				encodingPage.put( (byte) c );
+				if ( deflater == null ) {
+					++contentLength;
+				}
+			}
+			else {
+				encode( c );
+			}
+		}
+	}
+
+	// WARNING: when you update this method, make sure to update write(String, int, int) too.
+	@Override
+	public void write(char[] cbuf, int off, int len) throws IOException {
+		int end = off + len;
+		for ( int i = off; i < end; i++ ) {
+			char c = cbuf[i];
+			// Fast path for ASCII chars, by far the most common in JSON
+			if ( c < 0x80 && pendingHighSurrogate == 0 && encodingPage != null && encodingPage.hasRemaining() ) {
+				encodingPage.put( (byte) c );
+				if ( deflater == null ) {
+					++contentLength;
+				}
+			}
+			else {
+				encode( c );
+			}
+		}
+	}
+
+	@Override
+	public void flush() {
+		// Nothing to do: chars are encoded to byte buffers as soon as they are written,
+		// and we don't flush byte buffers to output as we want to control that flushing independently.
+	}
+
+	/**
+	 * Return all buffer pages to the pool, discarding any content that wasn't written to the output yet.
+	 */
+	@Override
+	public void close() {
+		for ( ByteBuffer page : needWritingPages ) {
+			pagePool.release( page );
+		}
+		needWritingPages.clear();
+		if ( currentPage != null ) {
+			pagePool.release( currentPage );
+			currentPage = null;
+		}
+		encodingPage = null;
+		if ( deflater != null ) {
+			deflater.end();
+		}
+	}
+
+	/**
+	 * Send all full buffer pages to the {@link #setOutput(ContentEncoder) output}.
+	 * <p>
+	 * Flow control may push back, in which case this method or {@link #flushToOutput()}
+	 * should be called again later.
+	 *
+	 * @throws IOException when {@link ContentEncoder#write(ByteBuffer)} fails.
+	 */
+	public void resumePendingWrites() throws IOException {
+		flowControlPushingBack = false;
+		attemptFlushPendingBuffers( false );
+	}
+
+	/**
+	 * @return {@code true} if the {@link #setOutput(ContentEncoder) output} pushed
+	 * back the last time a write was attempted, {@code false} otherwise.
+	 */
+	public boolean isFlowControlPushingBack() {
+		return flowControlPushingBack;
+	}
+
+	/**
+	 * Send all buffer pages to the {@link #setOutput(ContentEncoder) output},
+	 * Even those that are not full yet
+	 * <p>
+	 * When compressing, this also ends compression, so no content must be written after that.
+	 * <p>
+	 * Flow control may push back, in which case this method should be called again later.
+	 *
+	 * @throws IOException when {@link ContentEncoder#write(ByteBuffer)} fails.
+	 */
+	public void flushToOutput() throws IOException {
+		flowControlPushingBack = false;
+		if ( deflater != null && !compressionFinished ) {
+			finishCompression();
+		}
+		attemptFlushPendingBuffers( true );
+	}
+
+	/**
+	 * @return The length of the content stored in the byte buffers so far, in bytes.
+	 * This does include the content that has already been written to the {@link #setOutput(ContentEncoder) output},
+	 * but not a trailing high surrogate whose low surrogate hasn't been written yet.
+	 * When compressing, this is the length of the compressed content,
+	 * which is only final after {@link #flushToOutput()} was called.
+	 */
+	public int contentLength() {
+		return contentLength;
+	}
+
+	private void encode(char c) throws IOException {
+		if ( pendingHighSurrogate != 0 ) {
+			char highSurrogate = pendingHighSurrogate;
+			pendingHighSurrogate = 0;
+			if ( Character.isLowSurrogate( c ) ) {
+				int codePoint = Character.toCodePoint( highSurrogate, c );
+				put( (byte) ( 0xF0 | ( codePoint >> 18 ) ) );
+				put( (byte) ( 0x80 | ( ( codePoint >> 12 ) & 0x3F ) ) );
+				put( (byte) ( 0x80 | ( ( codePoint >> 6 ) & 0x3F ) ) );
+				put( (byte) ( 0x80 | ( codePoint & 0x3F ) ) );
+				return;
+			}
+			put( REPLACEMENT_BYTE );
+		}
+		if ( c < 0x80 ) {
+			put( (byte) c );
+		}
+		else if ( c < 0x800 ) {
+			put( (byte) ( 0xC0 | ( c >> 6 ) ) );
+			put( (byte) ( 0x80 | ( c & 0x3F ) ) );
+		}
+		else if ( Character.isHighSurrogate( c ) ) {
+			pendingHighSurrogate = c;
+		}
+		else if ( Character.isLowSurrogate( c ) ) {
+			put( REPLACEMENT_BYTE );
+		}
+		else {
+			put( (byte) ( 0xE0 | ( c >> 12 ) ) );
+			put( (byte) ( 0x80 | ( ( c >> 6 ) & 0x3F ) ) );
+			put( (byte) ( 0x80 | ( c & 0x3F ) ) );
+		}
+	}
+
+	private void put(byte b) throws IOException {
+		if ( encodingPage == null || !encodingPage.hasRemaining() ) {
+			if ( deflater == null ) {
+				nextPage();
+				encodingPage = currentPage;
+			}
+			else {
+				compressEncodingPage();
+			}
+		}
+		encodingPage.put( b );
+		if ( deflater == null ) {
+			++contentLength;
+		}
+	}
+
+	private void compressEncodingPage() throws IOException {
+		if ( !compressionStarted ) {
+			// Write the header lazily, so that we don't borrow a page before there is content to write.
+			writeToPages( GZIP_HEADER, 0, GZIP_HEADER.length );
+			compressionStarted = true;
+		}
+		encodingPage.flip();
+		int length = encodingPage.remaining();
+		if ( length > 0 ) {
+			byte[] bytes = encodingPage.array();
+			crc.update( bytes, 0, length );
+			uncompressedLength += length;
+			deflater.setInput( bytes, 0, length );
+			while ( !deflater.needsInput() ) {
+				int deflatedLength = deflater.deflate( deflatedBytes );
+				writeToPages( deflatedBytes, 0, deflatedLength );
+			}
+		}
+		encodingPage.clear();
+	}
+
+	private void finishCompression() throws IOException {
+		compressEncodingPage();
+		deflater.finish();
+		while ( !deflater.finished() ) {
+			int deflatedLength = deflater.deflate( deflatedBytes );
+			writeToPages( deflatedBytes, 0, deflatedLength );
+		}
+		// The gzip trailer: CRC-32 and uncompressed length (modulo 2^32), both little-endian
+		writeIntLittleEndian( (int) crc.getValue() );
+		writeIntLittleEndian( uncompressedLength );
+		compressionFinished = true;
+	}
+
+	private void writeIntLittleEndian(int value) throws IOException {
+		byte[] bytes = new byte[] { (byte) value, (byte) ( value >> 8 ), (byte) ( value >> 16 ), (byte) ( value >> 24 ) };
+		writeToPages( bytes, 0, bytes.length );
+	}
+
+	private void writeToPages(byte[] bytes, int offset, int length) throws IOException {
+		int written = 0;
+		while ( written < length ) {
+			if ( currentPage == null || !currentPage.hasRemaining() ) {
+				nextPage();
+			}
+			int toWrite = Math.min( currentPage.remaining(), length - written );
+			currentPage.put( bytes, offset + written, toWrite );
+			written += toWrite;
+			contentLength += toWrite;
+		}
+	}
+
+	private void nextPage() throws IOException {
+		if ( currentPage != null ) {
+			// Avoid storing buffers if we can simply flush them
+			attemptFlushPendingBuffers( true );
+			if ( currentPage != null ) {
+				/*
+				 * We couldn't flush the current page, but it's full,
+				 * so let's move it out of the way.
+				 */
+				currentPage.flip();
+				needWritingPages.add( currentPage );
+			}
+		}
+		currentPage = pagePool.acquire();
+	}
+
+	/**
+	 * @return {@code true} if this buffer contains content to be written, {@code false} otherwise.
+	 */
+	private boolean hasRemaining() {
+		return !needWritingPages.isEmpty() || currentPage != null && currentPage.position() > 0;
+	}
+
+	private void attemptFlushPendingBuffers(boolean flushCurrentPage) throws IOException {
+		if ( output == null ) {
+			flowControlPushingBack = true;
+		}
+		if ( flowControlPushingBack || !hasRemaining() ) {
+			// Nothing to do
+			return;
+		}
+		Iterator<ByteBuffer> iterator = needWritingPages.iterator();
+		while ( iterator.hasNext() && !flowControlPushingBack ) {
+			ByteBuffer buffer = iterator.next();
+			boolean written = write( buffer );
+			if ( written ) {
+				iterator.remove();
+				pagePool.release( buffer );
+			}
+			else {
+				flowControlPushingBack = true;
+			}
+		}
+		if ( flushCurrentPage && !flowControlPushingBack && currentPage != null && currentPage.position() > 0 ) {
+			// The encoder still accepts some input, and we are allowed to flush the current page. Let's do.
+			currentPage.flip();
+			boolean written = write( currentPage );
+			if ( written ) {
+				pagePool.release( currentPage );
+			}
+			else {
+				flowControlPushingBack = true;
+				needWritingPages.add( currentPage );
+			}
+			currentPage = null;
+			if ( deflater == null ) {
+				// When not compressing, the current page was also the encoding page
+				encodingPage = null;
+			}
+		}
+	}
+
+	private boolean write(ByteBuffer buffer) throws IOException {
+		final int toWrite = buffer.remaining();
+		// We should never do 0-length writes, see HSEARCH-2854
+		if ( toWrite == 0 ) {
+			return true;
+		}
+		final int actuallyWritten = output.write( buffer );
+		return toWrite == actuallyWritten;
+	}
+
+}
@@ -6,6 +6,10 @@
  */
 package org.hibernate.search.backend.elasticsearch.client.spi;
 
+import java.util.Optional;
+
+import org.hibernate.search.backend.elasticsearch.client.RequestBufferPoolStatistics;
+
 /**
  * An interface allowing to close an {@link ElasticsearchClient}.
  */
@@ -14,4 +18,12 @@ public interface ElasticsearchClientImplementor extends ElasticsearchClient, Aut
 	@Override
 	void close();
 
+	/**
+	 * @return Statistics about the pool of buffers used to serialize request bodies,
+	 * or an empty optional if this client doesn't use such a pool.
+	 */
+	default Optional<RequestBufferPoolStatistics> requestBufferPoolStatistics() {
+		return Optional.empty();
+	}
+
 }
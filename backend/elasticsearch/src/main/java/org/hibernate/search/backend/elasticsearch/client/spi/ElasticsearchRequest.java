@@ -15,6 +15,7 @@
 import java.util.StringJoiner;
 
 import org.hibernate.search.engine.common.timing.Deadline;
+import org.hibernate.search.backend.elasticsearch.gson.spi.JsonPathFilter;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 
 import com.google.gson.JsonObject;
@@ -47,6 +48,7 @@ public static Builder builder(String method) {
 	private final Map<String, String> parameters;
 	private final List<JsonObject> bodyParts;
 	private final Deadline deadline;
+	private final JsonPathFilter responseBodyFilter;
 
 	private ElasticsearchRequest(Builder builder) {
 		this.method = builder.method;
@@ -54,6 +56,7 @@ private ElasticsearchRequest(Builder builder) {
 		this.parameters = builder.parameters == null ? Collections.emptyMap() : Collections.unmodifiableMap( builder.parameters );
 		this.bodyParts = builder.bodyParts == null ? Collections.emptyList() : Collections.unmodifiableList( builder.bodyParts );
 		this.deadline = builder.deadline;
+		this.responseBodyFilter = builder.responseBodyFilter;
 	}
 
 	public String method() {
@@ -76,6 +79,15 @@ public Deadline deadline() {
 		return deadline;
 	}
 
+	/**
+	 * @return A filter defining which parts of a successful response body are needed,
+	 * or {@code null} if the whole body is needed.
+	 * Clients may ignore the filter and provide the whole body.
+	 */
+	public JsonPathFilter responseBodyFilter() {
+		return responseBodyFilter;
+	}
+
 	@Override
 	public String toString() {
 		return new StringJoiner( ", ", ElasticsearchRequest.class.getSimpleName() + "[", "]" )
@@ -96,6 +108,7 @@ public static final class Builder {
 		private Map<String, String> parameters;
 		private List<JsonObject> bodyParts;
 		private Deadline deadline;
+		private JsonPathFilter responseBodyFilter;
 
 		private Builder(String method) {
 			super();
@@ -165,6 +178,11 @@ public Builder deadline(Deadline deadline) {
 			return this;
 		}
 
+		public Builder responseBodyFilter(JsonPathFilter responseBodyFilter) {
+			this.responseBodyFilter = responseBodyFilter;
+			return this;
+		}
+
 		public ElasticsearchRequest build() {
 			return new ElasticsearchRequest( this );
 		}
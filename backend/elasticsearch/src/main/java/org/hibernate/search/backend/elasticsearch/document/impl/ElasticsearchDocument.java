@@ -0,0 +1,41 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.document.impl;
+
+import com.google.gson.JsonObject;
+
+/**
+ * A document to index, along with the size of its serialized form.
+ */
+public final class ElasticsearchDocument {
+
+	private final JsonObject content;
+	private final long serializedSize;
+
+	ElasticsearchDocument(JsonObject content, long serializedSize) {
+		this.content = content;
+		this.serializedSize = serializedSize;
+	}
+
+	@Override
+	public String toString() {
+		return content.toString();
+	}
+
+	public JsonObject content() {
+		return content;
+	}
+
+	/**
+	 * @return The size of the compact JSON representation of {@link #content()}, in bytes.
+	 * @see org.hibernate.search.backend.elasticsearch.gson.impl.GsonUtils#serializedSize(com.google.gson.JsonElement)
+	 */
+	public long serializedSize() {
+		return serializedSize;
+	}
+
+}
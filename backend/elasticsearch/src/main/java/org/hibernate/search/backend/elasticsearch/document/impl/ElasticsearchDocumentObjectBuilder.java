@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.elasticsearch.document.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Map;
 import java.util.Objects;
 
 import org.hibernate.search.backend.elasticsearch.document.model.impl.ElasticsearchIndexField;
@@ -15,6 +16,7 @@
 import org.hibernate.search.backend.elasticsearch.document.model.impl.ElasticsearchIndexValueField;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.ElasticsearchIndexCompositeNode;
 import org.hibernate.search.backend.elasticsearch.gson.impl.GsonUtils;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonElementTypes;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.types.impl.ElasticsearchIndexValueFieldType;
 import org.hibernate.search.engine.backend.common.spi.FieldPaths;
@@ -26,6 +28,8 @@
 import org.hibernate.search.engine.backend.document.spi.NoOpDocumentElement;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
 
@@ -36,16 +40,19 @@ public class ElasticsearchDocumentObjectBuilder implements DocumentElement {
 	private final ElasticsearchIndexModel model;
 	private final ElasticsearchIndexCompositeNode schemaNode;
 	private final JsonObject content;
+	// Shared by all builders of the same document
+	private final SerializedSize serializedSize;
 
 	public ElasticsearchDocumentObjectBuilder(ElasticsearchIndexModel model) {
-		this( model, model.root(), new JsonObject() );
+		this( model, model.root(), new JsonObject(), new SerializedSize() );
 	}
 
-	ElasticsearchDocumentObjectBuilder(ElasticsearchIndexModel model, ElasticsearchIndexCompositeNode schemaNode,
-			JsonObject content) {
+	private ElasticsearchDocumentObjectBuilder(ElasticsearchIndexModel model, ElasticsearchIndexCompositeNode schemaNode,
+			JsonObject content, SerializedSize serializedSize) {
 		this.model = model;
 		this.schemaNode = schemaNode;
 		this.content = content;
+		this.serializedSize = serializedSize;
 	}
 
 	@Override
@@ -102,7 +109,7 @@ public DocumentElement addObject(String relativeFieldName) {
 		JsonObject jsonObject = new JsonObject();
 		addObject( objectFieldSchemaNode, jsonObject );
 
-		return new ElasticsearchDocumentObjectBuilder( model, objectFieldSchemaNode, jsonObject );
+		return new ElasticsearchDocumentObjectBuilder( model, objectFieldSchemaNode, jsonObject, serializedSize );
 	}
 
 	@Override
@@ -120,8 +127,26 @@ public void addNullObject(String relativeFieldName) {
 		addObject( objectFieldSchemaNode, null );
 	}
 
-	public JsonObject build() {
-		return content;
+	/**
+	 * Adds metadata to the document.
+	 * <p>
+	 * Metadata properties are expected to have reserved names that never conflict with fields.
+	 *
+	 * @param contributor The metadata contributor.
+	 * @param tenantId The tenant id.
+	 * @param id The document id.
+	 */
+	public void addMetadata(DocumentMetadataContributor contributor, String tenantId, String id) {
+		JsonObject metadata = new JsonObject();
+		contributor.contribute( metadata, tenantId, id );
+		for ( Map.Entry<String, JsonElement> property : metadata.entrySet() ) {
+			serializedSize.addProperty( content, property.getKey(), property.getValue() );
+			content.add( property.getKey(), property.getValue() );
+		}
+	}
+
+	public ElasticsearchDocument build() {
+		return new ElasticsearchDocument( content, serializedSize.value );
 	}
 
 	private <F> void addValue(ElasticsearchIndexValueField<F> node, F value) {
@@ -138,7 +163,7 @@ private <F> void addValue(ElasticsearchIndexValueField<F> node, F value) {
 		if ( !node.multiValued() && content.has( jsonPropertyName ) ) {
 			throw log.multipleValuesForSingleValuedField( node.absolutePath() );
 		}
-		GsonUtils.setOrAppendToArray( content, jsonPropertyName, type.codec().encode( value ) );
+		setOrAppendToArray( jsonPropertyName, type.codec().encode( value ) );
 	}
 
 	@SuppressWarnings("unchecked") // We check types explicitly using reflection
@@ -166,14 +191,32 @@ private DocumentElement addObject(ElasticsearchIndexObjectField node, JsonObject
 		if ( !node.multiValued() && content.has( jsonPropertyName ) ) {
 			throw log.multipleValuesForSingleValuedField( node.absolutePath() );
 		}
-		GsonUtils.setOrAppendToArray( content, jsonPropertyName, value );
+		setOrAppendToArray( jsonPropertyName, value );
 
 		if ( value == null ) {
 			return NoOpDocumentElement.get(); // Will not be used
 		}
 		else {
-			return new ElasticsearchDocumentObjectBuilder( model, node, value );
+			return new ElasticsearchDocumentObjectBuilder( model, node, value, serializedSize );
+		}
+	}
+
+	private void setOrAppendToArray(String jsonPropertyName, JsonElement value) {
+		JsonElement currentValue = content.get( jsonPropertyName );
+		if ( currentValue == null ) {
+			serializedSize.addProperty( content, jsonPropertyName, value );
+		}
+		else if ( JsonElementTypes.ARRAY.isInstance( currentValue ) ) {
+			JsonArray array = JsonElementTypes.ARRAY.fromElement( currentValue );
+			serializedSize.value += ( array.size() == 0 ? 0 : 1 ) // comma
+					+ GsonUtils.serializedSize( value );
+		}
+		else {
+			// The current value will be wrapped into an array
+			serializedSize.value += 3 // [,]
+					+ GsonUtils.serializedSize( value );
 		}
+		GsonUtils.setOrAppendToArray( content, jsonPropertyName, value );
 	}
 
 	private void checkTreeConsistency(ElasticsearchIndexCompositeNode expectedParentNode) {
@@ -182,4 +225,21 @@ private void checkTreeConsistency(ElasticsearchIndexCompositeNode expectedParent
 		}
 	}
 
+	/**
+	 * The size of the compact JSON representation of the document, in bytes,
+	 * updated as properties are added, so that the document never needs to be walked to compute it.
+	 * <p>
+	 * Values added to the document are measured when they are added;
+	 * objects are empty at that point, and their properties are measured as they are added in turn.
+	 */
+	private static final class SerializedSize {
+		private long value = 2; // {}
+
+		private void addProperty(JsonObject parent, String name, JsonElement propertyValue) {
+			value += ( parent.size() == 0 ? 0 : 1 ) // comma
+					+ GsonUtils.serializedSize( name ) + 1 // "name":
+					+ GsonUtils.serializedSize( propertyValue );
+		}
+	}
+
 }
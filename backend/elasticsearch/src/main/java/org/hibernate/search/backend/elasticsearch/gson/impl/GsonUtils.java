@@ -6,10 +6,13 @@
  */
 package org.hibernate.search.backend.elasticsearch.gson.impl;
 
+import java.util.Map;
+
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
 
 public final class GsonUtils {
 
@@ -61,4 +64,102 @@ public static <T> T deepCopy(Gson gson, Class<T> objectType, T object) {
 		return gson.fromJson( gson.toJsonTree( object ), objectType );
 	}
 
+	/**
+	 * Computes the size of the compact JSON representation of an element, in bytes,
+	 * as written in UTF-8 by a {@link Gson} instance that serializes nulls and escapes HTML characters.
+	 * <p>
+	 * This walks the whole element: callers building a large element should rather
+	 * add up the size of its parts as they build it.
+	 *
+	 * @param element The element whose size to compute, or {@code null}.
+	 * @return The size of the serialized element, in bytes.
+	 */
+	public static long serializedSize(JsonElement element) {
+		if ( element == null || element.isJsonNull() ) {
+			return 4; // null
+		}
+		else if ( element.isJsonObject() ) {
+			long size = 2; // {}
+			int memberCount = 0;
+			for ( Map.Entry<String, JsonElement> member : element.getAsJsonObject().entrySet() ) {
+				// "key":value
+				size += serializedSize( member.getKey() ) + 1 + serializedSize( member.getValue() );
+				++memberCount;
+			}
+			return memberCount == 0 ? size : size + memberCount - 1; // commas
+		}
+		else if ( element.isJsonArray() ) {
+			JsonArray array = element.getAsJsonArray();
+			long size = 2; // []
+			for ( JsonElement arrayElement : array ) {
+				size += serializedSize( arrayElement );
+			}
+			return array.size() == 0 ? size : size + array.size() - 1; // commas
+		}
+		else {
+			JsonPrimitive primitive = element.getAsJsonPrimitive();
+			if ( primitive.isString() ) {
+				return serializedSize( primitive.getAsString() );
+			}
+			else if ( primitive.isBoolean() ) {
+				return primitive.getAsBoolean() ? 4 : 5;
+			}
+			else {
+				// Numbers are written using their toString() representation, which is ASCII
+				return primitive.getAsString().length();
+			}
+		}
+	}
+
+	/**
+	 * Computes the size of the JSON representation of a string, in bytes,
+	 * including quotes and escape sequences, as written in UTF-8 by a {@link Gson} instance
+	 * that escapes HTML characters.
+	 *
+	 * @param string A string.
+	 * @return The size of the serialized string, in bytes.
+	 */
+	public static long serializedSize(String string) {
+		long size = 2; // ""
+		for ( int i = 0; i < string.length(); i++ ) {
+			char c = string.charAt( i );
+			if ( c < 0x20 ) {
+				switch ( c ) {
+					case '\t':
+					case '\b':
+					case '\n':
+					case '\r':
+					case '\f':
+						size += 2; // e.g. \n
+						break;
+					default:
+						size += 6; // Unicode escape sequence
+						break;
+				}
+			}
+			else if ( c == '"' || c == '\\' ) {
+				size += 2;
+			}
+			else if ( c == '<' || c == '>' || c == '&' || c == '=' || c == '\'' ) {
+				size += 6; // Unicode escape sequence, for HTML safety
+			}
+			else if ( c < 0x80 ) {
+				size += 1;
+			}
+			else if ( c < 0x800 ) {
+				size += 2;
+			}
+			else if ( c == '\u2028' || c == '\u2029' ) {
+				size += 6; // Unicode escape sequence, for JavaScript safety
+			}
+			else if ( Character.isSurrogate( c ) ) {
+				size += 2; // A surrogate pair is encoded as 4 bytes
+			}
+			else {
+				size += 3;
+			}
+		}
+		return size;
+	}
+
 }
@@ -0,0 +1,120 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.gson.spi;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+
+/**
+ * A filter to read only some paths of a JSON document into a tree,
+ * skipping everything else while streaming through the document.
+ * <p>
+ * Paths follow the syntax of Elasticsearch's {@code filter_path} parameter:
+ * property names separated by dots, where {@code *} matches any property name.
+ * Arrays are transparent: the filter applies to each of their elements,
+ * and elements are never removed, so that they keep their index.
+ * Properties matching a path are read entirely, including their children.
+ * <p>
+ * For example, {@code items.*.status} applied to
+ * <code>{"took": 3, "items": [{"index": {"_id": "1", "status": 201}}]}</code>
+ * will produce <code>{"items": [{"index": {"status": 201}}]}</code>.
+ */
+public final class JsonPathFilter {
+
+	private static final String WILDCARD = "*";
+
+	public static JsonPathFilter of(String... paths) {
+		JsonPathFilter root = new JsonPathFilter();
+		for ( String path : paths ) {
+			JsonPathFilter node = root;
+			for ( String propertyName : path.split( "\\." ) ) {
+				node = node.children.computeIfAbsent( propertyName, ignored -> new JsonPathFilter() );
+			}
+			node.includeAll = true;
+		}
+		root.paths = paths;
+		return root;
+	}
+
+	private final Map<String, JsonPathFilter> children = new LinkedHashMap<>();
+	private boolean includeAll = false;
+	// Only set on the root filter, for toString()
+	private String[] paths;
+
+	private JsonPathFilter() {
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + Arrays.toString( paths );
+	}
+
+	/**
+	 * @param reader A JSON reader, positioned before an object.
+	 * @return The object read from the reader, containing only the paths matching this filter.
+	 * @throws IOException If reading fails.
+	 */
+	public JsonObject readObject(JsonReader reader) throws IOException {
+		JsonElement element = read( reader );
+		return element == null || element.isJsonNull() ? null : element.getAsJsonObject();
+	}
+
+	private JsonElement read(JsonReader reader) throws IOException {
+		if ( includeAll ) {
+			return JsonParser.parseReader( reader );
+		}
+		switch ( reader.peek() ) {
+			case BEGIN_OBJECT:
+				JsonObject object = new JsonObject();
+				reader.beginObject();
+				while ( reader.hasNext() ) {
+					String propertyName = reader.nextName();
+					JsonPathFilter child = child( propertyName );
+					if ( child == null ) {
+						reader.skipValue();
+						continue;
+					}
+					JsonElement value = child.read( reader );
+					if ( value != null ) {
+						object.add( propertyName, value );
+					}
+				}
+				reader.endObject();
+				return object;
+			case BEGIN_ARRAY:
+				JsonArray array = new JsonArray();
+				reader.beginArray();
+				while ( reader.hasNext() ) {
+					JsonElement value = read( reader );
+					array.add( value );
+				}
+				reader.endArray();
+				return array;
+			default:
+				// A primitive value where we expected children: it doesn't match any path.
+				reader.skipValue();
+				return null;
+		}
+	}
+
+	private JsonPathFilter child(String propertyName) {
+		JsonPathFilter child = children.get( propertyName );
+		if ( child == null ) {
+			child = children.get( WILDCARD );
+		}
+		return child;
+	}
+
+}
@@ -22,6 +22,7 @@
 import org.hibernate.search.backend.elasticsearch.analysis.model.dsl.impl.ElasticsearchAnalysisConfigurationContextImpl;
 import org.hibernate.search.backend.elasticsearch.analysis.model.impl.ElasticsearchAnalysisDefinitionRegistry;
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexSettings;
+import org.hibernate.search.backend.elasticsearch.client.RequestBufferPoolStatistics;
 import org.hibernate.search.backend.elasticsearch.document.impl.DocumentMetadataContributor;
 import org.hibernate.search.backend.elasticsearch.document.model.dsl.impl.ElasticsearchIndexRootBuilder;
 import org.hibernate.search.backend.elasticsearch.index.DynamicMapping;
@@ -184,6 +185,11 @@ public <T> T client(Class<T> clientClass) {
 		return link.getClient().unwrap( clientClass );
 	}
 
+	@Override
+	public Optional<RequestBufferPoolStatistics> requestBufferPoolStatistics() {
+		return link.getRequestBufferPoolStatistics();
+	}
+
 	@Override
 	public IndexManagerBuilder createIndexManagerBuilder(
 			String hibernateSearchIndexName,
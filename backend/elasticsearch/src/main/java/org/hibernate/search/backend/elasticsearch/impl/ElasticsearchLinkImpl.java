@@ -11,6 +11,7 @@
 
 import org.hibernate.search.backend.elasticsearch.ElasticsearchVersion;
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
+import org.hibernate.search.backend.elasticsearch.client.RequestBufferPoolStatistics;
 import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClientUtils;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClient;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientFactory;
@@ -56,6 +57,12 @@ class ElasticsearchLinkImpl implements ElasticsearchLink {
 					.withDefault( ElasticsearchBackendSettings.Defaults.SCROLL_TIMEOUT )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> QUERY_RESPONSE_FILTERING_ENABLED =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.QUERY_RESPONSE_FILTERING_ENABLED )
+					.asBoolean()
+					.withDefault( ElasticsearchBackendSettings.Defaults.QUERY_RESPONSE_FILTERING_ENABLED )
+					.build();
+
 	private final BeanHolder<? extends ElasticsearchClientFactory> clientFactoryHolder;
 	private final BackendThreads threads;
 	private final GsonProvider defaultGsonProvider;
@@ -71,6 +78,7 @@ class ElasticsearchLinkImpl implements ElasticsearchLink {
 	private ElasticsearchWorkFactory workFactory;
 	private ElasticsearchSearchResultExtractorFactory searchResultExtractorFactory;
 	private Integer scrollTimeout;
+	private boolean queryResponseFilteringEnabled;
 
 	ElasticsearchLinkImpl(BeanHolder<? extends ElasticsearchClientFactory> clientFactoryHolder,
 			BackendThreads threads, GsonProvider defaultGsonProvider, boolean logPrettyPrinting,
@@ -90,6 +98,12 @@ public ElasticsearchClient getClient() {
 		return clientImplementor;
 	}
 
+	@Override
+	public Optional<RequestBufferPoolStatistics> getRequestBufferPoolStatistics() {
+		checkStarted();
+		return clientImplementor.requestBufferPoolStatistics();
+	}
+
 	@Override
 	public GsonProvider getGsonProvider() {
 		checkStarted();
@@ -126,6 +140,12 @@ public Integer getScrollTimeout() {
 		return scrollTimeout;
 	}
 
+	@Override
+	public boolean isQueryResponseFilteringEnabled() {
+		checkStarted();
+		return queryResponseFilteringEnabled;
+	}
+
 	ElasticsearchVersion getElasticsearchVersion() {
 		checkStarted();
 		return elasticsearchVersion;
@@ -148,6 +168,7 @@ void onStart(BeanResolver beanResolver, ConfigurationPropertySource propertySour
 			workFactory = protocolDialect.createWorkFactory( gsonProvider );
 			searchResultExtractorFactory = protocolDialect.createSearchResultExtractorFactory();
 			scrollTimeout = SCROLL_TIMEOUT.get( propertySource );
+			queryResponseFilteringEnabled = QUERY_RESPONSE_FILTERING_ENABLED.get( propertySource );
 		}
 	}
 
@@ -9,6 +9,7 @@
 import org.hibernate.search.backend.elasticsearch.ElasticsearchBackend;
 import org.hibernate.search.backend.elasticsearch.metamodel.ElasticsearchIndexDescriptor;
 import org.hibernate.search.engine.backend.index.IndexManager;
+import org.hibernate.search.util.common.annotation.Incubating;
 
 public interface ElasticsearchIndexManager extends IndexManager {
 
@@ -18,4 +19,12 @@ public interface ElasticsearchIndexManager extends IndexManager {
 	@Override
 	ElasticsearchIndexDescriptor descriptor();
 
+	/**
+	 * @return Statistics about indexing operations on this index that were rejected by Elasticsearch
+	 * because it was overloaded, and retried.
+	 * See {@link IndexingRetryStatistics} for details.
+	 */
+	@Incubating
+	IndexingRetryStatistics indexingRetryStatistics();
+
 }
@@ -0,0 +1,46 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.index;
+
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexSettings;
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * Statistics about indexing operations rejected by an overloaded Elasticsearch cluster,
+ * restricted to a single index.
+ * <p>
+ * Statistics are collected since the backend started.
+ *
+ * @see ElasticsearchIndexSettings#INDEXING_RETRY_MAX_RETRIES
+ */
+@Incubating
+public interface IndexingRetryStatistics {
+
+	/**
+	 * @return The number of times an indexing operation was rejected by Elasticsearch (HTTP status 429),
+	 * including rejections of retried operations.
+	 */
+	long rejectedOperationCount();
+
+	/**
+	 * @return The number of times a rejected indexing operation was retried.
+	 */
+	long retriedOperationCount();
+
+	/**
+	 * @return The number of rejected indexing operations that were reported as failures
+	 * because the maximum number of retries or the retry timeout was reached.
+	 */
+	long exhaustedOperationCount();
+
+	/**
+	 * @return The total time spent waiting before retrying rejected operations,
+	 * or before processing indexing queues while Elasticsearch was rejecting operations, in milliseconds.
+	 */
+	long throttledTimeMillis();
+
+}
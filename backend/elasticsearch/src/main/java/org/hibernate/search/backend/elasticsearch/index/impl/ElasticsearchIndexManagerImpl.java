@@ -13,10 +13,12 @@
 import org.hibernate.search.backend.elasticsearch.ElasticsearchBackend;
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexSettings;
 import org.hibernate.search.backend.elasticsearch.document.impl.DocumentMetadataContributor;
+import org.hibernate.search.backend.elasticsearch.document.impl.ElasticsearchDocument;
 import org.hibernate.search.backend.elasticsearch.document.impl.ElasticsearchDocumentObjectBuilder;
 import org.hibernate.search.backend.elasticsearch.metamodel.ElasticsearchIndexDescriptor;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.ElasticsearchIndexModel;
 import org.hibernate.search.backend.elasticsearch.index.ElasticsearchIndexManager;
+import org.hibernate.search.backend.elasticsearch.index.IndexingRetryStatistics;
 import org.hibernate.search.backend.elasticsearch.index.IndexStatus;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchBatchingWorkOrchestrator;
@@ -47,8 +49,6 @@
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
-import com.google.gson.JsonObject;
-
 
 class ElasticsearchIndexManagerImpl implements IndexManagerImplementor,
 		ElasticsearchIndexManager, WorkExecutionIndexManagerContext {
@@ -158,17 +158,16 @@ public String toElasticsearchId(String tenantId, String id) {
 	}
 
 	@Override
-	public JsonObject createDocument(String tenantId, String id,
+	public ElasticsearchDocument createDocument(String tenantId, String id,
 			DocumentContributor documentContributor) {
 		ElasticsearchDocumentObjectBuilder builder = new ElasticsearchDocumentObjectBuilder( model );
 		documentContributor.contribute( builder );
-		JsonObject document = builder.build();
 
 		for ( DocumentMetadataContributor contributor : documentMetadataContributors ) {
-			contributor.contribute( document, tenantId, id );
+			builder.addMetadata( contributor, tenantId, id );
 		}
 
-		return document;
+		return builder.build();
 	}
 
 	public ElasticsearchIndexModel model() {
@@ -240,6 +239,11 @@ public ElasticsearchIndexDescriptor descriptor() {
 		return model;
 	}
 
+	@Override
+	public IndexingRetryStatistics indexingRetryStatistics() {
+		return indexingOrchestrator.retryStatistics();
+	}
+
 	@Override
 	@SuppressWarnings("unchecked") // Checked using reflection
 	public <T> T unwrap(Class<T> clazz) {
@@ -6,6 +6,9 @@
  */
 package org.hibernate.search.backend.elasticsearch.link.impl;
 
+import java.util.Optional;
+
+import org.hibernate.search.backend.elasticsearch.client.RequestBufferPoolStatistics;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClient;
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
 import org.hibernate.search.backend.elasticsearch.lowlevel.syntax.metadata.impl.ElasticsearchIndexMetadataSyntax;
@@ -23,6 +26,8 @@ public interface ElasticsearchLink {
 
 	ElasticsearchClient getClient();
 
+	Optional<RequestBufferPoolStatistics> getRequestBufferPoolStatistics();
+
 	GsonProvider getGsonProvider();
 
 	ElasticsearchSearchSyntax getSearchSyntax();
@@ -35,4 +40,6 @@ public interface ElasticsearchLink {
 
 	Integer getScrollTimeout();
 
+	boolean isQueryResponseFilteringEnabled();
+
 }
@@ -726,4 +726,15 @@ SearchException invalidContextForProjectionOnField(String absolutePath,
 	SearchException invalidSingleValuedProjectionOnValueFieldInMultiValuedObjectField(String absolutePath,
 			String objectFieldAbsolutePath);
 
+	@Message(id = ID_OFFSET + 156,
+			value = "Invalid search cursor: '%1$s'."
+					+ " A search cursor can only be used with queries targeting the Elasticsearch backend"
+					+ " and defining the same sort as the query the cursor was obtained from.")
+	SearchException invalidSearchCursor(Object cursor);
+
+	@LogMessage(level = Level.DEBUG)
+	@Message(id = ID_OFFSET + 157,
+			value = "Statistics of the pool of buffers used to serialize Elasticsearch requests: %1$s.")
+	void requestBufferPoolStatistics(Object bufferPool);
+
 }
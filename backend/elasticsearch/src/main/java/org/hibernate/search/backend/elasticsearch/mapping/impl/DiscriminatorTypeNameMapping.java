@@ -102,6 +102,7 @@ private static final class TypeNameFromDiscriminatorExtractionHelper implements
 		@Override
 		public void request(JsonObject requestBody, ProjectionRequestContext context) {
 			context.getSearchSyntax().requestDocValues( requestBody, MAPPED_TYPE_FIELD_NAME_JSON );
+			context.registerHitPath( "fields." + MAPPED_TYPE_FIELD_NAME );
 		}
 
 		@Override
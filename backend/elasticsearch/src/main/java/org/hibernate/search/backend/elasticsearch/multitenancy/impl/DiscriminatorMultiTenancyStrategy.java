@@ -138,6 +138,7 @@ private static final class DiscriminatorMultiTenancyIdProjectionExtractionHelper
 		@Override
 		public void request(JsonObject requestBody, ProjectionRequestContext context) {
 			context.getSearchSyntax().requestDocValues( requestBody, ID_FIELD_NAME_JSON );
+			context.registerHitPath( "fields." + ID_FIELD_NAME );
 		}
 
 		@Override
@@ -0,0 +1,68 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adapts the number of works per bulk to the behavior observed when executing previous bulks.
+ * <p>
+ * The target bulk size is halved whenever a bulk takes longer than the target latency,
+ * fails or gets some of its works rejected by an overloaded cluster,
+ * and is increased by a fixed step, up to the maximum bulk size,
+ * whenever a full bulk executes in less than half the target latency.
+ * <p>
+ * Bulks complete in background threads, so this class is thread-safe.
+ */
+final class ElasticsearchAdaptiveBulkSizeController {
+
+	private final int maxBulkSize;
+	private final int increment;
+	private final long targetLatencyNanos;
+
+	private volatile int targetBulkSize;
+
+	/**
+	 * @param maxBulkSize The maximum number of works in a single bulk; also the initial target.
+	 * @param targetLatencyMillis The target execution time of bulks, in milliseconds.
+	 */
+	ElasticsearchAdaptiveBulkSizeController(int maxBulkSize, int targetLatencyMillis) {
+		this.maxBulkSize = maxBulkSize;
+		this.increment = Math.max( 1, maxBulkSize / 10 );
+		this.targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos( targetLatencyMillis );
+		this.targetBulkSize = maxBulkSize;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "maxBulkSize=" + maxBulkSize
+				+ ", targetLatencyNanos=" + targetLatencyNanos
+				+ ", targetBulkSize=" + targetBulkSize
+				+ "]";
+	}
+
+	int targetBulkSize() {
+		return targetBulkSize;
+	}
+
+	synchronized void onBulkExecuted(int bulkSize, long durationNanos, int rejectedItemCount) {
+		int current = targetBulkSize;
+		if ( rejectedItemCount > 0 || durationNanos > targetLatencyNanos ) {
+			targetBulkSize = Math.max( 1, current / 2 );
+		}
+		// Only grow if the bulk was full: smaller bulks tell us nothing about larger ones.
+		else if ( bulkSize >= current && durationNanos < targetLatencyNanos / 2 ) {
+			targetBulkSize = Math.min( maxBulkSize, current + increment );
+		}
+	}
+
+	synchronized void onBulkFailed() {
+		targetBulkSize = Math.max( 1, targetBulkSize / 2 );
+	}
+
+}
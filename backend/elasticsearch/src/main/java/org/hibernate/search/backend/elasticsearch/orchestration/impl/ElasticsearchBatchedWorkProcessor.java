@@ -28,17 +28,28 @@ class ElasticsearchBatchedWorkProcessor implements BatchedWorkProcessor {
 
 	private final ElasticsearchWorkSequenceBuilder sequenceBuilder;
 	private final ElasticsearchWorkBulker bulker;
+	private final ElasticsearchBulkRetryPolicy retryPolicyOrNull;
 
 	public ElasticsearchBatchedWorkProcessor(ElasticsearchWorkSequenceBuilder sequenceBuilder,
 			ElasticsearchWorkBulker bulker) {
+		this( sequenceBuilder, bulker, null );
+	}
+
+	public ElasticsearchBatchedWorkProcessor(ElasticsearchWorkSequenceBuilder sequenceBuilder,
+			ElasticsearchWorkBulker bulker, ElasticsearchBulkRetryPolicy retryPolicyOrNull) {
 		this.sequenceBuilder = sequenceBuilder;
 		this.bulker = bulker;
+		this.retryPolicyOrNull = retryPolicyOrNull;
 	}
 
 	@Override
 	public void beginBatch() {
 		bulker.reset();
-		sequenceBuilder.init( CompletableFuture.completedFuture( null ) );
+		// While the cluster rejects works, delay execution of the batch:
+		// this delays the next batch as well, slowing down consumption of the queue.
+		sequenceBuilder.init( retryPolicyOrNull == null
+				? CompletableFuture.completedFuture( null )
+				: retryPolicyOrNull.awaitThrottling() );
 	}
 
 	public <T> CompletableFuture<T> submit(BulkableWork<T> work) {
@@ -9,6 +9,7 @@
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexSettings;
+import org.hibernate.search.backend.elasticsearch.index.IndexingRetryStatistics;
 import org.hibernate.search.backend.elasticsearch.link.impl.ElasticsearchLink;
 import org.hibernate.search.backend.elasticsearch.resources.impl.BackendThreads;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
@@ -53,10 +54,55 @@
 					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_MAX_BULK_SIZE )
 					.build();
 
+	private static final ConfigurationProperty<Integer> MAX_BULK_BYTE_SIZE =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_MAX_BULK_BYTE_SIZE )
+					.asIntegerStrictlyPositive()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_MAX_BULK_BYTE_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> ADAPTIVE_BULK_SIZE_ENABLED =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_ADAPTIVE_BULK_SIZE_ENABLED )
+					.asBoolean()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_ADAPTIVE_BULK_SIZE_ENABLED )
+					.build();
+
+	private static final ConfigurationProperty<Integer> ADAPTIVE_BULK_SIZE_TARGET_LATENCY =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_ADAPTIVE_BULK_SIZE_TARGET_LATENCY )
+					.asIntegerStrictlyPositive()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_ADAPTIVE_BULK_SIZE_TARGET_LATENCY )
+					.build();
+
+	private static final ConfigurationProperty<Integer> RETRY_MAX_RETRIES =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_RETRY_MAX_RETRIES )
+					.asIntegerPositiveOrZero()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_RETRY_MAX_RETRIES )
+					.build();
+
+	private static final ConfigurationProperty<Integer> RETRY_INITIAL_BACKOFF =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_RETRY_INITIAL_BACKOFF )
+					.asIntegerStrictlyPositive()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_RETRY_INITIAL_BACKOFF )
+					.build();
+
+	private static final ConfigurationProperty<Integer> RETRY_MAX_BACKOFF =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_RETRY_MAX_BACKOFF )
+					.asIntegerStrictlyPositive()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_RETRY_MAX_BACKOFF )
+					.build();
+
+	private static final ConfigurationProperty<Integer> RETRY_TIMEOUT =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_RETRY_TIMEOUT )
+					.asIntegerStrictlyPositive()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_RETRY_TIMEOUT )
+					.build();
+
+	private static final IndexingRetryStatistics NO_RETRY_STATISTICS = new NoRetryStatistics();
+
 	private final BackendThreads threads;
 	private final FailureHandler failureHandler;
 
 	private HashTable<BatchingExecutor<ElasticsearchBatchedWorkProcessor>> executors;
+	private ElasticsearchBulkRetryPolicy retryPolicy;
 
 	/**
 	 * @param name The name of the orchestrator thread (and of this orchestrator when reporting errors)
@@ -84,13 +130,25 @@ protected void doStart(ConfigurationPropertySource propertySource) {
 		int queueCount = QUEUE_COUNT.get( propertySource );
 		int queueSize = QUEUE_SIZE.get( propertySource );
 		int maxBulkSize = MAX_BULK_SIZE.get( propertySource );
+		int maxBulkByteSize = MAX_BULK_BYTE_SIZE.get( propertySource );
+		boolean adaptiveBulkSizeEnabled = ADAPTIVE_BULK_SIZE_ENABLED.get( propertySource );
+		int adaptiveBulkSizeTargetLatency = ADAPTIVE_BULK_SIZE_TARGET_LATENCY.get( propertySource );
+		// Shared by all queues, so that rejections in one queue slow down all queues of this index.
+		retryPolicy = new ElasticsearchBulkRetryPolicy( threads.getWorkExecutor(),
+				RETRY_MAX_RETRIES.get( propertySource ), RETRY_INITIAL_BACKOFF.get( propertySource ),
+				RETRY_MAX_BACKOFF.get( propertySource ), RETRY_TIMEOUT.get( propertySource ) );
 
 		ElasticsearchWorkExecutionContext executionContext = createWorkExecutionContext();
 
 		executors = new ModuloHashTable<>( SimpleHashFunction.INSTANCE, queueCount );
 		for ( int i = 0; i < executors.size(); i++ ) {
 			// Processors are not thread-safe: create one per executor.
-			ElasticsearchBatchedWorkProcessor processor = createProcessor( executionContext, maxBulkSize );
+			// Each queue adapts its bulk size independently, as queues are processed independently.
+			ElasticsearchAdaptiveBulkSizeController adaptiveBulkSizeController = adaptiveBulkSizeEnabled
+					? new ElasticsearchAdaptiveBulkSizeController( maxBulkSize, adaptiveBulkSizeTargetLatency )
+					: null;
+			ElasticsearchBatchedWorkProcessor processor = createProcessor( executionContext, maxBulkSize,
+					maxBulkByteSize, adaptiveBulkSizeController, retryPolicy );
 			executors.set( i, new BatchingExecutor<>(
 					name() + " - " + i,
 					processor,
@@ -105,6 +163,10 @@ protected void doStart(ConfigurationPropertySource propertySource) {
 		}
 	}
 
+	public IndexingRetryStatistics retryStatistics() {
+		return retryPolicy == null ? NO_RETRY_STATISTICS : retryPolicy;
+	}
+
 	@Override
 	protected void doSubmit(ElasticsearchBatchedWork<?> work) throws InterruptedException {
 		executors.get( work.getQueuingKey() ).submit( work );
@@ -127,15 +189,39 @@ protected void doStop() {
 	}
 
 	private ElasticsearchBatchedWorkProcessor createProcessor(ElasticsearchWorkExecutionContext context,
-			int maxBulkSize) {
+			int maxBulkSize, int maxBulkByteSize,
+			ElasticsearchAdaptiveBulkSizeController adaptiveBulkSizeControllerOrNull,
+			ElasticsearchBulkRetryPolicy retryPolicy) {
 		ElasticsearchWorkSequenceBuilder sequenceBuilder = new ElasticsearchDefaultWorkSequenceBuilder( context );
 		ElasticsearchWorkBulker bulker = new ElasticsearchDefaultWorkBulker(
 				sequenceBuilder,
 				(worksToBulk, refreshStrategy) ->
 						link.getWorkFactory().bulk( worksToBulk ).refresh( refreshStrategy ).build(),
-				maxBulkSize
+				maxBulkSize, maxBulkByteSize, adaptiveBulkSizeControllerOrNull, retryPolicy
 		);
-		return new ElasticsearchBatchedWorkProcessor( sequenceBuilder, bulker );
+		return new ElasticsearchBatchedWorkProcessor( sequenceBuilder, bulker, retryPolicy );
+	}
+
+	private static final class NoRetryStatistics implements IndexingRetryStatistics {
+		@Override
+		public long rejectedOperationCount() {
+			return 0L;
+		}
+
+		@Override
+		public long retriedOperationCount() {
+			return 0L;
+		}
+
+		@Override
+		public long exhaustedOperationCount() {
+			return 0L;
+		}
+
+		@Override
+		public long throttledTimeMillis() {
+			return 0L;
+		}
 	}
 
 }
@@ -0,0 +1,143 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.search.backend.elasticsearch.index.IndexingRetryStatistics;
+
+/**
+ * Decides when and whether bulked works rejected by an overloaded cluster get retried,
+ * and delays the processing of indexing queues while works are being rejected.
+ * <p>
+ * Shared by all queues of an index, so this class is thread-safe.
+ */
+final class ElasticsearchBulkRetryPolicy implements IndexingRetryStatistics {
+
+	private static final CompletableFuture<Void> COMPLETED = CompletableFuture.completedFuture( null );
+
+	private final ScheduledExecutorService scheduler;
+	private final int maxRetries;
+	private final long initialBackoffMillis;
+	private final long maxBackoffMillis;
+	private final long timeoutNanos;
+
+	private final AtomicLong throttledUntilNanos = new AtomicLong( System.nanoTime() );
+
+	private final LongAdder rejectedOperationCount = new LongAdder();
+	private final LongAdder retriedOperationCount = new LongAdder();
+	private final LongAdder exhaustedOperationCount = new LongAdder();
+	private final LongAdder throttledTimeNanos = new LongAdder();
+
+	ElasticsearchBulkRetryPolicy(ScheduledExecutorService scheduler, int maxRetries,
+			int initialBackoffMillis, int maxBackoffMillis, int timeoutMillis) {
+		this.scheduler = scheduler;
+		this.maxRetries = maxRetries;
+		this.initialBackoffMillis = initialBackoffMillis;
+		this.maxBackoffMillis = Math.max( initialBackoffMillis, maxBackoffMillis );
+		this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos( timeoutMillis );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "maxRetries=" + maxRetries
+				+ ", initialBackoffMillis=" + initialBackoffMillis
+				+ ", maxBackoffMillis=" + maxBackoffMillis
+				+ ", timeoutNanos=" + timeoutNanos
+				+ "]";
+	}
+
+	@Override
+	public long rejectedOperationCount() {
+		return rejectedOperationCount.sum();
+	}
+
+	@Override
+	public long retriedOperationCount() {
+		return retriedOperationCount.sum();
+	}
+
+	@Override
+	public long exhaustedOperationCount() {
+		return exhaustedOperationCount.sum();
+	}
+
+	@Override
+	public long throttledTimeMillis() {
+		return TimeUnit.NANOSECONDS.toMillis( throttledTimeNanos.sum() );
+	}
+
+	/**
+	 * @return A future completing when indexing queues can resume processing,
+	 * i.e. immediately unless works were rejected recently.
+	 */
+	CompletableFuture<?> awaitThrottling() {
+		long remainingNanos = throttledUntilNanos.get() - System.nanoTime();
+		if ( remainingNanos <= 0 ) {
+			return COMPLETED;
+		}
+		return delay( remainingNanos );
+	}
+
+	/**
+	 * @param rejectedCount The number of works rejected in the latest attempt.
+	 * @param retryCount The number of retries already performed for these works.
+	 * @param startNanos The {@link System#nanoTime() time} of the first attempt.
+	 * @return A future completing when the rejected works should be retried,
+	 * or {@code null} if they should be reported as failures instead.
+	 */
+	CompletableFuture<?> onRejected(int rejectedCount, int retryCount, long startNanos) {
+		rejectedOperationCount.add( rejectedCount );
+		long backoffNanos = TimeUnit.MILLISECONDS.toNanos( backoffMillis( retryCount ) );
+		long now = System.nanoTime();
+		if ( retryCount >= maxRetries || now + backoffNanos - startNanos > timeoutNanos ) {
+			exhaustedOperationCount.add( rejectedCount );
+			return null;
+		}
+		retriedOperationCount.add( rejectedCount );
+		// Give the cluster some time to recover before processing more works in any queue.
+		throttledUntilNanos.accumulateAndGet( now + backoffNanos, Math::max );
+		return delay( backoffNanos );
+	}
+
+	/**
+	 * @param failedCount The number of works whose retry failed for another reason than a rejection.
+	 */
+	void onRetryFailed(int failedCount) {
+		exhaustedOperationCount.add( failedCount );
+	}
+
+	private long backoffMillis(int retryCount) {
+		// Exponential backoff with "equal jitter", to avoid retries of all queues hitting the cluster at once.
+		long backoff = retryCount < 31 ? initialBackoffMillis << retryCount : Long.MAX_VALUE;
+		if ( backoff <= 0 || backoff > maxBackoffMillis ) {
+			backoff = maxBackoffMillis;
+		}
+		long half = backoff / 2;
+		return half + ThreadLocalRandom.current().nextLong( backoff - half + 1 );
+	}
+
+	private CompletableFuture<?> delay(long nanos) {
+		throttledTimeNanos.add( nanos );
+		CompletableFuture<Void> future = new CompletableFuture<>();
+		try {
+			scheduler.schedule( () -> future.complete( null ), nanos, TimeUnit.NANOSECONDS );
+		}
+		catch (RuntimeException e) {
+			// Most likely the backend is stopping.
+			future.completeExceptionally( e );
+		}
+		return future;
+	}
+
+}
@@ -11,6 +11,7 @@
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
 import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
 import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
@@ -21,8 +22,12 @@ class ElasticsearchDefaultWorkBulker implements ElasticsearchWorkBulker {
 	private final ElasticsearchWorkSequenceBuilder sequenceBuilder;
 	private final BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory;
 	private final int maxBulkSize;
+	private final long maxBulkByteSize;
+	private final ElasticsearchAdaptiveBulkSizeController adaptiveBulkSizeControllerOrNull;
+	private final ElasticsearchBulkRetryPolicy retryPolicyOrNull;
 
 	private final List<BulkableWork<?>> currentBulkItems;
+	private long currentBulkByteSize;
 	private DocumentRefreshStrategy currentBulkRefreshStrategy;
 	private CompletableFuture<NonBulkableWork<BulkResult>> currentBulkWorkFuture;
 	private CompletableFuture<BulkResult> currentBulkResultFuture;
@@ -37,9 +42,34 @@ class ElasticsearchDefaultWorkBulker implements ElasticsearchWorkBulker {
 	public ElasticsearchDefaultWorkBulker(ElasticsearchWorkSequenceBuilder sequenceBuilder,
 			BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory,
 			int maxBulkSize) {
+		this( sequenceBuilder, bulkWorkFactory, maxBulkSize, Long.MAX_VALUE, null, null );
+	}
+
+	/**
+	 * @param sequenceBuilder The sequence builder to add works to
+	 * @param bulkWorkFactory The factory for bulk works
+	 * @param maxBulkSize Maximum number of works in a single bulk.
+	 * If a bulk reaches this size, it will be automatically
+	 * {@link #finalizeBulkWork() finalized}.
+	 * @param maxBulkByteSize Maximum estimated size of a single bulk, in bytes.
+	 * If adding a work would make a non-empty bulk exceed this size,
+	 * the bulk will be automatically {@link #finalizeBulkWork() finalized} first.
+	 * @param adaptiveBulkSizeControllerOrNull A controller lowering the number of works per bulk
+	 * below {@code maxBulkSize} depending on how previous bulks executed, or {@code null}.
+	 * @param retryPolicyOrNull A policy for retrying bulked works rejected by an overloaded cluster,
+	 * or {@code null} to never retry.
+	 */
+	public ElasticsearchDefaultWorkBulker(ElasticsearchWorkSequenceBuilder sequenceBuilder,
+			BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory,
+			int maxBulkSize, long maxBulkByteSize,
+			ElasticsearchAdaptiveBulkSizeController adaptiveBulkSizeControllerOrNull,
+			ElasticsearchBulkRetryPolicy retryPolicyOrNull) {
 		this.sequenceBuilder = sequenceBuilder;
 		this.bulkWorkFactory = bulkWorkFactory;
 		this.maxBulkSize = maxBulkSize;
+		this.maxBulkByteSize = maxBulkByteSize;
+		this.adaptiveBulkSizeControllerOrNull = adaptiveBulkSizeControllerOrNull;
+		this.retryPolicyOrNull = retryPolicyOrNull;
 
 		this.currentBulkItems = new ArrayList<>();
 		this.currentBulkWorkFuture = null;
@@ -48,6 +78,12 @@ public ElasticsearchDefaultWorkBulker(ElasticsearchWorkSequenceBuilder sequenceB
 
 	@Override
 	public <T> CompletableFuture<T> add(BulkableWork<T> work) {
+		long workByteSize = work.getBulkableActionSizeEstimate();
+		if ( !currentBulkItems.isEmpty() && currentBulkByteSize + workByteSize > maxBulkByteSize ) {
+			// This work would make the current bulk too large; start a new bulk.
+			finalizeBulkWork();
+		}
+
 		DocumentRefreshStrategy workRefreshStrategy = work.getRefreshStrategy();
 		if ( currentBulkItems.isEmpty() ) {
 			currentBulkRefreshStrategy = workRefreshStrategy;
@@ -65,12 +101,13 @@ else if ( currentBulkRefreshStrategy != workRefreshStrategy ) {
 
 		int currentBulkWorkIndex = currentBulkItems.size();
 		currentBulkItems.add( work );
+		currentBulkByteSize += workByteSize;
 
 		CompletableFuture<T> future = sequenceBuilder.addBulkResultExtraction(
 				currentBulkResultFuture, work, currentBulkWorkIndex
 		);
 
-		if ( currentBulkItems.size() >= maxBulkSize ) {
+		if ( currentBulkItems.size() >= targetBulkSize() || currentBulkByteSize >= maxBulkByteSize ) {
 			finalizeBulkWork();
 		}
 
@@ -84,7 +121,11 @@ public void finalizeBulkWork() {
 			return;
 		}
 
-		NonBulkableWork<BulkResult> bulkWork = bulkWorkFactory.apply( currentBulkItems, currentBulkRefreshStrategy );
+		NonBulkableWork<BulkResult> bulkWork = createBulkWork( currentBulkItems, currentBulkRefreshStrategy );
+		if ( retryPolicyOrNull != null ) {
+			bulkWork = new ElasticsearchRetryingBulkWork( bulkWork, new ArrayList<>( currentBulkItems ),
+					currentBulkRefreshStrategy, this::createBulkWork, retryPolicyOrNull );
+		}
 		currentBulkWorkFuture.complete( bulkWork );
 		reset();
 	}
@@ -92,8 +133,58 @@ public void finalizeBulkWork() {
 	@Override
 	public void reset() {
 		this.currentBulkItems.clear();
+		this.currentBulkByteSize = 0L;
 		this.currentBulkRefreshStrategy = null;
 		this.currentBulkWorkFuture = null;
 		this.currentBulkResultFuture = null;
 	}
+
+	private NonBulkableWork<BulkResult> createBulkWork(List<? extends BulkableWork<?>> works,
+			DocumentRefreshStrategy refreshStrategy) {
+		NonBulkableWork<BulkResult> bulkWork = bulkWorkFactory.apply( works, refreshStrategy );
+		if ( adaptiveBulkSizeControllerOrNull != null ) {
+			bulkWork = new MeasuredBulkWork( bulkWork, works.size(), adaptiveBulkSizeControllerOrNull );
+		}
+		return bulkWork;
+	}
+
+	private int targetBulkSize() {
+		return adaptiveBulkSizeControllerOrNull == null ? maxBulkSize : adaptiveBulkSizeControllerOrNull.targetBulkSize();
+	}
+
+	/**
+	 * A bulk work reporting its execution time and outcome to an {@link ElasticsearchAdaptiveBulkSizeController}.
+	 */
+	private static final class MeasuredBulkWork implements NonBulkableWork<BulkResult> {
+		private final NonBulkableWork<BulkResult> delegate;
+		private final int bulkSize;
+		private final ElasticsearchAdaptiveBulkSizeController controller;
+
+		private MeasuredBulkWork(NonBulkableWork<BulkResult> delegate, int bulkSize,
+				ElasticsearchAdaptiveBulkSizeController controller) {
+			this.delegate = delegate;
+			this.bulkSize = bulkSize;
+			this.controller = controller;
+		}
+
+		@Override
+		public String toString() {
+			return delegate.toString();
+		}
+
+		@Override
+		public CompletableFuture<BulkResult> execute(ElasticsearchWorkExecutionContext context) {
+			long start = System.nanoTime();
+			CompletableFuture<BulkResult> future = delegate.execute( context );
+			future.whenComplete( (result, throwable) -> {
+				if ( throwable == null ) {
+					controller.onBulkExecuted( bulkSize, System.nanoTime() - start, result.rejectedItemCount() );
+				}
+				else {
+					controller.onBulkFailed();
+				}
+			} );
+			return future;
+		}
+	}
 }
@@ -0,0 +1,172 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
+import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.util.common.impl.Futures;
+
+/**
+ * A bulk work that retries the bulked works rejected by an overloaded cluster,
+ * in new bulks, as allowed by an {@link ElasticsearchBulkRetryPolicy}.
+ * <p>
+ * The result maps each bulked work to the result of its latest attempt,
+ * so that works that are still rejected when giving up get reported as failures.
+ */
+final class ElasticsearchRetryingBulkWork implements NonBulkableWork<BulkResult> {
+
+	private final NonBulkableWork<BulkResult> firstAttempt;
+	private final List<BulkableWork<?>> bulkedWorks;
+	private final DocumentRefreshStrategy refreshStrategy;
+	private final BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory;
+	private final ElasticsearchBulkRetryPolicy retryPolicy;
+
+	ElasticsearchRetryingBulkWork(NonBulkableWork<BulkResult> firstAttempt, List<BulkableWork<?>> bulkedWorks,
+			DocumentRefreshStrategy refreshStrategy,
+			BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory,
+			ElasticsearchBulkRetryPolicy retryPolicy) {
+		this.firstAttempt = firstAttempt;
+		this.bulkedWorks = bulkedWorks;
+		this.refreshStrategy = refreshStrategy;
+		this.bulkWorkFactory = bulkWorkFactory;
+		this.retryPolicy = retryPolicy;
+	}
+
+	@Override
+	public String toString() {
+		return firstAttempt.toString();
+	}
+
+	@Override
+	public CompletableFuture<BulkResult> execute(ElasticsearchWorkExecutionContext context) {
+		Execution execution = new Execution( context );
+		List<Integer> allIndices = new ArrayList<>( bulkedWorks.size() );
+		for ( int i = 0; i < bulkedWorks.size(); i++ ) {
+			allIndices.add( i );
+		}
+		execution.attempt( firstAttempt, allIndices );
+		return execution.future;
+	}
+
+	private final class Execution {
+		private final ElasticsearchWorkExecutionContext context;
+		private final long startNanos = System.nanoTime();
+		private final CompletableFuture<BulkResult> future = new CompletableFuture<>();
+		// For each bulked work, the result of its latest attempt and its index in that attempt.
+		private final BulkResult[] attemptResults;
+		private final int[] attemptIndices;
+		private int retryCount = 0;
+
+		private Execution(ElasticsearchWorkExecutionContext context) {
+			this.context = context;
+			this.attemptResults = new BulkResult[bulkedWorks.size()];
+			this.attemptIndices = new int[bulkedWorks.size()];
+		}
+
+		void attempt(NonBulkableWork<BulkResult> bulkWork, List<Integer> indices) {
+			Futures.create( () -> bulkWork.execute( context ) )
+					.whenComplete( Futures.handler( (result, throwable) -> {
+						try {
+							onAttemptComplete( indices, result, throwable );
+						}
+						catch (RuntimeException e) {
+							future.completeExceptionally( e );
+						}
+					} ) );
+		}
+
+		private void onAttemptComplete(List<Integer> indices, BulkResult result, Throwable throwable) {
+			if ( throwable != null ) {
+				if ( retryCount == 0 ) {
+					future.completeExceptionally( throwable );
+				}
+				else {
+					// Report the rejections of the previous attempt for the works of the failed retry.
+					retryPolicy.onRetryFailed( indices.size() );
+					complete();
+				}
+				return;
+			}
+
+			List<Integer> rejectedIndices = new ArrayList<>();
+			for ( int i = 0; i < indices.size(); i++ ) {
+				int index = indices.get( i );
+				attemptResults[index] = result;
+				attemptIndices[index] = i;
+				if ( result.isRejected( i ) ) {
+					rejectedIndices.add( index );
+				}
+			}
+			if ( rejectedIndices.isEmpty() ) {
+				complete();
+				return;
+			}
+
+			CompletableFuture<?> retryDelay = retryPolicy.onRejected( rejectedIndices.size(), retryCount, startNanos );
+			if ( retryDelay == null ) {
+				complete();
+				return;
+			}
+			++retryCount;
+			retryDelay.whenComplete( Futures.handler( (ignored, delayThrowable) -> {
+				if ( delayThrowable != null ) {
+					retryPolicy.onRetryFailed( rejectedIndices.size() );
+					complete();
+					return;
+				}
+				List<BulkableWork<?>> rejectedWorks = new ArrayList<>( rejectedIndices.size() );
+				for ( Integer index : rejectedIndices ) {
+					rejectedWorks.add( bulkedWorks.get( index ) );
+				}
+				attempt( bulkWorkFactory.apply( rejectedWorks, refreshStrategy ), rejectedIndices );
+			} ) );
+		}
+
+		private void complete() {
+			future.complete( new RetriedBulkResult( attemptResults, attemptIndices ) );
+		}
+	}
+
+	private static final class RetriedBulkResult implements BulkResult {
+		private final BulkResult[] attemptResults;
+		private final int[] attemptIndices;
+
+		private RetriedBulkResult(BulkResult[] attemptResults, int[] attemptIndices) {
+			this.attemptResults = attemptResults;
+			this.attemptIndices = attemptIndices;
+		}
+
+		@Override
+		public <T> T extract(ElasticsearchWorkExecutionContext context, BulkableWork<T> work, int index) {
+			return attemptResults[index].extract( context, work, attemptIndices[index] );
+		}
+
+		@Override
+		public boolean isRejected(int index) {
+			return attemptResults[index].isRejected( attemptIndices[index] );
+		}
+
+		@Override
+		public int rejectedItemCount() {
+			int count = 0;
+			for ( int i = 0; i < attemptResults.length; i++ ) {
+				if ( isRejected( i ) ) {
+					++count;
+				}
+			}
+			return count;
+		}
+	}
+}
@@ -108,6 +108,7 @@ public Extractor<?, P> request(JsonObject requestBody, ProjectionRequestContext
 		context.checkValidField( absoluteFieldPath );
 		if ( singleValuedInRoot && context.getDistanceSortIndex( absoluteFieldPath, center ) != null ) {
 			// Nothing to do, we'll rely on the sort key
+			context.registerHitPath( "sort" );
 			return this;
 		}
 		else if ( scriptFieldName != null ) {
@@ -116,6 +117,7 @@ else if ( scriptFieldName != null ) {
 					.property( scriptFieldName ).asObject()
 					.property( "script" ).asObject()
 					.set( requestBody, createScript( absoluteFieldPath, center ) );
+			context.registerHitPath( "fields" );
 			return this;
 		}
 		else {
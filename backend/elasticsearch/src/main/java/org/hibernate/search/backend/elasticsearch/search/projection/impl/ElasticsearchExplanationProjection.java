@@ -32,6 +32,7 @@ public String toString() {
 	@Override
 	public Extractor<?, JsonObject> request(JsonObject requestBody, ProjectionRequestContext context) {
 		REQUEST_EXPLAIN_ACCESSOR.set( requestBody, true );
+		context.registerHitPath( "_explanation" );
 		return this;
 	}
 
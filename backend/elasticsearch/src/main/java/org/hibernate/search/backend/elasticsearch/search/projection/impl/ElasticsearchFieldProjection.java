@@ -84,6 +84,7 @@ public ValueFieldExtractor<?> request(JsonObject requestBody, ProjectionRequestC
 		}
 		JsonPrimitive fieldPathJson = new JsonPrimitive( absoluteFieldPath );
 		AccumulatingSourceExtractor.REQUEST_SOURCE_ACCESSOR.addElementIfAbsent( requestBody, fieldPathJson );
+		context.registerHitPath( "_source" );
 		return new ValueFieldExtractor<>( innerContext.relativeCurrentFieldPathComponents(), accumulatorProvider.get() );
 	}
 
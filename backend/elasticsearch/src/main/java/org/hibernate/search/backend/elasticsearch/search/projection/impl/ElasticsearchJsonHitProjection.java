@@ -26,6 +26,8 @@ public String toString() {
 
 	@Override
 	public Extractor<?, JsonObject> request(JsonObject requestBody, ProjectionRequestContext context) {
+		// The whole hit is returned to the user
+		context.registerHitPath( "*" );
 		return this;
 	}
 
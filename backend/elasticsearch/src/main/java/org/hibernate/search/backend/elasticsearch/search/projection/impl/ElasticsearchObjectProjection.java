@@ -73,6 +73,7 @@ public Extractor<?, P> request(JsonObject requestBody, ProjectionRequestContext
 		String[] extractorFieldPathComponents = innerContext.relativeCurrentFieldPathComponents();
 		JsonPrimitive fieldPathJson = new JsonPrimitive( absoluteFieldPath );
 		AccumulatingSourceExtractor.REQUEST_SOURCE_ACCESSOR.addElementIfAbsent( requestBody, fieldPathJson );
+		context.registerHitPath( "_source" );
 		Extractor<?, ?>[] innerExtractors = new Extractor[inners.length];
 		for ( int i = 0; i < inners.length; i++ ) {
 			innerExtractors[i] = inners[i].request( requestBody, innerContext );
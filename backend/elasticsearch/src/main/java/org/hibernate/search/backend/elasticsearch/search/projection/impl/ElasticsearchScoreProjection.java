@@ -31,6 +31,7 @@ public String toString() {
 	@Override
 	public Extractor<?, Float> request(JsonObject requestBody, ProjectionRequestContext context) {
 		TRACK_SCORES_ACCESSOR.set( requestBody, true );
+		context.registerHitPath( "_score" );
 		return this;
 	}
 
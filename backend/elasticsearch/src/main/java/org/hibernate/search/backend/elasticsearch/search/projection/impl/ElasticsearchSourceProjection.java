@@ -33,6 +33,7 @@ public String toString() {
 	@Override
 	public Extractor<?, JsonObject> request(JsonObject requestBody, ProjectionRequestContext context) {
 		REQUEST_SOURCE_ACCESSOR.addElementIfAbsent( requestBody, WILDCARD_ALL );
+		context.registerHitPath( "_source" );
 		return this;
 	}
 
@@ -75,4 +75,9 @@ public String absoluteCurrentFieldPath() {
 	public String[] relativeCurrentFieldPathComponents() {
 		return relativeCurrentFieldPathComponents;
 	}
+
+	@Override
+	public void registerHitPath(String hitPath) {
+		root.registerHitPath( hitPath );
+	}
 }
@@ -23,4 +23,13 @@ public interface ProjectionRequestContext {
 
 	String[] relativeCurrentFieldPathComponents();
 
+	/**
+	 * Registers a path that will be read from each hit in the response,
+	 * so that it is kept if the response body gets filtered.
+	 *
+	 * @param hitPath A path relative to the hit, using the syntax of
+	 * {@link org.hibernate.search.backend.elasticsearch.gson.spi.JsonPathFilter}, e.g. {@code _source}.
+	 */
+	void registerHitPath(String hitPath);
+
 }
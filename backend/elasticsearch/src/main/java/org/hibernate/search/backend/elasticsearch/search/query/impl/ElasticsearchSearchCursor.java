@@ -0,0 +1,53 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.engine.search.query.SearchCursor;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonParser;
+
+/**
+ * A cursor pointing to an Elasticsearch hit,
+ * i.e. holding the sort values of that hit, to be passed as {@code search_after} in the next search request.
+ */
+final class ElasticsearchSearchCursor implements SearchCursor {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	static ElasticsearchSearchCursor of(JsonArray sortValues) {
+		return new ElasticsearchSearchCursor( sortValues.toString() );
+	}
+
+	static JsonArray toSearchAfter(SearchCursor cursor, JsonArray sort) {
+		if ( !( cursor instanceof ElasticsearchSearchCursor ) ) {
+			throw log.invalidSearchCursor( cursor );
+		}
+		JsonArray searchAfter = JsonParser.parseString( ( (ElasticsearchSearchCursor) cursor ).sortValues )
+				.getAsJsonArray();
+		if ( searchAfter.size() != sort.size() ) {
+			throw log.invalidSearchCursor( cursor );
+		}
+		return searchAfter;
+	}
+
+	// JSON elements are not serializable: keep the sort values as a JSON string.
+	private final String sortValues;
+
+	private ElasticsearchSearchCursor(String sortValues) {
+		this.sortValues = sortValues;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[sortValues=" + sortValues + "]";
+	}
+}
@@ -15,6 +15,7 @@
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.gson.spi.JsonPathFilter;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.lowlevel.query.impl.Queries;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchParallelWorkOrchestrator;
@@ -67,6 +68,7 @@
 	private final SearchLoadingContextBuilder<?, ?, ?> loadingContextBuilder;
 	private final ElasticsearchSearchProjection<H> rootProjection;
 	private final Integer scrollTimeout;
+	private final boolean responseFilteringEnabled;
 
 	private final Set<String> routingKeys;
 	private JsonObject jsonPredicate;
@@ -87,7 +89,7 @@ public ElasticsearchSearchQueryBuilder(
 			BackendSessionContext sessionContext,
 			SearchLoadingContextBuilder<?, ?, ?> loadingContextBuilder,
 			ElasticsearchSearchProjection<H> rootProjection,
-			Integer scrollTimeout) {
+			Integer scrollTimeout, boolean responseFilteringEnabled) {
 		this.workFactory = workFactory;
 		this.searchResultExtractorFactory = searchResultExtractorFactory;
 		this.queryOrchestrator = queryOrchestrator;
@@ -100,6 +102,7 @@ public ElasticsearchSearchQueryBuilder(
 		this.loadingContextBuilder = loadingContextBuilder;
 		this.rootProjection = rootProjection;
 		this.scrollTimeout = scrollTimeout;
+		this.responseFilteringEnabled = responseFilteringEnabled;
 	}
 
 	@Override
@@ -230,12 +233,19 @@ public ElasticsearchSearchQuery<H> build() {
 			}
 
 			payload.add( "aggregations", jsonAggregations );
+			// Aggregation names may contain dots, so we can't register the path of each aggregation.
+			// The response only contains the aggregations we requested anyway.
+			requestContext.registerResponsePath( "aggregations" );
 		}
 
 		if ( !REQUEST_SOURCE_ACCESSOR.get( payload ).isPresent() ) {
 			REQUEST_SOURCE_ACCESSOR.set( payload, new JsonPrimitive( Boolean.FALSE ) );
 		}
 
+		// Request transformers may ask for more data in the response, which users will read from the response body.
+		JsonPathFilter responseBodyFilter = responseFilteringEnabled && requestTransformer == null
+				? requestContext.responseBodyFilter() : null;
+
 		TimeoutManager timeoutManager = scope.createTimeoutManager(
 				timeoutValue, timeoutUnit, exceptionOnTimeout );
 
@@ -250,7 +260,7 @@ public ElasticsearchSearchQuery<H> build() {
 				workFactory, queryOrchestrator,
 				scope, sessionContext, loadingContext, routingKeys,
 				payload, requestTransformer,
-				searchResultExtractor,
+				searchResultExtractor, responseBodyFilter,
 				timeoutManager,
 				scrollTimeout, totalHitCountThreshold
 		);
@@ -14,6 +14,8 @@
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonArrayAccessor;
+import org.hibernate.search.backend.elasticsearch.gson.spi.JsonPathFilter;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchParallelWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.search.common.impl.ElasticsearchSearchIndexScope;
@@ -34,6 +36,7 @@
 import org.hibernate.search.engine.backend.types.converter.spi.DslConverter;
 import org.hibernate.search.engine.common.dsl.spi.DslExtensionState;
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContext;
+import org.hibernate.search.engine.search.query.SearchCursor;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
@@ -41,8 +44,10 @@
 import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
 
 
 public class ElasticsearchSearchQueryImpl<H> extends AbstractSearchQuery<H, ElasticsearchSearchResult<H>>
@@ -50,6 +55,9 @@
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private static final JsonArrayAccessor SORT_ACCESSOR = JsonAccessor.root().property( "sort" ).asArray();
+	private static final JsonPrimitive SCORE_SORT = new JsonPrimitive( "_score" );
+
 	private final ElasticsearchWorkFactory workFactory;
 	private final ElasticsearchParallelWorkOrchestrator queryOrchestrator;
 	private final ElasticsearchSearchIndexScope<?> scope;
@@ -59,6 +67,7 @@
 	private final JsonObject payload;
 	private final ElasticsearchSearchRequestTransformer requestTransformer;
 	private final ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor;
+	private final JsonPathFilter responseBodyFilter;
 	private final Integer scrollTimeout;
 	private final Long totalHitCountThreshold;
 
@@ -78,6 +87,7 @@
 			JsonObject payload,
 			ElasticsearchSearchRequestTransformer requestTransformer,
 			ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor,
+			JsonPathFilter responseBodyFilter,
 			TimeoutManager timeoutManager, Integer scrollTimeout, Long totalHitCountThreshold) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
@@ -88,6 +98,7 @@
 		this.payload = payload;
 		this.requestTransformer = requestTransformer;
 		this.searchResultExtractor = searchResultExtractor;
+		this.responseBodyFilter = responseBodyFilter;
 		this.timeoutManager = timeoutManager;
 		this.scrollTimeout = scrollTimeout;
 		this.totalHitCountThreshold = totalHitCountThreshold;
@@ -139,6 +150,30 @@ public ElasticsearchSearchResult<H> fetch(Integer offset, Integer limit) {
 		return result;
 	}
 
+	@Override
+	public ElasticsearchSearchResult<H> fetchAfter(SearchCursor cursor, Integer limit) {
+		JsonObject searchAfterPayload = searchAfterPayload( cursor );
+
+		timeoutManager.start();
+		Integer defaultedLimit = defaultedLimit( limit, null );
+		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work = searchWorkBuilder( searchAfterPayload )
+				.paging( defaultedLimit, null )
+				.totalHitCountThreshold( totalHitCountThreshold )
+				.build();
+
+		ElasticsearchSearchResultImpl<H> result = Futures.unwrappedExceptionJoin(
+				queryOrchestrator.submit( work ) )
+				// WARNING: the following call must run in the user thread, see fetch(Integer, Integer).
+				.loadBlocking();
+		timeoutManager.stop();
+
+		if ( limit == null && result.total().hitCountLowerBound() > defaultedLimit ) {
+			// user may not be aware of this defaultedLimit
+			log.defaultedLimitedHits( defaultedLimit, result.total().hitCountLowerBound() );
+		}
+		return result;
+	}
+
 	@Override
 	public List<H> fetchHits(Integer offset, Integer limit) {
 		timeoutManager.start();
@@ -202,7 +237,7 @@ public ElasticsearchSearchScroll<H> scroll(int chunkSize) {
 				.scrolling( chunkSize, scrollTimeoutString );
 
 		return new ElasticsearchSearchScrollImpl<>( queryOrchestrator, workFactory, searchResultExtractor,
-				scrollTimeoutString, firstScroll, timeoutManager );
+				responseBodyFilter, scrollTimeoutString, firstScroll, timeoutManager );
 	}
 
 	@Override
@@ -234,20 +269,46 @@ public JsonObject explain(String typeName, Object id) {
 	}
 
 	private SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> searchWorkBuilder() {
+		return searchWorkBuilder( payload );
+	}
+
+	private SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> searchWorkBuilder(JsonObject requestPayload) {
 		SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> builder =
-				workFactory.search( payload, searchResultExtractor );
+				workFactory.search( requestPayload, searchResultExtractor );
 		for ( ElasticsearchSearchIndexContext index : scope.indexes() ) {
 			builder.index( index.names().read() );
 		}
 		builder
 				.routingKeys( routingKeys )
 				.deadline( timeoutManager.deadlineOrNull(), timeoutManager.hasHardTimeout() )
+				.responseBodyFilter( responseBodyFilter )
 				.requestTransformer(
 						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
 				);
 		return builder;
 	}
 
+	private JsonObject searchAfterPayload(SearchCursor cursor) {
+		// Shallow copy: we must not alter the payload of this query, which may be executed again.
+		JsonObject searchAfterPayload = new JsonObject();
+		for ( Map.Entry<String, JsonElement> entry : payload.entrySet() ) {
+			searchAfterPayload.add( entry.getKey(), entry.getValue() );
+		}
+
+		JsonArray sort = SORT_ACCESSOR.get( payload ).orElse( null );
+		if ( sort == null ) {
+			// Hits only have sort values if the search request defines an explicit sort.
+			sort = new JsonArray();
+			sort.add( SCORE_SORT );
+			searchAfterPayload.add( "sort", sort );
+		}
+
+		if ( cursor != null ) {
+			searchAfterPayload.add( "search_after", ElasticsearchSearchCursor.toSearchAfter( cursor, sort ) );
+		}
+		return searchAfterPayload;
+	}
+
 	private Integer defaultedLimit(Integer limit, Integer offset) {
 		/*
 		 * If the user has given a 'size' value, take it as is, let ES itself complain if it's too high;
@@ -7,8 +7,11 @@
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 
+import org.hibernate.search.backend.elasticsearch.gson.spi.JsonPathFilter;
 import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.AggregationRequestContext;
 import org.hibernate.search.backend.elasticsearch.search.common.impl.ElasticsearchSearchIndexScope;
 import org.hibernate.search.backend.elasticsearch.search.predicate.impl.PredicateRequestContext;
@@ -31,6 +34,8 @@
  *     ({@link #getDistanceSortIndex(String, GeoPoint)}</li>
  *     <li>When extracting data from the response, to get an "extract" context linked to the session/loading context
  *     ({@link #createExtractContext(JsonObject)}</li>
+ *     <li>When building the request, to collect the paths of the response that will be read,
+ *     so that everything else can be skipped when parsing the response ({@link #responseBodyFilter()}</li>
  * </ul>
  */
 class ElasticsearchSearchQueryRequestContext implements ProjectionRequestContext, AggregationRequestContext {
@@ -40,6 +45,7 @@ class ElasticsearchSearchQueryRequestContext implements ProjectionRequestContext
 	private final SearchLoadingContext<?, ?> loadingContext;
 	private final PredicateRequestContext rootPredicateContext;
 	private final Map<DistanceSortKey, Integer> distanceSorts;
+	private final Set<String> responsePaths = new LinkedHashSet<>();
 
 	ElasticsearchSearchQueryRequestContext(
 			ElasticsearchSearchIndexScope<?> scope,
@@ -52,6 +58,14 @@ class ElasticsearchSearchQueryRequestContext implements ProjectionRequestContext
 		this.loadingContext = loadingContext;
 		this.rootPredicateContext = rootPredicateContext;
 		this.distanceSorts = distanceSorts != null ? Collections.unmodifiableMap( distanceSorts ) : null;
+
+		// Read by the search result extractors
+		registerResponsePath( "took" );
+		registerResponsePath( "timed_out" );
+		registerResponsePath( "hits.total" );
+		registerResponsePath( "_scroll_id" );
+		// Read by the search result to create the cursor pointing after the last hit
+		registerHitPath( "sort" );
 	}
 
 	@Override
@@ -93,6 +107,19 @@ public String[] relativeCurrentFieldPathComponents() {
 		return null;
 	}
 
+	@Override
+	public void registerHitPath(String hitPath) {
+		registerResponsePath( "hits.hits." + hitPath );
+	}
+
+	void registerResponsePath(String path) {
+		responsePaths.add( path );
+	}
+
+	JsonPathFilter responseBodyFilter() {
+		return JsonPathFilter.of( responsePaths.toArray( new String[0] ) );
+	}
+
 	ElasticsearchSearchQueryExtractContext createExtractContext(JsonObject responseBody) {
 		return new ElasticsearchSearchQueryExtractContext(
 				this,
@@ -10,8 +10,11 @@
 import java.util.List;
 import java.util.Map;
 
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonArrayAccessor;
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchCursor;
 import org.hibernate.search.engine.search.query.SearchResultTotal;
 import org.hibernate.search.engine.search.query.spi.SimpleSearchResult;
 
@@ -20,6 +23,11 @@
 class ElasticsearchSearchResultImpl<H> extends SimpleSearchResult<H>
 		implements ElasticsearchSearchResult<H> {
 
+	private static final JsonArrayAccessor HITS_HITS_ACCESSOR =
+			JsonAccessor.root().property( "hits" ).property( "hits" ).asArray();
+
+	private static final JsonArrayAccessor HIT_SORT_ACCESSOR = JsonAccessor.root().property( "sort" ).asArray();
+
 	private final JsonObject responseBody;
 	private final String scrollId;
 
@@ -38,4 +46,14 @@ public JsonObject responseBody() {
 	public String scrollId() {
 		return scrollId;
 	}
+
+	@Override
+	public SearchCursor nextCursor() {
+		// Hits only have sort values if the search request defined an explicit sort.
+		return HITS_HITS_ACCESSOR.get( responseBody )
+				.filter( hits -> hits.size() > 0 )
+				.flatMap( hits -> HIT_SORT_ACCESSOR.get( hits.get( hits.size() - 1 ).getAsJsonObject() ) )
+				.map( ElasticsearchSearchCursor::of )
+				.orElse( null );
+	}
 }
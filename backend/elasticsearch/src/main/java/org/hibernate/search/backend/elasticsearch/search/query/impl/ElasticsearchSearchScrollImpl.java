@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import org.hibernate.search.backend.elasticsearch.gson.spi.JsonPathFilter;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchParallelWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchScroll;
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchScrollResult;
@@ -22,6 +23,7 @@
 	private final ElasticsearchParallelWorkOrchestrator queryOrchestrator;
 	private final ElasticsearchWorkFactory workFactory;
 	private final ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor;
+	private final JsonPathFilter responseBodyFilter;
 	private final String scrollTimeoutString;
 	private final SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> firstScroll;
 	private final TimeoutManager timeoutManager;
@@ -31,12 +33,14 @@
 	public ElasticsearchSearchScrollImpl(ElasticsearchParallelWorkOrchestrator queryOrchestrator,
 			ElasticsearchWorkFactory workFactory,
 			ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor,
+			JsonPathFilter responseBodyFilter,
 			String scrollTimeoutString,
 			SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> firstScroll,
 			TimeoutManager timeoutManager) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
 		this.searchResultExtractor = searchResultExtractor;
+		this.responseBodyFilter = responseBodyFilter;
 		this.scrollTimeoutString = scrollTimeoutString;
 		this.firstScroll = firstScroll;
 		this.timeoutManager = timeoutManager;
@@ -56,6 +60,7 @@ public ElasticsearchSearchScrollResult<H> next() {
 		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> scroll = ( scrollId == null ) ? firstScroll.build() :
 				workFactory.scroll( scrollId, scrollTimeoutString, searchResultExtractor )
 						.deadline( timeoutManager.deadlineOrNull(), timeoutManager.hasHardTimeout() )
+						.responseBodyFilter( responseBodyFilter )
 						.build();
 
 		ElasticsearchLoadableSearchResult<H> loadableSearchResult = Futures.unwrappedExceptionJoin( queryOrchestrator.submit( scroll ) );
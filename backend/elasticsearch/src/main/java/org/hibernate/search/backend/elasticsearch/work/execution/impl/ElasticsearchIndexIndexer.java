@@ -8,6 +8,7 @@
 
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.backend.elasticsearch.document.impl.ElasticsearchDocument;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchSerialWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.work.factory.impl.ElasticsearchWorkFactory;
 import org.hibernate.search.backend.elasticsearch.work.impl.SingleDocumentIndexingWork;
@@ -18,8 +19,6 @@
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexer;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 
-import com.google.gson.JsonObject;
-
 public class ElasticsearchIndexIndexer implements IndexIndexer {
 
 	private final ElasticsearchWorkFactory workFactory;
@@ -76,7 +75,7 @@ private CompletableFuture<?> index(DocumentReferenceProvider referenceProvider,
 		String elasticsearchId = indexManagerContext.toElasticsearchId( tenantId, id );
 		String routingKey = referenceProvider.routingKey();
 
-		JsonObject document = indexManagerContext.createDocument( tenantId, id, documentContributor );
+		ElasticsearchDocument document = indexManagerContext.createDocument( tenantId, id, documentContributor );
 
 		SingleDocumentIndexingWork work = workFactory.index(
 				indexManagerContext.getMappedTypeName(), referenceProvider.entityIdentifier(),
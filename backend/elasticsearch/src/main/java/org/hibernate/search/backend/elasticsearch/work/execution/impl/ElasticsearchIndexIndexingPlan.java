@@ -10,6 +10,7 @@
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.backend.elasticsearch.document.impl.ElasticsearchDocument;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchSerialWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.work.factory.impl.ElasticsearchWorkFactory;
 import org.hibernate.search.backend.elasticsearch.work.impl.SingleDocumentIndexingWork;
@@ -21,7 +22,6 @@
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 import org.hibernate.search.engine.backend.common.spi.MultiEntityOperationExecutionReport;
 
-import com.google.gson.JsonObject;
 
 
 
@@ -101,7 +101,7 @@ private void index(DocumentReferenceProvider referenceProvider,
 		String elasticsearchId = indexManagerContext.toElasticsearchId( tenantId, id );
 		String routingKey = referenceProvider.routingKey();
 
-		JsonObject document = indexManagerContext.createDocument( tenantId, id, documentContributor );
+		ElasticsearchDocument document = indexManagerContext.createDocument( tenantId, id, documentContributor );
 
 		collect(
 				workFactory.index(
@@ -6,11 +6,10 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.execution.impl;
 
+import org.hibernate.search.backend.elasticsearch.document.impl.ElasticsearchDocument;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.engine.backend.work.execution.spi.DocumentContributor;
 
-import com.google.gson.JsonObject;
-
 /**
  * An interface with knowledge of the index manager internals,
  * able to leverage information necessary for work execution on this index.
@@ -30,7 +29,7 @@ public interface WorkExecutionIndexManagerContext {
 
 	String toElasticsearchId(String tenantId, String id);
 
-	JsonObject createDocument(String tenantId, String id,
+	ElasticsearchDocument createDocument(String tenantId, String id,
 			DocumentContributor documentContributor);
 
 }
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.elasticsearch.work.factory.impl;
 
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
+import org.hibernate.search.backend.elasticsearch.document.impl.ElasticsearchDocument;
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
 import org.hibernate.search.backend.elasticsearch.lowlevel.index.mapping.impl.RootTypeMapping;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
@@ -42,7 +43,7 @@ public Elasticsearch67WorkFactory(GsonProvider gsonProvider) {
 	@Override
 	public IndexWork.Builder index(String entityTypeName, Object entityIdentifier,
 			URLEncodedString elasticsearchIndexName,
-			String documentIdentifier, String routingKey, JsonObject document) {
+			String documentIdentifier, String routingKey, ElasticsearchDocument document) {
 		return IndexWork.Builder.forElasticsearch67AndBelow( entityTypeName, entityIdentifier,
 				elasticsearchIndexName, Paths.DOC, documentIdentifier, routingKey, document );
 	}
@@ -9,6 +9,7 @@
 import java.util.List;
 import java.util.Map;
 
+import org.hibernate.search.backend.elasticsearch.document.impl.ElasticsearchDocument;
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
 import org.hibernate.search.backend.elasticsearch.index.IndexStatus;
 import org.hibernate.search.backend.elasticsearch.lowlevel.index.aliases.impl.IndexAliasDefinition;
@@ -55,7 +56,7 @@ public Elasticsearch7WorkFactory(GsonProvider gsonProvider) {
 	@Override
 	public IndexWork.Builder index(String entityTypeName, Object entityIdentifier,
 			URLEncodedString elasticsearchIndexName,
-			String documentIdentifier, String routingKey, JsonObject document) {
+			String documentIdentifier, String routingKey, ElasticsearchDocument document) {
 		return IndexWork.Builder.forElasticsearch7AndAbove( entityTypeName, entityIdentifier,
 				elasticsearchIndexName, documentIdentifier, routingKey, document );
 	}
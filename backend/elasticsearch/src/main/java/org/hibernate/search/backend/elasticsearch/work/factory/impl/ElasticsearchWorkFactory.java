@@ -9,6 +9,7 @@
 import java.util.List;
 import java.util.Map;
 
+import org.hibernate.search.backend.elasticsearch.document.impl.ElasticsearchDocument;
 import org.hibernate.search.backend.elasticsearch.index.IndexStatus;
 import org.hibernate.search.backend.elasticsearch.lowlevel.index.aliases.impl.IndexAliasDefinition;
 import org.hibernate.search.backend.elasticsearch.lowlevel.index.mapping.impl.RootTypeMapping;
@@ -45,7 +46,7 @@ public interface ElasticsearchWorkFactory {
 
 	IndexWork.Builder index(String entityTypeName, Object entityIdentifier,
 			URLEncodedString elasticsearchIndexName,
-			String documentIdentifier, String routingKey, JsonObject document);
+			String documentIdentifier, String routingKey, ElasticsearchDocument document);
 
 	DeleteWork.Builder delete(String entityTypeName, Object entityIdentifier,
 			URLEncodedString elasticsearchIndexName,
@@ -8,6 +8,7 @@
 
 import java.lang.invoke.MethodHandles;
 
+import org.hibernate.search.backend.elasticsearch.gson.impl.GsonUtils;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -22,6 +23,7 @@
 
 	private final JsonObject bulkableActionMetadata;
 	private final JsonObject bulkableActionBody;
+	private final long bulkableActionSizeEstimate;
 	protected final ElasticsearchRequestSuccessAssessor resultAssessor;
 
 	private final String entityTypeName;
@@ -33,6 +35,10 @@
 	protected AbstractSingleDocumentIndexingWork(AbstractBuilder<?> builder) {
 		this.bulkableActionMetadata = builder.buildBulkableActionMetadata();
 		this.bulkableActionBody = builder.buildBulkableActionBody();
+		// The metadata is small, but the body may be large: its size is provided by the builder
+		// so that we don't need to walk it.
+		this.bulkableActionSizeEstimate = GsonUtils.serializedSize( bulkableActionMetadata ) + 1 // newline
+				+ ( bulkableActionBody == null ? 0 : builder.bulkableActionBodySize() + 1 );
 		this.resultAssessor = builder.resultAssessor;
 		this.entityTypeName = builder.entityTypeName;
 		this.entityIdentifier = builder.entityIdentifier;
@@ -70,6 +76,11 @@ public JsonObject getBulkableActionBody() {
 		return bulkableActionBody;
 	}
 
+	@Override
+	public long getBulkableActionSizeEstimate() {
+		return bulkableActionSizeEstimate;
+	}
+
 	@Override
 	public Void handleBulkResult(ElasticsearchWorkExecutionContext context, JsonObject bulkResponseItem) {
 		try {
@@ -113,6 +124,11 @@ public B refresh(DocumentRefreshStrategy refreshStrategy) {
 
 		protected abstract JsonObject buildBulkableActionBody();
 
+		/**
+		 * @return The size of the compact JSON representation of the {@link #buildBulkableActionBody() body}, in bytes.
+		 */
+		protected abstract long bulkableActionBodySize();
+
 		public abstract AbstractSingleDocumentIndexingWork build();
 
 	}
@@ -7,40 +7,84 @@
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.gson.spi.JsonPathFilter;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
 
 public class BulkWork extends AbstractNonBulkableWork<BulkResult> {
 
 	private static final JsonAccessor<JsonArray> BULK_ITEMS = JsonAccessor.root().property( "items" ).asArray();
+	private static final JsonAccessor<Integer> BULK_ITEM_STATUS_CODE = JsonAccessor.root().property( "status" ).asInteger();
+
+	private static final int TOO_MANY_REQUESTS_HTTP_STATUS_CODE = 429;
+
+	/*
+	 * A bulk request rejected as a whole because the cluster is overloaded is not considered a failure:
+	 * it is reported as the rejection of each bulked work instead, so that bulked works can be retried.
+	 */
+	private static final ElasticsearchRequestSuccessAssessor RESULT_ASSESSOR = ElasticsearchRequestSuccessAssessor.builder()
+			.ignoreErrorStatuses( TOO_MANY_REQUESTS_HTTP_STATUS_CODE )
+			.build();
+
+	/*
+	 * Bulk items are only checked for success, see ElasticsearchRequestSuccessAssessor:
+	 * skip everything else (document IDs, versions, shard information, ...) while parsing the response.
+	 * Item format: { "actionName" : { "status" : 201, "error": { ... }, ... } }
+	 */
+	private static final JsonPathFilter RESPONSE_BODY_FILTER = JsonPathFilter.of( "items.*.status", "items.*.error" );
+
+	private final int bulkableWorkCount;
 
 	protected BulkWork(Builder builder) {
 		super( builder );
+		this.bulkableWorkCount = builder.bulkableWorks.size();
 	}
 
 	@Override
 	protected BulkResult generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response) {
 		JsonObject parsedResponseBody = response.body();
+		if ( response.statusCode() == TOO_MANY_REQUESTS_HTTP_STATUS_CODE ) {
+			return new BulkResultImpl( rejectedItems( parsedResponseBody ) );
+		}
 		JsonArray resultItems = BULK_ITEMS.get( parsedResponseBody ).orElseGet( JsonArray::new );
 		return new BulkResultImpl( resultItems );
 	}
 
+	private JsonArray rejectedItems(JsonObject responseBody) {
+		// Same format as actual items: { "actionName" : { "status" : 429, "error": { ... } } }
+		JsonObject rejection = new JsonObject();
+		rejection.addProperty( "status", TOO_MANY_REQUESTS_HTTP_STATUS_CODE );
+		if ( responseBody != null ) {
+			rejection.add( "error", responseBody );
+		}
+		JsonObject item = new JsonObject();
+		item.add( "bulk", rejection );
+		JsonArray items = new JsonArray();
+		for ( int i = 0; i < bulkableWorkCount; i++ ) {
+			items.add( item );
+		}
+		return items;
+	}
+
 	public static class Builder extends AbstractNonBulkableWork.AbstractBuilder<Builder> {
 		private final List<? extends BulkableWork<?>> bulkableWorks;
 
 		private DocumentRefreshStrategy refreshStrategy = DocumentRefreshStrategy.NONE;
 
 		public Builder(List<? extends BulkableWork<?>> bulkableWorks) {
-			super( ElasticsearchRequestSuccessAssessor.DEFAULT_INSTANCE );
+			super( RESULT_ASSESSOR );
 			this.bulkableWorks = bulkableWorks;
 		}
 
@@ -53,7 +97,8 @@ public Builder refresh(DocumentRefreshStrategy refreshStrategy) {
 		protected ElasticsearchRequest buildRequest() {
 			ElasticsearchRequest.Builder builder =
 					ElasticsearchRequest.post()
-					.pathComponent( Paths._BULK );
+					.pathComponent( Paths._BULK )
+					.responseBodyFilter( RESPONSE_BODY_FILTER );
 			switch ( refreshStrategy ) {
 				case FORCE:
 					builder.param( "refresh", true );
@@ -92,6 +137,29 @@ public <T> T extract(ElasticsearchWorkExecutionContext context, BulkableWork<T>
 			JsonObject bulkItemResponse = results.get( index ).getAsJsonObject();
 			return work.handleBulkResult( context, bulkItemResponse );
 		}
+
+		@Override
+		public boolean isRejected(int index) {
+			// Item format: { "actionName" : { "status" : 429, ... } }
+			for ( Map.Entry<String, JsonElement> action : results.get( index ).getAsJsonObject().entrySet() ) {
+				Optional<Integer> status = BULK_ITEM_STATUS_CODE.get( action.getValue().getAsJsonObject() );
+				if ( status.isPresent() && status.get() == TOO_MANY_REQUESTS_HTTP_STATUS_CODE ) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public int rejectedItemCount() {
+			int count = 0;
+			for ( int i = 0; i < results.size(); i++ ) {
+				if ( isRejected( i ) ) {
+					++count;
+				}
+			}
+			return count;
+		}
 	}
 
 }
@@ -19,6 +19,11 @@
 
 	JsonObject getBulkableActionBody();
 
+	/**
+	 * @return An estimate of the size of this work in a bulk request, in bytes.
+	 */
+	long getBulkableActionSizeEstimate();
+
 	/**
 	 * @param context The execution context
 	 * @param resultItem A future eventually returning the part of the bulk JSON result relevant to this work
@@ -73,6 +73,11 @@ protected JsonObject buildBulkableActionBody() {
 			return null;
 		}
 
+		@Override
+		protected long bulkableActionBodySize() {
+			return 0L;
+		}
+
 		@Override
 		public DeleteWork build() {
 			return new DeleteWork( this );
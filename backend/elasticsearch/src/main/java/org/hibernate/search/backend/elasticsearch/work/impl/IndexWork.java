@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import org.hibernate.search.backend.elasticsearch.document.impl.ElasticsearchDocument;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 
 import com.google.gson.JsonObject;
@@ -23,25 +24,25 @@ private IndexWork(Builder builder) {
 		private final URLEncodedString indexName;
 		private final URLEncodedString typeName;
 		private final String routingKey;
-		private final JsonObject document;
+		private final ElasticsearchDocument document;
 
 		public static Builder forElasticsearch67AndBelow(String entityTypeName, Object entityIdentifier,
 				URLEncodedString elasticsearchIndexName, URLEncodedString typeName,
 				String documentIdentifier, String routingKey,
-				JsonObject document) {
+				ElasticsearchDocument document) {
 			return new Builder( entityTypeName, entityIdentifier,
 					elasticsearchIndexName, typeName, documentIdentifier, routingKey, document );
 		}
 
 		public static Builder forElasticsearch7AndAbove(String entityTypeName, Object entityIdentifier,
 				URLEncodedString elasticsearchIndexName, String documentIdentifier, String routingKey,
-				JsonObject document) {
+				ElasticsearchDocument document) {
 			return new Builder( entityTypeName, entityIdentifier,
 					elasticsearchIndexName, null, documentIdentifier, routingKey, document );
 		}
 
 		private Builder(String entityTypeName, Object entityIdentifier, URLEncodedString elasticsearchIndexName,
-					URLEncodedString typeName, String documentIdentifier, String routingKey, JsonObject document) {
+					URLEncodedString typeName, String documentIdentifier, String routingKey, ElasticsearchDocument document) {
 			super( ElasticsearchRequestSuccessAssessor.DEFAULT_INSTANCE, entityTypeName, entityIdentifier,
 					documentIdentifier );
 			this.indexName = elasticsearchIndexName;
@@ -72,7 +73,12 @@ protected JsonObject buildBulkableActionMetadata() {
 
 		@Override
 		protected JsonObject buildBulkableActionBody() {
-			return document;
+			return document.content();
+		}
+
+		@Override
+		protected long bulkableActionBodySize() {
+			return document.serializedSize();
 		}
 
 		@Override
@@ -9,6 +9,7 @@
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.gson.spi.JsonPathFilter;
 import org.hibernate.search.engine.common.timing.Deadline;
 
 import com.google.gson.JsonObject;
@@ -40,6 +41,7 @@ protected R generateResult(ElasticsearchWorkExecutionContext context, Elasticsea
 		private final ElasticsearchSearchResultExtractor<R> resultExtractor;
 		private Deadline deadline;
 		private boolean failOnDeadline;
+		private JsonPathFilter responseBodyFilter;
 
 		public Builder(String scrollId, String scrollTimeout, ElasticsearchSearchResultExtractor<R> resultExtractor) {
 			super( ElasticsearchRequestSuccessAssessor.DEFAULT_INSTANCE );
@@ -54,6 +56,11 @@ public Builder<R> deadline(Deadline deadline, boolean failOnDeadline) {
 			return this;
 		}
 
+		public Builder<R> responseBodyFilter(JsonPathFilter responseBodyFilter) {
+			this.responseBodyFilter = responseBodyFilter;
+			return this;
+		}
+
 		@Override
 		protected ElasticsearchRequest buildRequest() {
 			JsonObject body = new JsonObject();
@@ -64,7 +71,8 @@ protected ElasticsearchRequest buildRequest() {
 					ElasticsearchRequest.post()
 					.pathComponent( Paths._SEARCH )
 					.pathComponent( Paths.SCROLL )
-					.body( body );
+					.body( body )
+					.responseBodyFilter( responseBodyFilter );
 
 			return builder.build();
 		}
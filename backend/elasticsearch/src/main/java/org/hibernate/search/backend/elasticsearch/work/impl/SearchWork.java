@@ -13,6 +13,7 @@
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
+import org.hibernate.search.backend.elasticsearch.gson.spi.JsonPathFilter;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.engine.common.timing.Deadline;
@@ -86,6 +87,7 @@ public static <T> Builder<T> forElasticsearch7AndAbove(JsonObject payload, Elast
 		private Set<String> routingKeys;
 		private Deadline deadline;
 		private boolean failOnDeadline;
+		private JsonPathFilter responseBodyFilter;
 
 		private Builder(JsonObject payload, ElasticsearchSearchResultExtractor<R> resultExtractor, Boolean trackTotalHits,
 				boolean allowPartialSearchResultsSupported) {
@@ -124,6 +126,11 @@ public Builder<R> deadline(Deadline deadline, boolean failOnDeadline) {
 			return this;
 		}
 
+		public Builder<R> responseBodyFilter(JsonPathFilter responseBodyFilter) {
+			this.responseBodyFilter = responseBodyFilter;
+			return this;
+		}
+
 		public Builder<R> disableTrackTotalHits() {
 			// setting trackTotalHits to false only if this parameter was already set,
 			// the parameter is not supported by the older Elasticsearch server
@@ -148,7 +155,8 @@ protected ElasticsearchRequest buildRequest() {
 					ElasticsearchRequest.post()
 					.multiValuedPathComponent( indexes )
 					.pathComponent( Paths._SEARCH )
-					.body( payload );
+					.body( payload )
+					.responseBodyFilter( responseBodyFilter );
 
 			if ( from != null ) {
 				builder.param( "from", from );
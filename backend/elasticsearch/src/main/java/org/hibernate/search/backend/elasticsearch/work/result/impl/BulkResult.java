@@ -14,4 +14,17 @@ public interface BulkResult {
 
 	<T> T extract(ElasticsearchWorkExecutionContext context, BulkableWork<T> work, int index);
 
+	/**
+	 * @param index The index of a bulked work.
+	 * @return {@code true} if the bulked work was rejected because the cluster was overloaded
+	 * (HTTP status 429), {@code false} otherwise.
+	 */
+	boolean isRejected(int index);
+
+	/**
+	 * @return The number of bulked works that were rejected because the cluster was overloaded
+	 * (HTTP status 429).
+	 */
+	int rejectedItemCount();
+
 }
@@ -0,0 +1,95 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+public class ByteBufferPoolTest {
+
+	private final ByteBufferPool pool = new ByteBufferPool( 16, 2 );
+
+	@Test
+	public void acquire_allocatesDirectBuffersLazily() {
+		assertThat( pool.allocatedBufferCount() ).isZero();
+
+		ByteBuffer buffer = pool.acquire();
+
+		assertThat( buffer.isDirect() ).isTrue();
+		assertThat( buffer.capacity() ).isEqualTo( 16 );
+		assertThat( buffer.position() ).isZero();
+		assertThat( buffer.limit() ).isEqualTo( 16 );
+		assertThat( pool.allocatedBufferCount() ).isEqualTo( 1 );
+		assertThat( pool.idleBufferCount() ).isZero();
+		assertThat( pool.hitCount() ).isEqualTo( 1 );
+		assertThat( pool.missCount() ).isZero();
+	}
+
+	@Test
+	public void release_reusesBuffer() {
+		ByteBuffer buffer = pool.acquire();
+		buffer.put( (byte) 42 );
+		pool.release( buffer );
+		assertThat( pool.idleBufferCount() ).isEqualTo( 1 );
+
+		ByteBuffer reused = pool.acquire();
+
+		assertThat( reused ).isSameAs( buffer );
+		assertThat( reused.position() ).isZero();
+		assertThat( reused.limit() ).isEqualTo( 16 );
+		assertThat( pool.allocatedBufferCount() ).isEqualTo( 1 );
+		assertThat( pool.idleBufferCount() ).isZero();
+		assertThat( pool.hitCount() ).isEqualTo( 2 );
+		assertThat( pool.missCount() ).isZero();
+	}
+
+	@Test
+	public void exhausted_fallsBackToHeapBuffers() {
+		ByteBuffer direct1 = pool.acquire();
+		ByteBuffer direct2 = pool.acquire();
+
+		ByteBuffer heap = pool.acquire();
+
+		assertThat( direct1.isDirect() ).isTrue();
+		assertThat( direct2.isDirect() ).isTrue();
+		assertThat( heap.isDirect() ).isFalse();
+		assertThat( heap.capacity() ).isEqualTo( 16 );
+		assertThat( pool.allocatedBufferCount() ).isEqualTo( 2 );
+		assertThat( pool.hitCount() ).isEqualTo( 2 );
+		assertThat( pool.missCount() ).isEqualTo( 1 );
+
+		// Heap buffers are not pooled
+		pool.release( heap );
+		assertThat( pool.idleBufferCount() ).isZero();
+
+		pool.release( direct1 );
+		pool.release( direct2 );
+		assertThat( pool.idleBufferCount() ).isEqualTo( 2 );
+
+		// Once direct buffers are released, they are reused instead of allocating heap buffers
+		assertThat( pool.acquire().isDirect() ).isTrue();
+		assertThat( pool.acquire().isDirect() ).isTrue();
+		assertThat( pool.allocatedBufferCount() ).isEqualTo( 2 );
+		assertThat( pool.hitCount() ).isEqualTo( 4 );
+		assertThat( pool.missCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void toString_statistics() {
+		pool.release( pool.acquire() );
+		pool.acquire();
+		pool.acquire();
+		pool.acquire();
+
+		assertThat( pool ).hasToString( "ByteBufferPool[bufferSize=16, maxBufferCount=2,"
+				+ " allocatedBufferCount=2, idleBufferCount=0, hitCount=3, missCount=1]" );
+	}
+
+}
@@ -10,6 +10,7 @@
 import static org.junit.Assume.assumeTrue;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -24,6 +25,7 @@
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
 
@@ -42,6 +44,8 @@
 @RunWith(Parameterized.class)
 public class GsonHttpEntityTest {
 
+	private static final int COMPRESSION_THRESHOLD = 100;
+
 	@Parameterized.Parameters(name = "{0}")
 	public static List<Object[]> params() {
 		List<Object[]> params = new ArrayList<>();
@@ -137,11 +141,22 @@ public static List<Object[]> params() {
 				)
 		} );
 
+		params.add( new Object[] {
+				"Multi-byte characters straddling buffer pages",
+				Stream.generate( () -> gson.fromJson( "{\"content\":\""
+						+ String.join( "", Collections.nCopies( 500, "a\u00e9\u20ac\ud83d\ude00" ) )
+						+ "\"}", JsonObject.class ) )
+						.limit( 3 ).collect( Collectors.toList() )
+		} );
+
 		return params;
 	}
 
 	private final List<JsonObject> payload;
+	private final ByteBufferPool bufferPool = new ByteBufferPool( 1024, 10_000 );
+	private final ByteBufferPool compressingBufferPool = new ByteBufferPool( 1024, 10_000 );
 	private final GsonHttpEntity gsonEntity;
+	private final GsonHttpEntity compressingGsonEntity;
 	private final String expectedPayloadString;
 	private final int expectedContentLength;
 
@@ -149,7 +164,9 @@ public static List<Object[]> params() {
 	public GsonHttpEntityTest(String ignoredLabel, List<JsonObject> payload) throws IOException {
 		this.payload = payload;
 		Gson gson = GsonProvider.create( GsonBuilder::new, true ).getGson();
-		this.gsonEntity = new GsonHttpEntity( gson, payload );
+		this.gsonEntity = new GsonHttpEntity( gson, bufferPool, payload );
+		this.compressingGsonEntity = new GsonHttpEntity( gson, compressingBufferPool, payload,
+				COMPRESSION_THRESHOLD );
 		StringBuilder builder = new StringBuilder();
 		for ( JsonObject object : payload ) {
 			gson.toJson( object, builder );
@@ -218,6 +235,17 @@ public void produceContent_pushBack_every500Bytes() throws IOException {
 		}
 	}
 
+	@Test
+	public void produceContent_releasesBuffers() throws IOException {
+		int pushBackPeriod = 100;
+		for ( int i = 0; i < 2; i++ ) { // Try several times: buffers should be reused.
+			doProduceContent( gsonEntity, pushBackPeriod );
+			// Every buffer that was ever allocated should be back in the pool
+			assertThat( bufferPool.idleBufferCount() ).isEqualTo( bufferPool.allocatedBufferCount() );
+			assertThat( bufferPool.missCount() ).isZero();
+		}
+	}
+
 	@Test
 	public void writeTo() throws IOException {
 		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
@@ -238,19 +266,109 @@ public void getContent() throws IOException {
 		}
 	}
 
+	@Test
+	public void compression_contentEncoding() {
+		Header contentEncoding = compressingGsonEntity.getContentEncoding();
+		if ( expectedContentLength > COMPRESSION_THRESHOLD ) {
+			assertThat( contentEncoding.getName() ).isEqualTo( "Content-Encoding" );
+			assertThat( contentEncoding.getValue() ).isEqualTo( "gzip" );
+		}
+		else {
+			assertThat( contentEncoding ).isNull();
+			assertThat( compressingGsonEntity.getContentLength() ).isEqualTo( expectedContentLength );
+		}
+	}
+
+	@Test
+	public void compression_produceContent() throws IOException {
+		for ( int pushBackPeriod : new int[] { Integer.MAX_VALUE, 5, 500 } ) {
+			for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
+				byte[] content = doProduceContentBytes( compressingGsonEntity, pushBackPeriod );
+				assertThat( decompressIfNecessary( compressingGsonEntity, content ) )
+						.isEqualTo( expectedPayloadString );
+			}
+		}
+		// Every buffer that was ever allocated should be back in the pool
+		assertThat( compressingBufferPool.idleBufferCount() )
+				.isEqualTo( compressingBufferPool.allocatedBufferCount() );
+		assertThat( compressingBufferPool.missCount() ).isZero();
+	}
+
+	@Test
+	public void compression_writeTo() throws IOException {
+		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
+			byte[] content = doWriteToBytes( compressingGsonEntity );
+			assertThat( decompressIfNecessary( compressingGsonEntity, content ) )
+					.isEqualTo( expectedPayloadString );
+			// The content, and thus its length, must not depend on the method used to retrieve it
+			byte[] producedContent = doProduceContentBytes( compressingGsonEntity, Integer.MAX_VALUE );
+			assertThat( content ).isEqualTo( producedContent );
+			assertThat( compressingGsonEntity.getContentLength() )
+					.isEqualTo( producedContent.length );
+		}
+		// Every buffer that was ever allocated should be back in the pool
+		assertThat( compressingBufferPool.idleBufferCount() )
+				.isEqualTo( compressingBufferPool.allocatedBufferCount() );
+	}
+
+	@Test
+	public void compression_getContent() throws IOException {
+		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
+			byte[] content;
+			try ( InputStream inputStream = compressingGsonEntity.getContent() ) {
+				content = readAll( inputStream );
+			}
+			assertThat( decompressIfNecessary( compressingGsonEntity, content ) )
+					.isEqualTo( expectedPayloadString );
+			assertThat( compressingGsonEntity.getContentLength() )
+					.isEqualTo( content.length );
+		}
+	}
+
 	private String doProduceContent(GsonHttpEntity entity, int pushBackPeriod) throws IOException {
+		return new String( doProduceContentBytes( entity, pushBackPeriod ), StandardCharsets.UTF_8 );
+	}
+
+	private byte[] doProduceContentBytes(GsonHttpEntity entity, int pushBackPeriod) throws IOException {
 		try ( ByteArrayOutputStream outputStream = new ByteArrayOutputStream() ) {
 			ContentEncoder contentEncoder = new OutputStreamContentEncoder( outputStream, pushBackPeriod );
 			while ( !contentEncoder.isCompleted() ) {
 				entity.produceContent( contentEncoder, StubIOControl.INSTANCE );
 			}
-			return outputStream.toString( StandardCharsets.UTF_8.name() );
+			return outputStream.toByteArray();
 		}
 		finally {
 			entity.close();
 		}
 	}
 
+	private byte[] doWriteToBytes(GsonHttpEntity entity) throws IOException {
+		try ( ByteArrayOutputStream outputStream = new ByteArrayOutputStream() ) {
+			entity.writeTo( outputStream );
+			return outputStream.toByteArray();
+		}
+	}
+
+	private static String decompressIfNecessary(GsonHttpEntity entity, byte[] content) throws IOException {
+		if ( entity.getContentEncoding() == null ) {
+			return new String( content, StandardCharsets.UTF_8 );
+		}
+		try ( InputStream inputStream = new GZIPInputStream( new ByteArrayInputStream( content ) ) ) {
+			return new String( readAll( inputStream ), StandardCharsets.UTF_8 );
+		}
+	}
+
+	private static byte[] readAll(InputStream inputStream) throws IOException {
+		try ( ByteArrayOutputStream outputStream = new ByteArrayOutputStream() ) {
+			byte[] buffer = new byte[1024];
+			int read;
+			while ( ( read = inputStream.read( buffer ) ) >= 0 ) {
+				outputStream.write( buffer, 0, read );
+			}
+			return outputStream.toByteArray();
+		}
+	}
+
 	private String doWriteTo(GsonHttpEntity entity) throws IOException {
 		try ( ByteArrayOutputStream outputStream = new ByteArrayOutputStream() ) {
 			entity.writeTo( outputStream );
@@ -293,7 +411,9 @@ public int write(ByteBuffer src) throws IOException {
 				return 0;
 			}
 			pushedBack = false;
-			outputStream.write( src.array(), src.arrayOffset(), toWrite );
+			byte[] bytes = new byte[toWrite];
+			src.get( bytes );
+			outputStream.write( bytes );
 			written += toWrite;
 			return toWrite;
 		}
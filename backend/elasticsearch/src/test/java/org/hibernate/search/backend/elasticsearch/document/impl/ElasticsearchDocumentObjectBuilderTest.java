@@ -0,0 +1,185 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.document.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+
+import org.hibernate.search.backend.elasticsearch.analysis.model.impl.ElasticsearchAnalysisDefinitionRegistry;
+import org.hibernate.search.backend.elasticsearch.dialect.model.impl.Elasticsearch7ModelDialect;
+import org.hibernate.search.backend.elasticsearch.document.model.dsl.impl.ElasticsearchIndexRootBuilder;
+import org.hibernate.search.backend.elasticsearch.document.model.impl.ElasticsearchIndexModel;
+import org.hibernate.search.backend.elasticsearch.gson.impl.GsonUtils;
+import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
+import org.hibernate.search.backend.elasticsearch.index.DynamicMapping;
+import org.hibernate.search.backend.elasticsearch.index.layout.impl.IndexNames;
+import org.hibernate.search.backend.elasticsearch.types.dsl.ElasticsearchIndexFieldTypeFactory;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.spi.IndexObjectFieldBuilder;
+import org.hibernate.search.engine.backend.document.model.spi.IndexFieldInclusion;
+import org.hibernate.search.engine.backend.types.ObjectStructure;
+import org.hibernate.search.engine.mapper.mapping.building.spi.IndexFieldTypeDefaultsProvider;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * Checks that the size of documents, computed as they are built,
+ * matches the size of their serialized form.
+ */
+public class ElasticsearchDocumentObjectBuilderTest {
+
+	private static final String NON_ASCII_TEXT = "Cr\u00E8me \u20AC \uD83D\uDE00";
+	private static final String ESCAPED_TEXT = "<a href='x'>&amp;</a> a=b \"\\\t\n\u0000\u001F\u2028\u2029";
+
+	private final Gson gson = GsonProvider.create( GsonBuilder::new, true ).getGson();
+
+	private ElasticsearchIndexModel model;
+	private IndexFieldReference<String> string;
+	private IndexFieldReference<String> multiString;
+	private IndexFieldReference<Integer> integer;
+	private IndexFieldReference<Double> multiDouble;
+	private IndexFieldReference<Boolean> bool;
+	private IndexObjectFieldReference object;
+	private IndexFieldReference<String> objectString;
+	private IndexObjectFieldReference multiObject;
+	private IndexFieldReference<String> multiObjectMultiString;
+
+	@Before
+	public void createModel() {
+		ElasticsearchIndexRootBuilder root = new ElasticsearchIndexRootBuilder(
+				new Elasticsearch7ModelDialect().createIndexTypeFieldFactoryProvider( new Gson() ),
+				EventContexts.fromIndexName( "myIndex" ),
+				new IndexNames( "myIndex", URLEncodedString.fromString( "myindex-write" ), true,
+						URLEncodedString.fromString( "myindex-read" ), true ),
+				"myType",
+				new ElasticsearchAnalysisDefinitionRegistry(),
+				null, null, DynamicMapping.STRICT );
+		ElasticsearchIndexFieldTypeFactory types = root.createTypeFactory( new IndexFieldTypeDefaultsProvider() );
+
+		string = root.addField( "string", IndexFieldInclusion.INCLUDED, types.asString().toIndexFieldType() )
+				.toReference();
+		multiString = root.addField( "multiString", IndexFieldInclusion.INCLUDED, types.asString().toIndexFieldType() )
+				.multiValued().toReference();
+		integer = root.addField( "integer", IndexFieldInclusion.INCLUDED, types.asInteger().toIndexFieldType() )
+				.toReference();
+		multiDouble = root.addField( "multiDouble", IndexFieldInclusion.INCLUDED, types.asDouble().toIndexFieldType() )
+				.multiValued().toReference();
+		bool = root.addField( "bool", IndexFieldInclusion.INCLUDED, types.asBoolean().toIndexFieldType() )
+				.toReference();
+
+		IndexObjectFieldBuilder objectBuilder =
+				root.addObjectField( "object", IndexFieldInclusion.INCLUDED, ObjectStructure.FLATTENED );
+		objectString = objectBuilder.addField( "string", IndexFieldInclusion.INCLUDED,
+				types.asString().toIndexFieldType() ).toReference();
+		object = objectBuilder.toReference();
+
+		IndexObjectFieldBuilder multiObjectBuilder =
+				root.addObjectField( "multiObject", IndexFieldInclusion.INCLUDED, ObjectStructure.NESTED );
+		multiObjectBuilder.multiValued();
+		multiObjectMultiString = multiObjectBuilder.addField( "multiString", IndexFieldInclusion.INCLUDED,
+				types.asString().toIndexFieldType() ).multiValued().toReference();
+		multiObject = multiObjectBuilder.toReference();
+
+		model = root.build();
+	}
+
+	@Test
+	public void empty() {
+		ElasticsearchDocumentObjectBuilder builder = new ElasticsearchDocumentObjectBuilder( model );
+		assertSerializedSize( builder.build() );
+	}
+
+	@Test
+	public void values() {
+		ElasticsearchDocumentObjectBuilder builder = new ElasticsearchDocumentObjectBuilder( model );
+		builder.addValue( string, NON_ASCII_TEXT );
+		builder.addValue( integer, -42 );
+		builder.addValue( multiDouble, 42.5 );
+		builder.addValue( bool, false );
+		assertSerializedSize( builder.build() );
+	}
+
+	@Test
+	public void escapes() {
+		ElasticsearchDocumentObjectBuilder builder = new ElasticsearchDocumentObjectBuilder( model );
+		builder.addValue( string, ESCAPED_TEXT );
+		builder.addValue( multiString, ESCAPED_TEXT + NON_ASCII_TEXT );
+		assertSerializedSize( builder.build() );
+	}
+
+	@Test
+	public void nullValues() {
+		ElasticsearchDocumentObjectBuilder builder = new ElasticsearchDocumentObjectBuilder( model );
+		builder.addValue( string, null );
+		builder.addValue( multiString, null );
+		builder.addValue( multiString, "foo" );
+		builder.addNullObject( object );
+		assertSerializedSize( builder.build() );
+	}
+
+	@Test
+	public void multiValued_turnsIntoArray() {
+		ElasticsearchDocumentObjectBuilder builder = new ElasticsearchDocumentObjectBuilder( model );
+		builder.addValue( multiString, NON_ASCII_TEXT );
+		assertSerializedSize( builder.build() );
+		builder.addValue( multiString, ESCAPED_TEXT );
+		assertSerializedSize( builder.build() );
+		builder.addValue( multiString, "" );
+		builder.addValue( multiDouble, 1.0 );
+		builder.addValue( multiDouble, -0.25 );
+		assertSerializedSize( builder.build() );
+	}
+
+	@Test
+	public void objects() {
+		ElasticsearchDocumentObjectBuilder builder = new ElasticsearchDocumentObjectBuilder( model );
+		builder.addValue( string, "foo" );
+		DocumentElement objectElement = builder.addObject( object );
+		assertSerializedSize( builder.build() );
+		objectElement.addValue( objectString, ESCAPED_TEXT );
+
+		// The first object is empty, and is then wrapped into an array along with the second one
+		DocumentElement multiObjectElement1 = builder.addObject( multiObject );
+		DocumentElement multiObjectElement2 = builder.addObject( multiObject );
+		builder.addNullObject( multiObject );
+		multiObjectElement2.addValue( multiObjectMultiString, NON_ASCII_TEXT );
+		multiObjectElement2.addValue( multiObjectMultiString, ESCAPED_TEXT );
+		assertSerializedSize( builder.build() );
+		// Values can still be added to the first object after it was wrapped into an array
+		multiObjectElement1.addValue( multiObjectMultiString, "bar" );
+		assertSerializedSize( builder.build() );
+	}
+
+	@Test
+	public void metadata() {
+		ElasticsearchDocumentObjectBuilder builder = new ElasticsearchDocumentObjectBuilder( model );
+		builder.addValue( string, "foo" );
+		builder.addMetadata( (document, tenantId, id) -> {
+			document.addProperty( "_entity_type", ESCAPED_TEXT );
+			document.add( "_tenant_id", new JsonPrimitive( tenantId ) );
+			document.addProperty( "_tenant_doc_id", tenantId + "_" + id );
+		}, "tenant" + NON_ASCII_TEXT, "<1>" );
+		assertSerializedSize( builder.build() );
+	}
+
+	private void assertSerializedSize(ElasticsearchDocument document) {
+		long expected = gson.toJson( document.content() ).getBytes( StandardCharsets.UTF_8 ).length;
+		assertThat( document.serializedSize() ).isEqualTo( expected );
+		assertThat( GsonUtils.serializedSize( document.content() ) ).isEqualTo( expected );
+	}
+
+}
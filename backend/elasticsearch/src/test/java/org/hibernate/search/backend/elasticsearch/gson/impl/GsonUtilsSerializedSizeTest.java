@@ -0,0 +1,113 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.gson.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+@RunWith(Parameterized.class)
+public class GsonUtilsSerializedSizeTest {
+
+	private static final Gson GSON = GsonProvider.create( GsonBuilder::new, true ).getGson();
+
+	@Parameterized.Parameters(name = "{0}")
+	public static List<Object[]> params() {
+		List<Object[]> params = new ArrayList<>();
+		params.add( new Object[] { "empty", "" } );
+		params.add( new Object[] { "ASCII", "Some text, with punctuation: 42!" } );
+		params.add( new Object[] { "2-byte UTF-8", "Cr\u00E8me br\u00FBl\u00E9e, \u00E7a \u00F1 \u00DF" } );
+		params.add( new Object[] { "3-byte UTF-8", "\u20AC \u4E2D\u6587 \u65E5\u672C\u8A9E \uFFFD" } );
+		params.add( new Object[] { "surrogate pairs", "\uD83D\uDE00 \uD834\uDD1E\uD83E\uDD21" } );
+		params.add( new Object[] { "short escapes", "\t\b\n\r\f" } );
+		params.add( new Object[] { "control characters", "\u0000\u0001\u0007\u000B\u000E\u001F\u007F" } );
+		params.add( new Object[] { "quotes and backslashes", "\"quoted\" \\back\\slash\\" } );
+		params.add( new Object[] { "HTML characters", "<a href='x'>&amp;</a> a=b" } );
+		params.add( new Object[] { "JavaScript line separators", "line\u2028paragraph\u2029end" } );
+		params.add( new Object[] { "mix", "<\uD83D\uDE00>\u0000\u00E9\u2028\"\u20AC\n" } );
+		return params;
+	}
+
+	private final String string;
+
+	public GsonUtilsSerializedSizeTest(String ignoredLabel, String string) {
+		this.string = string;
+	}
+
+	@Test
+	public void string() {
+		assertThat( GsonUtils.serializedSize( string ) )
+				.isEqualTo( actualSerializedSize( new JsonPrimitive( string ) ) );
+	}
+
+	@Test
+	public void primitive() {
+		JsonPrimitive primitive = new JsonPrimitive( string );
+		assertThat( GsonUtils.serializedSize( primitive ) )
+				.isEqualTo( actualSerializedSize( primitive ) );
+	}
+
+	@Test
+	public void object() {
+		JsonObject object = new JsonObject();
+		assertThat( GsonUtils.serializedSize( object ) )
+				.isEqualTo( actualSerializedSize( object ) );
+
+		object.addProperty( string, string );
+		object.addProperty( "int", 42 );
+		object.addProperty( "negativeLong", -4_200_000_000_000L );
+		object.addProperty( "double", 42.42 );
+		object.addProperty( "true", true );
+		object.addProperty( "false", false );
+		object.add( "null", JsonNull.INSTANCE );
+		JsonObject nested = new JsonObject();
+		nested.addProperty( "nested" + string, string );
+		object.add( "nested", nested );
+		assertThat( GsonUtils.serializedSize( object ) )
+				.isEqualTo( actualSerializedSize( object ) );
+	}
+
+	@Test
+	public void array() {
+		JsonArray array = new JsonArray();
+		assertThat( GsonUtils.serializedSize( array ) )
+				.isEqualTo( actualSerializedSize( array ) );
+
+		array.add( string );
+		assertThat( GsonUtils.serializedSize( array ) )
+				.isEqualTo( actualSerializedSize( array ) );
+
+		array.add( string );
+		array.add( JsonNull.INSTANCE );
+		array.add( 1.5f );
+		array.add( new JsonObject() );
+		array.add( new JsonArray() );
+		assertThat( GsonUtils.serializedSize( array ) )
+				.isEqualTo( actualSerializedSize( array ) );
+	}
+
+	private static long actualSerializedSize(JsonElement element) {
+		return GSON.toJson( element ).getBytes( StandardCharsets.UTF_8 ).length;
+	}
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.gson.spi;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.hibernate.search.util.impl.test.JsonHelper;
+
+import org.junit.Test;
+
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+
+public class JsonPathFilterTest {
+
+	@Test
+	public void bulkResponse() throws IOException {
+		JsonPathFilter filter = JsonPathFilter.of( "items.*.status", "items.*.error" );
+		assertFiltered( filter,
+				"{'took': 30, 'errors': true, 'items': ["
+						+ "{'index': {'_index': 'myIndex', '_id': '1', '_version': 1, 'result': 'created',"
+						+ " '_shards': {'total': 2, 'successful': 1, 'failed': 0}, 'status': 201}},"
+						+ "{'delete': {'_index': 'myIndex', '_id': '2', 'status': 404}},"
+						+ "{'index': {'_index': 'myIndex', '_id': '3', 'status': 400,"
+						+ " 'error': {'type': 'mapper_parsing_exception', 'reason': 'failed to parse',"
+						+ " 'caused_by': {'type': 'illegal_argument_exception'}}}}"
+						+ "]}",
+				"{'items': ["
+						+ "{'index': {'status': 201}},"
+						+ "{'delete': {'status': 404}},"
+						+ "{'index': {'status': 400,"
+						+ " 'error': {'type': 'mapper_parsing_exception', 'reason': 'failed to parse',"
+						+ " 'caused_by': {'type': 'illegal_argument_exception'}}}}"
+						+ "]}" );
+	}
+
+	@Test
+	public void exactPropertyNames() throws IOException {
+		JsonPathFilter filter = JsonPathFilter.of( "hits.total", "took" );
+		assertFiltered( filter,
+				"{'took': 3, 'timed_out': false, 'hits': {'total': {'value': 2}, 'max_score': 1.0, 'hits': []}}",
+				"{'took': 3, 'hits': {'total': {'value': 2}}}" );
+	}
+
+	@Test
+	public void arrayElementsKeepTheirIndex() throws IOException {
+		JsonPathFilter filter = JsonPathFilter.of( "array.foo" );
+		assertFiltered( filter,
+				"{'array': [{'foo': 1, 'bar': 2}, {'bar': 3}, 'primitive', {'foo': 4}]}",
+				"{'array': [{'foo': 1}, {}, null, {'foo': 4}]}" );
+	}
+
+	@Test
+	public void primitiveInsteadOfObject() throws IOException {
+		JsonPathFilter filter = JsonPathFilter.of( "foo.bar" );
+		assertFiltered( filter,
+				"{'foo': 'notAnObject', 'bar': 1}",
+				"{}" );
+	}
+
+	@Test
+	public void noMatch() throws IOException {
+		JsonPathFilter filter = JsonPathFilter.of( "missing" );
+		assertFiltered( filter,
+				"{'foo': {'bar': [1, 2, {'baz': true}]}}",
+				"{}" );
+	}
+
+	private static void assertFiltered(JsonPathFilter filter, String json, String expectedJson) throws IOException {
+		JsonReader reader = new JsonReader( new StringReader( json.replace( '\'', '"' ) ) );
+		JsonObject filtered = filter.readObject( reader );
+		JsonHelper.assertJsonEquals( expectedJson.replace( '\'', '"' ), filtered.toString() );
+	}
+
+}
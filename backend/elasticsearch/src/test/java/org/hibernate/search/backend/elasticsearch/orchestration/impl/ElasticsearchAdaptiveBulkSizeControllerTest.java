@@ -0,0 +1,82 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class ElasticsearchAdaptiveBulkSizeControllerTest {
+
+	private static final long FAST = TimeUnit.MILLISECONDS.toNanos( 100 );
+	private static final long SLOW = TimeUnit.MILLISECONDS.toNanos( 2000 );
+
+	private final ElasticsearchAdaptiveBulkSizeController controller =
+			new ElasticsearchAdaptiveBulkSizeController( 100, 1000 );
+
+	@Test
+	public void initial() {
+		assertThat( controller.targetBulkSize() ).isEqualTo( 100 );
+	}
+
+	@Test
+	public void shrinkOnSlowBulk() {
+		controller.onBulkExecuted( 100, SLOW, 0 );
+		assertThat( controller.targetBulkSize() ).isEqualTo( 50 );
+		controller.onBulkExecuted( 50, SLOW, 0 );
+		assertThat( controller.targetBulkSize() ).isEqualTo( 25 );
+	}
+
+	@Test
+	public void shrinkOnRejection() {
+		controller.onBulkExecuted( 100, FAST, 1 );
+		assertThat( controller.targetBulkSize() ).isEqualTo( 50 );
+	}
+
+	@Test
+	public void shrinkOnFailure() {
+		controller.onBulkFailed();
+		assertThat( controller.targetBulkSize() ).isEqualTo( 50 );
+	}
+
+	@Test
+	public void neverBelowOne() {
+		for ( int i = 0; i < 20; i++ ) {
+			controller.onBulkFailed();
+		}
+		assertThat( controller.targetBulkSize() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void growOnFastFullBulk() {
+		controller.onBulkExecuted( 100, SLOW, 0 );
+		assertThat( controller.targetBulkSize() ).isEqualTo( 50 );
+
+		controller.onBulkExecuted( 50, FAST, 0 );
+		assertThat( controller.targetBulkSize() ).isEqualTo( 60 );
+
+		// Partial bulk: no growth
+		controller.onBulkExecuted( 10, FAST, 0 );
+		assertThat( controller.targetBulkSize() ).isEqualTo( 60 );
+
+		for ( int i = 0; i < 10; i++ ) {
+			controller.onBulkExecuted( controller.targetBulkSize(), FAST, 0 );
+		}
+		// Never above the maximum
+		assertThat( controller.targetBulkSize() ).isEqualTo( 100 );
+	}
+
+	@Test
+	public void stableOnModerateLatency() {
+		controller.onBulkExecuted( 100, SLOW, 0 );
+		controller.onBulkExecuted( 50, TimeUnit.MILLISECONDS.toNanos( 800 ), 0 );
+		assertThat( controller.targetBulkSize() ).isEqualTo( 50 );
+	}
+
+}
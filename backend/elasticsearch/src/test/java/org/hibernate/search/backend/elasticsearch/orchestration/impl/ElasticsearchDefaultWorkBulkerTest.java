@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.orchestration.impl;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hibernate.search.util.impl.test.FutureAssert.assertThatFuture;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
@@ -262,6 +263,114 @@ public void newBulkOnDifferentRefresh() {
 		verifyNoOtherSequenceInteractionsAndReset();
 	}
 
+	@Test
+	public void newBulkOnTooLargeBulkedWorks() {
+		BulkableWork<Void> work1 = bulkableWorkMock( 1 );
+		BulkableWork<Void> work2 = bulkableWorkMock( 2 );
+		BulkableWork<Void> work3 = bulkableWorkMock( 3 );
+		BulkableWork<Void> work4 = bulkableWorkMock( 4 );
+		NonBulkableWork<BulkResult> bulkWork1 = workMock( 5 );
+		NonBulkableWork<BulkResult> bulkWork2 = workMock( 6 );
+		NonBulkableWork<BulkResult> bulkWork3 = workMock( 7 );
+
+		CompletableFuture<BulkResult> bulkWork1ResultFuture = new CompletableFuture<>();
+		CompletableFuture<BulkResult> bulkWork2ResultFuture = new CompletableFuture<>();
+		CompletableFuture<BulkResult> bulkWork3ResultFuture = new CompletableFuture<>();
+		ArgumentCaptor<CompletableFuture<NonBulkableWork<BulkResult>>> bulkWork1FutureArgumentCaptor = futureCaptor();
+		ArgumentCaptor<CompletableFuture<NonBulkableWork<BulkResult>>> bulkWork2FutureArgumentCaptor = futureCaptor();
+		ArgumentCaptor<CompletableFuture<NonBulkableWork<BulkResult>>> bulkWork3FutureArgumentCaptor = futureCaptor();
+
+		ElasticsearchDefaultWorkBulker bulker = new ElasticsearchDefaultWorkBulker( sequenceBuilderMock,
+				bulkWorkFactoryMock, DEFAULT_MAX_BULK_SIZE, 1000L, null, null );
+		verifyNoOtherSequenceInteractionsAndReset();
+
+		when( work1.getBulkableActionSizeEstimate() ).thenReturn( 400L );
+		when( work1.getRefreshStrategy() ).thenReturn( DEFAULT_REFRESH );
+		when( sequenceBuilderMock.addBulkExecution( bulkWork1FutureArgumentCaptor.capture() ) ).thenReturn( bulkWork1ResultFuture );
+		when( sequenceBuilderMock.addBulkResultExtraction( bulkWork1ResultFuture, work1, 0 ) )
+				.thenReturn( new CompletableFuture<>() );
+		bulker.add( work1 );
+		verifyNoOtherSequenceInteractionsAndReset();
+
+		when( work2.getBulkableActionSizeEstimate() ).thenReturn( 500L );
+		when( work2.getRefreshStrategy() ).thenReturn( DEFAULT_REFRESH );
+		when( sequenceBuilderMock.addBulkResultExtraction( bulkWork1ResultFuture, work2, 1 ) )
+				.thenReturn( new CompletableFuture<>() );
+		bulker.add( work2 );
+		verifyNoOtherSequenceInteractionsAndReset();
+		assertThatFuture( bulkWork1FutureArgumentCaptor.getValue() ).isPending();
+
+		// 400 + 500 + 200 > 1000 => new bulk
+		when( work3.getBulkableActionSizeEstimate() ).thenReturn( 200L );
+		when( work3.getRefreshStrategy() ).thenReturn( DEFAULT_REFRESH );
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work1, work2 ), DEFAULT_REFRESH ) ).thenReturn( bulkWork1 );
+		when( sequenceBuilderMock.addBulkExecution( bulkWork2FutureArgumentCaptor.capture() ) ).thenReturn( bulkWork2ResultFuture );
+		when( sequenceBuilderMock.addBulkResultExtraction( bulkWork2ResultFuture, work3, 0 ) )
+				.thenReturn( new CompletableFuture<>() );
+		bulker.add( work3 );
+		verifyNoOtherSequenceInteractionsAndReset();
+		assertThatFuture( bulkWork1FutureArgumentCaptor.getValue() ).isSuccessful( bulkWork1 );
+		assertThatFuture( bulkWork2FutureArgumentCaptor.getValue() ).isPending();
+
+		// A single work larger than the limit => new bulk, immediately finalized
+		when( work4.getBulkableActionSizeEstimate() ).thenReturn( 2000L );
+		when( work4.getRefreshStrategy() ).thenReturn( DEFAULT_REFRESH );
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work3 ), DEFAULT_REFRESH ) ).thenReturn( bulkWork2 );
+		when( sequenceBuilderMock.addBulkExecution( bulkWork3FutureArgumentCaptor.capture() ) ).thenReturn( bulkWork3ResultFuture );
+		when( sequenceBuilderMock.addBulkResultExtraction( bulkWork3ResultFuture, work4, 0 ) )
+				.thenReturn( new CompletableFuture<>() );
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work4 ), DEFAULT_REFRESH ) ).thenReturn( bulkWork3 );
+		bulker.add( work4 );
+		verifyNoOtherSequenceInteractionsAndReset();
+		assertThatFuture( bulkWork2FutureArgumentCaptor.getValue() ).isSuccessful( bulkWork2 );
+		assertThatFuture( bulkWork3FutureArgumentCaptor.getValue() ).isSuccessful( bulkWork3 );
+
+		// Nothing left to bulk
+		bulker.finalizeBulkWork();
+		verifyNoOtherSequenceInteractionsAndReset();
+	}
+
+	@Test
+	public void adaptiveBulkSize() {
+		ElasticsearchAdaptiveBulkSizeController controller = new ElasticsearchAdaptiveBulkSizeController( 4, 1000 );
+		ElasticsearchDefaultWorkBulker bulker = new ElasticsearchDefaultWorkBulker( sequenceBuilderMock,
+				bulkWorkFactoryMock, 4, Long.MAX_VALUE, controller, null );
+		verifyNoOtherSequenceInteractionsAndReset();
+
+		// Simulate a rejection in a previous bulk: the target shrinks to 2
+		controller.onBulkExecuted( 4, 0L, 1 );
+
+		BulkableWork<Void> work1 = bulkableWorkMock( 1 );
+		BulkableWork<Void> work2 = bulkableWorkMock( 2 );
+		NonBulkableWork<BulkResult> bulkWork = workMock( 3 );
+		BulkResult bulkResult = mock( BulkResult.class );
+		CompletableFuture<BulkResult> bulkWorkResultFuture = new CompletableFuture<>();
+		ArgumentCaptor<CompletableFuture<NonBulkableWork<BulkResult>>> bulkWorkFutureArgumentCaptor = futureCaptor();
+
+		when( work1.getRefreshStrategy() ).thenReturn( DEFAULT_REFRESH );
+		when( sequenceBuilderMock.addBulkExecution( bulkWorkFutureArgumentCaptor.capture() ) ).thenReturn( bulkWorkResultFuture );
+		when( sequenceBuilderMock.addBulkResultExtraction( bulkWorkResultFuture, work1, 0 ) )
+				.thenReturn( new CompletableFuture<>() );
+		bulker.add( work1 );
+		verifyNoOtherSequenceInteractionsAndReset();
+		assertThatFuture( bulkWorkFutureArgumentCaptor.getValue() ).isPending();
+
+		when( work2.getRefreshStrategy() ).thenReturn( DEFAULT_REFRESH );
+		when( sequenceBuilderMock.addBulkResultExtraction( bulkWorkResultFuture, work2, 1 ) )
+				.thenReturn( new CompletableFuture<>() );
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work1, work2 ), DEFAULT_REFRESH ) ).thenReturn( bulkWork );
+		bulker.add( work2 );
+		verifyNoOtherSequenceInteractionsAndReset();
+		assertThatFuture( bulkWorkFutureArgumentCaptor.getValue() ).isSuccessful();
+
+		// The bulk work reports its execution to the controller
+		NonBulkableWork<BulkResult> measuredBulkWork = bulkWorkFutureArgumentCaptor.getValue().join();
+		when( bulkWork.execute( null ) ).thenReturn( CompletableFuture.completedFuture( bulkResult ) );
+		when( bulkResult.rejectedItemCount() ).thenReturn( 0 );
+		measuredBulkWork.execute( null );
+		assertThat( controller.targetBulkSize() ).isEqualTo( 3 );
+	}
+
 	private void verifyNoOtherSequenceInteractionsAndReset() {
 		verifyNoMoreInteractions( sequenceBuilderMock, bulkWorkFactoryMock );
 		reset( sequenceBuilderMock, bulkWorkFactoryMock );
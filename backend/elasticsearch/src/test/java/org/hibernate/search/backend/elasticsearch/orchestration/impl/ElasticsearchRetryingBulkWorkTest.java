@@ -0,0 +1,193 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.test.FutureAssert.assertThatFuture;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
+import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.mockito.quality.Strictness;
+
+@SuppressWarnings("unchecked") // Raw types are the only way to mock parameterized types
+public class ElasticsearchRetryingBulkWorkTest {
+
+	private static final DocumentRefreshStrategy DEFAULT_REFRESH = DocumentRefreshStrategy.NONE;
+
+	@Rule
+	public final MockitoRule mockito = MockitoJUnit.rule().strictness( Strictness.STRICT_STUBS );
+
+	@Mock
+	private ElasticsearchWorkExecutionContext contextMock;
+	@Mock
+	private BiFunction<List<? extends BulkableWork<?>>,
+			DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactoryMock;
+
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+	@After
+	public void shutdownScheduler() {
+		scheduler.shutdownNow();
+	}
+
+	@Test
+	public void noRejection() {
+		BulkableWork<Object> work0 = bulkableWorkMock( 0 );
+		BulkableWork<Object> work1 = bulkableWorkMock( 1 );
+		NonBulkableWork<BulkResult> bulkWork = bulkWorkMock( 0 );
+		BulkResult bulkResult = mock( BulkResult.class );
+		ElasticsearchBulkRetryPolicy policy = policy( 5 );
+
+		when( bulkWork.execute( contextMock ) ).thenReturn( CompletableFuture.completedFuture( bulkResult ) );
+		when( bulkResult.isRejected( 0 ) ).thenReturn( false );
+		when( bulkResult.isRejected( 1 ) ).thenReturn( false );
+		CompletableFuture<BulkResult> future = retrying( bulkWork, policy, work0, work1 ).execute( contextMock );
+		assertThatFuture( future ).isSuccessful();
+
+		Object work1Result = new Object();
+		when( bulkResult.extract( contextMock, work1, 1 ) ).thenReturn( work1Result );
+		assertThat( future.join().extract( contextMock, work1, 1 ) ).isSameAs( work1Result );
+		assertThat( policy.rejectedOperationCount() ).isZero();
+		assertThat( policy.retriedOperationCount() ).isZero();
+	}
+
+	@Test
+	public void retryRejectedOnly() throws Exception {
+		BulkableWork<Object> work0 = bulkableWorkMock( 0 );
+		BulkableWork<Object> work1 = bulkableWorkMock( 1 );
+		BulkableWork<Object> work2 = bulkableWorkMock( 2 );
+		NonBulkableWork<BulkResult> bulkWork1 = bulkWorkMock( 1 );
+		NonBulkableWork<BulkResult> bulkWork2 = bulkWorkMock( 2 );
+		BulkResult bulkResult1 = mock( BulkResult.class );
+		BulkResult bulkResult2 = mock( BulkResult.class );
+		ElasticsearchBulkRetryPolicy policy = policy( 5 );
+
+		when( bulkWork1.execute( contextMock ) ).thenReturn( CompletableFuture.completedFuture( bulkResult1 ) );
+		when( bulkResult1.isRejected( 0 ) ).thenReturn( false );
+		when( bulkResult1.isRejected( 1 ) ).thenReturn( true );
+		when( bulkResult1.isRejected( 2 ) ).thenReturn( false );
+		when( bulkWorkFactoryMock.apply( Collections.singletonList( work1 ), DEFAULT_REFRESH ) ).thenReturn( bulkWork2 );
+		when( bulkWork2.execute( contextMock ) ).thenReturn( CompletableFuture.completedFuture( bulkResult2 ) );
+		when( bulkResult2.isRejected( 0 ) ).thenReturn( false );
+		CompletableFuture<BulkResult> future = retrying( bulkWork1, policy, work0, work1, work2 ).execute( contextMock );
+		BulkResult result = future.get( 5, TimeUnit.SECONDS );
+
+		// Each work gets the result of its latest attempt
+		Object work0Result = new Object();
+		Object work1Result = new Object();
+		Object work2Result = new Object();
+		when( bulkResult1.extract( contextMock, work0, 0 ) ).thenReturn( work0Result );
+		when( bulkResult2.extract( contextMock, work1, 0 ) ).thenReturn( work1Result );
+		when( bulkResult1.extract( contextMock, work2, 2 ) ).thenReturn( work2Result );
+		assertThat( result.extract( contextMock, work0, 0 ) ).isSameAs( work0Result );
+		assertThat( result.extract( contextMock, work1, 1 ) ).isSameAs( work1Result );
+		assertThat( result.extract( contextMock, work2, 2 ) ).isSameAs( work2Result );
+		assertThat( result.rejectedItemCount() ).isZero();
+
+		assertThat( policy.rejectedOperationCount() ).isEqualTo( 1 );
+		assertThat( policy.retriedOperationCount() ).isEqualTo( 1 );
+		assertThat( policy.exhaustedOperationCount() ).isZero();
+	}
+
+	@Test
+	public void retriesExhausted() throws Exception {
+		BulkableWork<Object> work0 = bulkableWorkMock( 0 );
+		BulkableWork<Object> work1 = bulkableWorkMock( 1 );
+		NonBulkableWork<BulkResult> bulkWork1 = bulkWorkMock( 1 );
+		NonBulkableWork<BulkResult> bulkWork2 = bulkWorkMock( 2 );
+		BulkResult bulkResult1 = mock( BulkResult.class );
+		BulkResult bulkResult2 = mock( BulkResult.class );
+		ElasticsearchBulkRetryPolicy policy = policy( 1 );
+
+		when( bulkWork1.execute( contextMock ) ).thenReturn( CompletableFuture.completedFuture( bulkResult1 ) );
+		when( bulkResult1.isRejected( 0 ) ).thenReturn( true );
+		when( bulkResult1.isRejected( 1 ) ).thenReturn( true );
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work0, work1 ), DEFAULT_REFRESH ) ).thenReturn( bulkWork2 );
+		when( bulkWork2.execute( contextMock ) ).thenReturn( CompletableFuture.completedFuture( bulkResult2 ) );
+		when( bulkResult2.isRejected( 0 ) ).thenReturn( false );
+		when( bulkResult2.isRejected( 1 ) ).thenReturn( true );
+		CompletableFuture<BulkResult> future = retrying( bulkWork1, policy, work0, work1 ).execute( contextMock );
+		BulkResult result = future.get( 5, TimeUnit.SECONDS );
+
+		// The work that is still rejected gets the rejection as a result, and will be reported as failed
+		assertThat( result.rejectedItemCount() ).isEqualTo( 1 );
+		assertThat( result.isRejected( 1 ) ).isTrue();
+		assertThat( policy.rejectedOperationCount() ).isEqualTo( 3 );
+		assertThat( policy.retriedOperationCount() ).isEqualTo( 2 );
+		assertThat( policy.exhaustedOperationCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void noRetry() {
+		BulkableWork<Object> work0 = bulkableWorkMock( 0 );
+		NonBulkableWork<BulkResult> bulkWork = bulkWorkMock( 0 );
+		BulkResult bulkResult = mock( BulkResult.class );
+		ElasticsearchBulkRetryPolicy policy = policy( 0 );
+
+		when( bulkWork.execute( contextMock ) ).thenReturn( CompletableFuture.completedFuture( bulkResult ) );
+		when( bulkResult.isRejected( 0 ) ).thenReturn( true );
+		CompletableFuture<BulkResult> future = retrying( bulkWork, policy, work0 ).execute( contextMock );
+		assertThatFuture( future ).isSuccessful();
+		assertThat( future.join().isRejected( 0 ) ).isTrue();
+		assertThat( policy.exhaustedOperationCount() ).isEqualTo( 1 );
+		assertThat( policy.throttledTimeMillis() ).isZero();
+	}
+
+	@Test
+	public void failure() {
+		BulkableWork<Object> work0 = bulkableWorkMock( 0 );
+		NonBulkableWork<BulkResult> bulkWork = bulkWorkMock( 0 );
+		ElasticsearchBulkRetryPolicy policy = policy( 5 );
+
+		RuntimeException exception = new RuntimeException( "Some message" );
+		CompletableFuture<BulkResult> futureFromBulkWork = new CompletableFuture<>();
+		futureFromBulkWork.completeExceptionally( exception );
+		when( bulkWork.execute( contextMock ) ).thenReturn( futureFromBulkWork );
+		CompletableFuture<BulkResult> future = retrying( bulkWork, policy, work0 ).execute( contextMock );
+		assertThatFuture( future ).isFailed( exception );
+	}
+
+	private ElasticsearchBulkRetryPolicy policy(int maxRetries) {
+		return new ElasticsearchBulkRetryPolicy( scheduler, maxRetries, 1, 10, 10_000 );
+	}
+
+	private ElasticsearchRetryingBulkWork retrying(NonBulkableWork<BulkResult> firstAttempt,
+			ElasticsearchBulkRetryPolicy policy, BulkableWork<?>... works) {
+		return new ElasticsearchRetryingBulkWork( firstAttempt, Arrays.asList( works ), DEFAULT_REFRESH,
+				bulkWorkFactoryMock, policy );
+	}
+
+	private <T> NonBulkableWork<T> bulkWorkMock(int index) {
+		return mock( NonBulkableWork.class, "bulkWork" + index );
+	}
+
+	private <T> BulkableWork<T> bulkableWorkMock(int index) {
+		return mock( BulkableWork.class, "bulkableWork" + index );
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.hibernate.search.backend.elasticsearch.search.projection.impl.ProjectionRequestContext;
+
+import org.junit.Test;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+
+public class ElasticsearchSearchQueryRequestContextTest {
+
+	private static final String RESPONSE = "{"
+			+ "\"took\": 3, \"timed_out\": false,"
+			+ "\"_shards\": {\"total\": 1, \"successful\": 1, \"skipped\": 0, \"failed\": 0},"
+			+ "\"hits\": {"
+			+ "  \"total\": {\"value\": 2, \"relation\": \"eq\"}, \"max_score\": 1.0,"
+			+ "  \"hits\": ["
+			+ "    {\"_index\": \"idx\", \"_id\": \"1\", \"_score\": 1.0, \"_source\": {\"text\": \"foo\"}, \"sort\": [1.0]},"
+			+ "    {\"_index\": \"idx\", \"_id\": \"2\", \"_score\": 0.5, \"_source\": {\"text\": \"bar\"}, \"sort\": [0.5]}"
+			+ "  ]"
+			+ "},"
+			+ "\"aggregations\": {\"my.agg\": {\"buckets\": []}}"
+			+ "}";
+
+	private final ElasticsearchSearchQueryRequestContext requestContext =
+			new ElasticsearchSearchQueryRequestContext( null, null, null, null, null );
+
+	@Test
+	public void defaultPaths() throws IOException {
+		assertThat( filter() ).isEqualTo( parse( "{"
+				+ "\"took\": 3, \"timed_out\": false,"
+				+ "\"hits\": {"
+				+ "  \"total\": {\"value\": 2, \"relation\": \"eq\"},"
+				+ "  \"hits\": [ {\"sort\": [1.0]}, {\"sort\": [0.5]} ]"
+				+ "}"
+				+ "}" ) );
+	}
+
+	@Test
+	public void hitPaths() throws IOException {
+		requestContext.registerHitPath( "_index" );
+		requestContext.registerHitPath( "_id" );
+		requestContext.registerHitPath( "_source" );
+		// Registering the same path twice must not matter
+		requestContext.registerHitPath( "_source" );
+
+		assertThat( filter() ).isEqualTo( parse( "{"
+				+ "\"took\": 3, \"timed_out\": false,"
+				+ "\"hits\": {"
+				+ "  \"total\": {\"value\": 2, \"relation\": \"eq\"},"
+				+ "  \"hits\": ["
+				+ "    {\"_index\": \"idx\", \"_id\": \"1\", \"_source\": {\"text\": \"foo\"}, \"sort\": [1.0]},"
+				+ "    {\"_index\": \"idx\", \"_id\": \"2\", \"_source\": {\"text\": \"bar\"}, \"sort\": [0.5]}"
+				+ "  ]"
+				+ "}"
+				+ "}" ) );
+	}
+
+	@Test
+	public void hitPaths_field() throws IOException {
+		ProjectionRequestContext fieldContext = requestContext.forField( "text", new String[] { "text" } );
+		fieldContext.registerHitPath( "_score" );
+
+		assertThat( filter().getAsJsonObject( "hits" ).getAsJsonArray( "hits" ) )
+				.containsExactly(
+						parse( "{\"_score\": 1.0, \"sort\": [1.0]}" ),
+						parse( "{\"_score\": 0.5, \"sort\": [0.5]}" )
+				);
+	}
+
+	@Test
+	public void hitPaths_wildcard() throws IOException {
+		requestContext.registerHitPath( "*" );
+
+		assertThat( filter().getAsJsonObject( "hits" ).getAsJsonArray( "hits" ) )
+				.isEqualTo( parse( RESPONSE ).getAsJsonObject( "hits" ).getAsJsonArray( "hits" ) );
+	}
+
+	@Test
+	public void responsePaths_aggregations() throws IOException {
+		requestContext.registerResponsePath( "aggregations" );
+
+		assertThat( filter().getAsJsonObject( "aggregations" ) )
+				.isEqualTo( parse( RESPONSE ).getAsJsonObject( "aggregations" ) );
+	}
+
+	private JsonObject filter() throws IOException {
+		try ( JsonReader reader = new JsonReader( new StringReader( RESPONSE ) ) ) {
+			return requestContext.responseBodyFilter().readObject( reader );
+		}
+	}
+
+	private static JsonObject parse(String json) {
+		return JsonParser.parseString( json ).getAsJsonObject();
+	}
+
+}
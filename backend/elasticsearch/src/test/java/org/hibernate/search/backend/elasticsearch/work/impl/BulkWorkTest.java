@@ -101,6 +101,67 @@ public void execute_success() {
 		verifyNoOtherClientInteractionsAndReset();
 	}
 
+	@Test
+	public void execute_rejectedItems() {
+		BulkableWork<Object> bulkableWork0 = bulkableWork( 0 );
+		BulkableWork<Object> bulkableWork1 = bulkableWork( 1 );
+
+		when( bulkableWork0.getBulkableActionMetadata() ).thenReturn( bulkableWorkMetadata( 0 ) );
+		when( bulkableWork0.getBulkableActionBody() ).thenReturn( bulkableWorkBody( 0 ) );
+		when( bulkableWork1.getBulkableActionMetadata() ).thenReturn( bulkableWorkMetadata( 1 ) );
+		when( bulkableWork1.getBulkableActionBody() ).thenReturn( bulkableWorkBody( 1 ) );
+		BulkWork work = new BulkWork.Builder( Arrays.asList( bulkableWork0, bulkableWork1 ) ).build();
+
+		CompletableFuture<ElasticsearchResponse> futureFromClient = new CompletableFuture<>();
+		when( clientMock.submit( ArgumentCaptor.forClass( ElasticsearchRequest.class ).capture() ) )
+				.thenReturn( futureFromClient );
+		CompletableFuture<BulkResult> returnedFuture = work.execute( contextMock );
+
+		JsonObject responseBody = new JsonObject();
+		JsonArray items = new JsonArray();
+		responseBody.add( "items", items );
+		items.add( bulkItemResponse( 201 ) );
+		items.add( bulkItemResponse( 429 ) );
+		ElasticsearchResponse response = new ElasticsearchResponse( new HttpHost( "mockHost:9200" ),
+				200, "OK", responseBody );
+		futureFromClient.complete( response );
+
+		assertThatFuture( returnedFuture ).isSuccessful();
+		assertThat( returnedFuture.join().rejectedItemCount() ).isEqualTo( 1 );
+		assertThat( returnedFuture.join().isRejected( 0 ) ).isFalse();
+		assertThat( returnedFuture.join().isRejected( 1 ) ).isTrue();
+	}
+
+	@Test
+	public void execute_http429() {
+		BulkableWork<Object> bulkableWork0 = bulkableWork( 0 );
+		BulkableWork<Object> bulkableWork1 = bulkableWork( 1 );
+
+		when( bulkableWork0.getBulkableActionMetadata() ).thenReturn( bulkableWorkMetadata( 0 ) );
+		when( bulkableWork0.getBulkableActionBody() ).thenReturn( bulkableWorkBody( 0 ) );
+		when( bulkableWork1.getBulkableActionMetadata() ).thenReturn( bulkableWorkMetadata( 1 ) );
+		when( bulkableWork1.getBulkableActionBody() ).thenReturn( bulkableWorkBody( 1 ) );
+		BulkWork work = new BulkWork.Builder( Arrays.asList( bulkableWork0, bulkableWork1 ) ).build();
+
+		CompletableFuture<ElasticsearchResponse> futureFromClient = new CompletableFuture<>();
+		when( clientMock.submit( ArgumentCaptor.forClass( ElasticsearchRequest.class ).capture() ) )
+				.thenReturn( futureFromClient );
+		CompletableFuture<BulkResult> returnedFuture = work.execute( contextMock );
+
+		JsonObject responseBody = new JsonObject();
+		responseBody.addProperty( "someProperty", "someValue" );
+		ElasticsearchResponse response = new ElasticsearchResponse( new HttpHost( "mockHost:9200" ),
+				429, "Too Many Requests", responseBody );
+		futureFromClient.complete( response );
+
+		// The bulk request as a whole is not considered failed: each bulked work is rejected instead
+		assertThatFuture( returnedFuture ).isSuccessful();
+		BulkResult result = returnedFuture.join();
+		assertThat( result.rejectedItemCount() ).isEqualTo( 2 );
+		assertThat( result.isRejected( 0 ) ).isTrue();
+		assertThat( result.isRejected( 1 ) ).isTrue();
+	}
+
 	@Test
 	@TestForIssue(jiraKey = "HSEARCH-3869")
 	public void execute_http500() {
@@ -163,6 +224,14 @@ private <T> BulkableWork<T> bulkableWork(int index) {
 		return mock( BulkableWork.class, "bulkableWork" + index );
 	}
 
+	private static JsonObject bulkItemResponse(int status) {
+		JsonObject actionResult = new JsonObject();
+		actionResult.addProperty( "status", status );
+		JsonObject result = new JsonObject();
+		result.add( "index", actionResult );
+		return result;
+	}
+
 	private static JsonObject bulkableWorkMetadata(int index) {
 		JsonObject result = new JsonObject();
 		result.addProperty( "type", "metadata" );
@@ -0,0 +1,41 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.cache;
+
+/**
+ * Statistics about the use of the query cache built into the Lucene backend,
+ * restricted to a single index.
+ * <p>
+ * Statistics are collected since the backend started,
+ * and are only collected for the built-in query cache:
+ * when a custom cache is set through a {@link QueryCachingConfigurer}, all counts remain zero.
+ */
+public interface QueryCacheStatistics {
+
+	/**
+	 * @return The number of times a cached set of documents was found in the cache for a segment of this index.
+	 */
+	long hitCount();
+
+	/**
+	 * @return The number of times a query eligible to caching was looked up in the cache for a segment of this index,
+	 * but no cached set of documents was found.
+	 */
+	long missCount();
+
+	/**
+	 * @return The number of sets of documents currently cached for segments of this index.
+	 */
+	long cacheCount();
+
+	/**
+	 * @return The approximate amount of memory used by sets of documents currently cached for segments of this index,
+	 * in bytes.
+	 */
+	long ramBytesUsed();
+
+}
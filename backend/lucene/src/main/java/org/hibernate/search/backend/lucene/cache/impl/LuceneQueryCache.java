@@ -0,0 +1,152 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.cache.impl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.search.backend.lucene.cache.QueryCacheStatistics;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.LRUQueryCache;
+import org.apache.lucene.search.Query;
+
+/**
+ * The query cache built into the backend, shared by all indexes.
+ * <p>
+ * Cached sets of documents are evicted in least-recently-used order
+ * when either the maximum number of cached queries or the maximum RAM usage is reached.
+ * Unlike the default cache of {@link org.apache.lucene.search.IndexSearcher},
+ * this cache accepts segments of any size and never skips caching because the cached query is costly:
+ * which queries get cached is entirely decided by the caching policy,
+ * see {@link LuceneQueryCachingPolicy}.
+ * <p>
+ * Statistics are kept per index, based on the segments registered through {@link #register(String, IndexReader)}.
+ */
+public final class LuceneQueryCache extends LRUQueryCache {
+
+	private final Map<String, IndexStatistics> statisticsByIndexName = new ConcurrentHashMap<>();
+	private final Map<IndexReader.CacheKey, IndexStatistics> statisticsByCoreKey = new ConcurrentHashMap<>();
+
+	public LuceneQueryCache(int maxSize, long maxRamBytesUsed) {
+		super( maxSize, maxRamBytesUsed, leaf -> true, Float.POSITIVE_INFINITY );
+	}
+
+	/**
+	 * Attributes the segments of the given reader to the given index,
+	 * so that cache accesses on these segments are reflected in the statistics of that index.
+	 *
+	 * @param indexName The name of the index the reader belongs to.
+	 * @param reader A reader on that index.
+	 */
+	public void register(String indexName, IndexReader reader) {
+		IndexStatistics statistics = null;
+		for ( LeafReaderContext leaf : reader.leaves() ) {
+			IndexReader.CacheHelper cacheHelper = leaf.reader().getCoreCacheHelper();
+			if ( cacheHelper == null || statisticsByCoreKey.containsKey( cacheHelper.getKey() ) ) {
+				continue;
+			}
+			if ( statistics == null ) {
+				statistics = indexStatistics( indexName );
+			}
+			if ( statisticsByCoreKey.putIfAbsent( cacheHelper.getKey(), statistics ) == null ) {
+				cacheHelper.addClosedListener( this::onCoreClosed );
+			}
+		}
+	}
+
+	public QueryCacheStatistics statistics(String indexName) {
+		return indexStatistics( indexName );
+	}
+
+	@Override
+	protected void onHit(Object readerCoreKey, Query query) {
+		super.onHit( readerCoreKey, query );
+		IndexStatistics statistics = statisticsByCoreKey.get( readerCoreKey );
+		if ( statistics != null ) {
+			statistics.hitCount.increment();
+		}
+	}
+
+	@Override
+	protected void onMiss(Object readerCoreKey, Query query) {
+		super.onMiss( readerCoreKey, query );
+		IndexStatistics statistics = statisticsByCoreKey.get( readerCoreKey );
+		if ( statistics != null ) {
+			statistics.missCount.increment();
+		}
+	}
+
+	@Override
+	protected void onDocIdSetCache(Object readerCoreKey, long ramBytesUsed) {
+		super.onDocIdSetCache( readerCoreKey, ramBytesUsed );
+		IndexStatistics statistics = statisticsByCoreKey.get( readerCoreKey );
+		if ( statistics != null ) {
+			statistics.cacheCount.increment();
+			statistics.ramBytesUsed.add( ramBytesUsed );
+		}
+	}
+
+	@Override
+	protected void onDocIdSetEviction(Object readerCoreKey, int numEntries, long sumRamBytesUsed) {
+		super.onDocIdSetEviction( readerCoreKey, numEntries, sumRamBytesUsed );
+		IndexStatistics statistics = statisticsByCoreKey.get( readerCoreKey );
+		if ( statistics != null ) {
+			statistics.cacheCount.add( -numEntries );
+			statistics.ramBytesUsed.add( -sumRamBytesUsed );
+		}
+	}
+
+	@Override
+	protected void onClear() {
+		super.onClear();
+		for ( IndexStatistics statistics : statisticsByIndexName.values() ) {
+			statistics.cacheCount.reset();
+			statistics.ramBytesUsed.reset();
+		}
+	}
+
+	private IndexStatistics indexStatistics(String indexName) {
+		return statisticsByIndexName.computeIfAbsent( indexName, ignored -> new IndexStatistics() );
+	}
+
+	private void onCoreClosed(IndexReader.CacheKey coreKey) {
+		// Evict entries before forgetting about the segment,
+		// so that the eviction is still attributed to the right index.
+		clearCoreCacheKey( coreKey );
+		statisticsByCoreKey.remove( coreKey );
+	}
+
+	private static final class IndexStatistics implements QueryCacheStatistics {
+		private final LongAdder hitCount = new LongAdder();
+		private final LongAdder missCount = new LongAdder();
+		private final LongAdder cacheCount = new LongAdder();
+		private final LongAdder ramBytesUsed = new LongAdder();
+
+		@Override
+		public long hitCount() {
+			return hitCount.sum();
+		}
+
+		@Override
+		public long missCount() {
+			return missCount.sum();
+		}
+
+		@Override
+		public long cacheCount() {
+			return cacheCount.sum();
+		}
+
+		@Override
+		public long ramBytesUsed() {
+			return ramBytesUsed.sum();
+		}
+	}
+}
@@ -7,19 +7,28 @@
 package org.hibernate.search.backend.lucene.cache.impl;
 
 import java.util.Optional;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.QueryCache;
 import org.apache.lucene.search.QueryCachingPolicy;
 import org.apache.lucene.util.Version;
+import org.hibernate.search.backend.lucene.cache.QueryCacheStatistics;
 import org.hibernate.search.backend.lucene.cache.QueryCachingConfigurationContext;
 
 public class LuceneQueryCachingContext implements QueryCachingConfigurationContext {
 
+	private static final QueryCacheStatistics NO_STATISTICS = new NoQueryCacheStatistics();
+
 	private final Version luceneVersion;
+	private final LuceneQueryCache builtInCacheOrNull;
 	private QueryCache cache;
 	private QueryCachingPolicy policy;
 
-	public LuceneQueryCachingContext(Version luceneVersion) {
+	public LuceneQueryCachingContext(Version luceneVersion, LuceneQueryCache builtInCacheOrNull) {
 		this.luceneVersion = luceneVersion;
+		this.builtInCacheOrNull = builtInCacheOrNull;
+		this.cache = builtInCacheOrNull;
+		this.policy = new LuceneQueryCachingPolicy( IndexSearcher.getDefaultQueryCachingPolicy() );
 	}
 
 	@Override
@@ -38,11 +47,53 @@ public Optional<QueryCache> queryCache() {
 
 	@Override
 	public void queryCachingPolicy(QueryCachingPolicy policy) {
-		this.policy = policy;
+		// Wrap the policy so that cached filters (tenant filter, ...) are always cached.
+		this.policy = new LuceneQueryCachingPolicy( policy );
 	}
 
 	public Optional<QueryCachingPolicy> queryCachingPolicy() {
-		return Optional.ofNullable( policy );
+		return Optional.of( policy );
+	}
+
+	public void register(String indexName, IndexReader reader) {
+		if ( builtInCacheOrNull != null && cache == builtInCacheOrNull ) {
+			builtInCacheOrNull.register( indexName, reader );
+		}
+	}
+
+	public QueryCacheStatistics statistics(String indexName) {
+		if ( builtInCacheOrNull == null ) {
+			return NO_STATISTICS;
+		}
+		return builtInCacheOrNull.statistics( indexName );
+	}
+
+	public void clear() {
+		if ( builtInCacheOrNull != null ) {
+			builtInCacheOrNull.clear();
+		}
+	}
+
+	private static final class NoQueryCacheStatistics implements QueryCacheStatistics {
+		@Override
+		public long hitCount() {
+			return 0L;
+		}
+
+		@Override
+		public long missCount() {
+			return 0L;
+		}
+
+		@Override
+		public long cacheCount() {
+			return 0L;
+		}
+
+		@Override
+		public long ramBytesUsed() {
+			return 0L;
+		}
 	}
 
 }
@@ -0,0 +1,42 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.cache.impl;
+
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.CachedFilterQuery;
+
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryCachingPolicy;
+
+/**
+ * A caching policy that always caches {@link CachedFilterQuery cached filters},
+ * such as the tenant filter or filters explicitly marked as cached in the DSL,
+ * and delegates the decision to another policy for all other queries.
+ */
+final class LuceneQueryCachingPolicy implements QueryCachingPolicy {
+
+	private final QueryCachingPolicy delegate;
+
+	LuceneQueryCachingPolicy(QueryCachingPolicy delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public void onUse(Query query) {
+		if ( query instanceof CachedFilterQuery ) {
+			// No need to track usage: we'll always cache this query.
+			return;
+		}
+		delegate.onUse( query );
+	}
+
+	@Override
+	public boolean shouldCache(Query query) throws IOException {
+		return query instanceof CachedFilterQuery || delegate.shouldCache( query );
+	}
+}
@@ -9,6 +9,7 @@
 import org.hibernate.search.backend.lucene.analysis.LuceneAnalysisConfigurer;
 import org.hibernate.search.backend.lucene.cache.QueryCachingConfigurer;
 import org.hibernate.search.backend.lucene.multitenancy.MultiTenancyStrategyName;
+import org.hibernate.search.backend.lucene.multitenancy.TenantAwareIdTermMode;
 
 import org.apache.lucene.util.Version;
 
@@ -54,6 +55,21 @@ private LuceneBackendSettings() {
 	 */
 	public static final String MULTI_TENANCY_STRATEGY = "multi_tenancy.strategy";
 
+	/**
+	 * How documents are identified when updating or deleting them
+	 * with the {@link MultiTenancyStrategyName#DISCRIMINATOR discriminator} multi-tenancy strategy.
+	 * <p>
+	 * Expects a {@link TenantAwareIdTermMode} value, or a String representation of such value.
+	 * <p>
+	 * Ignored when multi-tenancy is disabled.
+	 * <p>
+	 * Defaults to {@link Defaults#MULTI_TENANCY_TENANT_AWARE_ID_TERM}.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Multi-tenancy",
+	 * for more information about this setting and how to migrate existing indexes.
+	 */
+	public static final String MULTI_TENANCY_TENANT_AWARE_ID_TERM = "multi_tenancy.tenant_aware_id_term";
+
 	/**
 	 * The analysis configurer to use.
 	 * <p>
@@ -78,6 +94,35 @@ private LuceneBackendSettings() {
 	 */
 	public static final String QUERY_CACHING_CONFIGURER = "query.caching.configurer";
 
+	/**
+	 * The maximum number of queries held in the query cache built into the backend.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_CACHING_MAX_SIZE}.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Low-level hit caching",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String QUERY_CACHING_MAX_SIZE = "query.caching.max_size";
+
+	/**
+	 * The maximum amount of memory used by the query cache built into the backend, shared by all indexes.
+	 * <p>
+	 * Expects a positive or zero Integer value in megabytes,
+	 * or a string that can be parsed to such Integer value.
+	 * <p>
+	 * When set to {@code 0}, the built-in query cache is disabled
+	 * and Lucene's default query cache is used instead.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_CACHING_MAX_RAM_SIZE}.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Low-level hit caching",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String QUERY_CACHING_MAX_RAM_SIZE = "query.caching.max_ram_size";
+
 	/**
 	 * The size of the thread pool assigned to the backend.
 	 * <p>
@@ -91,6 +136,21 @@ private LuceneBackendSettings() {
 	 */
 	public static final String THREAD_POOL_SIZE = "thread_pool.size";
 
+	/**
+	 * The size of the thread pool used to execute a single search query over multiple index segments in parallel.
+	 * <p>
+	 * Expects a positive or zero integer value,
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * When set to {@code 0}, search queries are executed on the calling thread, one segment after the other.
+	 * <p>
+	 * Defaults to {@link Defaults#THREAD_POOL_READ_SIZE}.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Threads",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String THREAD_POOL_READ_SIZE = "thread_pool.read.size";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -100,6 +160,9 @@ private Defaults() {
 		}
 
 		public static final Version LUCENE_VERSION = Version.LATEST;
+		public static final int THREAD_POOL_READ_SIZE = 0;
+		public static final int QUERY_CACHING_MAX_SIZE = 1000;
+		public static final int QUERY_CACHING_MAX_RAM_SIZE = 32;
 
 		/**
 		 * @deprecated The default for this property is now dynamic and depends on the mapper.
@@ -108,5 +171,6 @@ private Defaults() {
 		 */
 		@Deprecated
 		public static final MultiTenancyStrategyName MULTI_TENANCY_STRATEGY = MultiTenancyStrategyName.NONE;
+		public static final TenantAwareIdTermMode MULTI_TENANCY_TENANT_AWARE_ID_TERM = TenantAwareIdTermMode.DISABLED;
 	}
 }
@@ -96,7 +96,9 @@ private LuceneIndexSettings() {
 	/**
 	 * How much time may pass after an index change until the change is committed.
 	 * <p>
-	 * Only available for the "near-real-time" I/O strategy.
+	 * Only available for the "near-real-time" and "adaptive" I/O strategies.
+	 * With the "adaptive" I/O strategy, this is the interval applied when the index is quiet;
+	 * see {@link #IO_ADAPTIVE_COMMIT_INTERVAL_MAX}.
 	 * <p>
 	 * This effectively defines how long changes may be in an "unsafe" state,
 	 * where a crash or power loss will result in data loss. For example:
@@ -125,7 +127,9 @@ private LuceneIndexSettings() {
 	 * How much time may pass after an index write
 	 * until the index reader is considered stale and re-created.
 	 * <p>
-	 * Only available for the "near-real-time" I/O strategy.
+	 * Only available for the "near-real-time" and "adaptive" I/O strategies.
+	 * With the "adaptive" I/O strategy, this is the interval applied when the index is quiet;
+	 * see {@link #IO_ADAPTIVE_REFRESH_INTERVAL_MAX}.
 	 * <p>
 	 * This effectively defines how out-of-date search query results may be. For example:
 	 * <ul>
@@ -146,6 +150,94 @@ private LuceneIndexSettings() {
 	 */
 	public static final String IO_REFRESH_INTERVAL = IO_PREFIX + IORadicals.REFRESH_INTERVAL;
 
+	/**
+	 * Whether index readers should be refreshed in the background, instead of in query threads.
+	 * <p>
+	 * Only available for the "near-real-time" and "adaptive" I/O strategies,
+	 * and only has an effect when the refresh interval is positive (see {@link #IO_REFRESH_INTERVAL}).
+	 * <p>
+	 * When enabled, index readers are refreshed once per refresh interval by a background task,
+	 * which also loads doc values and norms of new segments before making them available to queries,
+	 * so that query threads never wait for a refresh, except when a refresh is forced
+	 * (for example with the "searchable" automatic indexing synchronization strategy in the ORM mapper).
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_BACKGROUND_REFRESH}.
+	 */
+	public static final String IO_BACKGROUND_REFRESH = IO_PREFIX + IORadicals.BACKGROUND_REFRESH;
+
+	/**
+	 * Whether indexing works should be written to a write-ahead log before being applied to the index.
+	 * <p>
+	 * When enabled, each batch of indexing works is appended to a log stored in the index directory,
+	 * and the log is synced to disk before the works are considered complete.
+	 * There is one sync per batch and per indexing queue (see {@link #INDEXING_QUEUE_COUNT}):
+	 * there is no time-based grouping across batches,
+	 * but batches get larger, and syncs less frequent, as the indexing load increases.
+	 * Works that were logged but not committed to the index yet,
+	 * for example because the application crashed, are applied again when the index starts.
+	 * This allows a large commit interval (see {@link #IO_COMMIT_INTERVAL})
+	 * without risking the loss of completed indexing works,
+	 * and turns forced commits (see {@code DocumentCommitStrategy.FORCE}) into no-ops
+	 * for works that could be logged.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_WRITE_AHEAD_LOG_ENABLED}.
+	 */
+	public static final String IO_WRITE_AHEAD_LOG_ENABLED = IO_PREFIX + IORadicals.WRITE_AHEAD_LOG_ENABLED;
+
+	/**
+	 * The prefix for property keys related to the "adaptive" I/O strategy.
+	 */
+	public static final String IO_ADAPTIVE_PREFIX = IO_PREFIX + "adaptive.";
+
+	/**
+	 * The maximum commit interval, applied when the index is under heavy write load.
+	 * <p>
+	 * Only available for the "adaptive" I/O strategy.
+	 * <p>
+	 * The commit interval grows linearly from {@link #IO_COMMIT_INTERVAL} to this value
+	 * as the write rate grows from 0 to {@link #IO_ADAPTIVE_WRITE_RATE_THRESHOLD}.
+	 * <p>
+	 * Expects a positive Integer value in milliseconds, such as {@code 10000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_ADAPTIVE_COMMIT_INTERVAL_MAX}.
+	 */
+	public static final String IO_ADAPTIVE_COMMIT_INTERVAL_MAX = IO_ADAPTIVE_PREFIX + AdaptiveRadicals.COMMIT_INTERVAL_MAX;
+
+	/**
+	 * The maximum refresh interval, applied when the index is under heavy write load.
+	 * <p>
+	 * Only available for the "adaptive" I/O strategy.
+	 * <p>
+	 * The refresh interval grows linearly from {@link #IO_REFRESH_INTERVAL} to this value
+	 * as the write rate grows from 0 to {@link #IO_ADAPTIVE_WRITE_RATE_THRESHOLD}.
+	 * <p>
+	 * Expects a positive Integer value in milliseconds, such as {@code 1000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_ADAPTIVE_REFRESH_INTERVAL_MAX}.
+	 */
+	public static final String IO_ADAPTIVE_REFRESH_INTERVAL_MAX = IO_ADAPTIVE_PREFIX + AdaptiveRadicals.REFRESH_INTERVAL_MAX;
+
+	/**
+	 * The write rate, in document changes per second and per shard,
+	 * at or above which commit and refresh intervals reach their maximum.
+	 * <p>
+	 * Only available for the "adaptive" I/O strategy.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 1000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_ADAPTIVE_WRITE_RATE_THRESHOLD}.
+	 */
+	public static final String IO_ADAPTIVE_WRITE_RATE_THRESHOLD = IO_ADAPTIVE_PREFIX + AdaptiveRadicals.WRITE_RATE_THRESHOLD;
+
 	/**
 	 * The prefix for property keys related to the index writer.
 	 */
@@ -344,6 +436,23 @@ private LuceneIndexSettings() {
 	 */
 	public static final String INDEXING_QUEUE_SIZE = INDEXING_PREFIX + IndexingRadicals.QUEUE_SIZE;
 
+	/**
+	 * The maximum number of threads applying the works of a single batch of an indexing queue to the index.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * When set to {@code 1}, works of each queue are applied one after the other.
+	 * Higher values allow a single queue to use multiple threads from the backend's thread pool,
+	 * while still applying works on the same document in the order they were submitted.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_BATCH_PARALLELISM}.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_BATCH_PARALLELISM = INDEXING_PREFIX + IndexingRadicals.BATCH_PARALLELISM;
+
 	/**
 	 * Builds a configuration property key for the given shard of all indexes of the default backend,
 	 * with the given radical.
@@ -434,6 +543,21 @@ private IORadicals() {
 		public static final String STRATEGY = "strategy";
 		public static final String COMMIT_INTERVAL = "commit_interval";
 		public static final String REFRESH_INTERVAL = "refresh_interval";
+		public static final String BACKGROUND_REFRESH = "background_refresh";
+		public static final String WRITE_AHEAD_LOG_ENABLED = "write_ahead_log.enabled";
+	}
+
+	/**
+	 * Configuration property keys for the adaptive I/O strategy, without the {@link #IO_ADAPTIVE_PREFIX prefix}.
+	 */
+	public static final class AdaptiveRadicals {
+
+		private AdaptiveRadicals() {
+		}
+
+		public static final String COMMIT_INTERVAL_MAX = "commit_interval_max";
+		public static final String REFRESH_INTERVAL_MAX = "refresh_interval_max";
+		public static final String WRITE_RATE_THRESHOLD = "write_rate_threshold";
 	}
 
 	/**
@@ -490,6 +614,7 @@ private IndexingRadicals() {
 
 		public static final String QUEUE_COUNT = "queue_count";
 		public static final String QUEUE_SIZE = "queue_size";
+		public static final String BATCH_PARALLELISM = "batch_parallelism";
 	}
 
 	/**
@@ -508,7 +633,13 @@ private Defaults() {
 		public static final IOStrategyName IO_STRATEGY = IOStrategyName.NEAR_REAL_TIME;
 		public static final int IO_COMMIT_INTERVAL = 1000;
 		public static final int IO_REFRESH_INTERVAL = 0;
+		public static final boolean IO_BACKGROUND_REFRESH = false;
+		public static final boolean IO_WRITE_AHEAD_LOG_ENABLED = false;
+		public static final int IO_ADAPTIVE_COMMIT_INTERVAL_MAX = 10_000;
+		public static final int IO_ADAPTIVE_REFRESH_INTERVAL_MAX = 1000;
+		public static final int IO_ADAPTIVE_WRITE_RATE_THRESHOLD = 1000;
 		public static final int INDEXING_QUEUE_COUNT = 10;
 		public static final int INDEXING_QUEUE_SIZE = 1000;
+		public static final int INDEXING_BATCH_PARALLELISM = 1;
 	}
 }
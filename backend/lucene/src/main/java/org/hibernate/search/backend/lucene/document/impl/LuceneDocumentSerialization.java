@@ -0,0 +1,243 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.document.impl;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.search.util.common.AssertionFailure;
+
+import org.apache.lucene.document.BinaryDocValuesField;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.DoublePoint;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.FieldType;
+import org.apache.lucene.document.FloatPoint;
+import org.apache.lucene.document.IntPoint;
+import org.apache.lucene.document.LatLonDocValuesField;
+import org.apache.lucene.document.LatLonPoint;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DocValuesType;
+import org.apache.lucene.index.IndexOptions;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.IndexableFieldType;
+import org.apache.lucene.store.DataInput;
+import org.apache.lucene.store.DataOutput;
+import org.apache.lucene.util.BytesRef;
+
+/**
+ * Binary serialization of Lucene documents, used for the write-ahead log.
+ * <p>
+ * Only fields whose indexing behavior depends exclusively on their name, type and value can be serialized:
+ * fields whose class overrides indexing behavior (custom token streams in particular) cannot.
+ */
+final class LuceneDocumentSerialization {
+
+	// Lucene classes that do not alter indexing behavior compared to Field.
+	private static final Set<Class<?>> SERIALIZABLE_FIELD_CLASSES = new HashSet<>( Arrays.asList(
+			Field.class, StringField.class, TextField.class, StoredField.class,
+			IntPoint.class, LongPoint.class, FloatPoint.class, DoublePoint.class,
+			LatLonPoint.class, LatLonDocValuesField.class,
+			NumericDocValuesField.class, SortedNumericDocValuesField.class,
+			SortedDocValuesField.class, SortedSetDocValuesField.class, BinaryDocValuesField.class
+	) );
+
+	private static final byte FLAG_STORED = 1;
+	private static final byte FLAG_TOKENIZED = 1 << 1;
+	private static final byte FLAG_TERM_VECTORS = 1 << 2;
+	private static final byte FLAG_TERM_VECTOR_OFFSETS = 1 << 3;
+	private static final byte FLAG_TERM_VECTOR_POSITIONS = 1 << 4;
+	private static final byte FLAG_TERM_VECTOR_PAYLOADS = 1 << 5;
+	private static final byte FLAG_OMIT_NORMS = 1 << 6;
+
+	private static final byte VALUE_STRING = 0;
+	private static final byte VALUE_BYTES = 1;
+	private static final byte VALUE_INT = 2;
+	private static final byte VALUE_LONG = 3;
+	private static final byte VALUE_FLOAT = 4;
+	private static final byte VALUE_DOUBLE = 5;
+
+	private LuceneDocumentSerialization() {
+	}
+
+	static boolean isSerializable(Document document) {
+		for ( IndexableField field : document ) {
+			if ( !SERIALIZABLE_FIELD_CLASSES.contains( field.getClass() )
+					|| ( (Field) field ).tokenStreamValue() != null ) {
+				return false;
+			}
+			IndexableFieldType type = field.fieldType();
+			Map<String, String> attributes = type.getAttributes();
+			if ( attributes != null && !attributes.isEmpty() ) {
+				return false;
+			}
+			if ( valueType( field ) < 0 ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	static void write(DataOutput output, Document document) throws IOException {
+		output.writeVInt( document.getFields().size() );
+		for ( IndexableField field : document ) {
+			output.writeString( field.name() );
+			writeType( output, field.fieldType() );
+			writeValue( output, field );
+		}
+	}
+
+	static Document read(DataInput input) throws IOException {
+		Document document = new Document();
+		int fieldCount = input.readVInt();
+		for ( int i = 0; i < fieldCount; i++ ) {
+			String name = input.readString();
+			FieldType type = readType( input );
+			document.add( new DeserializedField( name, type, readValue( input ) ) );
+		}
+		return document;
+	}
+
+	private static void writeType(DataOutput output, IndexableFieldType type) throws IOException {
+		byte flags = 0;
+		flags |= type.stored() ? FLAG_STORED : 0;
+		flags |= type.tokenized() ? FLAG_TOKENIZED : 0;
+		flags |= type.storeTermVectors() ? FLAG_TERM_VECTORS : 0;
+		flags |= type.storeTermVectorOffsets() ? FLAG_TERM_VECTOR_OFFSETS : 0;
+		flags |= type.storeTermVectorPositions() ? FLAG_TERM_VECTOR_POSITIONS : 0;
+		flags |= type.storeTermVectorPayloads() ? FLAG_TERM_VECTOR_PAYLOADS : 0;
+		flags |= type.omitNorms() ? FLAG_OMIT_NORMS : 0;
+		output.writeByte( flags );
+		output.writeString( type.indexOptions().name() );
+		output.writeString( type.docValuesType().name() );
+		output.writeVInt( type.pointDimensionCount() );
+		output.writeVInt( type.pointIndexDimensionCount() );
+		output.writeVInt( type.pointNumBytes() );
+	}
+
+	private static FieldType readType(DataInput input) throws IOException {
+		byte flags = input.readByte();
+		FieldType type = new FieldType();
+		type.setStored( ( flags & FLAG_STORED ) != 0 );
+		type.setTokenized( ( flags & FLAG_TOKENIZED ) != 0 );
+		type.setStoreTermVectors( ( flags & FLAG_TERM_VECTORS ) != 0 );
+		type.setStoreTermVectorOffsets( ( flags & FLAG_TERM_VECTOR_OFFSETS ) != 0 );
+		type.setStoreTermVectorPositions( ( flags & FLAG_TERM_VECTOR_POSITIONS ) != 0 );
+		type.setStoreTermVectorPayloads( ( flags & FLAG_TERM_VECTOR_PAYLOADS ) != 0 );
+		type.setOmitNorms( ( flags & FLAG_OMIT_NORMS ) != 0 );
+		type.setIndexOptions( IndexOptions.valueOf( input.readString() ) );
+		type.setDocValuesType( DocValuesType.valueOf( input.readString() ) );
+		int pointDimensionCount = input.readVInt();
+		int pointIndexDimensionCount = input.readVInt();
+		int pointNumBytes = input.readVInt();
+		if ( pointDimensionCount != 0 ) {
+			type.setDimensions( pointDimensionCount, pointIndexDimensionCount, pointNumBytes );
+		}
+		type.freeze();
+		return type;
+	}
+
+	private static byte valueType(IndexableField field) {
+		// Check numbers first: Field#stringValue() also returns numbers, as strings.
+		Number number = field.numericValue();
+		if ( number != null ) {
+			if ( number instanceof Integer ) {
+				return VALUE_INT;
+			}
+			else if ( number instanceof Long ) {
+				return VALUE_LONG;
+			}
+			else if ( number instanceof Float ) {
+				return VALUE_FLOAT;
+			}
+			else if ( number instanceof Double ) {
+				return VALUE_DOUBLE;
+			}
+			else {
+				return -1;
+			}
+		}
+		else if ( field.binaryValue() != null ) {
+			return VALUE_BYTES;
+		}
+		else if ( field.stringValue() != null ) {
+			return VALUE_STRING;
+		}
+		else {
+			// Reader values in particular
+			return -1;
+		}
+	}
+
+	private static void writeValue(DataOutput output, IndexableField field) throws IOException {
+		byte valueType = valueType( field );
+		output.writeByte( valueType );
+		switch ( valueType ) {
+			case VALUE_STRING:
+				output.writeString( field.stringValue() );
+				break;
+			case VALUE_BYTES:
+				BytesRef bytes = field.binaryValue();
+				output.writeVInt( bytes.length );
+				output.writeBytes( bytes.bytes, bytes.offset, bytes.length );
+				break;
+			case VALUE_INT:
+				output.writeZInt( field.numericValue().intValue() );
+				break;
+			case VALUE_LONG:
+				output.writeZLong( field.numericValue().longValue() );
+				break;
+			case VALUE_FLOAT:
+				output.writeInt( Float.floatToIntBits( field.numericValue().floatValue() ) );
+				break;
+			case VALUE_DOUBLE:
+				output.writeLong( Double.doubleToLongBits( field.numericValue().doubleValue() ) );
+				break;
+			default:
+				throw new AssertionFailure( "Unserializable value for field " + field );
+		}
+	}
+
+	private static Object readValue(DataInput input) throws IOException {
+		byte valueType = input.readByte();
+		switch ( valueType ) {
+			case VALUE_STRING:
+				return input.readString();
+			case VALUE_BYTES:
+				byte[] bytes = new byte[input.readVInt()];
+				input.readBytes( bytes, 0, bytes.length );
+				return new BytesRef( bytes );
+			case VALUE_INT:
+				return input.readZInt();
+			case VALUE_LONG:
+				return input.readZLong();
+			case VALUE_FLOAT:
+				return Float.intBitsToFloat( input.readInt() );
+			case VALUE_DOUBLE:
+				return Double.longBitsToDouble( input.readLong() );
+			default:
+				throw new AssertionFailure( "Unknown value type: " + valueType );
+		}
+	}
+
+	private static final class DeserializedField extends Field {
+		private DeserializedField(String name, IndexableFieldType type, Object value) {
+			super( name, type );
+			this.fieldsData = value;
+		}
+	}
+}
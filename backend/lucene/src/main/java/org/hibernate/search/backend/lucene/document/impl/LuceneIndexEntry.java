@@ -6,10 +6,14 @@
  */
 package org.hibernate.search.backend.lucene.document.impl;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.store.DataInput;
+import org.apache.lucene.store.DataOutput;
 
 
 public class LuceneIndexEntry implements Iterable<Document> {
@@ -31,6 +35,39 @@ public Iterator<Document> iterator() {
 		return documents.iterator();
 	}
 
+	/**
+	 * @return {@code true} if this entry can be written with {@link #writeTo(DataOutput)},
+	 * {@code false} if it contains fields that cannot be serialized.
+	 */
+	public boolean isSerializable() {
+		for ( Document document : documents ) {
+			if ( !LuceneDocumentSerialization.isSerializable( document ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public void writeTo(DataOutput output) throws IOException {
+		output.writeString( indexName );
+		output.writeString( id );
+		output.writeVInt( documents.size() );
+		for ( Document document : documents ) {
+			LuceneDocumentSerialization.write( output, document );
+		}
+	}
+
+	public static LuceneIndexEntry readFrom(DataInput input) throws IOException {
+		String indexName = input.readString();
+		String id = input.readString();
+		int documentCount = input.readVInt();
+		List<Document> documents = new ArrayList<>( documentCount );
+		for ( int i = 0; i < documentCount; i++ ) {
+			documents.add( LuceneDocumentSerialization.read( input ) );
+		}
+		return new LuceneIndexEntry( indexName, id, documents );
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder sb = new StringBuilder( getClass().getSimpleName() )
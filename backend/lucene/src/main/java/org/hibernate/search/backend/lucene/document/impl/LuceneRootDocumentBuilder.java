@@ -40,7 +40,7 @@ void ensureDynamicValueDetectedByExistsPredicateOnObjectField() {
 	private List<Document> assembleDocuments(MultiTenancyStrategy multiTenancyStrategy,
 			String tenantId, String id, String routingKey) {
 		// We own the document content, so we finalize it ourselves.
-		Document document = documentContent.finalizeDocument( multiTenancyStrategy, tenantId, routingKey );
+		Document document = documentContent.finalizeDocument( multiTenancyStrategy, tenantId, id, routingKey );
 		document.add( MetadataFields.searchableMetadataField( MetadataFields.typeFieldName(), MetadataFields.TYPE_MAIN_DOCUMENT ) );
 		document.add( MetadataFields.searchableRetrievableMetadataField( MetadataFields.idFieldName(), id ) );
 
@@ -20,6 +20,7 @@
 import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.multitenancy.MultiTenancyStrategyName;
+import org.hibernate.search.backend.lucene.multitenancy.TenantAwareIdTermMode;
 import org.hibernate.search.backend.lucene.multitenancy.impl.DiscriminatorMultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.multitenancy.impl.NoMultiTenancyStrategy;
@@ -42,6 +43,7 @@
 import org.apache.lucene.util.Version;
 import org.hibernate.search.backend.lucene.cache.QueryCachingConfigurationContext;
 import org.hibernate.search.backend.lucene.cache.QueryCachingConfigurer;
+import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryCache;
 import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryCachingContext;
 
 public class LuceneBackendFactory implements BackendFactory {
@@ -58,6 +60,12 @@ public class LuceneBackendFactory implements BackendFactory {
 					.as( MultiTenancyStrategyName.class, MultiTenancyStrategyName::of )
 					.build();
 
+	private static final ConfigurationProperty<TenantAwareIdTermMode> MULTI_TENANCY_TENANT_AWARE_ID_TERM =
+			ConfigurationProperty.forKey( LuceneBackendSettings.MULTI_TENANCY_TENANT_AWARE_ID_TERM )
+					.as( TenantAwareIdTermMode.class, TenantAwareIdTermMode::of )
+					.withDefault( LuceneBackendSettings.Defaults.MULTI_TENANCY_TENANT_AWARE_ID_TERM )
+					.build();
+
 	private static final OptionalConfigurationProperty<List<BeanReference<? extends LuceneAnalysisConfigurer>>> ANALYSIS_CONFIGURER =
 			ConfigurationProperty.forKey( LuceneBackendSettings.ANALYSIS_CONFIGURER )
 					.asBeanReference( LuceneAnalysisConfigurer.class )
@@ -70,6 +78,18 @@ public class LuceneBackendFactory implements BackendFactory {
 					.multivalued()
 					.build();
 
+	private static final ConfigurationProperty<Integer> QUERY_CACHING_MAX_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_CACHING_MAX_SIZE )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneBackendSettings.Defaults.QUERY_CACHING_MAX_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> QUERY_CACHING_MAX_RAM_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_CACHING_MAX_RAM_SIZE )
+					.asIntegerPositiveOrZero()
+					.withDefault( LuceneBackendSettings.Defaults.QUERY_CACHING_MAX_RAM_SIZE )
+					.build();
+
 	@Override
 	public BackendImplementor create(EventContext eventContext, BackendBuildContext buildContext,
 			ConfigurationPropertySource propertySource) {
@@ -87,7 +107,7 @@ public BackendImplementor create(EventContext eventContext, BackendBuildContext
 			);
 
 			LuceneQueryCachingContext cachingContext
-					= new LuceneQueryCachingContext( luceneVersion );
+					= new LuceneQueryCachingContext( luceneVersion, createBuiltInQueryCacheOrNull( propertySource ) );
 
 			configureQueryCache( buildContext, propertySource, cachingContext );
 
@@ -154,7 +174,7 @@ private MultiTenancyStrategy getMultiTenancyStrategy(ConfigurationPropertySource
 			case NONE:
 				return new NoMultiTenancyStrategy();
 			case DISCRIMINATOR:
-				return new DiscriminatorMultiTenancyStrategy();
+				return new DiscriminatorMultiTenancyStrategy( MULTI_TENANCY_TENANT_AWARE_ID_TERM.get( propertySource ) );
 			default:
 				throw new AssertionFailure( String.format(
 						Locale.ROOT, "Unsupported multi-tenancy strategy '%1$s'",
@@ -193,6 +213,15 @@ private LuceneAnalysisDefinitionRegistry getAnalysisDefinitionRegistry(
 		}
 	}
 
+	private LuceneQueryCache createBuiltInQueryCacheOrNull(ConfigurationPropertySource propertySource) {
+		int maxRamSizeInMegabytes = QUERY_CACHING_MAX_RAM_SIZE.get( propertySource );
+		if ( maxRamSizeInMegabytes == 0 ) {
+			return null;
+		}
+		return new LuceneQueryCache( QUERY_CACHING_MAX_SIZE.get( propertySource ),
+				maxRamSizeInMegabytes * 1024L * 1024L );
+	}
+
 	private void configureQueryCache(
 			BackendBuildContext buildContext, ConfigurationPropertySource propertySource,
 			QueryCachingConfigurationContext context) {
@@ -9,6 +9,7 @@
 import java.util.concurrent.CompletionStage;
 
 import org.hibernate.search.backend.lucene.LuceneBackend;
+import org.hibernate.search.backend.lucene.cache.QueryCacheStatistics;
 import org.hibernate.search.engine.backend.index.IndexManager;
 
 import org.apache.lucene.analysis.Analyzer;
@@ -42,4 +43,10 @@ public interface LuceneIndexManager extends IndexManager {
 	 */
 	CompletionStage<Long> computeSizeInBytesAsync();
 
+	/**
+	 * @return Statistics about the use of the query cache built into the backend for this index.
+	 * See {@link QueryCacheStatistics} for details.
+	 */
+	QueryCacheStatistics queryCacheStatistics();
+
 }
@@ -10,16 +10,19 @@
 
 import org.hibernate.search.backend.lucene.LuceneBackend;
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
+import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryCachingContext;
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntryFactory;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.index.IOStrategyName;
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.AdaptiveIOStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.DebugIOStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IOStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessorImpl;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.NearRealTimeIOStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.WriteAheadLog;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneBatchedWorkProcessor;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestratorImpl;
@@ -65,6 +68,12 @@ public class IndexManagerBackendContext implements WorkExecutionBackendContext,
 					.withDefault( LuceneIndexSettings.Defaults.IO_STRATEGY )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> IO_WRITE_AHEAD_LOG_ENABLED =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_WRITE_AHEAD_LOG_ENABLED )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.IO_WRITE_AHEAD_LOG_ENABLED )
+					.build();
+
 	private final LuceneBackend backendAPI;
 	private final EventContext eventContext;
 
@@ -74,6 +83,7 @@ public class IndexManagerBackendContext implements WorkExecutionBackendContext,
 	private final MultiTenancyStrategy multiTenancyStrategy;
 	private final TimingSource timingSource;
 	private final LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry;
+	private final LuceneQueryCachingContext cachingContext;
 	private final FailureHandler failureHandler;
 	private final LuceneSyncWorkOrchestrator readOrchestrator;
 
@@ -85,6 +95,7 @@ public IndexManagerBackendContext(LuceneBackend backendAPI,
 			MultiTenancyStrategy multiTenancyStrategy,
 			TimingSource timingSource,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
+			LuceneQueryCachingContext cachingContext,
 			FailureHandler failureHandler,
 			LuceneSyncWorkOrchestrator readOrchestrator) {
 		this.backendAPI = backendAPI;
@@ -94,6 +105,7 @@ public IndexManagerBackendContext(LuceneBackend backendAPI,
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.timingSource = timingSource;
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
+		this.cachingContext = cachingContext;
 		this.workFactory = workFactory;
 		this.failureHandler = failureHandler;
 		this.readOrchestrator = readOrchestrator;
@@ -173,6 +185,10 @@ LuceneBackend toAPI() {
 		return backendAPI;
 	}
 
+	LuceneQueryCachingContext getCachingContext() {
+		return cachingContext;
+	}
+
 	EventContext getEventContext() {
 		return eventContext;
 	}
@@ -185,6 +201,8 @@ IOStrategy createIOStrategy(ConfigurationPropertySource propertySource) {
 		switch ( IO_STRATEGY.get( propertySource ) ) {
 			case DEBUG:
 				return DebugIOStrategy.create( threads, failureHandler );
+			case ADAPTIVE:
+				return AdaptiveIOStrategy.create( propertySource, timingSource, threads, failureHandler );
 			case NEAR_REAL_TIME:
 			default:
 				return NearRealTimeIOStrategy.create( propertySource, timingSource, threads, failureHandler );
@@ -202,8 +220,11 @@ IndexAccessorImpl createIndexAccessor(LuceneIndexModel model, EventContext shard
 		IndexWriterConfigSource writerConfigSource = IndexWriterConfigSource.create(
 				similarity, model.getIndexingAnalyzer(), propertySource, shardEventContext
 		);
+		WriteAheadLog writeAheadLog = IO_WRITE_AHEAD_LOG_ENABLED.get( propertySource )
+				? new WriteAheadLog( shardEventContext, directoryHolder )
+				: null;
 		return ioStrategy.createIndexAccessor(
-				indexName, shardEventContext, directoryHolder, writerConfigSource
+				indexName, shardEventContext, directoryHolder, writerConfigSource, writeAheadLog
 		);
 	}
 
@@ -222,7 +243,7 @@ LuceneSerialWorkOrchestratorImpl createIndexingOrchestrator(EventContext eventCo
 		return new LuceneSerialWorkOrchestratorImpl(
 				"Lucene indexing orchestrator for " + eventContext.render(),
 				new LuceneBatchedWorkProcessor(
-						eventContext, indexAccessor
+						eventContext, indexAccessor, indexAccessor.getWriteAheadLogOrNull(), workFactory
 				),
 				threads,
 				failureHandler
@@ -13,6 +13,7 @@
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.LuceneBackend;
+import org.hibernate.search.backend.lucene.cache.QueryCacheStatistics;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntryFactory;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
 import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
@@ -210,6 +211,11 @@ public CompletableFuture<Long> computeSizeInBytesAsync() {
 		return schemaManager.computeSizeInBytes();
 	}
 
+	@Override
+	public QueryCacheStatistics queryCacheStatistics() {
+		return backendContext.getCachingContext().statistics( indexName );
+	}
+
 	@Override
 	@SuppressWarnings("unchecked") // Checked using reflection
 	public <T> T unwrap(Class<T> clazz) {
@@ -18,6 +18,7 @@
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryCachingContext;
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
 import org.hibernate.search.backend.lucene.index.spi.ShardingStrategy;
@@ -34,6 +35,8 @@
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.impl.Closer;
 
+import org.apache.lucene.index.DirectoryReader;
+
 class ShardHolder implements ReadIndexManagerContext, WorkExecutionIndexManagerContext,
 		SchemaManagementIndexManagerContext {
 
@@ -133,10 +136,14 @@ void stop() {
 
 	@Override
 	public void openIndexReaders(Set<String> routingKeys, DirectoryReaderCollector readerCollector) throws IOException {
+		String indexName = model.hibernateSearchName();
 		String mappedTypeName = model.mappedTypeName();
+		LuceneQueryCachingContext cachingContext = backendContext.getCachingContext();
 		Collection<Shard> enabledShards = toShards( routingKeys );
 		for ( Shard shard : enabledShards ) {
-			readerCollector.collect( mappedTypeName, shard.openReader() );
+			DirectoryReader reader = shard.openReader();
+			readerCollector.collect( mappedTypeName, reader );
+			cachingContext.register( indexName, reader );
 		}
 	}
 
@@ -609,4 +609,65 @@ SearchException invalidSingleValuedProjectionOnValueFieldInMultiValuedObjectFiel
 			value = "Unable to start index: %1$s")
 	SearchException unableToStartShard(String causeMessage, @Cause Exception cause);
 
+	@Message(id = ID_OFFSET + 155,
+			value = "Unable to refresh the index reader in the background: %1$s")
+	SearchException unableToRefreshIndexReaderInBackground(String causeMessage,
+			@Param EventContext context, @Cause Throwable cause);
+
+	@Message(id = ID_OFFSET + 156,
+			value = "Invalid search cursor: '%1$s'."
+					+ " A search cursor can only be used with queries targeting the Lucene backend"
+					+ " and defining the same sort as the query the cursor was obtained from.")
+	SearchException invalidSearchCursor(Object cursor);
+
+	@Message(id = ID_OFFSET + 157,
+			value = "Unable to create a search cursor: sort value '%1$s' is not serializable.")
+	SearchException unableToCreateSearchCursorForNonSerializableSortValue(Object sortValue);
+
+	@Message(id = ID_OFFSET + 158,
+			value = "Invalid tenant-aware ID term mode: '%1$s'. Valid modes are: %2$s.")
+	SearchException invalidTenantAwareIdTermMode(String invalidRepresentation, List<String> validRepresentations);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET + 159,
+			value = "Unable to write indexing works to the write-ahead log: %1$s"
+					+ " These works will be committed to the index as soon as they are applied instead. %2$s")
+	void unableToWriteToWriteAheadLog(String causeMessage,
+			@FormatWith(EventContextFormatter.class) EventContext context, @Cause Throwable cause);
+
+	@Message(id = ID_OFFSET + 160,
+			value = "Unable to replay the write-ahead log: %1$s")
+	SearchException unableToReplayWriteAheadLog(String causeMessage,
+			@Param EventContext context, @Cause Throwable cause);
+
+	@LogMessage(level = INFO)
+	@Message(id = ID_OFFSET + 161,
+			value = "Replaying %1$d file(s) from the write-ahead log. %2$s")
+	void replayingWriteAheadLog(int fileCount, @FormatWith(EventContextFormatter.class) EventContext context);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET + 162,
+			value = "Ignoring incomplete or corrupt write-ahead log file '%1$s': %2$s"
+					+ " This file was not fully synced to disk, so none of its works were reported as complete. %3$s")
+	void ignoringCorruptWriteAheadLogFile(String fileName, String causeMessage,
+			@FormatWith(EventContextFormatter.class) EventContext context, @Cause Throwable cause);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET + 163,
+			value = "Unable to delete write-ahead log file '%1$s': %2$s"
+					+ " Deletion will be attempted again after the next commit. %3$s")
+	void unableToDeleteWriteAheadLogFile(String fileName, String causeMessage,
+			@FormatWith(EventContextFormatter.class) EventContext context, @Cause Throwable cause);
+
+	@Message(id = ID_OFFSET + 164,
+			value = "Invalid write-ahead log record: unknown record type '%1$s'.")
+	SearchException invalidWriteAheadLogRecordType(byte recordType);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET + 165,
+			value = "Unable to replay the write-ahead log after an index writer failure: %1$s"
+					+ " Replaying will be attempted again before applying the next batch of works. %2$s")
+	void unableToReplayWriteAheadLogAfterFailure(String causeMessage,
+			@FormatWith(EventContextFormatter.class) EventContext context, @Cause Throwable cause);
+
 }
@@ -9,11 +9,12 @@
 import java.io.IOException;
 
 import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
 
-public interface CollectorFactory<C extends Collector> {
+public interface CollectorFactory<C extends Collector, T> {
 
-	C createCollector(CollectorExecutionContext context) throws IOException;
+	CollectorManager<C, T> createCollectorManager(CollectorExecutionContext context) throws IOException;
 
-	CollectorKey<C> getCollectorKey();
+	CollectorKey<C, T> getCollectorKey();
 
 }
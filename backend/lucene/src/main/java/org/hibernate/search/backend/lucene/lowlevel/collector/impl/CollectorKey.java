@@ -14,11 +14,13 @@
  * This is used for de-duplication of collectors, to avoid collecting the same data twice during the same search.
  *
  * @param <C> The type of collector.
+ * @param <T> The type of the result of reducing collectors after a search,
+ * see {@link org.apache.lucene.search.CollectorManager#reduce(java.util.Collection)}.
  */
-public interface CollectorKey<C extends Collector> {
+public interface CollectorKey<C extends Collector, T> {
 
-	static <C extends Collector> CollectorKey<C> create() {
-		return new CollectorKey<C>() {
+	static <C extends Collector, T> CollectorKey<C, T> create() {
+		return new CollectorKey<C, T>() {
 		};
 	}
 
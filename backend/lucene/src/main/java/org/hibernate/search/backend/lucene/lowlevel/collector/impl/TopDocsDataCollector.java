@@ -21,7 +21,7 @@
  */
 public class TopDocsDataCollector<T> extends SimpleCollector {
 
-	public interface Factory<T> extends CollectorKey<TopDocsDataCollector<T>> {
+	public interface Factory<T> {
 
 		TopDocsDataCollector<T> create(TopDocsDataCollectorExecutionContext context) throws IOException;
 
@@ -40,6 +40,8 @@ public class MetadataFields {
 
 	private static final String TENANT_ID_FIELD_NAME = internalFieldName( "tenantId" );
 
+	private static final String TENANT_AWARE_ID_FIELD_NAME = internalFieldName( "tenant_aware_id" );
+
 	private static final String TYPE_FIELD_NAME = internalFieldName( "type" );
 
 	private static final String FIELD_NAMES_FIELD_NAME = internalFieldName( "field_names" );
@@ -80,6 +82,19 @@ public static String tenantIdFieldName() {
 		return TENANT_ID_FIELD_NAME;
 	}
 
+	public static String tenantAwareIdFieldName() {
+		return TENANT_AWARE_ID_FIELD_NAME;
+	}
+
+	public static String tenantAwareId(String tenantId, String id) {
+		// Prefix with the length of the tenant ID so that values cannot collide,
+		// whatever the characters in the tenant ID and document ID.
+		String tenantIdLength = String.valueOf( tenantId.length() );
+		StringBuilder sb = new StringBuilder( tenantIdLength.length() + tenantId.length() + id.length() + 2 );
+		sb.append( tenantIdLength ).append( ':' ).append( tenantId ).append( ':' ).append( id );
+		return sb.toString();
+	}
+
 	public static String typeFieldName() {
 		return TYPE_FIELD_NAME;
 	}
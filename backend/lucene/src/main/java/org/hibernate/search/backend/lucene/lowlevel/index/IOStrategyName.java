@@ -20,6 +20,12 @@ public enum IOStrategyName {
 	 * and the index writer is
 	 */
 	NEAR_REAL_TIME( "near-real-time" ),
+	/**
+	 * A near-real-time strategy where the commit and refresh intervals adapt to the write load:
+	 * they widen during write bursts to save on commits and reader reopening,
+	 * and shrink back when the index is quiet to keep search results fresh.
+	 */
+	ADAPTIVE( "adaptive" ),
 	DEBUG( "debug" );
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
@@ -0,0 +1,131 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.index.impl;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.DocValuesAndNormsWarmer;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.NearRealTimeIndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.WriteAheadLog;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.WriteLoadMonitor;
+import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.common.timing.spi.TimingSource;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+/**
+ * A near-real-time strategy where commit and refresh intervals adapt to the write load:
+ * they stay at their configured minimum when the index is quiet,
+ * and widen up to their configured maximum during write bursts.
+ */
+public class AdaptiveIOStrategy extends IOStrategy {
+
+	private static final ConfigurationProperty<Integer> COMMIT_INTERVAL =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_COMMIT_INTERVAL )
+					.asIntegerPositiveOrZero()
+					.withDefault( LuceneIndexSettings.Defaults.IO_COMMIT_INTERVAL )
+					.build();
+
+	private static final ConfigurationProperty<Integer> REFRESH_INTERVAL =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_REFRESH_INTERVAL )
+					.asIntegerPositiveOrZero()
+					.withDefault( LuceneIndexSettings.Defaults.IO_REFRESH_INTERVAL )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> BACKGROUND_REFRESH =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_BACKGROUND_REFRESH )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.IO_BACKGROUND_REFRESH )
+					.build();
+
+	private static final ConfigurationProperty<Integer> COMMIT_INTERVAL_MAX =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_ADAPTIVE_COMMIT_INTERVAL_MAX )
+					.asIntegerPositiveOrZero()
+					.withDefault( LuceneIndexSettings.Defaults.IO_ADAPTIVE_COMMIT_INTERVAL_MAX )
+					.build();
+
+	private static final ConfigurationProperty<Integer> REFRESH_INTERVAL_MAX =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_ADAPTIVE_REFRESH_INTERVAL_MAX )
+					.asIntegerPositiveOrZero()
+					.withDefault( LuceneIndexSettings.Defaults.IO_ADAPTIVE_REFRESH_INTERVAL_MAX )
+					.build();
+
+	private static final ConfigurationProperty<Integer> WRITE_RATE_THRESHOLD =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_ADAPTIVE_WRITE_RATE_THRESHOLD )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneIndexSettings.Defaults.IO_ADAPTIVE_WRITE_RATE_THRESHOLD )
+					.build();
+
+	public static AdaptiveIOStrategy create(ConfigurationPropertySource propertySource,
+			TimingSource timingSource, BackendThreads threads, FailureHandler failureHandler) {
+		return new AdaptiveIOStrategy(
+				timingSource,
+				COMMIT_INTERVAL.get( propertySource ), COMMIT_INTERVAL_MAX.get( propertySource ),
+				REFRESH_INTERVAL.get( propertySource ), REFRESH_INTERVAL_MAX.get( propertySource ),
+				WRITE_RATE_THRESHOLD.get( propertySource ),
+				BACKGROUND_REFRESH.get( propertySource ),
+				threads, failureHandler
+		);
+	}
+
+	private final TimingSource timingSource;
+	private final int commitIntervalMin;
+	private final int commitIntervalMax;
+	private final int refreshIntervalMin;
+	private final int refreshIntervalMax;
+	private final int writeRateThreshold;
+	private final boolean backgroundRefresh;
+
+	private AdaptiveIOStrategy(TimingSource timingSource,
+			int commitIntervalMin, int commitIntervalMax,
+			int refreshIntervalMin, int refreshIntervalMax,
+			int writeRateThreshold, boolean backgroundRefresh,
+			BackendThreads threads, FailureHandler failureHandler) {
+		super( threads, failureHandler );
+		this.timingSource = timingSource;
+		this.commitIntervalMin = commitIntervalMin;
+		this.commitIntervalMax = commitIntervalMax;
+		this.refreshIntervalMin = refreshIntervalMin;
+		this.refreshIntervalMax = refreshIntervalMax;
+		this.writeRateThreshold = writeRateThreshold;
+		this.backgroundRefresh = backgroundRefresh;
+	}
+
+	@Override
+	IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eventContext,
+			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource,
+			WriteAheadLog writeAheadLogOrNull) {
+		timingSource.ensureTimeEstimateIsInitialized();
+		// One monitor per index writer provider, i.e. per shard:
+		// the write load on one shard shouldn't affect others.
+		WriteLoadMonitor writeLoadMonitor = new WriteLoadMonitor( timingSource, writeRateThreshold );
+		return new IndexWriterProvider(
+				indexName, eventContext,
+				directoryHolder, configSource,
+				timingSource, writeLoadMonitor.interval( commitIntervalMin, commitIntervalMax ), writeLoadMonitor,
+				writeAheadLogOrNull,
+				threads,
+				failureHandler
+		);
+	}
+
+	@Override
+	IndexReaderProvider createIndexReaderProvider(EventContext eventContext, DirectoryHolder directoryHolder,
+			IndexWriterProvider indexWriterProvider) {
+		WriteLoadMonitor writeLoadMonitor = indexWriterProvider.getWriteLoadMonitorOrNull();
+		return new NearRealTimeIndexReaderProvider( indexWriterProvider, timingSource,
+				writeLoadMonitor.interval( refreshIntervalMin, refreshIntervalMax ),
+				eventContext, backgroundRefresh ? threads.getWriteExecutor() : null,
+				DocValuesAndNormsWarmer.INSTANCE, failureHandler );
+	}
+
+}
@@ -18,6 +18,7 @@
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegatorImpl;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.WriteAheadLog;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
@@ -198,6 +199,13 @@ public long computeSizeInBytes() {
 		return totalSize;
 	}
 
+	/**
+	 * @return The write-ahead log of the index, or {@code null} if the write-ahead log is disabled.
+	 */
+	public WriteAheadLog getWriteAheadLogOrNull() {
+		return indexWriterProvider.getWriteAheadLogOrNull();
+	}
+
 	public Directory getDirectoryForTests() {
 		return directoryHolder.get();
 	}
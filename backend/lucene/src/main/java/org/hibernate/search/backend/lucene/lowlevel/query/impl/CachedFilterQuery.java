@@ -0,0 +1,101 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.query.impl;
+
+import java.io.IOException;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.ConstantScoreScorer;
+import org.apache.lucene.search.ConstantScoreWeight;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.Weight;
+
+/**
+ * A non-scoring query matching the same documents as the wrapped filter,
+ * and marking that filter as worth caching per segment regardless of how often it is used.
+ * <p>
+ * The caching itself is handled by the query cache of the searcher,
+ * which only applies to queries executed in a non-scoring context, e.g. as a filter clause.
+ *
+ * @see org.hibernate.search.backend.lucene.cache.impl.LuceneQueryCachingContext
+ */
+public final class CachedFilterQuery extends Query {
+
+	private final Query filter;
+
+	public CachedFilterQuery(Query filter) {
+		this.filter = filter;
+	}
+
+	public Query getFilter() {
+		return filter;
+	}
+
+	@Override
+	public String toString(String field) {
+		return "cached(" + filter.toString( field ) + ")";
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( this == obj ) {
+			return true;
+		}
+		if ( obj == null || getClass() != obj.getClass() ) {
+			return false;
+		}
+		CachedFilterQuery other = (CachedFilterQuery) obj;
+		return filter.equals( other.filter );
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * classHash() + filter.hashCode();
+	}
+
+	@Override
+	public Query rewrite(IndexReader reader) throws IOException {
+		Query rewrittenFilter = filter.rewrite( reader );
+		if ( rewrittenFilter != filter ) {
+			return new CachedFilterQuery( rewrittenFilter );
+		}
+		return super.rewrite( reader );
+	}
+
+	@Override
+	public void visit(QueryVisitor visitor) {
+		filter.visit( visitor.getSubVisitor( BooleanClause.Occur.FILTER, this ) );
+	}
+
+	@Override
+	public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) throws IOException {
+		// Create the weight directly instead of going through the searcher:
+		// this query is the one being cached, there's no point in caching the filter too.
+		Weight filterWeight = filter.createWeight( searcher, ScoreMode.COMPLETE_NO_SCORES, 1.0f );
+		return new ConstantScoreWeight( this, boost ) {
+			@Override
+			public Scorer scorer(LeafReaderContext context) throws IOException {
+				Scorer filterScorer = filterWeight.scorer( context );
+				if ( filterScorer == null ) {
+					return null;
+				}
+				return new ConstantScoreScorer( this, score(), scoreMode, filterScorer.iterator() );
+			}
+
+			@Override
+			public boolean isCacheable(LeafReaderContext context) {
+				return filterWeight.isCacheable( context );
+			}
+		};
+	}
+}
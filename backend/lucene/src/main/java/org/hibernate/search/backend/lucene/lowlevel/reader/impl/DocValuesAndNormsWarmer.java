@@ -0,0 +1,115 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.io.IOException;
+
+import org.apache.lucene.index.BinaryDocValues;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.search.DocIdSetIterator;
+
+/**
+ * A warmer that reads all doc values and norms of a segment,
+ * so that the first queries sorting, aggregating or scoring on that segment
+ * don't have to wait for the data to be loaded from disk.
+ * <p>
+ * In Hibernate Search, doc values are only enabled on sortable or aggregable fields,
+ * so this warms exactly the data needed for sorts and aggregations.
+ */
+public final class DocValuesAndNormsWarmer implements IndexWriter.IndexReaderWarmer {
+
+	public static final DocValuesAndNormsWarmer INSTANCE = new DocValuesAndNormsWarmer();
+
+	private DocValuesAndNormsWarmer() {
+	}
+
+	@Override
+	public void warm(LeafReader reader) throws IOException {
+		for ( FieldInfo fieldInfo : reader.getFieldInfos() ) {
+			String field = fieldInfo.name;
+			switch ( fieldInfo.getDocValuesType() ) {
+				case NUMERIC:
+					warm( reader.getNumericDocValues( field ) );
+					break;
+				case BINARY:
+					warm( reader.getBinaryDocValues( field ) );
+					break;
+				case SORTED:
+					warm( reader.getSortedDocValues( field ) );
+					break;
+				case SORTED_NUMERIC:
+					warm( reader.getSortedNumericDocValues( field ) );
+					break;
+				case SORTED_SET:
+					warm( reader.getSortedSetDocValues( field ) );
+					break;
+				case NONE:
+				default:
+					break;
+			}
+			if ( fieldInfo.hasNorms() ) {
+				warm( reader.getNormValues( field ) );
+			}
+		}
+	}
+
+	private static void warm(NumericDocValues values) throws IOException {
+		if ( values == null ) {
+			return;
+		}
+		while ( values.nextDoc() != DocIdSetIterator.NO_MORE_DOCS ) {
+			values.longValue();
+		}
+	}
+
+	private static void warm(BinaryDocValues values) throws IOException {
+		if ( values == null ) {
+			return;
+		}
+		while ( values.nextDoc() != DocIdSetIterator.NO_MORE_DOCS ) {
+			values.binaryValue();
+		}
+	}
+
+	private static void warm(SortedDocValues values) throws IOException {
+		if ( values == null ) {
+			return;
+		}
+		while ( values.nextDoc() != DocIdSetIterator.NO_MORE_DOCS ) {
+			values.ordValue();
+		}
+	}
+
+	private static void warm(SortedNumericDocValues values) throws IOException {
+		if ( values == null ) {
+			return;
+		}
+		while ( values.nextDoc() != DocIdSetIterator.NO_MORE_DOCS ) {
+			for ( int i = 0; i < values.docValueCount(); i++ ) {
+				values.nextValue();
+			}
+		}
+	}
+
+	private static void warm(SortedSetDocValues values) throws IOException {
+		if ( values == null ) {
+			return;
+		}
+		while ( values.nextDoc() != DocIdSetIterator.NO_MORE_DOCS ) {
+			while ( values.nextOrd() != SortedSetDocValues.NO_MORE_ORDS ) {
+				// Just load the ordinals
+			}
+		}
+	}
+
+}
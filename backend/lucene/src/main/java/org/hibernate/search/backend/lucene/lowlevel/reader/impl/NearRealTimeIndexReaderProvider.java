@@ -7,11 +7,28 @@
 package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IOInterval;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegatorImpl;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
+import org.hibernate.search.engine.reporting.FailureContext;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.LeafReaderContext;
 
 /**
  * A index reader holder that opens an index reader from the index writer,
@@ -22,14 +39,38 @@
  * i.e. as long as there were no changes
  * from the directory every time an index reader is requested.
  * <p>
+ * Optionally, index readers can be refreshed in the background
+ * once per refresh interval, instead of being refreshed by the first query thread
+ * that notices the index reader is out-of-date.
+ * New segments are then warmed before the refreshed index reader is made available to queries,
+ * so that queries never wait for a refresh, except when a refresh is forced.
+ * <p>
  * Heavily inspired by {@code org.hibernate.search.backend.impl.lucene.NRTWorkspaceImpl} from Hibernate Search 5
  * by Sanne Grinovero.
  */
 public class NearRealTimeIndexReaderProvider implements IndexReaderProvider {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	/**
+	 * The minimum delay between two background refreshes, in milliseconds,
+	 * to avoid busy loops when the refresh interval is (temporarily) zero.
+	 */
+	private static final int MIN_BACKGROUND_REFRESH_DELAY = 100;
+
 	private final IndexWriterProvider indexWriterProvider;
 	private final TimingSource timingSource;
-	private final int refreshInterval;
+	private final IOInterval refreshInterval;
+
+	private final EventContext eventContext;
+	private final ScheduledExecutorService backgroundRefreshExecutorOrNull;
+	private final IndexWriter.IndexReaderWarmer warmer;
+	private final FailureHandler failureHandler;
+
+	/**
+	 * The background refresh loop, or null if background refresh is disabled or not started.
+	 */
+	private BackgroundRefreshLoop backgroundRefreshLoop;
 
 	/**
 	 * Current open IndexReader, or null when closed.
@@ -37,14 +78,37 @@ public class NearRealTimeIndexReaderProvider implements IndexReaderProvider {
 	private volatile IndexReaderEntry currentReaderEntry = null;
 
 	public NearRealTimeIndexReaderProvider(IndexWriterProvider indexWriterProvider,
-			TimingSource timingSource, int refreshInterval) {
+			TimingSource timingSource, IOInterval refreshInterval) {
+		this( indexWriterProvider, timingSource, refreshInterval, null, null, null, null );
+	}
+
+	/**
+	 * @param backgroundRefreshExecutorOrNull The executor to refresh index readers in the background,
+	 * or {@code null} to refresh index readers in query threads.
+	 * Ignored if the refresh interval is always zero,
+	 * since index readers must then be refreshed before each query.
+	 * @param warmer The warmer to apply to new segments before making them available to queries
+	 * when refreshing in the background.
+	 */
+	public NearRealTimeIndexReaderProvider(IndexWriterProvider indexWriterProvider,
+			TimingSource timingSource, IOInterval refreshInterval,
+			EventContext eventContext, ScheduledExecutorService backgroundRefreshExecutorOrNull,
+			IndexWriter.IndexReaderWarmer warmer, FailureHandler failureHandler) {
 		this.indexWriterProvider = indexWriterProvider;
 		this.timingSource = timingSource;
 		this.refreshInterval = refreshInterval;
+		this.eventContext = eventContext;
+		this.backgroundRefreshExecutorOrNull = refreshInterval.isEverNonZero() ? backgroundRefreshExecutorOrNull : null;
+		this.warmer = warmer;
+		this.failureHandler = failureHandler;
 	}
 
 	@Override
 	public synchronized void clear() throws IOException {
+		if ( backgroundRefreshLoop != null ) {
+			backgroundRefreshLoop.stop();
+			backgroundRefreshLoop = null;
+		}
 		setCurrentReaderEntry( null );
 	}
 
@@ -83,7 +147,7 @@ private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
 		IndexReaderEntry freshEntry;
 		if ( oldEntry == null ) {
 			DirectoryReader newReader = indexWriterProvider.getOrCreate().openReader();
-			freshEntry = new IndexReaderEntry( newReader, timingSource, refreshInterval );
+			freshEntry = createEntry( newReader );
 		}
 		else {
 			DirectoryReader newReaderOrNull = indexWriterProvider.getOrCreate().openReaderIfChanged( oldEntry.reader );
@@ -92,7 +156,7 @@ private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
 				freshEntry = oldEntry;
 			}
 			else {
-				freshEntry = new IndexReaderEntry( newReaderOrNull, timingSource, refreshInterval );
+				freshEntry = createEntry( newReaderOrNull );
 			}
 		}
 
@@ -100,6 +164,11 @@ private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
 			setCurrentReaderEntry( freshEntry );
 		}
 
+		if ( backgroundRefreshExecutorOrNull != null && backgroundRefreshLoop == null ) {
+			backgroundRefreshLoop = new BackgroundRefreshLoop();
+			backgroundRefreshLoop.scheduleNext();
+		}
+
 		// At this point the reference count is at least one, for the holder.
 		// Let's also increment the reference for the caller.
 		freshEntry.reader.incRef();
@@ -116,17 +185,123 @@ private synchronized void setCurrentReaderEntry(IndexReaderEntry newEntry) throw
 		}
 	}
 
+	private IndexReaderEntry createEntry(DirectoryReader reader) {
+		return new IndexReaderEntry( reader, timingSource, refreshInterval, backgroundRefreshExecutorOrNull != null );
+	}
+
+	private void doBackgroundRefresh() throws IOException {
+		IndexReaderEntry oldEntry = currentReaderEntry;
+		IndexWriterDelegatorImpl indexWriter = indexWriterProvider.getOrNull();
+		if ( oldEntry == null || indexWriter == null || !oldEntry.reader.tryIncRef() ) {
+			// Cleared or being cleared; nothing to refresh.
+			return;
+		}
+		try {
+			DirectoryReader newReader = indexWriter.openReaderIfChanged( oldEntry.reader );
+			if ( newReader == null ) {
+				// No change
+				return;
+			}
+			try {
+				// Warm outside of the lock: queries keep using the old reader in the meantime.
+				warmNewSegments( oldEntry.reader, newReader );
+				synchronized (this) {
+					if ( currentReaderEntry == oldEntry ) {
+						setCurrentReaderEntry( createEntry( newReader ) );
+						newReader = null;
+					}
+					// Otherwise a query thread refreshed the reader in the meantime (forced refresh, ...):
+					// just drop the reader we opened.
+				}
+			}
+			finally {
+				if ( newReader != null ) {
+					newReader.decRef();
+				}
+			}
+		}
+		finally {
+			oldEntry.reader.decRef();
+		}
+	}
+
+	private void warmNewSegments(DirectoryReader oldReader, DirectoryReader newReader) throws IOException {
+		Set<IndexReader.CacheKey> oldSegmentKeys = new HashSet<>();
+		for ( LeafReaderContext leaf : oldReader.leaves() ) {
+			IndexReader.CacheHelper cacheHelper = leaf.reader().getCoreCacheHelper();
+			if ( cacheHelper != null ) {
+				oldSegmentKeys.add( cacheHelper.getKey() );
+			}
+		}
+		for ( LeafReaderContext leaf : newReader.leaves() ) {
+			IndexReader.CacheHelper cacheHelper = leaf.reader().getCoreCacheHelper();
+			if ( cacheHelper == null || !oldSegmentKeys.contains( cacheHelper.getKey() ) ) {
+				warmer.warm( leaf.reader() );
+			}
+		}
+	}
+
+	private class BackgroundRefreshLoop implements Runnable {
+		private Future<?> nextExecution;
+		private boolean stopped = false;
+
+		@Override
+		public void run() {
+			try {
+				doBackgroundRefresh();
+			}
+			catch (Throwable t) {
+				FailureContext.Builder failureContextBuilder = FailureContext.builder();
+				failureContextBuilder.throwable(
+						log.unableToRefreshIndexReaderInBackground( t.getMessage(), eventContext, t ) );
+				failureContextBuilder.failingOperation( "Background index reader refresh" );
+				failureHandler.handle( failureContextBuilder.build() );
+			}
+			finally {
+				scheduleNext();
+			}
+		}
+
+		// Synchronized on the provider, so that stop() and scheduleNext() never execute concurrently.
+		void scheduleNext() {
+			synchronized (NearRealTimeIndexReaderProvider.this) {
+				if ( stopped ) {
+					return;
+				}
+				int delay = Math.max( refreshInterval.get(), MIN_BACKGROUND_REFRESH_DELAY );
+				try {
+					nextExecution = backgroundRefreshExecutorOrNull.schedule( this, delay, TimeUnit.MILLISECONDS );
+				}
+				catch (RejectedExecutionException e) {
+					// The backend is shutting down
+					log.tracef( e, "Background index reader refresh rejected for %s", eventContext.render() );
+				}
+			}
+		}
+
+		void stop() {
+			stopped = true;
+			if ( nextExecution != null ) {
+				nextExecution.cancel( false );
+			}
+		}
+	}
+
 	private static class IndexReaderEntry {
 		private final DirectoryReader reader;
 		private final TimingSource timingSource;
 		private final long expiration;
+		private final boolean backgroundRefresh;
 
 		private volatile boolean refreshForced = false;
 
-		private IndexReaderEntry(DirectoryReader reader, TimingSource timingSource, int refreshInterval) {
+		private IndexReaderEntry(DirectoryReader reader, TimingSource timingSource, IOInterval refreshInterval,
+				boolean backgroundRefresh) {
 			this.reader = reader;
 			this.timingSource = timingSource;
-			this.expiration = refreshInterval == 0 ? 0 : timingSource.monotonicTimeEstimate() + refreshInterval;
+			int interval = refreshInterval.isEverNonZero() ? refreshInterval.get() : 0;
+			this.expiration = interval == 0 ? 0 : timingSource.monotonicTimeEstimate() + interval;
+			this.backgroundRefresh = backgroundRefresh;
 		}
 
 		public void forceRefresh() {
@@ -144,6 +319,11 @@ boolean isFresh() throws IOException {
 			if ( refreshForced ) {
 				return false;
 			}
+			if ( expiration != 0 && backgroundRefresh ) {
+				// The background refresh will take care of refreshing the reader
+				// once the refresh interval expires.
+				return true;
+			}
 			if ( expiration == 0 || expiration < timingSource.monotonicTimeEstimate() ) {
 				// The last refresh was a long time ago. Let's check if the reader is really fresh.
 				return reader.isCurrent();
@@ -0,0 +1,50 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.writer.impl;
+
+/**
+ * An interval, in milliseconds, between two commits or two refreshes.
+ * <p>
+ * The interval may be fixed, or it may change over time,
+ * e.g. to adapt to the write load.
+ */
+public interface IOInterval {
+
+	IOInterval ZERO = fixed( 0 );
+
+	/**
+	 * @return The interval to apply from now on, in milliseconds.
+	 * {@code 0} means changes must be applied immediately.
+	 */
+	int get();
+
+	/**
+	 * @return {@code true} if {@link #get()} may return a value other than {@code 0},
+	 * {@code false} if it always returns {@code 0}.
+	 */
+	boolean isEverNonZero();
+
+	static IOInterval fixed(int interval) {
+		return new IOInterval() {
+			@Override
+			public int get() {
+				return interval;
+			}
+
+			@Override
+			public boolean isEverNonZero() {
+				return interval != 0;
+			}
+
+			@Override
+			public String toString() {
+				return String.valueOf( interval );
+			}
+		};
+	}
+
+}
@@ -38,7 +38,9 @@ public class IndexWriterDelegatorImpl implements IndexWriterDelegator {
 	private final IndexWriter delegate;
 	private final EventContext eventContext;
 	private final TimingSource timingSource;
-	private final int commitInterval;
+	private final IOInterval commitInterval;
+	private final WriteLoadMonitor writeLoadMonitorOrNull;
+	private final WriteAheadLog writeAheadLogOrNull;
 	private final FailureHandler failureHandler;
 
 	private final SingletonTask delayedCommitTask;
@@ -48,16 +50,19 @@ public class IndexWriterDelegatorImpl implements IndexWriterDelegator {
 
 	public IndexWriterDelegatorImpl(IndexWriter delegate, EventContext eventContext,
 			ScheduledExecutorService delayedCommitExecutor,
-			TimingSource timingSource, int commitInterval,
+			TimingSource timingSource, IOInterval commitInterval, WriteLoadMonitor writeLoadMonitorOrNull,
+			WriteAheadLog writeAheadLogOrNull,
 			FailureHandler failureHandler,
 			DelayedCommitFailureHandler delayedCommitFailureHandler) {
 		this.delegate = delegate;
 		this.eventContext = eventContext;
 		this.timingSource = timingSource;
 		this.commitInterval = commitInterval;
+		this.writeLoadMonitorOrNull = writeLoadMonitorOrNull;
+		this.writeAheadLogOrNull = writeAheadLogOrNull;
 		this.failureHandler = failureHandler;
 
-		if ( commitInterval == 0L ) {
+		if ( !commitInterval.isEverNonZero() ) {
 			delayedCommitTask = null;
 		}
 		else {
@@ -74,21 +79,25 @@ public IndexWriterDelegatorImpl(IndexWriter delegate, EventContext eventContext,
 
 	@Override
 	public long addDocuments(Iterable<? extends Iterable<? extends IndexableField>> docs) throws IOException {
+		onWrite();
 		return delegate.addDocuments( docs );
 	}
 
 	@Override
 	public long updateDocuments(Term term, Iterable<? extends Iterable<? extends IndexableField>> docs) throws IOException {
+		onWrite();
 		return delegate.updateDocuments( term, docs );
 	}
 
 	@Override
 	public long deleteDocuments(Term term) throws IOException {
+		onWrite();
 		return delegate.deleteDocuments( term );
 	}
 
 	@Override
 	public long deleteDocuments(Query query) throws IOException {
+		onWrite();
 		return delegate.deleteDocuments( query );
 	}
 
@@ -143,6 +152,11 @@ void close() throws IOException {
 			// Avoid problems with closing while a (delayed) commit is in progress:
 			// Lucene throws an exception in that case.
 			synchronized (commitLock) {
+				if ( writeAheadLogOrNull != null && delegate.isOpen() && delegate.getTragicException() == null ) {
+					// Closing the writer would commit anyway,
+					// but committing explicitly lets us clean up the write-ahead log.
+					closer.push( IndexWriterDelegatorImpl::doCommit, this );
+				}
 				closer.push( IndexWriter::close, delegate );
 			}
 			log.trace( "IndexWriter closed" );
@@ -151,13 +165,19 @@ void close() throws IOException {
 
 	void closeAfterFailure(Throwable throwable, Object failingOperation) {
 		Exception exceptionToReport = log.uncommittedOperationsBecauseOfFailure( throwable.getMessage(), eventContext, throwable );
+		// With the write-ahead log, closing a healthy writer commits its changes; see close().
+		boolean changesLost = delegate.getTragicException() != null || !delegate.isOpen();
 		try {
 			close();
 		}
 		catch (RuntimeException | IOException e) {
+			changesLost = true;
 			exceptionToReport.addSuppressed(
 					log.unableToCloseIndexWriterAfterFailures( e.getMessage(), eventContext, e ) );
 		}
+		if ( writeAheadLogOrNull != null && changesLost ) {
+			writeAheadLogOrNull.onWriterFailure();
+		}
 
 		/*
 		 * The failing operation will be reported elsewhere,
@@ -172,11 +192,25 @@ void closeAfterFailure(Throwable throwable, Object failingOperation) {
 		failureHandler.handle( failureContext );
 	}
 
+	private void onWrite() {
+		if ( writeLoadMonitorOrNull != null ) {
+			writeLoadMonitorOrNull.onWrite();
+		}
+	}
+
 	private void doCommit() {
 		try {
 			synchronized (commitLock) {
+				WriteAheadLog.Checkpoint checkpoint = null;
+				if ( writeAheadLogOrNull != null ) {
+					checkpoint = writeAheadLogOrNull.checkpoint();
+					delegate.setLiveCommitData( writeAheadLogOrNull.commitData( checkpoint ).entrySet() );
+				}
 				delegate.commit();
 				updateCommitExpiration();
+				if ( checkpoint != null ) {
+					writeAheadLogOrNull.onCommit( checkpoint );
+				}
 			}
 		}
 		catch (RuntimeException | IOException e) {
@@ -201,7 +235,7 @@ private boolean delayCommit() {
 	}
 
 	private long getTimeToCommit() {
-		if ( commitInterval == 0L ) {
+		if ( !commitInterval.isEverNonZero() ) {
 			// We never delay anything in this case,
 			// so there's no need to query the timing source (which is probably null in this case).
 			return 0L;
@@ -211,7 +245,12 @@ private long getTimeToCommit() {
 	}
 
 	private void updateCommitExpiration() {
-		commitExpiration = commitInterval == 0 ? 0L : timingSource.monotonicTimeEstimate() + commitInterval;
+		if ( !commitInterval.isEverNonZero() ) {
+			commitExpiration = 0L;
+			return;
+		}
+		int interval = commitInterval.get();
+		commitExpiration = interval == 0 ? 0L : timingSource.monotonicTimeEstimate() + interval;
 	}
 
 	private class LuceneDelayedCommitWorker implements SingletonTask.Worker {
@@ -36,7 +36,9 @@ public class IndexWriterProvider {
 	private final DirectoryHolder directoryHolder;
 	private final IndexWriterConfigSource configSource;
 	private final TimingSource timingSource;
-	private final int commitInterval;
+	private final IOInterval commitInterval;
+	private final WriteLoadMonitor writeLoadMonitorOrNull;
+	private final WriteAheadLog writeAheadLogOrNull;
 	private BackendThreads threads;
 	private final FailureHandler failureHandler;
 
@@ -52,7 +54,8 @@ public class IndexWriterProvider {
 
 	public IndexWriterProvider(String indexName, EventContext eventContext,
 			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource,
-			TimingSource timingSource, int commitInterval,
+			TimingSource timingSource, IOInterval commitInterval, WriteLoadMonitor writeLoadMonitorOrNull,
+			WriteAheadLog writeAheadLogOrNull,
 			BackendThreads threads,
 			FailureHandler failureHandler) {
 		this.indexName = indexName;
@@ -61,6 +64,8 @@ public IndexWriterProvider(String indexName, EventContext eventContext,
 		this.configSource = configSource;
 		this.timingSource = timingSource;
 		this.commitInterval = commitInterval;
+		this.writeLoadMonitorOrNull = writeLoadMonitorOrNull;
+		this.writeAheadLogOrNull = writeAheadLogOrNull;
 		this.threads = threads;
 		this.failureHandler = failureHandler;
 	}
@@ -103,6 +108,20 @@ public void clearAfterFailure(Throwable throwable, Object failingOperation) {
 		}
 	}
 
+	/**
+	 * @return The monitor keeping track of the write load on the index, or {@code null} if write load isn't monitored.
+	 */
+	public WriteLoadMonitor getWriteLoadMonitorOrNull() {
+		return writeLoadMonitorOrNull;
+	}
+
+	/**
+	 * @return The write-ahead log of the index, or {@code null} if the write-ahead log is disabled.
+	 */
+	public WriteAheadLog getWriteAheadLogOrNull() {
+		return writeAheadLogOrNull;
+	}
+
 	public IndexWriterDelegatorImpl getOrNull() {
 		return currentWriter.get();
 	}
@@ -118,7 +137,7 @@ public IndexWriterDelegatorImpl getOrCreate() throws IOException {
 					indexWriterDelegator = new IndexWriterDelegatorImpl(
 							indexWriter, eventContext,
 							threads.getWriteExecutor(),
-							timingSource, commitInterval,
+							timingSource, commitInterval, writeLoadMonitorOrNull, writeAheadLogOrNull,
 							failureHandler,
 							this::clearAfterFailure
 					);
@@ -0,0 +1,374 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.writer.impl;
+
+import java.io.EOFException;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.nio.file.NoSuchFileException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.StampedLock;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.index.CorruptIndexException;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexFormatTooNewException;
+import org.apache.lucene.index.IndexFormatTooOldException;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.store.ByteBuffersDataOutput;
+import org.apache.lucene.store.DataInput;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.util.IOUtils;
+
+/**
+ * An append-only log of indexing works, stored alongside the index in its directory.
+ * <p>
+ * Each batch of works is written to a new file, which is synced to disk before the works are applied,
+ * so that a single sync covers all the works of a batch.
+ * Files are deleted once a commit includes all the works they contain,
+ * and the remaining files are replayed when the index starts.
+ * <p>
+ * When an index writer fails, the changes it did not commit are lost:
+ * the files that were not committed yet are then replayed into the next index writer,
+ * before any new batch of works is applied.
+ * See {@link #startApplying(RecordReader)}.
+ * <p>
+ * The names of the files included in a commit are stored in the commit's user data,
+ * so that they are never replayed over more recent changes, even if they could not be deleted.
+ * <p>
+ * File names do not match Lucene's own naming patterns,
+ * so the index writer leaves them alone.
+ */
+public final class WriteAheadLog {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String FILE_NAME_PREFIX = "hsearch_wal_";
+	private static final String CODEC_NAME = "HibernateSearchWriteAheadLog";
+	private static final int VERSION_START = 0;
+	private static final int VERSION_CURRENT = VERSION_START;
+	private static final String COMMIT_DATA_KEY = "hsearch_wal_committed";
+	private static final String COMMIT_DATA_SEPARATOR = ",";
+
+	private final EventContext eventContext;
+	private final DirectoryHolder directoryHolder;
+
+	private final AtomicLong nextSequenceNumber = new AtomicLong( 0L );
+	// Files that were written but not committed yet, sorted by sequence number
+	private final Map<Long, String> uncommittedFileNames = new ConcurrentSkipListMap<>();
+	private final Set<String> appliedFileNames = ConcurrentHashMap.newKeySet();
+	// Files that were committed, but could not be deleted
+	private final Set<String> obsoleteFileNames = ConcurrentHashMap.newKeySet();
+	private final AtomicLong unloggedChangeCount = new AtomicLong( 0L );
+
+	// Works are applied while holding a read lock; replaying after a writer failure requires the write lock.
+	private final StampedLock applyLock = new StampedLock();
+	private final AtomicLong writerFailureCount = new AtomicLong( 0L );
+	private volatile long replayedWriterFailureCount = 0L;
+
+	public WriteAheadLog(EventContext eventContext, DirectoryHolder directoryHolder) {
+		this.eventContext = eventContext;
+		this.directoryHolder = directoryHolder;
+	}
+
+	/**
+	 * Prepares the log for appending, and lists the files left over from a previous execution.
+	 * <p>
+	 * Files that were included in the last commit are deleted instead of being listed.
+	 *
+	 * @return The names of files that must be replayed, in the order they were written.
+	 * @throws IOException If the directory cannot be listed.
+	 */
+	public List<String> start() throws IOException {
+		Directory directory = directoryHolder.get();
+		Set<String> committedFileNames = committedFileNames( directory );
+		for ( String fileName : directory.listAll() ) {
+			Long sequenceNumber = sequenceNumber( fileName );
+			if ( sequenceNumber == null ) {
+				continue;
+			}
+			nextSequenceNumber.accumulateAndGet( sequenceNumber + 1, Math::max );
+			if ( committedFileNames.contains( fileName ) ) {
+				delete( directory, Collections.singleton( fileName ) );
+			}
+			else {
+				uncommittedFileNames.put( sequenceNumber, fileName );
+			}
+		}
+		return new ArrayList<>( uncommittedFileNames.values() );
+	}
+
+	/**
+	 * Writes records to a new file and syncs that file to disk.
+	 *
+	 * @param records The serialized records.
+	 * @param recordCount The number of records in {@code records}.
+	 * @return The name of the new file, to pass to {@link #markApplied(String)}
+	 * once the records have been applied to the index writer.
+	 * @throws IOException If writing or syncing fails; the file is removed in that case.
+	 */
+	public String append(ByteBuffersDataOutput records, int recordCount) throws IOException {
+		Directory directory = directoryHolder.get();
+		long sequenceNumber = nextSequenceNumber.getAndIncrement();
+		String fileName = FILE_NAME_PREFIX + Long.toString( sequenceNumber, Character.MAX_RADIX );
+		boolean success = false;
+		try {
+			try ( IndexOutput output = directory.createOutput( fileName, IOContext.DEFAULT ) ) {
+				CodecUtil.writeHeader( output, CODEC_NAME, VERSION_CURRENT );
+				output.writeVInt( recordCount );
+				records.copyTo( output );
+				CodecUtil.writeFooter( output );
+			}
+			directory.sync( Collections.singleton( fileName ) );
+			// Make sure the file itself, not just its content, survives a crash.
+			directory.syncMetaData();
+			uncommittedFileNames.put( sequenceNumber, fileName );
+			success = true;
+			return fileName;
+		}
+		finally {
+			if ( !success ) {
+				IOUtils.deleteFilesIgnoringExceptions( directory, fileName );
+			}
+		}
+	}
+
+	/**
+	 * Reads the records of a file, provided the file is complete.
+	 * <p>
+	 * Incomplete or corrupt files result from a crash while writing,
+	 * before the works they contain were reported as complete:
+	 * they are ignored.
+	 *
+	 * @param fileName The name of a file returned by {@link #start()}.
+	 * @param reader A reader for each record.
+	 * @throws IOException If reading fails for reasons other than an incomplete or corrupt file.
+	 */
+	public void read(String fileName, RecordReader reader) throws IOException {
+		try ( IndexInput input = directoryHolder.get().openInput( fileName, IOContext.DEFAULT ) ) {
+			int recordCount;
+			try {
+				CodecUtil.checksumEntireFile( input );
+				CodecUtil.checkHeader( input, CODEC_NAME, VERSION_START, VERSION_CURRENT );
+				recordCount = input.readVInt();
+			}
+			catch (CorruptIndexException | IndexFormatTooOldException | IndexFormatTooNewException
+					| EOFException e) {
+				log.ignoringCorruptWriteAheadLogFile( fileName, e.getMessage(), eventContext, e );
+				return;
+			}
+			for ( int i = 0; i < recordCount; i++ ) {
+				reader.read( input );
+			}
+		}
+	}
+
+	/**
+	 * @param fileName The name of a file whose records have all been applied to the index writer.
+	 * The file will be deleted after the next successful commit.
+	 */
+	public void markApplied(String fileName) {
+		appliedFileNames.add( fileName );
+	}
+
+	/**
+	 * @param count The number of changes applied to the index writer without being logged.
+	 * Forced commits cannot be skipped until these changes are committed.
+	 */
+	public void addUnloggedChanges(int count) {
+		unloggedChangeCount.addAndGet( count );
+	}
+
+	/**
+	 * @return {@code true} if some changes were applied to the index writer without being logged
+	 * and have not been committed yet.
+	 */
+	public boolean hasUnloggedChanges() {
+		return unloggedChangeCount.get() > 0L;
+	}
+
+	/**
+	 * Must be called before applying works to the index writer,
+	 * and followed with a call to {@link #endApplying(long)} once the works have been applied.
+	 * <p>
+	 * If an index writer failed since the last call,
+	 * waits for works being applied to the failed writer to be fully applied,
+	 * then replays all files that were not committed yet, in order, into the new index writer.
+	 * This ensures changes lost with the failed writer are applied again
+	 * before any more recent change to the same documents.
+	 *
+	 * @param replayer A reader applying each record to the index writer when replaying.
+	 * @return A stamp to pass to {@link #endApplying(long)}.
+	 */
+	public long startApplying(RecordReader replayer) {
+		long stamp = applyLock.readLock();
+		if ( !isReplayRequired() ) {
+			return stamp;
+		}
+		applyLock.unlockRead( stamp );
+		stamp = applyLock.writeLock();
+		try {
+			long failureCountToReplay = writerFailureCount.get();
+			if ( failureCountToReplay != replayedWriterFailureCount ) {
+				List<String> fileNames = new ArrayList<>( uncommittedFileNames.values() );
+				log.replayingWriteAheadLog( fileNames.size(), eventContext );
+				for ( String fileName : fileNames ) {
+					read( fileName, replayer );
+					markApplied( fileName );
+				}
+				// If the new writer failed too while we were replaying, this will not be enough:
+				// we will replay again on the next call.
+				replayedWriterFailureCount = failureCountToReplay;
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			log.unableToReplayWriteAheadLogAfterFailure( e.getMessage(), eventContext, e );
+		}
+		finally {
+			stamp = applyLock.tryConvertToReadLock( stamp );
+		}
+		return stamp;
+	}
+
+	/**
+	 * @param stamp The stamp returned by {@link #startApplying(RecordReader)}.
+	 */
+	public void endApplying(long stamp) {
+		applyLock.unlockRead( stamp );
+	}
+
+	/**
+	 * @return A checkpoint to pass to {@link #onCommit(Checkpoint)} after the next commit succeeds.
+	 * Must be called before the commit starts.
+	 */
+	Checkpoint checkpoint() {
+		List<String> committedFileNames = new ArrayList<>( obsoleteFileNames );
+		if ( !isReplayRequired() ) {
+			// While a replay is pending, applied files may contain changes that were lost with a failed writer:
+			// they must not be considered as committed.
+			committedFileNames.addAll( appliedFileNames );
+		}
+		return new Checkpoint( committedFileNames, unloggedChangeCount.get() );
+	}
+
+	/**
+	 * @param checkpoint A checkpoint returned by {@link #checkpoint()}.
+	 * @return The user data to store in the commit.
+	 */
+	Map<String, String> commitData(Checkpoint checkpoint) {
+		if ( checkpoint.committedFileNames.isEmpty() ) {
+			return Collections.emptyMap();
+		}
+		return Collections.singletonMap( COMMIT_DATA_KEY,
+				String.join( COMMIT_DATA_SEPARATOR, checkpoint.committedFileNames ) );
+	}
+
+	void onCommit(Checkpoint checkpoint) {
+		unloggedChangeCount.addAndGet( -checkpoint.unloggedChangeCount );
+		if ( checkpoint.committedFileNames.isEmpty() ) {
+			return;
+		}
+		for ( String fileName : checkpoint.committedFileNames ) {
+			appliedFileNames.remove( fileName );
+			Long sequenceNumber = sequenceNumber( fileName );
+			if ( sequenceNumber != null ) {
+				uncommittedFileNames.remove( sequenceNumber );
+			}
+		}
+		delete( directoryHolder.get(), checkpoint.committedFileNames );
+	}
+
+	/**
+	 * To be called when an index writer is closed without committing the changes applied to it,
+	 * so that the files that were not committed yet get replayed into the next index writer.
+	 */
+	void onWriterFailure() {
+		appliedFileNames.clear();
+		writerFailureCount.incrementAndGet();
+	}
+
+	private boolean isReplayRequired() {
+		return writerFailureCount.get() != replayedWriterFailureCount;
+	}
+
+	private void delete(Directory directory, Collection<String> fileNames) {
+		for ( String fileName : fileNames ) {
+			try {
+				directory.deleteFile( fileName );
+				obsoleteFileNames.remove( fileName );
+			}
+			catch (FileNotFoundException | NoSuchFileException ignored) {
+				// The index was probably dropped in the meantime.
+				obsoleteFileNames.remove( fileName );
+			}
+			catch (IOException | RuntimeException e) {
+				// The file will be listed in the user data of the next commits until we manage to delete it.
+				obsoleteFileNames.add( fileName );
+				log.unableToDeleteWriteAheadLogFile( fileName, e.getMessage(), eventContext, e );
+			}
+		}
+	}
+
+	private static Set<String> committedFileNames(Directory directory) throws IOException {
+		if ( !DirectoryReader.indexExists( directory ) ) {
+			return Collections.emptySet();
+		}
+		String committed = SegmentInfos.readLatestCommit( directory ).getUserData().get( COMMIT_DATA_KEY );
+		if ( committed == null || committed.isEmpty() ) {
+			return Collections.emptySet();
+		}
+		return new HashSet<>( Arrays.asList( committed.split( COMMIT_DATA_SEPARATOR ) ) );
+	}
+
+	private static Long sequenceNumber(String fileName) {
+		if ( !fileName.startsWith( FILE_NAME_PREFIX ) ) {
+			return null;
+		}
+		try {
+			return Long.parseLong( fileName.substring( FILE_NAME_PREFIX.length() ), Character.MAX_RADIX );
+		}
+		catch (NumberFormatException e) {
+			// Not one of our files: ignore.
+			return null;
+		}
+	}
+
+	public interface RecordReader {
+
+		void read(DataInput input) throws IOException;
+
+	}
+
+	static final class Checkpoint {
+		private final List<String> committedFileNames;
+		private final long unloggedChangeCount;
+
+		private Checkpoint(List<String> committedFileNames, long unloggedChangeCount) {
+			this.committedFileNames = committedFileNames;
+			this.unloggedChangeCount = unloggedChangeCount;
+		}
+	}
+}
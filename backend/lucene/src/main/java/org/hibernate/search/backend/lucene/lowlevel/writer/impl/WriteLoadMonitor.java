@@ -0,0 +1,121 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.writer.impl;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.search.engine.common.timing.spi.TimingSource;
+
+/**
+ * Keeps track of the write load on an index,
+ * so that commit and refresh intervals can adapt to it.
+ * <p>
+ * The write rate is sampled at most once per {@link #SAMPLING_PERIOD},
+ * lazily, when an interval is requested,
+ * and smoothed using an exponential moving average
+ * so that a single quiet (or busy) period does not cause intervals to swing back and forth.
+ */
+public final class WriteLoadMonitor {
+
+	static final long SAMPLING_PERIOD = 1000L;
+	/**
+	 * The weight of the latest sampling period in the moving average.
+	 */
+	private static final double SMOOTHING = 0.5;
+
+	private final TimingSource timingSource;
+	private final int writeRateThreshold;
+
+	private final LongAdder writesInPeriod = new LongAdder();
+	private volatile long periodStart;
+	private volatile double smoothedWriteRate = 0.0;
+
+	/**
+	 * @param timingSource A timing source, already initialized.
+	 * @param writeRateThreshold The number of writes per second
+	 * at or above which the load is considered maximal.
+	 */
+	public WriteLoadMonitor(TimingSource timingSource, int writeRateThreshold) {
+		this.timingSource = timingSource;
+		this.writeRateThreshold = writeRateThreshold;
+		this.periodStart = timingSource.monotonicTimeEstimate();
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "writeRateThreshold=" + writeRateThreshold
+				+ ", smoothedWriteRate=" + smoothedWriteRate
+				+ "]";
+	}
+
+	public void onWrite() {
+		writesInPeriod.increment();
+	}
+
+	/**
+	 * @param min The interval to use when the index is quiet, in milliseconds.
+	 * @param max The interval to use under maximal write load, in milliseconds.
+	 * @return An interval that grows from {@code min} to {@code max} as the write load increases.
+	 */
+	public IOInterval interval(int min, int max) {
+		if ( max <= min ) {
+			return IOInterval.fixed( min );
+		}
+		return new AdaptiveInterval( min, max );
+	}
+
+	/**
+	 * @return The current load factor, between {@code 0.0} (quiet) and {@code 1.0} (maximal load).
+	 */
+	double loadFactor() {
+		if ( timingSource.monotonicTimeEstimate() - periodStart >= SAMPLING_PERIOD ) {
+			sample();
+		}
+		return Math.min( 1.0, smoothedWriteRate / writeRateThreshold );
+	}
+
+	private synchronized void sample() {
+		long now = timingSource.monotonicTimeEstimate();
+		long elapsed = now - periodStart;
+		if ( elapsed < SAMPLING_PERIOD ) {
+			// Another thread sampled in the meantime
+			return;
+		}
+		double writeRate = writesInPeriod.sumThenReset() * 1000.0 / elapsed;
+		// If sampling didn't happen for several periods, give more weight to the latest sample,
+		// as if there had been one sample per period.
+		double latestWeight = 1.0 - Math.pow( 1.0 - SMOOTHING, (double) ( elapsed / SAMPLING_PERIOD ) );
+		smoothedWriteRate = latestWeight * writeRate + ( 1.0 - latestWeight ) * smoothedWriteRate;
+		periodStart = now;
+	}
+
+	private final class AdaptiveInterval implements IOInterval {
+		private final int min;
+		private final int max;
+
+		private AdaptiveInterval(int min, int max) {
+			this.min = min;
+			this.max = max;
+		}
+
+		@Override
+		public int get() {
+			return min + (int) Math.round( ( max - min ) * loadFactor() );
+		}
+
+		@Override
+		public boolean isEverNonZero() {
+			return true;
+		}
+
+		@Override
+		public String toString() {
+			return "[" + min + ", " + max + "]";
+		}
+	}
+}
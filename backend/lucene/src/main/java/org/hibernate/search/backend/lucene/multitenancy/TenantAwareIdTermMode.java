@@ -0,0 +1,78 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.multitenancy;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.engine.cfg.spi.ParseUtils;
+import org.hibernate.search.util.common.annotation.Incubating;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * How the {@link MultiTenancyStrategyName#DISCRIMINATOR discriminator} multi-tenancy strategy
+ * identifies documents when updating or deleting them.
+ * <p>
+ * Updates and deletes are most efficient when documents can be identified by a single term,
+ * which requires a term combining the tenant ID and the document ID to be indexed.
+ * Documents indexed before that term was introduced do not have it,
+ * hence the {@link #INDEX_ONLY} value to migrate existing indexes.
+ */
+@Incubating
+public enum TenantAwareIdTermMode {
+
+	/**
+	 * The combined term is not indexed.
+	 * <p>
+	 * Documents are updated and deleted using a query on the document ID and tenant ID.
+	 */
+	DISABLED("disabled"),
+
+	/**
+	 * The combined term is indexed,
+	 * but documents are still updated and deleted using a query on the document ID and tenant ID.
+	 * <p>
+	 * Use this while reindexing an existing index,
+	 * so that documents indexed before the term was introduced are still updated and deleted correctly.
+	 */
+	INDEX_ONLY("index_only"),
+
+	/**
+	 * The combined term is indexed,
+	 * and documents are updated and deleted using that term only, which is much faster.
+	 * <p>
+	 * Only use this when all documents in the index were indexed
+	 * with {@link #INDEX_ONLY} or {@link #ENABLED}:
+	 * other documents would not be updated or deleted.
+	 */
+	ENABLED("enabled");
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static TenantAwareIdTermMode of(String value) {
+		return ParseUtils.parseDiscreteValues(
+				TenantAwareIdTermMode.values(),
+				TenantAwareIdTermMode::externalRepresentation,
+				log::invalidTenantAwareIdTermMode,
+				value
+		);
+	}
+
+	private final String externalRepresentation;
+
+	TenantAwareIdTermMode(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	/**
+	 * @return The expected string representation in configuration properties.
+	 */
+	private String externalRepresentation() {
+		return externalRepresentation;
+	}
+}
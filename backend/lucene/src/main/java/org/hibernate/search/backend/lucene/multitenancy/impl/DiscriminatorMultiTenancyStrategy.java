@@ -11,24 +11,36 @@
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.backend.lucene.multitenancy.TenantAwareIdTermMode;
 import org.hibernate.search.util.common.reporting.EventContext;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.index.Term;
 import org.apache.lucene.search.Query;
 
 public class DiscriminatorMultiTenancyStrategy implements MultiTenancyStrategy {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private final TenantAwareIdTermMode tenantAwareIdTermMode;
+
+	public DiscriminatorMultiTenancyStrategy(TenantAwareIdTermMode tenantAwareIdTermMode) {
+		this.tenantAwareIdTermMode = tenantAwareIdTermMode;
+	}
+
 	@Override
 	public boolean isMultiTenancySupported() {
 		return true;
 	}
 
 	@Override
-	public void contributeToIndexedDocument(Document document, String tenantId) {
+	public void contributeToIndexedDocument(Document document, String tenantId, String rootId) {
 		document.add( MetadataFields.searchableMetadataField( MetadataFields.tenantIdFieldName(), tenantId ) );
+		if ( !TenantAwareIdTermMode.DISABLED.equals( tenantAwareIdTermMode ) ) {
+			document.add( MetadataFields.searchableMetadataField( MetadataFields.tenantAwareIdFieldName(),
+					MetadataFields.tenantAwareId( tenantId, rootId ) ) );
+		}
 	}
 
 	@Override
@@ -36,6 +48,15 @@ public Query filterOrNull(String tenantId) {
 		return Queries.term( MetadataFields.tenantIdFieldName(), tenantId );
 	}
 
+	@Override
+	public Term idTermOrNull(String tenantId, String id) {
+		if ( !TenantAwareIdTermMode.ENABLED.equals( tenantAwareIdTermMode ) ) {
+			// Some documents may not have the tenant-aware ID: we need to rely on the filter.
+			return null;
+		}
+		return new Term( MetadataFields.tenantAwareIdFieldName(), MetadataFields.tenantAwareId( tenantId, id ) );
+	}
+
 	@Override
 	public void checkTenantId(String tenantId, EventContext backendContext) {
 		if ( tenantId == null ) {
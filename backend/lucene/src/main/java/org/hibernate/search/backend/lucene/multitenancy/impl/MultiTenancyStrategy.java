@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.multitenancy.impl;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.index.Term;
 import org.apache.lucene.search.Query;
 import org.hibernate.search.util.common.reporting.EventContext;
 
@@ -25,10 +26,11 @@ public interface MultiTenancyStrategy {
 	/**
 	 * Contributes additional information to the indexed document.
 	 *
-	 * @param document The indexed document.
+	 * @param document The indexed document, either a root document or a nested document.
 	 * @param tenantId The tenant id.
+	 * @param rootId The identifier of the root document.
 	 */
-	void contributeToIndexedDocument(Document document, String tenantId);
+	void contributeToIndexedDocument(Document document, String tenantId, String rootId);
 
 	/**
 	 * Generate a filter for the given tenant ID, to be applied to search queries
@@ -39,6 +41,18 @@ public interface MultiTenancyStrategy {
 	 */
 	Query filterOrNull(String tenantId);
 
+	/**
+	 * Generate a term identifying the given document, with its nested documents,
+	 * to be used alone in update/delete operations.
+	 *
+	 * @param tenantId The tenant id.
+	 * @param id The document identifier.
+	 * @return The term, or {@code null} if the document cannot be identified by a single term,
+	 * in which case update/delete operations must combine a term on the document identifier
+	 * with the {@link #filterOrNull(String) filter}.
+	 */
+	Term idTermOrNull(String tenantId, String id);
+
 	/**
 	 * Check that the tenant id value is consistent with the strategy.
 	 *
@@ -9,8 +9,10 @@
 import java.lang.invoke.MethodHandles;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.index.Term;
 import org.apache.lucene.search.Query;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
 import org.hibernate.search.util.common.reporting.EventContext;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
@@ -24,7 +26,7 @@ public boolean isMultiTenancySupported() {
 	}
 
 	@Override
-	public void contributeToIndexedDocument(Document document, String tenantId) {
+	public void contributeToIndexedDocument(Document document, String tenantId, String rootId) {
 		// No need to add anything to documents, the ID field (already added elsewhere) is enough
 	}
 
@@ -33,6 +35,12 @@ public Query filterOrNull(String tenantId) {
 		return null;
 	}
 
+	@Override
+	public Term idTermOrNull(String tenantId, String id) {
+		// Document IDs are unique in the index
+		return new Term( MetadataFields.idFieldName(), id );
+	}
+
 	@Override
 	public void checkTenantId(String tenantId, EventContext backendContext) {
 		if ( tenantId != null ) {
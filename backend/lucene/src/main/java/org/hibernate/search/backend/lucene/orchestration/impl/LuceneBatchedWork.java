@@ -22,6 +22,10 @@
 
 	@Override
 	public void submitTo(LuceneBatchedWorkProcessor processor) {
+		processor.submit( this );
+	}
+
+	void execute(LuceneBatchedWorkProcessor processor) {
 		try {
 			T result = processor.submit( work );
 			future.complete( result );
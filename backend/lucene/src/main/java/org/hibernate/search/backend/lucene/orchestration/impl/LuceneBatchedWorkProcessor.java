@@ -6,27 +6,127 @@
  */
 package org.hibernate.search.backend.lucene.orchestration.impl;
 
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessor;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.WriteAheadLog;
 import org.hibernate.search.backend.lucene.work.impl.IndexingWork;
+import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.backend.orchestration.spi.BatchedWorkProcessor;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
+import org.apache.lucene.store.ByteBuffersDataOutput;
+
 /**
  * A thread-safe component responsible for applying write works to an index writer.
  * <p>
+ * By default, works are applied as soon as they are submitted, in the calling thread.
+ * Processors returned by {@link #forQueue(int, ExecutorService)} may instead buffer the works of each batch,
+ * then write them to the write-ahead log and apply them, possibly from multiple threads, when the batch ends;
+ * such processors hold state for the current batch and must not be shared between queues.
+ * <p>
  * Ported from Search 5's LuceneBackendQueueTask, in particular.
  */
 public class LuceneBatchedWorkProcessor implements BatchedWorkProcessor {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final EventContext eventContext;
 	private final IndexAccessor indexAccessor;
 	private final IndexAccessorWorkExecutionContext context;
+	private final WriteAheadLog writeAheadLog;
+	private final LuceneWorkFactory workFactory;
+
+	private final int parallelism;
+	private final ExecutorService parallelExecutor;
+	private final List<List<LuceneBatchedWork<?>>> partitions;
+	private final ByteBuffersDataOutput logBuffer;
 
+	/**
+	 * @param eventContext The event context of the index.
+	 * @param indexAccessor The accessor to apply works with.
+	 * @param writeAheadLogOrNull The write-ahead log of the index, or {@code null} if the write-ahead log is disabled.
+	 * @param workFactory The factory to re-create works from the write-ahead log with.
+	 */
 	public LuceneBatchedWorkProcessor(EventContext eventContext,
-			IndexAccessor indexAccessor) {
+			IndexAccessor indexAccessor, WriteAheadLog writeAheadLogOrNull, LuceneWorkFactory workFactory) {
+		this.eventContext = eventContext;
 		this.indexAccessor = indexAccessor;
 		this.context = new IndexAccessorWorkExecutionContext( eventContext, indexAccessor );
+		this.writeAheadLog = writeAheadLogOrNull;
+		this.workFactory = workFactory;
+		this.parallelism = 1;
+		this.parallelExecutor = null;
+		this.partitions = null;
+		this.logBuffer = null;
+	}
+
+	private LuceneBatchedWorkProcessor(LuceneBatchedWorkProcessor delegate, int parallelism,
+			ExecutorService parallelExecutor) {
+		this.eventContext = delegate.eventContext;
+		this.indexAccessor = delegate.indexAccessor;
+		this.context = delegate.context;
+		this.writeAheadLog = delegate.writeAheadLog;
+		this.workFactory = delegate.workFactory;
+		this.parallelism = parallelism;
+		this.parallelExecutor = parallelExecutor;
+		this.partitions = new ArrayList<>( parallelism );
+		for ( int i = 0; i < parallelism; i++ ) {
+			partitions.add( new ArrayList<>() );
+		}
+		this.logBuffer = writeAheadLog == null ? null : new ByteBuffersDataOutput();
+	}
+
+	/**
+	 * @param parallelism The maximum number of threads applying the works of a single batch.
+	 * @param parallelExecutor The executor to apply works with, in addition to the thread ending the batch.
+	 * @return A processor buffering the works of each batch
+	 * in order to write them to the write-ahead log and apply them in parallel,
+	 * or this processor if {@code parallelism} is {@code 1} and the write-ahead log is disabled.
+	 * The returned processor must only be used by a single queue.
+	 */
+	public LuceneBatchedWorkProcessor forQueue(int parallelism, ExecutorService parallelExecutor) {
+		if ( parallelism <= 1 && writeAheadLog == null ) {
+			return this;
+		}
+		return new LuceneBatchedWorkProcessor( this, Math.max( parallelism, 1 ), parallelExecutor );
+	}
+
+	/**
+	 * Applies the works left in the write-ahead log by a previous execution, if any, then commits.
+	 * <p>
+	 * Must be called before any other work is submitted.
+	 */
+	public void replayWriteAheadLog() {
+		if ( writeAheadLog == null ) {
+			return;
+		}
+		try {
+			List<String> fileNames = writeAheadLog.start();
+			if ( fileNames.isEmpty() ) {
+				return;
+			}
+			log.replayingWriteAheadLog( fileNames.size(), eventContext );
+			for ( String fileName : fileNames ) {
+				writeAheadLog.read( fileName, input -> replay( workFactory.read( input ) ) );
+				writeAheadLog.markApplied( fileName );
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.unableToReplayWriteAheadLog( e.getMessage(), eventContext, e );
+		}
+		// Committing will also remove the replayed files.
+		commit();
 	}
 
 	@Override
@@ -36,15 +136,32 @@ public void beginBatch() {
 
 	@Override
 	public CompletableFuture<?> endBatch() {
-		try {
-			indexAccessor.commitOrDelay();
+		if ( partitions == null ) {
+			commitAfterBatch();
+			// Everything was already executed, so just return a completed future.
+			return CompletableFuture.completedFuture( null );
 		}
-		catch (RuntimeException e) {
-			indexAccessor.cleanUpAfterFailure( e, "Commit after a batch of index works" );
-			// The exception was reported to the failure handler, no need to propagate it.
+		if ( writeAheadLog == null ) {
+			return executePartitions().whenComplete( Futures.handler( (Object result, Throwable throwable) -> {
+				commitAfterBatch();
+			} ) );
 		}
-		// Everything was already executed, so just return a completed future.
-		return CompletableFuture.completedFuture( null );
+		// If a previous writer failed, this will first replay the changes it lost.
+		long applyStamp = writeAheadLog.startApplying( input -> replay( workFactory.read( input ) ) );
+		// Works must be logged before they are applied:
+		// once applied, they may be reported as complete at any time.
+		String logFileName = writeToLog();
+		return executePartitions().whenComplete( Futures.handler( (Object result, Throwable throwable) -> {
+			try {
+				if ( logFileName != null ) {
+					writeAheadLog.markApplied( logFileName );
+				}
+				commitAfterBatch();
+			}
+			finally {
+				writeAheadLog.endApplying( applyStamp );
+			}
+		} ) );
 	}
 
 	@Override
@@ -58,6 +175,20 @@ public void complete() {
 		}
 	}
 
+	void submit(LuceneBatchedWork<?> work) {
+		if ( partitions == null ) {
+			work.execute( this );
+			return;
+		}
+		// Works on the same document must be applied in the order they were submitted,
+		// so they must end up in the same partition.
+		// Works in this queue already share the same hash modulo the queue count,
+		// so we need to mix the hash before using it.
+		int hash = work.getQueuingKey().hashCode() * 0x9E3779B9;
+		int partitionIndex = (int) ( ( ( hash & 0xFFFFFFFFL ) * parallelism ) >>> 32 );
+		partitions.get( partitionIndex ).add( work );
+	}
+
 	public <T> T submit(IndexingWork<T> work) {
 		try {
 			return work.execute( context );
@@ -68,8 +199,123 @@ public <T> T submit(IndexingWork<T> work) {
 		}
 	}
 
+	private void replay(IndexingWork<?> work) {
+		try {
+			submit( work );
+		}
+		catch (RuntimeException e) {
+			// The failure was already reported when cleaning up after it.
+			// Move on to the next work: a single failing work must not prevent the index from starting.
+		}
+	}
+
+	/**
+	 * @return The name of the log file the works of the current batch were written to,
+	 * or {@code null} if none of them could be written.
+	 */
+	private String writeToLog() {
+		int workCount = 0;
+		for ( List<LuceneBatchedWork<?>> partition : partitions ) {
+			workCount += partition.size();
+		}
+		int loggedCount = 0;
+		String fileName = null;
+		logBuffer.reset();
+		try {
+			for ( List<LuceneBatchedWork<?>> partition : partitions ) {
+				for ( LuceneBatchedWork<?> work : partition ) {
+					if ( work.work.writeTo( logBuffer ) ) {
+						++loggedCount;
+					}
+				}
+			}
+			if ( loggedCount > 0 ) {
+				// A single sync for the whole batch.
+				fileName = writeAheadLog.append( logBuffer, loggedCount );
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			log.unableToWriteToWriteAheadLog( e.getMessage(), eventContext, e );
+			loggedCount = 0;
+		}
+		finally {
+			logBuffer.reset();
+		}
+		if ( loggedCount < workCount ) {
+			writeAheadLog.addUnloggedChanges( workCount - loggedCount );
+		}
+		return fileName;
+	}
+
+	private CompletableFuture<?> executePartitions() {
+		List<PartitionExecution> executions = new ArrayList<>( parallelism );
+		List<LuceneBatchedWork<?>> inCurrentThread = null;
+		for ( List<LuceneBatchedWork<?>> partition : partitions ) {
+			if ( partition.isEmpty() ) {
+				continue;
+			}
+			List<LuceneBatchedWork<?>> works = new ArrayList<>( partition );
+			partition.clear();
+			if ( inCurrentThread == null ) {
+				// Apply the works of one partition in the current thread, to avoid wasting it.
+				inCurrentThread = works;
+				continue;
+			}
+			PartitionExecution execution = new PartitionExecution( works );
+			executions.add( execution );
+			try {
+				parallelExecutor.execute( execution );
+			}
+			catch (RejectedExecutionException e) {
+				// The executor is shutting down: the works will be applied in the current thread instead.
+			}
+		}
+		if ( inCurrentThread != null ) {
+			executeAll( inCurrentThread );
+		}
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[executions.size()];
+		for ( int i = 0; i < executions.size(); i++ ) {
+			PartitionExecution execution = executions.get( i );
+			// Apply partitions that no other thread picked up yet in the current thread,
+			// so that completing the batch never requires an idle thread in the executor.
+			execution.run();
+			futures[i] = execution.future;
+		}
+		return CompletableFuture.allOf( futures );
+	}
+
+	private void executeAll(List<LuceneBatchedWork<?>> works) {
+		for ( LuceneBatchedWork<?> work : works ) {
+			work.execute( this );
+		}
+	}
+
+	private void commitAfterBatch() {
+		try {
+			if ( writeAheadLog != null && writeAheadLog.hasUnloggedChanges() ) {
+				// Some changes cannot be recovered from the write-ahead log: don't delay their commit.
+				indexAccessor.commit();
+			}
+			else {
+				indexAccessor.commitOrDelay();
+			}
+		}
+		catch (RuntimeException e) {
+			indexAccessor.cleanUpAfterFailure( e, "Commit after a batch of index works" );
+			// The exception was reported to the failure handler, no need to propagate it.
+		}
+	}
+
 	// Note this may be called outside of a batch
 	public void forceCommit() {
+		if ( writeAheadLog != null && !writeAheadLog.hasUnloggedChanges() ) {
+			// All changes applied so far were synced to the write-ahead log: they are already durable.
+			return;
+		}
+		commit();
+	}
+
+	private void commit() {
 		try {
 			indexAccessor.commit();
 		}
@@ -86,4 +332,28 @@ public void forceRefresh() {
 		indexAccessor.refresh();
 	}
 
+
+	private final class PartitionExecution implements Runnable {
+		private final List<LuceneBatchedWork<?>> works;
+		private final AtomicBoolean started = new AtomicBoolean( false );
+		private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+		private PartitionExecution(List<LuceneBatchedWork<?>> works) {
+			this.works = works;
+		}
+
+		@Override
+		public void run() {
+			if ( !started.compareAndSet( false, true ) ) {
+				return;
+			}
+			try {
+				executeAll( works );
+				future.complete( null );
+			}
+			catch (Throwable t) {
+				future.completeExceptionally( t );
+			}
+		}
+	}
 }
@@ -36,6 +36,12 @@
 					.withDefault( LuceneIndexSettings.Defaults.INDEXING_QUEUE_SIZE )
 					.build();
 
+	private static final ConfigurationProperty<Integer> BATCH_PARALLELISM =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_BATCH_PARALLELISM )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneIndexSettings.Defaults.INDEXING_BATCH_PARALLELISM )
+					.build();
+
 	private final LuceneBatchedWorkProcessor processor;
 	private final BackendThreads threads;
 	private final FailureHandler failureHandler;
@@ -72,12 +78,16 @@ public void forceRefreshInCurrentThread() {
 	protected void doStart(ConfigurationPropertySource propertySource) {
 		int queueCount = QUEUE_COUNT.get( propertySource );
 		int queueSize = QUEUE_SIZE.get( propertySource );
+		int batchParallelism = BATCH_PARALLELISM.get( propertySource );
+
+		// Works left over from a previous execution must be applied before any new work.
+		processor.replayWriteAheadLog();
 
 		executors = new ModuloHashTable<>( SimpleHashFunction.INSTANCE, queueCount );
 		for ( int i = 0; i < executors.size(); i++ ) {
 			executors.set( i, new BatchingExecutor<>(
 					name() + " - " + i,
-					processor,
+					processor.forQueue( batchParallelism, threads.getWriteExecutor() ),
 					queueSize,
 					true,
 					failureHandler
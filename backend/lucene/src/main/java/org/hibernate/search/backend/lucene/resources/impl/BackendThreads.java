@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.resources.impl;
 
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 
@@ -25,10 +26,17 @@ public class BackendThreads {
 					.asIntegerStrictlyPositive()
 					.build();
 
+	private static final ConfigurationProperty<Integer> THREAD_POOL_READ_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.THREAD_POOL_READ_SIZE )
+					.asIntegerPositiveOrZero()
+					.withDefault( LuceneBackendSettings.Defaults.THREAD_POOL_READ_SIZE )
+					.build();
+
 	private final String prefix;
 
 	private ThreadPoolProvider threadPoolProvider;
 	private ScheduledExecutorService writeExecutor;
+	private ExecutorService readExecutor;
 
 	public BackendThreads(String prefix) {
 		this.prefix = prefix;
@@ -48,11 +56,22 @@ public void onStart(ConfigurationPropertySource propertySource, ThreadPoolProvid
 		this.writeExecutor = threadPoolProvider.newScheduledExecutor(
 				threadPoolSize, prefix + " - Worker thread"
 		);
+
+		int readThreadPoolSize = THREAD_POOL_READ_SIZE.get( propertySource );
+		if ( readThreadPoolSize > 0 ) {
+			// Used by index searchers to search multiple segments concurrently.
+			// Lucene will execute slices in the calling thread if the queue is full,
+			// so we don't need to worry about the queue size here.
+			this.readExecutor = threadPoolProvider.newFixedThreadPool(
+					readThreadPoolSize, prefix + " - Read thread"
+			);
+		}
 	}
 
 	public void onStop() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
 			closer.push( ExecutorService::shutdownNow, writeExecutor );
+			closer.push( ExecutorService::shutdownNow, readExecutor );
 		}
 	}
 
@@ -66,6 +85,15 @@ public ScheduledExecutorService getWriteExecutor() {
 		return writeExecutor;
 	}
 
+	/**
+	 * @return The executor to use to search multiple segments concurrently,
+	 * or an empty optional if searches must be executed in the calling thread.
+	 */
+	public Optional<ExecutorService> getReadExecutor() {
+		checkStarted();
+		return Optional.ofNullable( readExecutor );
+	}
+
 	private void checkStarted() {
 		if ( writeExecutor == null ) {
 			throw new AssertionFailure(
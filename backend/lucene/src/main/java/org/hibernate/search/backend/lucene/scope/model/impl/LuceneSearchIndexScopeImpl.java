@@ -17,6 +17,7 @@
 
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.CachedFilterQuery;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.search.aggregation.dsl.LuceneSearchAggregationFactory;
 import org.hibernate.search.backend.lucene.search.aggregation.dsl.impl.LuceneSearchAggregationFactoryImpl;
@@ -190,7 +191,9 @@ public LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry() {
 
 	@Override
 	public Query filterOrNull(String tenantId) {
-		return multiTenancyStrategy.filterOrNull( tenantId );
+		Query filter = multiTenancyStrategy.filterOrNull( tenantId );
+		// The tenant filter is used by every single query: always cache it.
+		return filter == null ? null : new CachedFilterQuery( filter );
 	}
 
 	@Override
@@ -12,7 +12,6 @@
 import org.hibernate.search.engine.backend.types.converter.runtime.FromDocumentValueConvertContext;
 
 import org.apache.lucene.index.IndexReader;
-import org.apache.lucene.search.Collector;
 import org.apache.lucene.search.Query;
 
 public class AggregationExtractContext {
@@ -37,7 +36,7 @@ public FromDocumentValueConvertContext fromDocumentValueConvertContext() {
 		return fromDocumentValueConvertContext;
 	}
 
-	public <C extends Collector> C getCollector(CollectorKey<C> key) {
+	public <T> T getCollectorResult(CollectorKey<?, T> key) {
 		return collectors.get( key );
 	}
 
@@ -19,7 +19,7 @@ public AggregationRequestContext(ExtractionRequirements.Builder extractionRequir
 		this.extractionRequirementsBuilder = extractionRequirementsBuilder;
 	}
 
-	public <C extends Collector> void requireCollector(CollectorFactory<C> collectorFactory) {
+	public <C extends Collector, T> void requireCollector(CollectorFactory<C, T> collectorFactory) {
 		extractionRequirementsBuilder.requireCollectorForAllMatchingDocs( collectorFactory );
 	}
 }
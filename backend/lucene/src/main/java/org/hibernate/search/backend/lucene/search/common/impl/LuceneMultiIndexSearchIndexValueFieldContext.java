@@ -58,4 +58,15 @@ public Analyzer searchAnalyzerOrNormalizer() {
 				"searchAnalyzerOrNormalizer" );
 	}
 
+	@Override
+	public boolean hasLosslessDocValues() {
+		// Docvalues can only be used if they are available in every targeted index.
+		for ( LuceneSearchIndexValueFieldContext<F> indexField : nodeForEachIndex ) {
+			if ( !indexField.type().hasLosslessDocValues() ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 }
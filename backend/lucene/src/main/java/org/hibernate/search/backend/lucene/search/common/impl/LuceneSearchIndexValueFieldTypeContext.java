@@ -15,4 +15,10 @@
 
 	Analyzer searchAnalyzerOrNormalizer();
 
+	/**
+	 * @return {@code true} if the values of this field can be read from docvalues instead of stored fields,
+	 * with the exact same result.
+	 */
+	boolean hasLosslessDocValues();
+
 }
@@ -7,7 +7,11 @@
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -18,27 +22,73 @@
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 import org.hibernate.search.engine.common.timing.Deadline;
 
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectionTerminatedException;
 import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.FilterLeafCollector;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.LeafCollector;
 import org.apache.lucene.search.MultiCollector;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.TimeLimitingCollector;
 
+/**
+ * A set of collector managers, executed together in a single search.
+ * <p>
+ * When the index searcher has an executor, Lucene may search multiple segment slices concurrently,
+ * creating one composed collector per slice.
+ * The collectors of each component are then reduced separately,
+ * and the reduced results can be retrieved using {@link #get(CollectorKey)}.
+ */
 public class CollectorSet {
 
-	private final Collector composed;
-	private final Map<CollectorKey<?>, Collector> components;
+	private final Map<CollectorKey<?, ?>, Object> results = new LinkedHashMap<>();
+	private final ComposedCollectorManager composed;
 
-	private CollectorSet(Collector composed, Map<CollectorKey<?>, Collector> components) {
-		this.composed = composed;
-		this.components = components;
+	private CollectorSet(Map<CollectorKey<?, ?>, CollectorManager<?, ?>> components,
+			TimeoutManager timeoutManagerOrNull) {
+		this.composed = components.isEmpty() ? null
+				: new ComposedCollectorManager( results, components, timeoutManagerOrNull );
 	}
 
-	public Collector getComposed() {
-		return composed;
+	/**
+	 * Executes the given query, collecting matching documents with all the collectors in this set.
+	 *
+	 * @param indexSearcher The index searcher.
+	 * @param query The query to execute.
+	 * @throws IOException If Lucene throws an {@link IOException}.
+	 * @throws TimeLimitingCollector.TimeExceededException If the timeout was reached during collection.
+	 * Collectors will still have been reduced in that case, so that partial results are available.
+	 */
+	public void collect(IndexSearcher indexSearcher, Query query) throws IOException {
+		if ( composed == null ) {
+			return;
+		}
+		indexSearcher.search( query, composed );
+		if ( composed.timeExceeded != null ) {
+			throw composed.timeExceeded;
+		}
 	}
 
 	@SuppressWarnings("unchecked")
-	public <C extends Collector> C get(CollectorKey<C> key) {
-		return (C) components.get( key );
+	public <T> T get(CollectorKey<?, T> key) {
+		return (T) results.get( key );
+	}
+
+	static Collector wrapTimeLimitingCollectorIfNecessary(Collector collector, TimeoutManager timeoutManager) {
+		final Deadline deadline = timeoutManager.deadlineOrNull();
+		if ( deadline != null ) {
+			TimeLimitingCollector wrapped = new TimeLimitingCollector( collector,
+					new LuceneCounterAdapter( timeoutManager.timingSource() ),
+					deadline.checkRemainingTimeMillis() );
+			// The timeout starts from the given baseline, not from when the collector is first used.
+			// This is important because some collectors are applied during a second search.
+			wrapped.setBaseline( timeoutManager.timeoutBaseline() );
+			return wrapped;
+		}
+		return collector;
 	}
 
 	public static class Builder {
@@ -46,52 +96,132 @@ public static class Builder {
 		private final CollectorExecutionContext executionContext;
 		private final TimeoutManager timeoutManager;
 
-		private final Map<CollectorKey<?>, Collector> components = new LinkedHashMap<>();
+		private final Map<CollectorKey<?, ?>, CollectorManager<?, ?>> components = new LinkedHashMap<>();
 
 		public Builder(CollectorExecutionContext executionContext, TimeoutManager timeoutManager) {
 			this.executionContext = executionContext;
 			this.timeoutManager = timeoutManager;
 		}
 
-		public <C extends Collector> void add(CollectorKey<C> key, C collector) {
-			components.put( key, collector );
+		public <C extends Collector, T> void add(CollectorKey<C, T> key, CollectorManager<? extends C, ? extends T> manager) {
+			components.put( key, manager );
 		}
 
-		public void addAll(Set<CollectorFactory<?>> collectorFactories) throws IOException {
-			for ( CollectorFactory<?> collectorFactory : collectorFactories ) {
-				Collector collector = collectorFactory.createCollector( executionContext );
-				components.put( collectorFactory.getCollectorKey(), collector );
+		public void addAll(Set<CollectorFactory<?, ?>> collectorFactories) throws IOException {
+			for ( CollectorFactory<?, ?> collectorFactory : collectorFactories ) {
+				CollectorManager<?, ?> manager = collectorFactory.createCollectorManager( executionContext );
+				components.put( collectorFactory.getCollectorKey(), manager );
 			}
 		}
 
 		public CollectorSet build() {
-			if ( components.isEmpty() ) {
-				return new CollectorSet( null, components );
+			return new CollectorSet( components, timeoutManager.deadlineOrNull() == null ? null : timeoutManager );
+		}
+	}
+
+	private static final class ComposedCollectorManager implements CollectorManager<SliceCollector, Void> {
+
+		private final Map<CollectorKey<?, ?>, Object> results;
+		private final List<CollectorKey<?, ?>> keys;
+		private final List<CollectorManager<?, ?>> managers;
+		private final TimeoutManager timeoutManagerOrNull;
+
+		private volatile TimeLimitingCollector.TimeExceededException timeExceeded;
+
+		private ComposedCollectorManager(Map<CollectorKey<?, ?>, Object> results,
+				Map<CollectorKey<?, ?>, CollectorManager<?, ?>> components, TimeoutManager timeoutManagerOrNull) {
+			this.results = results;
+			this.keys = new ArrayList<>( components.keySet() );
+			this.managers = new ArrayList<>( components.values() );
+			this.timeoutManagerOrNull = timeoutManagerOrNull;
+		}
+
+		@Override
+		public SliceCollector newCollector() throws IOException {
+			List<Collector> sliceComponents = new ArrayList<>( managers.size() );
+			for ( CollectorManager<?, ?> manager : managers ) {
+				sliceComponents.add( manager.newCollector() );
+			}
+			// avoid to use a multi collector if we have just one collector,
+			// as MultiCollector explicitly ignores the total hit count optimization
+			Collector composed = ( sliceComponents.size() == 1 ) ? sliceComponents.get( 0 )
+					: MultiCollector.wrap( sliceComponents );
+			if ( timeoutManagerOrNull != null ) {
+				composed = wrapTimeLimitingCollectorIfNecessary( composed, timeoutManagerOrNull );
 			}
+			return new SliceCollector( this, sliceComponents, composed );
+		}
 
-			Collector composed = wrapTimeLimitingCollectorIfNecessary(
-					// avoid to use a multi collector if we have just one collector,
-					// as MultiCollector explicitly ignores the total hit count optimization
-					( components.size() == 1 ) ? components.values().iterator().next() :
-							MultiCollector.wrap( components.values() ),
-					timeoutManager
-			);
+		@Override
+		@SuppressWarnings({ "unchecked", "rawtypes" }) // Collectors at index i were created by the manager at index i
+		public Void reduce(Collection<SliceCollector> sliceCollectors) throws IOException {
+			for ( int i = 0; i < managers.size(); i++ ) {
+				List<Collector> componentCollectors = new ArrayList<>( sliceCollectors.size() );
+				for ( SliceCollector sliceCollector : sliceCollectors ) {
+					componentCollectors.add( sliceCollector.components.get( i ) );
+				}
+				CollectorManager manager = managers.get( i );
+				results.put( keys.get( i ), manager.reduce( Collections.unmodifiableList( componentCollectors ) ) );
+			}
+			return null;
+		}
+	}
 
-			return new CollectorSet( composed, components );
+	/**
+	 * The collector for a single slice of segments.
+	 * <p>
+	 * Timeouts are not propagated as exceptions from the slice collectors,
+	 * because Lucene would then skip the reduction of collectors
+	 * and may not wait for the collectors of other slices to finish,
+	 * which would prevent us from returning partial results safely.
+	 * Instead, the slice collector stops collecting
+	 * and the timeout is reported after all collectors have been reduced.
+	 */
+	private static final class SliceCollector implements Collector {
+
+		private final ComposedCollectorManager manager;
+		private final List<Collector> components;
+		private final Collector composed;
+
+		private SliceCollector(ComposedCollectorManager manager, List<Collector> components, Collector composed) {
+			this.manager = manager;
+			this.components = components;
+			this.composed = composed;
 		}
 
-		private Collector wrapTimeLimitingCollectorIfNecessary(Collector collector, TimeoutManager timeoutManager) {
-			final Deadline deadline = timeoutManager.deadlineOrNull();
-			if ( deadline != null ) {
-				TimeLimitingCollector wrapped = new TimeLimitingCollector( collector,
-						new LuceneCounterAdapter( timeoutManager.timingSource() ),
-						deadline.checkRemainingTimeMillis() );
-				// The timeout starts from the given baseline, not from when the collector is first used.
-				// This is important because some collectors are applied during a second search.
-				wrapped.setBaseline( timeoutManager.timeoutBaseline() );
-				return wrapped;
+		@Override
+		public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+			LeafCollector leafCollector;
+			try {
+				leafCollector = composed.getLeafCollector( context );
 			}
-			return collector;
+			catch (TimeLimitingCollector.TimeExceededException e) {
+				throw terminateCollection( e );
+			}
+			if ( manager.timeoutManagerOrNull == null ) {
+				return leafCollector;
+			}
+			return new FilterLeafCollector( leafCollector ) {
+				@Override
+				public void collect(int doc) throws IOException {
+					try {
+						super.collect( doc );
+					}
+					catch (TimeLimitingCollector.TimeExceededException e) {
+						throw terminateCollection( e );
+					}
+				}
+			};
+		}
+
+		@Override
+		public ScoreMode scoreMode() {
+			return composed.scoreMode();
+		}
+
+		private CollectionTerminatedException terminateCollection(TimeLimitingCollector.TimeExceededException e) {
+			manager.timeExceeded = e;
+			return new CollectionTerminatedException();
 		}
 	}
 
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Set;
@@ -14,19 +15,22 @@
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.StoredFieldsValuesDelegate;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.TotalHitCountCollectorManager;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 
 import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.SortField;
-import org.apache.lucene.search.TopDocsCollector;
+import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TopFieldCollector;
+import org.apache.lucene.search.TopFieldDocs;
 import org.apache.lucene.search.TopScoreDocCollector;
-import org.apache.lucene.search.TotalHitCountCollector;
 
 /**
  * Regroups information about the data used as input of extraction (projections or aggregations):
@@ -35,7 +39,7 @@
 public final class ExtractionRequirements {
 
 	private final boolean requireScore;
-	private final Set<CollectorFactory<?>> requiredCollectorForAllMatchingDocsFactories;
+	private final Set<CollectorFactory<?, ?>> requiredCollectorForAllMatchingDocsFactories;
 	private final StoredFieldsValuesDelegate.Factory storedFieldsSourceFactoryOrNull;
 
 	private ExtractionRequirements(Builder builder) {
@@ -45,7 +49,7 @@ private ExtractionRequirements(Builder builder) {
 	}
 
 	public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query originalLuceneQuery, Sort sort,
-			IndexReaderMetadataResolver metadataResolver, int maxDocs, TimeoutManager timeoutManager,
+			IndexReaderMetadataResolver metadataResolver, int maxDocs, FieldDoc after, TimeoutManager timeoutManager,
 			int requestedTotalHitCountThreshold)
 			throws IOException {
 		// Necessary to unwrap boolean queries with a single clause, in particular:
@@ -63,7 +67,7 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query orig
 			totalHitCountThreshold = requestedTotalHitCountThreshold;
 		}
 
-		TopDocsCollector<?> topDocsCollector = null;
+		boolean hasTopDocsCollector = false;
 		Integer scoreSortFieldIndexForRescoring = null;
 		boolean requireFieldDocRescoring = false;
 
@@ -74,8 +78,9 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query orig
 				new CollectorSet.Builder( executionContext, timeoutManager );
 
 		if ( maxDocs > 0 ) {
-			if ( sort == null || isDescendingScoreSort( sort ) ) {
-				topDocsCollector = TopScoreDocCollector.create( maxDocs, totalHitCountThreshold );
+			if ( !collectsFieldDocs( sort ) ) {
+				collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOP_DOCS_KEY,
+						createTopScoreDocCollectorManager( indexSearcher, maxDocs, after, totalHitCountThreshold ) );
 			}
 			else {
 				if ( requireScore ) {
@@ -86,18 +91,19 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query orig
 					// If there's a SCORE sort field, make sure we remember that, so that later we can optimize rescoring
 					scoreSortFieldIndexForRescoring = getScoreSortFieldIndexOrNull( sort );
 				}
-				topDocsCollector = TopFieldCollector.create( sort, maxDocs, totalHitCountThreshold );
+				collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOP_DOCS_KEY,
+						createTopFieldCollectorManager( indexSearcher, sort, maxDocs, after, totalHitCountThreshold ) );
 			}
-			collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOP_DOCS_KEY, topDocsCollector );
+			hasTopDocsCollector = true;
 		}
 
-		if ( topDocsCollector == null && totalHitCountThreshold > 0 ) {
+		if ( !hasTopDocsCollector && totalHitCountThreshold > 0 ) {
 			// Normally the topDocsCollector collects the total hit count,
 			// but if it's not there and not all docs are matched, we need a separate collector.
 			// Note that adding this collector can have a significant cost in some situations
 			// (e.g. for queries matching many hits), so we only add it if it's really necessary.
-			TotalHitCountCollector totalHitCountCollector = new TotalHitCountCollector();
-			collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOTAL_HIT_COUNT_KEY, totalHitCountCollector );
+			collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOTAL_HIT_COUNT_KEY,
+					TotalHitCountCollectorManager.INSTANCE );
 		}
 		collectorsForAllMatchingDocsBuilder.addAll( requiredCollectorForAllMatchingDocsFactories );
 		CollectorSet collectorsForAllMatchingDocs = collectorsForAllMatchingDocsBuilder.build();
@@ -113,12 +119,63 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query orig
 		);
 	}
 
-	private boolean isDescendingScoreSort(Sort sort) {
+	private static CollectorManager<TopScoreDocCollector, TopDocs> createTopScoreDocCollectorManager(
+			IndexSearcher indexSearcher, int maxDocs, FieldDoc after, int totalHitCountThreshold) {
+		if ( indexSearcher.getExecutor() != null ) {
+			// Segments may be searched concurrently:
+			// collectors must share the hit count and minimum competitive score.
+			return TopScoreDocCollector.createSharedManager( maxDocs, after, totalHitCountThreshold );
+		}
+		// Segments are searched sequentially by a single collector: no need for synchronization.
+		return new CollectorManager<TopScoreDocCollector, TopDocs>() {
+			@Override
+			public TopScoreDocCollector newCollector() {
+				return TopScoreDocCollector.create( maxDocs, after, totalHitCountThreshold );
+			}
+
+			@Override
+			public TopDocs reduce(Collection<TopScoreDocCollector> collectors) {
+				return collectors.iterator().next().topDocs();
+			}
+		};
+	}
+
+	private static CollectorManager<TopFieldCollector, TopFieldDocs> createTopFieldCollectorManager(
+			IndexSearcher indexSearcher, Sort sort, int maxDocs, FieldDoc after, int totalHitCountThreshold) {
+		if ( indexSearcher.getExecutor() != null ) {
+			// Segments may be searched concurrently:
+			// collectors must share the hit count and minimum competitive score.
+			return TopFieldCollector.createSharedManager( sort, maxDocs, after, totalHitCountThreshold );
+		}
+		// Segments are searched sequentially by a single collector: no need for synchronization.
+		return new CollectorManager<TopFieldCollector, TopFieldDocs>() {
+			@Override
+			public TopFieldCollector newCollector() {
+				return TopFieldCollector.create( sort, maxDocs, after, totalHitCountThreshold );
+			}
+
+			@Override
+			public TopFieldDocs reduce(Collection<TopFieldCollector> collectors) {
+				return collectors.iterator().next().topDocs();
+			}
+		};
+	}
+
+	/**
+	 * @param sort The sort of a query, or {@code null}.
+	 * @return {@code true} if the top docs collected for this sort are {@link FieldDoc}s holding one value per sort field,
+	 * {@code false} if they are simple {@link org.apache.lucene.search.ScoreDoc}s sorted by descending score.
+	 */
+	public static boolean collectsFieldDocs(Sort sort) {
+		return sort != null && !isDescendingScoreSort( sort );
+	}
+
+	private static boolean isDescendingScoreSort(Sort sort) {
 		SortField[] fields = sort.getSort();
 		return fields.length == 1 && isDescendingScoreSort( fields[0] );
 	}
 
-	private boolean isDescendingScoreSort(SortField sortField) {
+	private static boolean isDescendingScoreSort(SortField sortField) {
 		return SortField.Type.SCORE == sortField.getType() && !sortField.getReverse();
 	}
 
@@ -136,7 +193,7 @@ private Integer getScoreSortFieldIndexOrNull(Sort sort) {
 	public static class Builder {
 
 		private boolean requireScore;
-		private final Set<CollectorFactory<?>> requiredCollectorForAllMatchingDocsFactories = new LinkedHashSet<>();
+		private final Set<CollectorFactory<?, ?>> requiredCollectorForAllMatchingDocsFactories = new LinkedHashSet<>();
 
 		private boolean requireAllStoredFields = false;
 		private final Set<String> requiredStoredFields = new HashSet<>();
@@ -146,7 +203,7 @@ public void requireScore() {
 			this.requireScore = true;
 		}
 
-		public <C extends Collector> void requireCollectorForAllMatchingDocs(CollectorFactory<C> collectorFactory) {
+		public <C extends Collector, T> void requireCollectorForAllMatchingDocs(CollectorFactory<C, T> collectorFactory) {
 			requiredCollectorForAllMatchingDocsFactories.add( collectorFactory );
 		}
 
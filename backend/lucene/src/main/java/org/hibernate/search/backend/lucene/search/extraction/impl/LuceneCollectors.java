@@ -8,6 +8,7 @@
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
@@ -22,7 +23,6 @@
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 import org.hibernate.search.util.common.AssertionFailure;
 
-import org.apache.lucene.search.Collector;
 import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
@@ -38,8 +38,8 @@
 
 public class LuceneCollectors {
 
-	static final CollectorKey<TotalHitCountCollector> TOTAL_HIT_COUNT_KEY = CollectorKey.create();
-	static final CollectorKey<TopDocsCollector<?>> TOP_DOCS_KEY = CollectorKey.create();
+	static final CollectorKey<TotalHitCountCollector, Integer> TOTAL_HIT_COUNT_KEY = CollectorKey.create();
+	static final CollectorKey<TopDocsCollector<?>, TopDocs> TOP_DOCS_KEY = CollectorKey.create();
 
 	private final IndexReaderMetadataResolver metadataResolver;
 
@@ -89,10 +89,7 @@ public void collectMatchingDocs(int offset, Integer limit) throws IOException {
 		}
 
 		try {
-			Collector composed = collectorsForAllMatchingDocs.getComposed();
-			if ( composed != null ) {
-				indexSearcher.search( rewrittenLuceneQuery, composed );
-			}
+			collectorsForAllMatchingDocs.collect( indexSearcher, rewrittenLuceneQuery );
 		}
 		catch (TimeLimitingCollector.TimeExceededException e) {
 			Deadline deadline = timeoutManager.deadlineOrNull();
@@ -111,22 +108,22 @@ private void processCollectedMatchingDocs(int offset, Integer limit) throws IOEx
 			resultTotal = SimpleSearchResultTotal.exact( indexSearcher.getIndexReader().numDocs() );
 		}
 		else {
-			TotalHitCountCollector totalHitCountCollector = collectorsForAllMatchingDocs.get( TOTAL_HIT_COUNT_KEY );
-			if ( totalHitCountCollector != null ) {
+			Integer totalHitCount = collectorsForAllMatchingDocs.get( TOTAL_HIT_COUNT_KEY );
+			if ( totalHitCount != null ) {
 				boolean exact = !timeoutManager.isTimedOut();
-				resultTotal = SimpleSearchResultTotal.of( totalHitCountCollector.getTotalHits(), exact );
+				resultTotal = SimpleSearchResultTotal.of( totalHitCount, exact );
 			}
 		}
 
-		TopDocsCollector<?> topDocsCollector = collectorsForAllMatchingDocs.get( TOP_DOCS_KEY );
-		if ( topDocsCollector == null ) {
+		TopDocs allTopDocs = collectorsForAllMatchingDocs.get( TOP_DOCS_KEY );
+		if ( allTopDocs == null ) {
 			if ( resultTotal == null ) {
 				resultTotal = SimpleSearchResultTotal.lowerBound( 0 );
 			}
 			return;
 		}
 
-		extractTopDocs( topDocsCollector, offset, limit );
+		extractTopDocs( allTopDocs, offset, limit );
 		if ( resultTotal == null ) {
 			boolean exact = TotalHits.Relation.EQUAL_TO.equals( topDocs.totalHits.relation )
 					&& !timeoutManager.isTimedOut();
@@ -164,9 +161,11 @@ public <T> List<T> collectTopDocsData(TopDocsDataCollector.Factory<T> collectorF
 		try {
 			ScoreDoc[] scoreDocs = topDocs.scoreDocs;
 			ExplicitDocIdsQuery topDocsQuery = new ExplicitDocIdsQuery( scoreDocs, startInclusive, endExclusive );
-			CollectorSet collectorsForTopDocs = buildTopDocsDataCollectors( collectorFactory );
-			indexSearcher.search( topDocsQuery, collectorsForTopDocs.getComposed() );
-			TopDocsDataCollector<T> topDocsDataCollector = collectorsForTopDocs.get( collectorFactory );
+			// Top docs are few, and collecting their data relies on state that is not thread-safe
+			// (in particular stored fields): we always collect them in the calling thread.
+			TopDocsDataCollector<T> topDocsDataCollector = createTopDocsDataCollector( collectorFactory );
+			indexSearcher.search( topDocsQuery,
+					CollectorSet.wrapTimeLimitingCollectorIfNecessary( topDocsDataCollector, timeoutManager ) );
 			for ( int i = startInclusive; i < endExclusive; i++ ) {
 				extractedData.add( topDocsDataCollector.get( scoreDocs[i].doc ) );
 			}
@@ -189,28 +188,16 @@ public TopDocs getTopDocs() {
 		return topDocs;
 	}
 
-	private void extractTopDocs(TopDocsCollector<?> topDocsCollector, int offset, Integer limit) {
-		if ( offset >= topDocsCollector.getTotalHits() ) {
-			// Hack.
-			// In this case, we cannot execute the code below as Lucene considers we passed incorrect arguments
-			// and returns a TopDocs instance with no ScoreDocs (correct)
-			// and a total hit count set to 0 (not always correct).
-			// Also, we cannot reconstruct the total hit count from just the collector
-			// since we don't have access to the relation (EQUAL/GT_OR_EQUAL).
-			// So we get just one topDoc, and infer everything from there.
-			TopDocs firstTopDoc = topDocsCollector.topDocs( 0, 1 );
-			topDocs = firstTopDoc instanceof TopFieldDocs
-					? new TopFieldDocs( firstTopDoc.totalHits, new FieldDoc[0], ( (TopFieldDocs) firstTopDoc ).fields )
-					: new TopDocs( firstTopDoc.totalHits, new ScoreDoc[0] );
-			return;
-		}
-
-		if ( limit == null ) {
-			topDocs = topDocsCollector.topDocs( offset );
-		}
-		else {
-			topDocs = topDocsCollector.topDocs( offset, limit );
-		}
+	private void extractTopDocs(TopDocs allTopDocs, int offset, Integer limit) {
+		// allTopDocs contains at most (offset + limit) top docs, and the exact or approximate total hit count.
+		ScoreDoc[] allScoreDocs = allTopDocs.scoreDocs;
+		int startInclusive = Math.min( offset, allScoreDocs.length );
+		int endExclusive = limit == null ? allScoreDocs.length
+				: (int) Math.min( (long) offset + limit, allScoreDocs.length );
+		ScoreDoc[] scoreDocs = Arrays.copyOfRange( allScoreDocs, startInclusive, endExclusive );
+		topDocs = allTopDocs instanceof TopFieldDocs
+				? new TopFieldDocs( allTopDocs.totalHits, scoreDocs, ( (TopFieldDocs) allTopDocs ).fields )
+				: new TopDocs( allTopDocs.totalHits, scoreDocs );
 	}
 
 	private void handleRescoring() throws IOException {
@@ -228,17 +215,14 @@ private void handleRescoring() throws IOException {
 		}
 	}
 
-	private <T> CollectorSet buildTopDocsDataCollectors(TopDocsDataCollector.Factory<T> collectorFactory) throws IOException {
+	private <T> TopDocsDataCollector<T> createTopDocsDataCollector(TopDocsDataCollector.Factory<T> collectorFactory)
+			throws IOException {
 		TopDocsDataCollectorExecutionContext executionContext = new TopDocsDataCollectorExecutionContext(
 				metadataResolver, indexSearcher,
 				rewrittenLuceneQuery,
 				topDocs,
 				storedFieldsValuesDelegateOrNull
 		);
-
-		CollectorSet.Builder collectorForTopDocsBuilder =
-				new CollectorSet.Builder( executionContext, timeoutManager );
-		collectorForTopDocsBuilder.add( collectorFactory, collectorFactory.create( executionContext ) );
-		return collectorForTopDocsBuilder.build();
+		return collectorFactory.create( executionContext );
 	}
 }
@@ -24,4 +24,20 @@ public interface LuceneSearchPredicateFactory extends ExtendedSearchPredicateFac
 	 */
 	PredicateFinalStep fromLuceneQuery(Query query);
 
+	/**
+	 * Create a predicate matching the same documents as the given predicate,
+	 * but whose matching documents are always cached, for each index segment, in the query cache.
+	 * <p>
+	 * This is useful for filters that are expensive to compute and reused across many queries,
+	 * e.g. access-control filters.
+	 * <p>
+	 * The resulting predicate does not contribute to the score,
+	 * and caching only happens when the predicate is executed in a non-scoring context,
+	 * e.g. in a {@code filter} clause of a boolean predicate.
+	 *
+	 * @param predicate The predicate whose matching documents should be cached.
+	 * @return The final step of the predicate DSL.
+	 */
+	PredicateFinalStep cachedFilter(PredicateFinalStep predicate);
+
 }
@@ -37,4 +37,10 @@ public LuceneSearchPredicateFactory withRoot(String objectFieldPath) {
 	public PredicateFinalStep fromLuceneQuery(Query luceneQuery) {
 		return new StaticPredicateFinalStep( dslContext.scope().predicateBuilders().fromLuceneQuery( luceneQuery ) );
 	}
+
+	@Override
+	public PredicateFinalStep cachedFilter(PredicateFinalStep predicate) {
+		return new StaticPredicateFinalStep( dslContext.scope().predicateBuilders()
+				.cachedFilter( predicate.toPredicate() ) );
+	}
 }
@@ -0,0 +1,38 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.predicate.impl;
+
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.CachedFilterQuery;
+
+import org.apache.lucene.search.Query;
+
+
+class LuceneCachedFilterPredicate implements LuceneSearchPredicate {
+
+	private final LuceneSearchPredicate delegate;
+
+	LuceneCachedFilterPredicate(LuceneSearchPredicate delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public Set<String> indexNames() {
+		return delegate.indexNames();
+	}
+
+	@Override
+	public void checkNestableWithin(String expectedParentNestedPath) {
+		delegate.checkNestableWithin( expectedParentNestedPath );
+	}
+
+	@Override
+	public Query toQuery(PredicateRequestContext context) {
+		return new CachedFilterQuery( delegate.toQuery( context ) );
+	}
+}
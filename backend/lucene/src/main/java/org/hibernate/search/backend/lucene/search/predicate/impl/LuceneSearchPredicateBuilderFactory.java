@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.search.predicate.impl;
 
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexScope;
+import org.hibernate.search.engine.search.predicate.SearchPredicate;
 import org.hibernate.search.engine.search.predicate.spi.BooleanPredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.MatchAllPredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.MatchIdPredicateBuilder;
@@ -53,4 +54,8 @@ public SimpleQueryStringPredicateBuilder simpleQueryString() {
 	public LuceneSearchPredicate fromLuceneQuery(Query query) {
 		return new LuceneUserProvidedLuceneQueryPredicate( scope, query );
 	}
+
+	public LuceneSearchPredicate cachedFilter(SearchPredicate predicate) {
+		return new LuceneCachedFilterPredicate( LuceneSearchPredicate.from( scope, predicate ) );
+	}
 }
@@ -6,8 +6,10 @@
  */
 package org.hibernate.search.backend.lucene.search.projection.impl;
 
+import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.util.function.Function;
+import java.util.function.LongFunction;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.StoredFieldsValuesDelegate;
@@ -16,6 +18,7 @@
 import org.hibernate.search.backend.lucene.search.common.impl.AbstractLuceneCodecAwareSearchQueryElementFactory;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexScope;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexValueFieldContext;
+import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneNumericFieldCodec;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
 import org.hibernate.search.engine.backend.types.converter.runtime.FromDocumentValueConvertContext;
 import org.hibernate.search.engine.backend.types.converter.spi.ProjectionConverter;
@@ -27,8 +30,10 @@
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.index.DocValues;
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedNumericDocValues;
 import org.apache.lucene.search.DocIdSetIterator;
 
 /**
@@ -45,23 +50,34 @@
 	private final String requiredContextAbsoluteFieldPath;
 
 	private final Function<IndexableField, F> decodeFunction;
+	private final LongFunction<F> docValueDecodeFunctionOrNull;
 	private final ProjectionConverter<F, ? extends V> converter;
 	private final ProjectionAccumulator.Provider<V, P> accumulatorProvider;
 
 	private LuceneFieldProjection(Builder<F, V> builder, ProjectionAccumulator.Provider<V, P> accumulatorProvider) {
-		this( builder.scope, builder.field, builder.codec::decode, builder.converter, accumulatorProvider );
+		this( builder.scope, builder.field, builder.codec::decode, builder.docValueDecodeFunctionOrNull(),
+				builder.converter, accumulatorProvider );
 	}
 
 	LuceneFieldProjection(LuceneSearchIndexScope<?> scope,
 			LuceneSearchIndexValueFieldContext<?> field,
 			Function<IndexableField, F> decodeFunction, ProjectionConverter<F, ? extends V> converter,
 			ProjectionAccumulator.Provider<V, P> accumulatorProvider) {
+		this( scope, field, decodeFunction, null, converter, accumulatorProvider );
+	}
+
+	private LuceneFieldProjection(LuceneSearchIndexScope<?> scope,
+			LuceneSearchIndexValueFieldContext<?> field,
+			Function<IndexableField, F> decodeFunction, LongFunction<F> docValueDecodeFunctionOrNull,
+			ProjectionConverter<F, ? extends V> converter,
+			ProjectionAccumulator.Provider<V, P> accumulatorProvider) {
 		super( scope );
 		this.absoluteFieldPath = field.absolutePath();
 		this.nestedDocumentPath = field.nestedDocumentPath();
 		this.requiredContextAbsoluteFieldPath = accumulatorProvider.isSingleValued()
 				? field.closestMultiValuedParentAbsolutePath() : null;
 		this.decodeFunction = decodeFunction;
+		this.docValueDecodeFunctionOrNull = docValueDecodeFunctionOrNull;
 		this.converter = converter;
 		this.accumulatorProvider = accumulatorProvider;
 	}
@@ -82,7 +98,10 @@ public ValueFieldExtractor<?> request(ProjectionRequestContext context) {
 			throw log.invalidSingleValuedProjectionOnValueFieldInMultiValuedObjectField(
 					absoluteFieldPath, requiredContextAbsoluteFieldPath );
 		}
-		context.requireStoredField( absoluteFieldPath, nestedDocumentPath );
+		if ( docValueDecodeFunctionOrNull == null ) {
+			context.requireStoredField( absoluteFieldPath, nestedDocumentPath );
+		}
+		// Otherwise, values will be read from docvalues: no need to load stored fields.
 		return new ValueFieldExtractor<>( context.absoluteCurrentFieldPath(), accumulatorProvider.get() );
 	}
 
@@ -109,9 +128,40 @@ public String toString() {
 
 		@Override
 		public Values<A> values(ProjectionExtractContext context) {
+			if ( docValueDecodeFunctionOrNull != null ) {
+				return new DocValuesFieldValues( accumulator, context.collectorExecutionContext() );
+			}
 			return new StoredFieldValues( accumulator, context.collectorExecutionContext() );
 		}
 
+		private class DocValuesFieldValues extends AbstractNestingAwareAccumulatingValues<F, A> {
+			private SortedNumericDocValues currentLeafValues;
+
+			public DocValuesFieldValues(ProjectionAccumulator<F, V, A, P> accumulator,
+					TopDocsDataCollectorExecutionContext context) {
+				super( contextAbsoluteFieldPath, nestedDocumentPath, accumulator, context );
+			}
+
+			@Override
+			protected DocIdSetIterator doContext(LeafReaderContext context) throws IOException {
+				currentLeafValues = DocValues.getSortedNumeric( context.reader(), absoluteFieldPath );
+				return currentLeafValues;
+			}
+
+			@Override
+			protected A accumulate(A accumulated, int docId) throws IOException {
+				if ( currentLeafValues.advanceExact( docId ) ) {
+					// The field is single-valued, so we don't need to care about
+					// docvalues being sorted differently from the original values.
+					for ( int i = 0; i < currentLeafValues.docValueCount(); i++ ) {
+						F decoded = docValueDecodeFunctionOrNull.apply( currentLeafValues.nextValue() );
+						accumulated = accumulator.accumulate( accumulated, decoded );
+					}
+				}
+				return accumulated;
+			}
+		}
+
 		private class StoredFieldValues extends AbstractNestingAwareAccumulatingValues<F, A> {
 			private final StoredFieldsValuesDelegate delegate;
 
@@ -209,5 +259,23 @@ public <P> SearchProjection<P> build(ProjectionAccumulator.Provider<V, P> accumu
 			}
 			return new LuceneFieldProjection<>( this, accumulatorProvider );
 		}
+
+		private LongFunction<F> docValueDecodeFunctionOrNull() {
+			// Docvalues are sorted by value, so we can only use them when the order of values doesn't matter,
+			// i.e. when each (possibly nested) document holds at most one value.
+			if ( field.multiValued() || !hasAtMostOneValuePerDocument()
+					|| !field.type().hasLosslessDocValues()
+					|| !( codec instanceof AbstractLuceneNumericFieldCodec ) ) {
+				return null;
+			}
+			return ( (AbstractLuceneNumericFieldCodec<F, ?>) codec )::decodeFromDocValue;
+		}
+
+		private boolean hasAtMostOneValuePerDocument() {
+			// A multi-valued flattened object would put multiple values in the same document.
+			String closestMultiValuedParentPath = field.closestMultiValuedParentAbsolutePath();
+			return closestMultiValuedParentPath == null
+					|| closestMultiValuedParentPath.equals( field.nestedDocumentPath() );
+		}
 	}
 }
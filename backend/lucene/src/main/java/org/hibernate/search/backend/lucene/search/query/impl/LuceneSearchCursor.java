@@ -0,0 +1,108 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.search.extraction.impl.ExtractionRequirements;
+import org.hibernate.search.engine.search.query.SearchCursor;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.util.BytesRef;
+
+/**
+ * A cursor pointing to a Lucene top doc,
+ * i.e. holding the values that top doc was sorted by, and its document ID as a tie-breaker.
+ */
+final class LuceneSearchCursor implements SearchCursor {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	static LuceneSearchCursor of(ScoreDoc scoreDoc) {
+		Serializable[] sortValues = null;
+		if ( scoreDoc instanceof FieldDoc && ( (FieldDoc) scoreDoc ).fields != null ) {
+			Object[] fields = ( (FieldDoc) scoreDoc ).fields;
+			sortValues = new Serializable[fields.length];
+			for ( int i = 0; i < fields.length; i++ ) {
+				sortValues[i] = toSerializable( fields[i] );
+			}
+		}
+		return new LuceneSearchCursor( scoreDoc.doc, scoreDoc.score, sortValues );
+	}
+
+	static FieldDoc toFieldDoc(SearchCursor cursor, Sort sort) {
+		if ( !( cursor instanceof LuceneSearchCursor ) ) {
+			throw log.invalidSearchCursor( cursor );
+		}
+		return ( (LuceneSearchCursor) cursor ).toFieldDoc( sort );
+	}
+
+	private final int doc;
+	private final float score;
+	// null when top docs are sorted by descending score, in which case we only need the score.
+	private final Serializable[] sortValues;
+
+	private LuceneSearchCursor(int doc, float score, Serializable[] sortValues) {
+		this.doc = doc;
+		this.score = score;
+		this.sortValues = sortValues;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "doc=" + doc
+				+ ", score=" + score
+				+ ", sortValues=" + Arrays.toString( sortValues )
+				+ "]";
+	}
+
+	private FieldDoc toFieldDoc(Sort sort) {
+		if ( !ExtractionRequirements.collectsFieldDocs( sort ) ) {
+			if ( sortValues != null ) {
+				throw log.invalidSearchCursor( this );
+			}
+			return new FieldDoc( doc, score );
+		}
+		if ( sortValues == null || sortValues.length != sort.getSort().length ) {
+			throw log.invalidSearchCursor( this );
+		}
+		Object[] fields = new Object[sortValues.length];
+		for ( int i = 0; i < sortValues.length; i++ ) {
+			fields[i] = fromSerializable( sortValues[i] );
+		}
+		return new FieldDoc( doc, score, fields );
+	}
+
+	private static Serializable toSerializable(Object sortValue) {
+		if ( sortValue instanceof BytesRef ) {
+			// BytesRef is not serializable: only keep its bytes.
+			return BytesRef.deepCopyOf( (BytesRef) sortValue ).bytes;
+		}
+		else if ( sortValue == null || sortValue instanceof Serializable ) {
+			return (Serializable) sortValue;
+		}
+		else {
+			throw log.unableToCreateSearchCursorForNonSerializableSortValue( sortValue );
+		}
+	}
+
+	private static Object fromSerializable(Serializable sortValue) {
+		if ( sortValue instanceof byte[] ) {
+			return new BytesRef( (byte[]) sortValue );
+		}
+		else {
+			return sortValue;
+		}
+	}
+}
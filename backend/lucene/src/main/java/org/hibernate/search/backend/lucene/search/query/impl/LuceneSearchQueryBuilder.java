@@ -18,6 +18,7 @@
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.CachedFilterQuery;
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSyncWorkOrchestrator;
 import org.hibernate.search.backend.lucene.search.aggregation.impl.AggregationRequestContext;
@@ -183,7 +184,7 @@ public LuceneSearchQuery<H> build() {
 		luceneQueryBuilder.add( luceneQuery, Occur.MUST );
 		if ( scope.hasNestedDocuments() ) {
 			// HSEARCH-4018: this filter has a (small) cost, so we only add it if necessary.
-			luceneQueryBuilder.add( Queries.mainDocumentQuery(), Occur.FILTER );
+			luceneQueryBuilder.add( new CachedFilterQuery( Queries.mainDocumentQuery() ), Occur.FILTER );
 		}
 		if ( !routingKeys.isEmpty() ) {
 			Query routingKeysQuery = Queries.anyTerm( MetadataFields.routingKeyFieldName(), routingKeys );
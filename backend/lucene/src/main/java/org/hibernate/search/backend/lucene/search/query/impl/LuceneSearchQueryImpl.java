@@ -27,6 +27,7 @@
 import org.hibernate.search.engine.backend.types.converter.spi.DslConverter;
 import org.hibernate.search.engine.common.dsl.spi.DslExtensionState;
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContext;
+import org.hibernate.search.engine.search.query.SearchCursor;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
@@ -34,6 +35,7 @@
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.Sort;
 
@@ -100,6 +102,12 @@ public LuceneSearchResult<H> fetch(Integer offset, Integer limit) {
 		return doFetch( offset, limit, true );
 	}
 
+	@Override
+	public LuceneSearchResult<H> fetchAfter(SearchCursor cursor, Integer limit) {
+		FieldDoc after = cursor == null ? null : LuceneSearchCursor.toFieldDoc( cursor, luceneSort );
+		return doFetch( workFactory.searchAfter( searcher, after, limit, totalHitCountThreshold( true ) ) );
+	}
+
 	@Override
 	public List<H> fetchHits(Integer offset, Integer limit) {
 		return doFetch( offset, limit, false ).hits();
@@ -172,9 +180,11 @@ public void failAfter(long timeout, TimeUnit timeUnit) {
 	}
 
 	private LuceneSearchResult<H> doFetch(Integer offset, Integer limit, boolean trackTotalHitCount) {
+		return doFetch( workFactory.search( searcher, offset, limit, totalHitCountThreshold( trackTotalHitCount ) ) );
+	}
+
+	private LuceneSearchResult<H> doFetch(ReadWork<LuceneLoadableSearchResult<H>> work) {
 		timeoutManager.start();
-		ReadWork<LuceneLoadableSearchResult<H>> work = workFactory.search( searcher, offset, limit,
-				totalHitCountThreshold( trackTotalHitCount ) );
 		LuceneSearchResult<H> result = doSubmit( work )
 				/*
 				 * WARNING: the following call must run in the user thread.
@@ -12,6 +12,7 @@
 
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchResult;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchCursor;
 import org.hibernate.search.engine.search.query.SearchResultTotal;
 import org.hibernate.search.engine.search.query.spi.SimpleSearchResult;
 
@@ -32,4 +33,12 @@
 	public TopDocs topDocs() {
 		return topDocs;
 	}
+
+	@Override
+	public SearchCursor nextCursor() {
+		if ( topDocs == null || topDocs.scoreDocs.length == 0 ) {
+			return null;
+		}
+		return LuceneSearchCursor.of( topDocs.scoreDocs[topDocs.scoreDocs.length - 1] );
+	}
 }
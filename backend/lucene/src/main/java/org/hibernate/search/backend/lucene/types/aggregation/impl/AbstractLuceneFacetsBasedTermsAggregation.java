@@ -106,7 +106,7 @@ abstract Set<T> collectFirstTerms(IndexReader reader, boolean descending, int li
 	abstract F termToFieldValue(T key);
 
 	private List<Bucket<T>> getTopBuckets(AggregationExtractContext context) throws IOException {
-		FacetsCollector facetsCollector = context.getCollector( FacetsCollectorFactory.KEY );
+		FacetsCollector facetsCollector = context.getCollectorResult( FacetsCollectorFactory.KEY );
 
 		NestedDocsProvider nestedDocsProvider = createNestedDocsProvider( context );
 
@@ -66,7 +66,7 @@ public void request(AggregationRequestContext context) {
 	public Map<Range<K>, Long> extract(AggregationExtractContext context) throws IOException {
 		LuceneNumericDomain<E> numericDomain = codec.getDomain();
 
-		FacetsCollector facetsCollector = context.getCollector( FacetsCollectorFactory.KEY );
+		FacetsCollector facetsCollector = context.getCollectorResult( FacetsCollectorFactory.KEY );
 
 		NestedDocsProvider nestedDocsProvider = createNestedDocsProvider( context );
 
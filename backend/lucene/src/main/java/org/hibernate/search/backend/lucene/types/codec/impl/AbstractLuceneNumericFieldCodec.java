@@ -63,10 +63,32 @@ public boolean isCompatibleWith(LuceneFieldCodec<?> obj) {
 		return getClass() == obj.getClass();
 	}
 
+	/**
+	 * @return {@code true} if values of this field can be retrieved from docvalues
+	 * using {@link #decodeFromDocValue(long)},
+	 * producing exactly the same values as {@link #decode(org.apache.lucene.index.IndexableField)}
+	 * would from stored fields.
+	 */
+	public final boolean hasLosslessDocValues() {
+		return DocValues.ENABLED == docValues && isDocValueEncodingLossless();
+	}
+
+	public final F decodeFromDocValue(long docValue) {
+		return decode( getDomain().sortedDocValueToTerm( docValue ) );
+	}
+
 	public abstract F decode(E encoded);
 
 	public abstract LuceneNumericDomain<E> getDomain();
 
+	/**
+	 * @return {@code true} if the docvalue encoding preserves all the information in the stored value,
+	 * {@code false} if something gets lost (precision, time zone, ...).
+	 */
+	boolean isDocValueEncodingLossless() {
+		return false;
+	}
+
 	abstract void addStoredToDocument(LuceneDocumentContent documentBuilder, String absoluteFieldPath,
 			F value, E encodedValue);
 
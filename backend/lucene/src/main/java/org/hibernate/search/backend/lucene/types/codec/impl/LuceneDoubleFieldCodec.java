@@ -19,6 +19,11 @@ public LuceneDoubleFieldCodec(Indexing indexing, DocValues docValues, Storage st
 		super( indexing, docValues, storage, indexNullAsValue );
 	}
 
+	@Override
+	boolean isDocValueEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	void addStoredToDocument(LuceneDocumentContent documentBuilder, String absoluteFieldPath, Double value,
 			Double encodedValue) {
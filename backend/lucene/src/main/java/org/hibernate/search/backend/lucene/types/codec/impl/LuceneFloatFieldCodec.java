@@ -19,6 +19,11 @@ public LuceneFloatFieldCodec(Indexing indexing, DocValues docValues, Storage sto
 		super( indexing, docValues, storage, indexNullAsValue );
 	}
 
+	@Override
+	boolean isDocValueEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	void addStoredToDocument(LuceneDocumentContent documentBuilder, String absoluteFieldPath, Float value,
 			Float encodedValue) {
@@ -19,6 +19,11 @@ public LuceneShortFieldCodec(Indexing indexing, DocValues docValues, Storage sto
 		super( indexing, docValues, storage, indexNullAsValue );
 	}
 
+	@Override
+	boolean isDocValueEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	void addStoredToDocument(LuceneDocumentContent documentBuilder, String absoluteFieldPath, Short value,
 			Integer encodedValue) {
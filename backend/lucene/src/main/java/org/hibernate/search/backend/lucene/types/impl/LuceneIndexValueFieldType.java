@@ -9,6 +9,7 @@
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexScope;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexValueFieldContext;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexValueFieldTypeContext;
+import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneNumericFieldCodec;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
 import org.hibernate.search.engine.backend.types.IndexFieldType;
 import org.hibernate.search.engine.backend.types.spi.AbstractIndexValueFieldType;
@@ -47,6 +48,12 @@ public Analyzer searchAnalyzerOrNormalizer() {
 		return searchAnalyzerOrNormalizer;
 	}
 
+	@Override
+	public boolean hasLosslessDocValues() {
+		return codec instanceof AbstractLuceneNumericFieldCodec
+				&& ( (AbstractLuceneNumericFieldCodec<F, ?>) codec ).hasLosslessDocValues();
+	}
+
 	public static class Builder<F>
 			extends AbstractIndexValueFieldType.Builder<
 							LuceneSearchIndexScope<?>,
@@ -6,9 +6,17 @@
  */
 package org.hibernate.search.backend.lucene.work.impl;
 
+import java.io.IOException;
+
+import org.apache.lucene.store.DataOutput;
+
 public abstract class AbstractSingleDocumentIndexingWork extends AbstractIndexingWork<Long>
 		implements SingleDocumentIndexingWork {
 
+	static final byte RECORD_TYPE_ADD = 0;
+	static final byte RECORD_TYPE_UPDATE = 1;
+	static final byte RECORD_TYPE_DELETE = 2;
+
 	protected final String tenantId;
 	protected final String entityTypeName;
 	protected final Object entityIdentifier;
@@ -35,6 +43,25 @@ public String toString() {
 		return sb.toString();
 	}
 
+	void writeHeaderTo(DataOutput output, byte recordType) throws IOException {
+		output.writeByte( recordType );
+		writeOptionalString( output, tenantId );
+		output.writeString( entityTypeName );
+		// The entity identifier is only used in failure reports.
+		output.writeString( String.valueOf( entityIdentifier ) );
+		output.writeString( documentIdentifier );
+	}
+
+	private static void writeOptionalString(DataOutput output, String value) throws IOException {
+		if ( value == null ) {
+			output.writeByte( (byte) 0 );
+		}
+		else {
+			output.writeByte( (byte) 1 );
+			output.writeString( value );
+		}
+	}
+
 	@Override
 	public String getEntityTypeName() {
 		return entityTypeName;
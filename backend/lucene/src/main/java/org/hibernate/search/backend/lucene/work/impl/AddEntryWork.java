@@ -14,6 +14,8 @@
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import org.apache.lucene.store.DataOutput;
+
 
 public class AddEntryWork extends AbstractSingleDocumentIndexingWork {
 
@@ -27,6 +29,16 @@ public class AddEntryWork extends AbstractSingleDocumentIndexingWork {
 		this.indexEntry = indexEntry;
 	}
 
+	@Override
+	public boolean writeTo(DataOutput output) throws IOException {
+		if ( !indexEntry.isSerializable() ) {
+			return false;
+		}
+		writeHeaderTo( output, RECORD_TYPE_ADD );
+		indexEntry.writeTo( output );
+		return true;
+	}
+
 	@Override
 	public Long execute(IndexingWorkExecutionContext context) {
 		try {
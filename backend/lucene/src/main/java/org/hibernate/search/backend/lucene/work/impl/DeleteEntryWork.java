@@ -10,7 +10,6 @@
 import java.lang.invoke.MethodHandles;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
-import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -18,25 +17,33 @@
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.DataOutput;
 
 
 public class DeleteEntryWork extends AbstractSingleDocumentIndexingWork {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private final Term idTerm;
 	private final Query filter;
 
 	DeleteEntryWork(String tenantId, String entityTypeName, Object entityIdentifier,
-			String documentIdentifier, Query filter) {
+			String documentIdentifier, Term idTerm, Query filter) {
 		super( "deleteEntry", tenantId, entityTypeName, entityIdentifier, documentIdentifier );
+		this.idTerm = idTerm;
 		this.filter = filter;
 	}
 
+	@Override
+	public boolean writeTo(DataOutput output) throws IOException {
+		writeHeaderTo( output, RECORD_TYPE_DELETE );
+		return true;
+	}
+
 	@Override
 	public Long execute(IndexingWorkExecutionContext context) {
 		try {
 			IndexWriterDelegator indexWriterDelegator = context.getIndexWriterDelegator();
-			Term idTerm = new Term( MetadataFields.idFieldName(), documentIdentifier );
 			if ( filter == null ) {
 				// Pass the term directly instead of a query: presumably more efficient.
 				return indexWriterDelegator.deleteDocuments( idTerm );
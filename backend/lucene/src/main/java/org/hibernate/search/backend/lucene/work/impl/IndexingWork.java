@@ -6,6 +6,10 @@
  */
 package org.hibernate.search.backend.lucene.work.impl;
 
+import java.io.IOException;
+
+import org.apache.lucene.store.DataInput;
+import org.apache.lucene.store.DataOutput;
 
 public interface IndexingWork<T> {
 
@@ -13,6 +17,17 @@
 
 	Object getInfo();
 
+	/**
+	 * Writes this work to the given output,
+	 * so that it can be re-created with {@link LuceneWorkFactory#read(DataInput)}.
+	 *
+	 * @param output The output to write to.
+	 * @return {@code true} if this work was written,
+	 * {@code false} if it cannot be serialized, in which case nothing was written.
+	 * @throws IOException If writing to the output fails.
+	 */
+	boolean writeTo(DataOutput output) throws IOException;
+
 	/**
 	 * @return A string that will be used to route the work to a specific queue.
 	 * Never {@code null}.
@@ -6,21 +6,31 @@
  */
 package org.hibernate.search.backend.lucene.work.impl;
 
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import org.apache.lucene.index.Term;
 import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.store.DataInput;
+import org.apache.lucene.store.DataOutput;
 
 public final class LuceneWorkFactory {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final MultiTenancyStrategy multiTenancyStrategy;
 
 	public LuceneWorkFactory(MultiTenancyStrategy multiTenancyStrategy) {
@@ -63,15 +73,56 @@ public SingleDocumentIndexingWork add(String tenantId, String entityTypeName, Ob
 
 	public SingleDocumentIndexingWork update(String tenantId, String entityTypeName, Object entityIdentifier,
 			String documentIdentifier, LuceneIndexEntry indexEntry) {
-		Query filter = multiTenancyStrategy.filterOrNull( tenantId );
-		return new UpdateEntryWork( tenantId, entityTypeName, entityIdentifier,
-				documentIdentifier, filter, indexEntry );
+		Term idTerm = multiTenancyStrategy.idTermOrNull( tenantId, documentIdentifier );
+		if ( idTerm != null ) {
+			return new UpdateEntryWork( tenantId, entityTypeName, entityIdentifier,
+					documentIdentifier, idTerm, null, indexEntry );
+		}
+		else {
+			return new UpdateEntryWork( tenantId, entityTypeName, entityIdentifier,
+					documentIdentifier, new Term( MetadataFields.idFieldName(), documentIdentifier ),
+					multiTenancyStrategy.filterOrNull( tenantId ), indexEntry );
+		}
 	}
 
 	public SingleDocumentIndexingWork delete(String tenantId, String entityTypeName, Object entityIdentifier,
 			String documentIdentifier) {
-		Query filter = multiTenancyStrategy.filterOrNull( tenantId );
-		return new DeleteEntryWork( tenantId, entityTypeName, entityIdentifier, documentIdentifier, filter );
+		Term idTerm = multiTenancyStrategy.idTermOrNull( tenantId, documentIdentifier );
+		if ( idTerm != null ) {
+			return new DeleteEntryWork( tenantId, entityTypeName, entityIdentifier, documentIdentifier, idTerm, null );
+		}
+		else {
+			return new DeleteEntryWork( tenantId, entityTypeName, entityIdentifier, documentIdentifier,
+					new Term( MetadataFields.idFieldName(), documentIdentifier ),
+					multiTenancyStrategy.filterOrNull( tenantId ) );
+		}
+	}
+
+	/**
+	 * Re-creates a work written with {@link IndexingWork#writeTo(DataOutput)}.
+	 *
+	 * @param input The input to read from.
+	 * @return The re-created work.
+	 * @throws IOException If reading from the input fails.
+	 */
+	public SingleDocumentIndexingWork read(DataInput input) throws IOException {
+		byte recordType = input.readByte();
+		String tenantId = input.readByte() == 0 ? null : input.readString();
+		String entityTypeName = input.readString();
+		String entityIdentifier = input.readString();
+		String documentIdentifier = input.readString();
+		switch ( recordType ) {
+			// The document may have been committed before the work was read back:
+			// always update instead of adding, to avoid duplicates.
+			case AbstractSingleDocumentIndexingWork.RECORD_TYPE_ADD:
+			case AbstractSingleDocumentIndexingWork.RECORD_TYPE_UPDATE:
+				return update( tenantId, entityTypeName, entityIdentifier, documentIdentifier,
+						LuceneIndexEntry.readFrom( input ) );
+			case AbstractSingleDocumentIndexingWork.RECORD_TYPE_DELETE:
+				return delete( tenantId, entityTypeName, entityIdentifier, documentIdentifier );
+			default:
+				throw log.invalidWriteAheadLogRecordType( recordType );
+		}
 	}
 
 	public IndexManagementWork<?> deleteAll(String tenantId, Set<String> routingKeys) {
@@ -88,7 +139,12 @@ public IndexManagementWork<?> deleteAll(String tenantId, Set<String> routingKeys
 	}
 
 	public <R> ReadWork<R> search(LuceneSearcher<R, ?> searcher, Integer offset, Integer limit, int totalHitCountThreshold) {
-		return new SearchWork<>( searcher, offset, limit, totalHitCountThreshold );
+		return new SearchWork<>( searcher, offset, limit, null, totalHitCountThreshold );
+	}
+
+	public <R> ReadWork<R> searchAfter(LuceneSearcher<R, ?> searcher, FieldDoc after, Integer limit,
+			int totalHitCountThreshold) {
+		return new SearchWork<>( searcher, null, limit, after, totalHitCountThreshold );
 	}
 
 	public <ER> ReadWork<ER> scroll(LuceneSearcher<?, ER> searcher, int offset, int limit, int totalHitCountThreshold) {
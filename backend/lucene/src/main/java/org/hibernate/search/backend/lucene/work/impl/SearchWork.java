@@ -12,6 +12,7 @@
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.IndexSearcher;
 
 
@@ -23,13 +24,15 @@
 
 	private final int offset;
 	private final Integer limit;
+	private final FieldDoc after;
 	private final int totalHitCountThreshold;
 
 	SearchWork(LuceneSearcher<R, ?> searcher,
-			Integer offset, Integer limit,
+			Integer offset, Integer limit, FieldDoc after,
 			int totalHitCountThreshold) {
 		this.offset = offset == null ? 0 : offset;
 		this.limit = limit;
+		this.after = after;
 		this.searcher = searcher;
 		this.totalHitCountThreshold = totalHitCountThreshold;
 	}
@@ -40,7 +43,7 @@ public R execute(ReadWorkExecutionContext context) {
 			IndexSearcher indexSearcher = context.createSearcher();
 
 			return searcher.search(
-					indexSearcher, context.getIndexReaderMetadataResolver(), offset, limit, totalHitCountThreshold
+					indexSearcher, context.getIndexReaderMetadataResolver(), offset, limit, after, totalHitCountThreshold
 			);
 		}
 		catch (IOException e) {
@@ -56,6 +59,7 @@ public String toString() {
 				.append( "searcher=" ).append( searcher )
 				.append( ", offset=" ).append( offset )
 				.append( ", limit=" ).append( limit )
+				.append( ", after=" ).append( after )
 				.append( ", totalHitCountThreshold=" ).append( totalHitCountThreshold )
 				.append( "]" );
 		return sb.toString();
@@ -11,7 +11,6 @@
 
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
-import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -19,28 +18,40 @@
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.DataOutput;
 
 
 public class UpdateEntryWork extends AbstractSingleDocumentIndexingWork {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private final Term idTerm;
 	private final Query filter;
 
 	private final LuceneIndexEntry indexEntry;
 
 	UpdateEntryWork(String tenantId, String entityTypeName, Object entityIdentifier,
-			String documentIdentifier, Query filter, LuceneIndexEntry indexEntry) {
+			String documentIdentifier, Term idTerm, Query filter, LuceneIndexEntry indexEntry) {
 		super( "updateEntry", tenantId, entityTypeName, entityIdentifier, documentIdentifier );
+		this.idTerm = idTerm;
 		this.filter = filter;
 		this.indexEntry = indexEntry;
 	}
 
+	@Override
+	public boolean writeTo(DataOutput output) throws IOException {
+		if ( !indexEntry.isSerializable() ) {
+			return false;
+		}
+		writeHeaderTo( output, RECORD_TYPE_UPDATE );
+		indexEntry.writeTo( output );
+		return true;
+	}
+
 	@Override
 	public Long execute(IndexingWorkExecutionContext context) {
 		try {
 			IndexWriterDelegator indexWriterDelegator = context.getIndexWriterDelegator();
-			Term idTerm = new Term( MetadataFields.idFieldName(), documentIdentifier );
 			if ( filter == null ) {
 				// Atomic update: presumably more efficient.
 				return indexWriterDelegator.updateDocuments( idTerm, indexEntry );
@@ -0,0 +1,201 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.writer.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.store.ByteBuffersDataOutput;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
+
+public class WriteAheadLogTest {
+
+	private final Directory directory = new ByteBuffersDirectory();
+	private final DirectoryHolder directoryHolder = new DirectoryHolder() {
+		@Override
+		public void start() {
+		}
+
+		@Override
+		public void close() {
+		}
+
+		@Override
+		public Directory get() {
+			return directory;
+		}
+	};
+
+	@After
+	public void closeDirectory() throws IOException {
+		directory.close();
+	}
+
+	@Test
+	public void appendThenReplay() throws IOException {
+		WriteAheadLog log = createLog();
+		assertThat( log.start() ).isEmpty();
+
+		String file1 = log.append( records( "a", "b" ), 2 );
+		String file2 = log.append( records( "c" ), 1 );
+
+		// Simulate a restart
+		WriteAheadLog restartedLog = createLog();
+		assertThat( restartedLog.start() ).containsExactly( file1, file2 );
+		assertThat( read( restartedLog, file1 ) ).containsExactly( "a", "b" );
+		assertThat( read( restartedLog, file2 ) ).containsExactly( "c" );
+
+		// New files come after existing ones
+		String file3 = restartedLog.append( records( "d" ), 1 );
+		assertThat( createLog().start() ).containsExactly( file1, file2, file3 );
+	}
+
+	@Test
+	public void incompleteFile() throws IOException {
+		WriteAheadLog log = createLog();
+		log.start();
+		String file = log.append( records( "a", "b" ), 2 );
+
+		// Simulate a crash while writing the file
+		truncate( file );
+
+		WriteAheadLog restartedLog = createLog();
+		assertThat( restartedLog.start() ).containsExactly( file );
+		assertThat( read( restartedLog, file ) ).isEmpty();
+	}
+
+	@Test
+	public void commit() throws IOException {
+		WriteAheadLog log = createLog();
+		log.start();
+		String file1 = log.append( records( "a" ), 1 );
+		String file2 = log.append( records( "b" ), 1 );
+
+		log.markApplied( file1 );
+		WriteAheadLog.Checkpoint checkpoint = log.checkpoint();
+		// Applied after the checkpoint: not included in the commit
+		log.markApplied( file2 );
+		log.onCommit( checkpoint );
+		assertThat( createLog().start() ).containsExactly( file2 );
+
+		log.onCommit( log.checkpoint() );
+		assertThat( createLog().start() ).isEmpty();
+	}
+
+	@Test
+	public void writerFailure() throws IOException {
+		WriteAheadLog log = createLog();
+		log.start();
+		String file1 = log.append( records( "a" ), 1 );
+		String file2 = log.append( records( "b" ), 1 );
+		log.markApplied( file1 );
+
+		log.onWriterFailure();
+		// The changes in the first file were lost with the writer: it must not be considered as committed
+		log.markApplied( file2 );
+		log.onCommit( log.checkpoint() );
+		assertThat( createLog().start() ).containsExactly( file1, file2 );
+
+		// All files that were not committed are replayed, in order, before applying anything else
+		List<String> replayed = new ArrayList<>();
+		long stamp = log.startApplying( input -> replayed.add( input.readString() ) );
+		log.endApplying( stamp );
+		assertThat( replayed ).containsExactly( "a", "b" );
+
+		// ... and only once
+		replayed.clear();
+		stamp = log.startApplying( input -> replayed.add( input.readString() ) );
+		log.endApplying( stamp );
+		assertThat( replayed ).isEmpty();
+
+		log.onCommit( log.checkpoint() );
+		assertThat( createLog().start() ).isEmpty();
+	}
+
+	@Test
+	public void committedButNotDeleted() throws IOException {
+		WriteAheadLog log = createLog();
+		log.start();
+		String file1 = log.append( records( "a" ), 1 );
+		String file2 = log.append( records( "b" ), 1 );
+		log.markApplied( file1 );
+
+		// Simulate a crash after the commit, but before the file was deleted
+		try ( IndexWriter writer = new IndexWriter( directory, new IndexWriterConfig() ) ) {
+			writer.setLiveCommitData( log.commitData( log.checkpoint() ).entrySet() );
+			writer.commit();
+		}
+
+		// The committed file must not be replayed over more recent changes
+		WriteAheadLog restartedLog = createLog();
+		assertThat( restartedLog.start() ).containsExactly( file2 );
+		assertThat( directory.listAll() ).doesNotContain( file1 );
+	}
+
+	@Test
+	public void unloggedChanges() {
+		WriteAheadLog log = createLog();
+		assertThat( log.hasUnloggedChanges() ).isFalse();
+
+		log.addUnloggedChanges( 2 );
+		WriteAheadLog.Checkpoint checkpoint = log.checkpoint();
+		log.addUnloggedChanges( 1 );
+		assertThat( log.hasUnloggedChanges() ).isTrue();
+
+		log.onCommit( checkpoint );
+		// Added after the checkpoint: not committed yet
+		assertThat( log.hasUnloggedChanges() ).isTrue();
+
+		log.onCommit( log.checkpoint() );
+		assertThat( log.hasUnloggedChanges() ).isFalse();
+	}
+
+	private WriteAheadLog createLog() {
+		return new WriteAheadLog( EventContexts.fromIndexName( "SomeIndexName" ), directoryHolder );
+	}
+
+	private static ByteBuffersDataOutput records(String... records) {
+		ByteBuffersDataOutput output = new ByteBuffersDataOutput();
+		for ( String record : records ) {
+			output.writeString( record );
+		}
+		return output;
+	}
+
+	private static List<String> read(WriteAheadLog log, String fileName) throws IOException {
+		List<String> records = new ArrayList<>();
+		log.read( fileName, input -> records.add( input.readString() ) );
+		return records;
+	}
+
+	private void truncate(String fileName) throws IOException {
+		byte[] content;
+		try ( IndexInput input = directory.openInput( fileName, IOContext.DEFAULT ) ) {
+			content = new byte[(int) input.length() - 4];
+			input.readBytes( content, 0, content.length );
+		}
+		directory.deleteFile( fileName );
+		try ( IndexOutput output = directory.createOutput( fileName, IOContext.DEFAULT ) ) {
+			output.writeBytes( content, content.length );
+		}
+	}
+}
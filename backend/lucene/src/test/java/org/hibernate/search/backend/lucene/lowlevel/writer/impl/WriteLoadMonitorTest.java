@@ -0,0 +1,101 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.writer.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import org.hibernate.search.engine.common.timing.spi.TimingSource;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.mockito.quality.Strictness;
+
+public class WriteLoadMonitorTest {
+
+	private static final int WRITE_RATE_THRESHOLD = 100;
+
+	@Rule
+	public final MockitoRule mockito = MockitoJUnit.rule().strictness( Strictness.STRICT_STUBS );
+
+	@Mock
+	private TimingSource timingSourceMock;
+
+	private long now = 0L;
+
+	@Before
+	public void setup() {
+		when( timingSourceMock.monotonicTimeEstimate() ).thenAnswer( ignored -> now );
+	}
+
+	@Test
+	public void quiet() {
+		WriteLoadMonitor monitor = new WriteLoadMonitor( timingSourceMock, WRITE_RATE_THRESHOLD );
+		IOInterval interval = monitor.interval( 100, 1100 );
+		assertThat( interval.isEverNonZero() ).isTrue();
+		assertThat( interval.get() ).isEqualTo( 100 );
+
+		now += 10 * WriteLoadMonitor.SAMPLING_PERIOD;
+		assertThat( interval.get() ).isEqualTo( 100 );
+	}
+
+	@Test
+	public void burstThenQuiet() {
+		WriteLoadMonitor monitor = new WriteLoadMonitor( timingSourceMock, WRITE_RATE_THRESHOLD );
+		IOInterval interval = monitor.interval( 0, 1000 );
+
+		// Twice the threshold for one period: half of that goes into the moving average
+		write( monitor, 2 * WRITE_RATE_THRESHOLD );
+		now += WriteLoadMonitor.SAMPLING_PERIOD;
+		assertThat( interval.get() ).isEqualTo( 1000 );
+
+		// No more sampling until the end of the next period
+		assertThat( interval.get() ).isEqualTo( 1000 );
+
+		// Quiet for one period: the load halves
+		now += WriteLoadMonitor.SAMPLING_PERIOD;
+		assertThat( interval.get() ).isEqualTo( 500 );
+
+		// Quiet for a long time: the load drops to (almost) nothing
+		now += 20 * WriteLoadMonitor.SAMPLING_PERIOD;
+		assertThat( interval.get() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void moderateLoad() {
+		WriteLoadMonitor monitor = new WriteLoadMonitor( timingSourceMock, WRITE_RATE_THRESHOLD );
+		IOInterval interval = monitor.interval( 1000, 2000 );
+
+		for ( int i = 0; i < 20; i++ ) {
+			write( monitor, WRITE_RATE_THRESHOLD / 4 );
+			now += WriteLoadMonitor.SAMPLING_PERIOD;
+		}
+		assertThat( interval.get() ).isEqualTo( 1250 );
+	}
+
+	@Test
+	public void maxLowerThanMin() {
+		WriteLoadMonitor monitor = new WriteLoadMonitor( timingSourceMock, WRITE_RATE_THRESHOLD );
+		IOInterval interval = monitor.interval( 1000, 500 );
+
+		write( monitor, 2 * WRITE_RATE_THRESHOLD );
+		now += WriteLoadMonitor.SAMPLING_PERIOD;
+		assertThat( interval.get() ).isEqualTo( 1000 );
+	}
+
+	private static void write(WriteLoadMonitor monitor, int count) {
+		for ( int i = 0; i < count; i++ ) {
+			monitor.onWrite();
+		}
+	}
+
+}
@@ -8,6 +8,7 @@
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.test.FutureAssert.assertThatFuture;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.doNothing;
@@ -20,6 +21,15 @@
 import static org.mockito.Mockito.withSettings;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessor;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
@@ -33,6 +43,8 @@
 import org.mockito.junit.MockitoRule;
 import org.mockito.quality.Strictness;
 
+import org.apache.lucene.store.DataOutput;
+
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -57,7 +69,7 @@ public class LuceneBatchedWorkProcessorTest {
 
 	@Before
 	public void setup() {
-		processor = new LuceneBatchedWorkProcessor( indexEventContext, indexAccessorMock );
+		processor = new LuceneBatchedWorkProcessor( indexEventContext, indexAccessorMock, null, null );
 	}
 
 	@Test
@@ -179,6 +191,62 @@ public void error_batchCommit() throws IOException {
 		checkCompleteWithNothingToCommit();
 	}
 
+	@Test
+	public void forQueue_sameProcessorIfNoParallelismNorWriteAheadLog() {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			assertThat( processor.forQueue( 1, executor ) ).isSameAs( processor );
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void parallel_batch() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool( 4 );
+		try {
+			LuceneBatchedWorkProcessor parallelProcessor = processor.forQueue( 4, executor );
+			Map<String, List<Integer>> executedWorksByDocument = new ConcurrentHashMap<>();
+			List<CompletableFuture<Object>> futures = new ArrayList<>();
+
+			parallelProcessor.beginBatch();
+			for ( int i = 0; i < 200; i++ ) {
+				CompletableFuture<Object> future = new CompletableFuture<>();
+				futures.add( future );
+				parallelProcessor.submit( new LuceneBatchedWork<>(
+						new RecordingWork( "document_" + ( i % 20 ), i, executedWorksByDocument ), future ) );
+			}
+
+			// Works are only applied when the batch ends
+			assertThat( executedWorksByDocument ).isEmpty();
+			verifyNoOtherIndexInteractionsAndClear();
+
+			parallelProcessor.endBatch().get( 5, TimeUnit.SECONDS );
+			for ( CompletableFuture<Object> future : futures ) {
+				assertThatFuture( future ).isSuccessful();
+			}
+			// Commit once all works were applied
+			verify( indexAccessorMock ).commitOrDelay();
+			verifyNoOtherIndexInteractionsAndClear();
+
+			// Works on the same document were applied in the order they were submitted
+			assertThat( executedWorksByDocument ).hasSize( 20 );
+			for ( List<Integer> executedWorks : executedWorksByDocument.values() ) {
+				assertThat( executedWorks ).hasSize( 10 ).isSorted();
+			}
+
+			// The next batch starts from scratch
+			parallelProcessor.beginBatch();
+			parallelProcessor.endBatch().get( 5, TimeUnit.SECONDS );
+			verify( indexAccessorMock ).commitOrDelay();
+			verifyNoOtherIndexInteractionsAndClear();
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
 	private void testSuccessfulWriteWorks(int workCount) throws IOException {
 		ArgumentCaptor<IndexingWorkExecutionContext> contextCapture =
 				ArgumentCaptor.forClass( IndexingWorkExecutionContext.class );
@@ -232,4 +300,38 @@ private String workInfo(int index) {
 		return "work_" + index;
 	}
 
+	private static class RecordingWork implements IndexingWork<Object> {
+		private final String documentId;
+		private final int index;
+		private final Map<String, List<Integer>> executedWorksByDocument;
+
+		private RecordingWork(String documentId, int index, Map<String, List<Integer>> executedWorksByDocument) {
+			this.documentId = documentId;
+			this.index = index;
+			this.executedWorksByDocument = executedWorksByDocument;
+		}
+
+		@Override
+		public Object execute(IndexingWorkExecutionContext context) {
+			executedWorksByDocument.computeIfAbsent( documentId, ignored -> Collections.synchronizedList( new ArrayList<>() ) )
+					.add( index );
+			return index;
+		}
+
+		@Override
+		public Object getInfo() {
+			return documentId + "#" + index;
+		}
+
+		@Override
+		public boolean writeTo(DataOutput output) {
+			return false;
+		}
+
+		@Override
+		public String getQueuingKey() {
+			return documentId;
+		}
+	}
+
 }
\ No newline at end of file
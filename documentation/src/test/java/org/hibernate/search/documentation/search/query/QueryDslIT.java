@@ -26,6 +26,7 @@
 import org.hibernate.graph.GraphSemantic;
 import org.hibernate.search.documentation.testsupport.BackendConfigurations;
 import org.hibernate.search.documentation.testsupport.DocumentationSetupHelper;
+import org.hibernate.search.engine.search.query.SearchCursor;
 import org.hibernate.search.engine.search.query.SearchQuery;
 import org.hibernate.search.engine.search.query.SearchResult;
 import org.hibernate.search.engine.search.query.SearchResultTotal;
@@ -254,6 +255,27 @@ public void pagination() {
 		} );
 	}
 
+	@Test
+	public void cursor() {
+		with( entityManagerFactory ).runInTransaction( entityManager -> {
+			SearchSession searchSession = Search.session( entityManager );
+			// tag::fetching-cursor[]
+			SearchQuery<Book> query = searchSession.search( Book.class )
+					.where( f -> f.matchAll() )
+					.sort( f -> f.field( "title_sort" ) ) // <1>
+					.toQuery();
+			SearchResult<Book> result = query.fetchAfter( null, 20 ); // <2>
+			SearchCursor cursor = result.nextCursor(); // <3>
+			// ... send the cursor to the client, and when it asks for the next page ...
+			SearchResult<Book> nextResult = query.fetchAfter( cursor, 20 ); // <4>
+			// end::fetching-cursor[]
+
+			assertThat( result.hits() ).extracting( Book::getId )
+					.containsExactlyInAnyOrder( BOOK1_ID, BOOK2_ID, BOOK3_ID, BOOK4_ID );
+			assertThat( nextResult.hits() ).isEmpty();
+		} );
+	}
+
 	@Test
 	public void scrolling() {
 		with( entityManagerFactory ).runInTransaction( entityManager -> {
@@ -505,4 +505,8 @@ SearchException targetFieldsSpanningMultipleNestedPaths(String fieldPath1,
 			value = "Unable to access the Search integration: initialization hasn't completed yet.")
 	SearchException noIntegrationBecauseInitializationNotComplete();
 
+	@Message(id = ID_OFFSET + 114,
+			value = "Invalid search cursor: '%1$s'. This query does not support fetching hits after a cursor.")
+	SearchException searchCursorsNotSupported(Object cursor);
+
 }
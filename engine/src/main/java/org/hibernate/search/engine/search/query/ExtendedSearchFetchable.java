@@ -6,6 +6,9 @@
  */
 package org.hibernate.search.engine.search.query;
 
+import org.hibernate.search.engine.search.query.impl.SearchCursorHelper;
+import org.hibernate.search.util.common.annotation.Incubating;
+
 /**
  * A base interface for subtypes of {@link SearchFetchable} allowing to
  * easily override the result type for all relevant methods.
@@ -23,6 +26,15 @@
 	@Override
 	R fetch(Integer offset, Integer limit);
 
+	@Override
+	@Incubating
+	default R fetchAfter(SearchCursor cursor, Integer limit) {
+		if ( cursor == null ) {
+			return fetch( limit );
+		}
+		throw SearchCursorHelper.cursorsNotSupported( cursor );
+	}
+
 	@Override
 	R fetchAll();
 
@@ -0,0 +1,28 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query;
+
+import java.io.Serializable;
+
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * An opaque pointer to a position in the hits of a query,
+ * used to fetch the hits following that position through {@link SearchFetchable#fetchAfter(SearchCursor, Integer)}.
+ * <p>
+ * Cursors are built from the sort values of the last hit of a {@link SearchResult},
+ * see {@link SearchResult#nextCursor()}.
+ * They are serializable, so that they can be handed to a client and sent back later
+ * to fetch the next page of hits, without the server having to keep any state in the meantime.
+ * <p>
+ * A cursor can only be used with a query targeting the same backend and defining the same sort
+ * as the query it was obtained from.
+ */
+@Incubating
+public interface SearchCursor extends Serializable {
+
+}
@@ -10,8 +10,10 @@
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
+import org.hibernate.search.engine.search.query.impl.SearchCursorHelper;
 import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.common.SearchTimeoutException;
+import org.hibernate.search.util.common.annotation.Incubating;
 
 /**
  * A component allowing to fetch search results.
@@ -51,6 +53,40 @@
 	 */
 	SearchResult<H> fetch(Integer offset, Integer limit);
 
+	/**
+	 * Execute the query and return the {@link SearchResult},
+	 * skipping all hits up to and including the hit pointed to by {@code cursor}
+	 * and limiting to {@code limit} hits.
+	 * <p>
+	 * Unlike {@link #fetch(Integer, Integer)}, the cost of this method does not grow with the number of skipped hits,
+	 * which makes it the preferred way to page deep into the hits.
+	 * The cursor pointing to the last hit of the returned result is available through {@link SearchResult#nextCursor()}.
+	 * <p>
+	 * Hits whose sort values are identical may be returned in any order;
+	 * for stable paging in indexes that are being updated,
+	 * the query sort should thus be a total order, e.g. end with a sort on a unique field.
+	 *
+	 * @param cursor A cursor obtained from a previous result of a query with the same sort.
+	 * {@code null} means fetching the first hits.
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @return The {@link SearchResult}.
+	 * @throws SearchException If something goes wrong while executing the query,
+	 * or the cursor was not obtained from a query with the same backend and sort,
+	 * or this query does not support cursors.
+	 * @throws SearchTimeoutException If a
+	 * {@link org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep#failAfter(long, TimeUnit) failure timeout was set}
+	 * and was reached while executing the query.
+	 * @throws RuntimeException If something goes wrong while loading entities. The exact type depends on the mapper,
+	 * e.g. HibernateException/PersistenceException for the Hibernate ORM mapper.
+	 */
+	@Incubating
+	default SearchResult<H> fetchAfter(SearchCursor cursor, Integer limit) {
+		if ( cursor == null ) {
+			return fetch( limit );
+		}
+		throw SearchCursorHelper.cursorsNotSupported( cursor );
+	}
+
 	/**
 	 * Execute the query and return the hits as a {@link List},
 	 * limiting to {@code limit} hits.
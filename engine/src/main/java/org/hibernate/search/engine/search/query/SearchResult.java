@@ -10,6 +10,7 @@
 import java.util.List;
 
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.util.common.annotation.Incubating;
 
 /**
  * @param <H> The type of hits.
@@ -46,4 +47,17 @@
 	 */
 	boolean timedOut();
 
+	/**
+	 * @return A cursor pointing to the last hit of this result,
+	 * to pass to {@link SearchFetchable#fetchAfter(SearchCursor, Integer)} in order to fetch the following hits.
+	 * {@code null} if this result doesn't contain any hit,
+	 * or if the backend cannot build a cursor for this result,
+	 * e.g. because it was not fetched through {@link SearchFetchable#fetchAfter(SearchCursor, Integer)}
+	 * and the backend did not return sort values for its hits.
+	 */
+	@Incubating
+	default SearchCursor nextCursor() {
+		return null;
+	}
+
 }
@@ -10,6 +10,7 @@
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContextBuilder;
 import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
 import org.hibernate.search.engine.search.query.ExtendedSearchQuery;
+import org.hibernate.search.engine.search.query.SearchCursor;
 import org.hibernate.search.engine.search.query.SearchResult;
 import org.hibernate.search.engine.search.query.SearchScroll;
 import org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep;
@@ -54,6 +55,11 @@ public R fetch(Integer offset, Integer limit) {
 		return toQuery().fetch( offset, limit );
 	}
 
+	@Override
+	public R fetchAfter(SearchCursor cursor, Integer limit) {
+		return toQuery().fetchAfter( cursor, limit );
+	}
+
 	@Override
 	public SCR scroll(int chunkSize) {
 		return toQuery().scroll( chunkSize );
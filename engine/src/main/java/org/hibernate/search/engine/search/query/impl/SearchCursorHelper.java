@@ -0,0 +1,31 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.engine.search.query.SearchCursor;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Implementation of the default cursor-related methods of search query APIs,
+ * for queries that do not support cursors.
+ */
+public final class SearchCursorHelper {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private SearchCursorHelper() {
+	}
+
+	public static SearchException cursorsNotSupported(SearchCursor cursor) {
+		return log.searchCursorsNotSupported( cursor );
+	}
+
+}
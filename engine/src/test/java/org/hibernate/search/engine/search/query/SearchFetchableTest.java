@@ -0,0 +1,78 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.hibernate.search.util.common.SearchException;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.mockito.quality.Strictness;
+
+/**
+ * Checks the default implementation of cursor-related methods,
+ * used by queries that do not support cursors.
+ */
+public class SearchFetchableTest {
+
+	@Rule
+	public final MockitoRule mockito = MockitoJUnit.rule().strictness( Strictness.STRICT_STUBS );
+
+	@Mock(answer = Answers.CALLS_REAL_METHODS)
+	private SearchFetchable<Object> fetchableMock;
+
+	@Mock(answer = Answers.CALLS_REAL_METHODS)
+	private ExtendedSearchFetchable<Object, SearchResult<Object>, SearchScroll<Object>> extendedFetchableMock;
+
+	@Mock
+	private SearchResult<Object> resultMock;
+
+	@Mock
+	private SearchCursor cursorMock;
+
+	@Test
+	public void fetchAfter_nullCursor() {
+		when( fetchableMock.fetch( 5 ) ).thenReturn( resultMock );
+		assertThat( fetchableMock.fetchAfter( null, 5 ) ).isSameAs( resultMock );
+	}
+
+	@Test
+	public void fetchAfter_cursor() {
+		assertThatThrownBy( () -> fetchableMock.fetchAfter( cursorMock, 5 ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Invalid search cursor",
+						"This query does not support fetching hits after a cursor" );
+		verify( fetchableMock, never() ).fetch( anyInt() );
+	}
+
+	@Test
+	public void extended_fetchAfter_nullCursor() {
+		when( extendedFetchableMock.fetch( 5 ) ).thenReturn( resultMock );
+		assertThat( extendedFetchableMock.fetchAfter( null, 5 ) ).isSameAs( resultMock );
+	}
+
+	@Test
+	public void extended_fetchAfter_cursor() {
+		assertThatThrownBy( () -> extendedFetchableMock.fetchAfter( cursorMock, 5 ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Invalid search cursor",
+						"This query does not support fetching hits after a cursor" );
+		verify( extendedFetchableMock, never() ).fetch( anyInt() );
+	}
+
+}
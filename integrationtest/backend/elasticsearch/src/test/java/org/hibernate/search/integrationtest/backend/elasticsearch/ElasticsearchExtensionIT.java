@@ -1086,6 +1086,23 @@ public void backend_getClient_error_invalidClass() {
 				);
 	}
 
+	@Test
+	public void backend_requestBufferPoolStatistics() {
+		Backend backend = integration.backend();
+		ElasticsearchBackend elasticsearchBackend = backend.unwrap( ElasticsearchBackend.class );
+
+		// Requests with a body were sent on startup, e.g. to create indexes
+		assertThat( elasticsearchBackend.requestBufferPoolStatistics() )
+				.hasValueSatisfying( statistics -> {
+					assertThat( statistics.bufferSize() ).isPositive();
+					assertThat( statistics.allocatedBufferCount() ).isPositive()
+							.isLessThanOrEqualTo( statistics.maxBufferCount() );
+					assertThat( statistics.idleBufferCount() ).isLessThanOrEqualTo( statistics.allocatedBufferCount() );
+					assertThat( statistics.hitCount() ).isPositive();
+					assertThat( statistics.missCount() ).isNotNegative();
+				} );
+	}
+
 	@Test
 	public void mainIndex_unwrap() {
 		IndexManager mainIndexFromIntegration = integration.indexManager( mainIndex.name() );
@@ -6,10 +6,12 @@
  */
 package org.hibernate.search.integrationtest.backend.elasticsearch.testsupport.util;
 
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.hibernate.search.backend.elasticsearch.client.RequestBufferPoolStatistics;
 import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClientFactoryImpl;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientFactory;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientImplementor;
@@ -147,5 +149,10 @@ public CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest requ
 		public <T> T unwrap(Class<T> clientClass) {
 			throw new UnsupportedOperationException();
 		}
+
+		@Override
+		public Optional<RequestBufferPoolStatistics> requestBufferPoolStatistics() {
+			return delegate.requestBufferPoolStatistics();
+		}
 	}
 }
@@ -0,0 +1,141 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import org.hibernate.search.backend.lucene.LuceneExtension;
+import org.hibernate.search.backend.lucene.cache.QueryCacheStatistics;
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
+import org.hibernate.search.backend.lucene.multitenancy.MultiTenancyStrategyName;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapping;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubSession;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test the query cache built into the Lucene backend.
+ */
+public class LuceneQueryCacheIT {
+
+	private static final String TENANT_1 = "tenant_1";
+	private static final String TENANT_2 = "tenant_2";
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Test
+	public void tenantFilter() {
+		StubMapping mapping = setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.MULTI_TENANCY_STRATEGY, MultiTenancyStrategyName.DISCRIMINATOR )
+				.withMultiTenancy()
+				.withIndex( index )
+				.setup();
+		StubSession tenant1Session = mapping.session( TENANT_1 );
+		initData( tenant1Session, 10 );
+		initData( mapping.session( TENANT_2 ), 5 );
+
+		SearchQuery<DocumentReference> query = index.createScope().query( tenant1Session )
+				.where( f -> f.matchAll() )
+				.toQuery();
+
+		QueryCacheStatistics statistics = statistics();
+		assertThat( statistics.hitCount() ).isZero();
+
+		assertThat( query.fetchTotalHitCount() ).isEqualTo( 10 );
+		long hitCountAfterFirstExecution = statistics.hitCount();
+		assertThat( statistics.missCount() ).isPositive();
+		assertThat( statistics.cacheCount() ).isPositive();
+		assertThat( statistics.ramBytesUsed() ).isPositive();
+
+		assertThat( query.fetchTotalHitCount() ).isEqualTo( 10 );
+		assertThat( statistics.hitCount() ).isGreaterThan( hitCountAfterFirstExecution );
+	}
+
+	@Test
+	public void cachedFilter() {
+		StubMapping mapping = setupHelper.start()
+				.withIndex( index )
+				.setup();
+		initData( mapping.session(), 10 );
+
+		SearchQuery<DocumentReference> query = index.query()
+				.where( f -> f.bool()
+						.must( f.matchAll() )
+						.filter( f.extension( LuceneExtension.get() )
+								.cachedFilter( f.match().field( "string" ).matching( "value3" ) ) ) )
+				.toQuery();
+
+		QueryCacheStatistics statistics = statistics();
+
+		assertThatQuery( query ).hasDocRefHitsAnyOrder( index.typeName(), "3" );
+		long hitCountAfterFirstExecution = statistics.hitCount();
+		assertThat( statistics.cacheCount() ).isPositive();
+
+		assertThatQuery( query ).hasDocRefHitsAnyOrder( index.typeName(), "3" );
+		assertThat( statistics.hitCount() ).isGreaterThan( hitCountAfterFirstExecution );
+	}
+
+	@Test
+	public void disabled() {
+		StubMapping mapping = setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.QUERY_CACHING_MAX_RAM_SIZE, 0 )
+				.withIndex( index )
+				.setup();
+		initData( mapping.session(), 10 );
+
+		SearchQuery<DocumentReference> query = index.query()
+				.where( f -> f.bool()
+						.must( f.matchAll() )
+						.filter( f.extension( LuceneExtension.get() )
+								.cachedFilter( f.match().field( "string" ).matching( "value3" ) ) ) )
+				.toQuery();
+
+		// The filter still works as expected...
+		assertThatQuery( query ).hasDocRefHitsAnyOrder( index.typeName(), "3" );
+		assertThatQuery( query ).hasDocRefHitsAnyOrder( index.typeName(), "3" );
+
+		// ... but the built-in cache is not used.
+		QueryCacheStatistics statistics = statistics();
+		assertThat( statistics.hitCount() ).isZero();
+		assertThat( statistics.missCount() ).isZero();
+		assertThat( statistics.cacheCount() ).isZero();
+	}
+
+	private QueryCacheStatistics statistics() {
+		return index.toApi().unwrap( LuceneIndexManager.class ).queryCacheStatistics();
+	}
+
+	private void initData(StubSession session, int documentCount) {
+		index.bulkIndexer( session, true )
+				.add( documentCount, i -> documentProvider(
+						String.valueOf( i ),
+						document -> document.addValue( index.binding().string, "value" + i )
+				) )
+				.join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> string;
+
+		IndexBinding(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString() ).toReference();
+		}
+	}
+}
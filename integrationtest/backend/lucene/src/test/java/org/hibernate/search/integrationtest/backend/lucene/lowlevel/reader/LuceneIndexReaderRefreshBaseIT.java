@@ -154,6 +154,41 @@ public void ioStrategyDefault_refreshIntervalPositive_refreshStrategyForce() {
 		assertThatQuery( query ).hasTotalHitCount( 1 );
 	}
 
+	@Test
+	public void ioStrategyDefault_refreshIntervalPositive_backgroundRefresh() {
+		setupHelper.start()
+				.withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.IO_REFRESH_INTERVAL, NON_ZERO_DELAY )
+				.withBackendProperty( LuceneIndexSettings.IO_BACKGROUND_REFRESH, true )
+				.withBackendProperty( LuceneIndexSettings.IO_COMMIT_INTERVAL, commitInterval )
+				.setup();
+
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text1" ) )
+				.toQuery();
+
+		assertThatQuery( query ).hasNoHits();
+
+		IndexIndexingPlan plan = index.createIndexingPlan(
+				commitStrategy, // This is irrelevant
+				DocumentRefreshStrategy.NONE // This means no refresh will take place until after the refresh interval
+		);
+		plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().textField, "text1" ) );
+		plan.execute().join();
+
+		// Readers should *not* be up-to-date immediately after indexing finishes
+		assertThatQuery( query ).hasNoHits();
+
+		// ... but they should be after some time, even though queries never trigger a refresh themselves
+		Awaitility.await().untilAsserted( () -> assertThatQuery( query ).hasTotalHitCount( 1 ) );
+
+		// Forced refreshes should still be taken into account immediately
+		plan = index.createIndexingPlan( commitStrategy, DocumentRefreshStrategy.FORCE );
+		plan.add( referenceProvider( "2" ), document -> document.addValue( index.binding().textField, "text1" ) );
+		plan.execute().join();
+		assertThatQuery( query ).hasTotalHitCount( 2 );
+	}
+
 	@Test
 	public void ioStrategyDebug() {
 		setup( "debug", null );
@@ -175,6 +210,34 @@ public void ioStrategyDebug() {
 		assertThatQuery( query ).hasTotalHitCount( 1 );
 	}
 
+	@Test
+	public void ioStrategyAdaptive_quietIndex() {
+		setupHelper.start()
+				.withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.IO_STRATEGY, "adaptive" )
+				.withBackendProperty( LuceneIndexSettings.IO_REFRESH_INTERVAL, 0 )
+				.withBackendProperty( LuceneIndexSettings.IO_ADAPTIVE_REFRESH_INTERVAL_MAX, NON_ZERO_DELAY )
+				.withBackendProperty( LuceneIndexSettings.IO_COMMIT_INTERVAL, commitInterval )
+				.setup();
+
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text1" ) )
+				.toQuery();
+
+		assertThatQuery( query ).hasNoHits();
+
+		IndexIndexingPlan plan = index.createIndexingPlan(
+				commitStrategy, // This is irrelevant
+				DocumentRefreshStrategy.NONE // The refresh should be executed regardless of this parameter
+		);
+		plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().textField, "text1" ) );
+		plan.execute().join();
+
+		// The index is quiet, so the refresh interval is at its minimum:
+		// readers should be up-to-date immediately after indexing finishes
+		assertThatQuery( query ).hasTotalHitCount( 1 );
+	}
+
 	private void setup(String ioStrategyName, Integer refreshIntervalMs) {
 		setupHelper.start()
 				.withIndex( index )
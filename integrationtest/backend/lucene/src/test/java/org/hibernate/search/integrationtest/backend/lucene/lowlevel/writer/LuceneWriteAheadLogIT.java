@@ -0,0 +1,211 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerImpl;
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessorImpl;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapping;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingSchemaManagementStrategy;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+
+public class LuceneWriteAheadLogIT {
+
+	/*
+	 * Large enough that no commit happens in the background during a test.
+	 */
+	private static final int LARGE_COMMIT_INTERVAL = 3_600_000;
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	private Path indexDirectory;
+
+	@Before
+	public void initDirectory() {
+		indexDirectory = temporaryFolder.getRoot().toPath().resolve( index.name() );
+	}
+
+	@Test
+	public void replayAfterCrash() throws IOException {
+		StubMapping mapping = setup( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_ON_STARTUP_ONLY );
+
+		IndexIndexingPlan plan = index.createIndexingPlan( DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+		plan.add( referenceProvider( "1" ), document -> { } );
+		plan.add( referenceProvider( "2" ), document -> { } );
+		plan.add( referenceProvider( "3" ), document -> { } );
+		plan.execute().join();
+		plan = index.createIndexingPlan( DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+		plan.delete( referenceProvider( "2" ) );
+		plan.addOrUpdate( referenceProvider( "3" ), document -> { } );
+		plan.execute().join();
+
+		// Nothing was committed, but the works were logged
+		assertThat( countDocsOnDisk() ).isEqualTo( 0 );
+		assertThat( writeAheadLogFiles() ).isNotEmpty();
+
+		// Simulate a crash: take a snapshot of the index directory as it is now, then restore it after stopping.
+		Path snapshot = temporaryFolder.newFolder().toPath();
+		copyFiles( indexDirectory, snapshot );
+		mapping.close();
+		try ( Stream<Path> files = Files.list( indexDirectory ) ) {
+			for ( Path file : files.collect( Collectors.toList() ) ) {
+				Files.delete( file );
+			}
+		}
+		copyFiles( snapshot, indexDirectory );
+		assertThat( countDocsOnDisk() ).isEqualTo( 0 );
+
+		setup( StubMappingSchemaManagementStrategy.NONE );
+
+		// The logged works were applied and committed on startup
+		assertThat( countDocsOnDisk() ).isEqualTo( 2 );
+		assertThat( writeAheadLogFiles() ).isEmpty();
+	}
+
+	@Test
+	public void commitStrategyForce() throws IOException {
+		StubMapping mapping = setup( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_ON_STARTUP_ONLY );
+
+		IndexIndexingPlan plan = index.createIndexingPlan( DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE );
+		plan.add( referenceProvider( "1" ), document -> { } );
+		plan.execute().join();
+
+		// The works were logged, so they are durable without a commit
+		assertThat( countDocsOnDisk() ).isEqualTo( 0 );
+		assertThat( writeAheadLogFiles() ).isNotEmpty();
+
+		mapping.close();
+
+		// Changes were committed on shutdown, making the log useless
+		assertThat( countDocsOnDisk() ).isEqualTo( 1 );
+		assertThat( writeAheadLogFiles() ).isEmpty();
+	}
+
+	@Test
+	public void writerFailure_thenUpdate() throws IOException {
+		StubMapping mapping = setup( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_ON_STARTUP_ONLY );
+
+		IndexIndexingPlan plan = index.createIndexingPlan( DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+		plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().text, "initial" ) );
+		plan.add( referenceProvider( "2" ), document -> document.addValue( index.binding().text, "initial" ) );
+		plan.execute().join();
+
+		// Simulate a failure that discards uncommitted changes
+		IndexAccessorImpl indexAccessor = index.unwrapForTests( LuceneIndexManagerImpl.class ).getShardsForTests()
+				.get( 0 ).indexAccessorForTests();
+		indexAccessor.getWriterForTests().rollback();
+		indexAccessor.cleanUpAfterFailure( new RuntimeException( "Simulated failure" ), "Simulated operation" );
+
+		plan = index.createIndexingPlan( DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+		plan.addOrUpdate( referenceProvider( "1" ), document -> document.addValue( index.binding().text, "updated" ) );
+		plan.execute().join();
+
+		mapping.close();
+
+		// The changes lost with the failed writer were applied again before the update
+		assertThat( countDocsOnDisk() ).isEqualTo( 2 );
+		assertThat( textOnDisk( "1" ) ).isEqualTo( "updated" );
+		assertThat( textOnDisk( "2" ) ).isEqualTo( "initial" );
+		assertThat( writeAheadLogFiles() ).isEmpty();
+
+		setup( StubMappingSchemaManagementStrategy.NONE ).close();
+
+		// Nothing stale was replayed on restart
+		assertThat( countDocsOnDisk() ).isEqualTo( 2 );
+		assertThat( textOnDisk( "1" ) ).isEqualTo( "updated" );
+		assertThat( textOnDisk( "2" ) ).isEqualTo( "initial" );
+	}
+
+	private int countDocsOnDisk() throws IOException {
+		try ( Directory directory = FSDirectory.open( indexDirectory );
+				DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			return reader.numDocs();
+		}
+	}
+
+	private String textOnDisk(String id) throws IOException {
+		try ( Directory directory = FSDirectory.open( indexDirectory );
+				DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			IndexSearcher searcher = new IndexSearcher( reader );
+			TopDocs topDocs = searcher.search( new TermQuery( new Term( MetadataFields.idFieldName(), id ) ), 2 );
+			assertThat( topDocs.scoreDocs ).hasSize( 1 );
+			return searcher.doc( topDocs.scoreDocs[0].doc ).get( "text" );
+		}
+	}
+
+	private List<Path> writeAheadLogFiles() throws IOException {
+		try ( Stream<Path> files = Files.list( indexDirectory ) ) {
+			return files.filter( file -> file.getFileName().toString().startsWith( "hsearch_wal_" ) )
+					.collect( Collectors.toList() );
+		}
+	}
+
+	private static void copyFiles(Path source, Path target) throws IOException {
+		try ( Stream<Path> files = Files.list( source ) ) {
+			for ( Path file : files.collect( Collectors.toList() ) ) {
+				Files.copy( file, target.resolve( file.getFileName() ), StandardCopyOption.REPLACE_EXISTING );
+			}
+		}
+	}
+
+	private StubMapping setup(StubMappingSchemaManagementStrategy schemaManagementStrategy) {
+		return setupHelper.start()
+				.withSchemaManagement( schemaManagementStrategy )
+				.withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_TYPE, "local-filesystem" )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_ROOT, temporaryFolder.getRoot().getAbsolutePath() )
+				.withBackendProperty( LuceneIndexSettings.IO_COMMIT_INTERVAL, LARGE_COMMIT_INTERVAL )
+				.withBackendProperty( LuceneIndexSettings.IO_WRITE_AHEAD_LOG_ENABLED, true )
+				.setup();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> text;
+
+		IndexBinding(IndexSchemaElement root) {
+			text = root.field( "text", f -> f.asString().projectable( Projectable.YES ) ).toReference();
+		}
+	}
+}
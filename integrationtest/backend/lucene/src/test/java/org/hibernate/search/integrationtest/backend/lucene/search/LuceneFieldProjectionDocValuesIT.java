@@ -0,0 +1,195 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaObjectField;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.ObjectStructure;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+/**
+ * Test that field projections on fields with docvalues,
+ * which may be served from docvalues instead of stored fields,
+ * return the same values as projections served from stored fields.
+ */
+public class LuceneFieldProjectionDocValuesIT {
+
+	private static final String DOCUMENT_1 = "1";
+	private static final String DOCUMENT_2 = "2";
+	private static final String EMPTY = "empty";
+
+	@ClassRule
+	public static final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private static final SimpleMappedIndex<IndexBinding> index =
+			SimpleMappedIndex.of( IndexBinding::new ).name( "main" );
+	private static final SimpleMappedIndex<NoDocValuesIndexBinding> noDocValuesIndex =
+			SimpleMappedIndex.of( NoDocValuesIndexBinding::new ).name( "noDocValues" );
+
+	@BeforeClass
+	public static void setup() {
+		setupHelper.start().withIndexes( index, noDocValuesIndex ).setup();
+
+		index.bulkIndexer()
+				.add( DOCUMENT_1, document -> {
+					document.addValue( index.binding().integer, 42 );
+					document.addValue( index.binding().doubleField, -0.5 );
+					document.addValue( index.binding().localDate, LocalDate.of( 2021, 3, 14 ) );
+					document.addValue( index.binding().bigDecimal, new BigDecimal( "12.345" ) );
+					addNested( document, 3, 1, 2 );
+					addFlattened( document, 3, 1, 2 );
+				} )
+				.add( DOCUMENT_2, document -> {
+					document.addValue( index.binding().integer, -7 );
+					document.addValue( index.binding().doubleField, 1e100 );
+					document.addValue( index.binding().localDate, LocalDate.of( 1970, 1, 1 ) );
+					document.addValue( index.binding().bigDecimal, new BigDecimal( "-1.5" ) );
+					addNested( document, 5 );
+					addFlattened( document, 5 );
+				} )
+				.add( documentProvider( EMPTY, document -> { } ) )
+				.join();
+		noDocValuesIndex.bulkIndexer()
+				.add( DOCUMENT_1, document -> document.addValue( noDocValuesIndex.binding().integer, 1337 ) )
+				.join();
+	}
+
+	@Test
+	public void singleValued() {
+		assertThatQuery( index.query()
+				.select( f -> f.composite(
+						f.field( "integer", Integer.class ),
+						f.field( "doubleField", Double.class ),
+						f.field( "localDate", LocalDate.class )
+				) )
+				.where( f -> f.matchAll() ) )
+				.hasHitsAnyOrder(
+						Arrays.asList( 42, -0.5, LocalDate.of( 2021, 3, 14 ) ),
+						Arrays.asList( -7, 1e100, LocalDate.of( 1970, 1, 1 ) ),
+						Arrays.asList( null, null, null )
+				);
+	}
+
+	@Test
+	public void lossyDocValues() {
+		// Docvalues only hold a scaled value: the projection must still return the exact stored value.
+		assertThatQuery( index.query()
+				.select( f -> f.field( "bigDecimal", BigDecimal.class ) )
+				.where( f -> f.matchAll() ) )
+				.hasHitsAnyOrder( new BigDecimal( "12.345" ), new BigDecimal( "-1.5" ), null );
+	}
+
+	@Test
+	public void nested_multiValued_orderPreserved() {
+		assertThatQuery( index.query()
+				.select( f -> f.field( "nested.integer", Integer.class ).multi() )
+				.where( f -> f.matchAll() ) )
+				.hasHitsAnyOrder( Arrays.asList( 3, 1, 2 ), Collections.singletonList( 5 ),
+						Collections.emptyList() );
+	}
+
+	@Test
+	public void flattened_multiValued_orderPreserved() {
+		assertThatQuery( index.query()
+				.select( f -> f.field( "flattened.integer", Integer.class ).multi() )
+				.where( f -> f.matchAll() ) )
+				.hasHitsAnyOrder( Arrays.asList( 3, 1, 2 ), Collections.singletonList( 5 ),
+						Collections.emptyList() );
+	}
+
+	@Test
+	public void multiIndex_docValuesInSomeIndexesOnly() {
+		StubMappingScope scope = index.createScope( noDocValuesIndex );
+		assertThatQuery( scope.query()
+				.select( f -> f.field( "integer", Integer.class ) )
+				.where( f -> f.matchAll() ) )
+				.hasHitsAnyOrder( 42, -7, null, 1337 );
+	}
+
+	private static void addNested(DocumentElement document, int... values) {
+		for ( int value : values ) {
+			DocumentElement nested = document.addObject( index.binding().nested );
+			nested.addValue( index.binding().nestedInteger, value );
+		}
+	}
+
+	private static void addFlattened(DocumentElement document, int... values) {
+		for ( int value : values ) {
+			DocumentElement flattened = document.addObject( index.binding().flattened );
+			flattened.addValue( index.binding().flattenedInteger, value );
+		}
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+		final IndexFieldReference<Double> doubleField;
+		final IndexFieldReference<LocalDate> localDate;
+		final IndexFieldReference<BigDecimal> bigDecimal;
+		final IndexObjectFieldReference nested;
+		final IndexFieldReference<Integer> nestedInteger;
+		final IndexObjectFieldReference flattened;
+		final IndexFieldReference<Integer> flattenedInteger;
+
+		IndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger()
+					.sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			doubleField = root.field( "doubleField", f -> f.asDouble()
+					.aggregable( Aggregable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			localDate = root.field( "localDate", f -> f.asLocalDate()
+					.sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			bigDecimal = root.field( "bigDecimal", f -> f.asBigDecimal().decimalScale( 2 )
+					.sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+
+			IndexSchemaObjectField nestedObject = root.objectField( "nested", ObjectStructure.NESTED )
+					.multiValued();
+			nestedInteger = nestedObject.field( "integer", f -> f.asInteger()
+					.sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			nested = nestedObject.toReference();
+
+			IndexSchemaObjectField flattenedObject = root.objectField( "flattened", ObjectStructure.FLATTENED )
+					.multiValued();
+			flattenedInteger = flattenedObject.field( "integer", f -> f.asInteger()
+					.sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			flattened = flattenedObject.toReference();
+		}
+	}
+
+	private static class NoDocValuesIndexBinding {
+		final IndexFieldReference<Integer> integer;
+
+		NoDocValuesIndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().projectable( Projectable.YES ) )
+					.toReference();
+		}
+	}
+}
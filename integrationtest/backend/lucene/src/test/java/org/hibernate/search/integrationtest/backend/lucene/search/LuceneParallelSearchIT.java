@@ -0,0 +1,149 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatResult;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.data.Range;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+/**
+ * Test that searching multiple segments in parallel,
+ * see {@link LuceneBackendSettings#THREAD_POOL_READ_SIZE},
+ * produces the same results as a sequential search.
+ */
+public class LuceneParallelSearchIT {
+
+	// Lucene groups up to 5 segments per slice: make sure we get multiple slices.
+	private static final int SEGMENT_COUNT = 8;
+	private static final int DOCUMENTS_PER_SEGMENT = 100;
+	private static final int CATEGORY_COUNT = 4;
+
+	@ClassRule
+	public static final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private static final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeClass
+	public static void setup() {
+		setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.THREAD_POOL_READ_SIZE, 4 )
+				.withIndex( index )
+				.setup();
+		initData();
+	}
+
+	@Test
+	public void totalHitCount() {
+		assertThatResult( index.query()
+				.where( f -> f.range().field( "number" ).atLeast( 100 ) )
+				.fetch( 0 ) )
+				.hasTotalHitCount( SEGMENT_COUNT * DOCUMENTS_PER_SEGMENT - 100L );
+	}
+
+	@Test
+	public void scoreSort() {
+		SearchResult<DocumentReference> result = index.query()
+				.where( f -> f.match().field( "category" ).matching( "cat1" ) )
+				.fetch( 1000 );
+		assertThatResult( result )
+				.hasTotalHitCount( SEGMENT_COUNT * DOCUMENTS_PER_SEGMENT / CATEGORY_COUNT );
+		assertThat( result.hits() )
+				.hasSize( SEGMENT_COUNT * DOCUMENTS_PER_SEGMENT / CATEGORY_COUNT )
+				.doesNotHaveDuplicates();
+	}
+
+	@Test
+	public void fieldSort_offset() {
+		int max = SEGMENT_COUNT * DOCUMENTS_PER_SEGMENT - 1;
+		assertThatResult( index.query()
+				.where( f -> f.range().field( "number" ).atLeast( 100 ) )
+				.sort( f -> f.field( "number" ).desc() )
+				.fetch( 5, 4 ) )
+				.hasDocRefHitsExactOrder( index.typeName(),
+						String.valueOf( max - 5 ), String.valueOf( max - 6 ),
+						String.valueOf( max - 7 ), String.valueOf( max - 8 ) )
+				.hasTotalHitCount( SEGMENT_COUNT * DOCUMENTS_PER_SEGMENT - 100L );
+	}
+
+	@Test
+	public void fieldSort_offsetBeyondTotalHitCount() {
+		assertThatResult( index.query()
+				.where( f -> f.range().field( "number" ).atLeast( 100 ) )
+				.sort( f -> f.field( "number" ).asc() )
+				.fetch( SEGMENT_COUNT * DOCUMENTS_PER_SEGMENT, 10 ) )
+				.hasNoHits()
+				.hasTotalHitCount( SEGMENT_COUNT * DOCUMENTS_PER_SEGMENT - 100L );
+	}
+
+	@Test
+	public void aggregations() {
+		AggregationKey<Map<String, Long>> termsKey = AggregationKey.of( "terms" );
+		AggregationKey<Map<Range<Integer>, Long>> rangeKey = AggregationKey.of( "range" );
+		int total = SEGMENT_COUNT * DOCUMENTS_PER_SEGMENT;
+		assertThatResult( index.query()
+				.where( f -> f.range().field( "number" ).atLeast( 100 ) )
+				.aggregation( termsKey, f -> f.terms().field( "category", String.class ) )
+				.aggregation( rangeKey, f -> f.range().field( "number", Integer.class )
+						.range( Range.canonical( null, 400 ) )
+						.range( Range.canonical( 400, null ) ) )
+				.fetch( 10 ) )
+				.aggregation( termsKey, map -> assertThat( map )
+						.hasSize( CATEGORY_COUNT )
+						.containsEntry( "cat0", (long) ( total - 100 ) / CATEGORY_COUNT )
+						.containsEntry( "cat3", (long) ( total - 100 ) / CATEGORY_COUNT ) )
+				.aggregation( rangeKey, map -> assertThat( map )
+						.containsEntry( Range.canonical( null, 400 ), 300L )
+						.containsEntry( Range.canonical( 400, null ), total - 400L ) );
+	}
+
+	private static void initData() {
+		for ( int segment = 0; segment < SEGMENT_COUNT; segment++ ) {
+			int offset = segment * DOCUMENTS_PER_SEGMENT;
+			index.bulkIndexer()
+					.add( DOCUMENTS_PER_SEGMENT, i -> documentProvider(
+							String.valueOf( offset + i ),
+							document -> {
+								document.addValue( index.binding().number, offset + i );
+								document.addValue( index.binding().category, "cat" + ( ( offset + i ) % CATEGORY_COUNT ) );
+							}
+					) )
+					.join();
+			// Commit after each batch so that each batch ends up in its own segment.
+			index.createWorkspace().flush().join();
+		}
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> number;
+		final IndexFieldReference<String> category;
+
+		IndexBinding(IndexSchemaElement root) {
+			number = root.field( "number", f -> f.asInteger().sortable( Sortable.YES ).aggregable( Aggregable.YES ) )
+					.toReference();
+			category = root.field( "category", f -> f.asString().aggregable( Aggregable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -13,7 +13,9 @@
 import java.util.Collections;
 
 import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
 import org.hibernate.search.backend.lucene.multitenancy.MultiTenancyStrategyName;
+import org.hibernate.search.backend.lucene.multitenancy.TenantAwareIdTermMode;
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
@@ -43,6 +45,7 @@ public class LuceneIndexingNestedIT {
 
 	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
 
+	private StubMapping mapping;
 	private StubSession sessionContext;
 
 	@Test
@@ -113,6 +116,59 @@ public void delete_byQuery() throws IOException {
 		assertThat( countWithField( "nestedObject.field1" ) ).isEqualTo( 0 );
 	}
 
+	@Test
+	public void update_byTenantAwareTerm() throws IOException {
+		// Multitenancy enabled with a tenant-aware ID term, which means the backend will use
+		// indexWriter.updateDocuments(Term, Iterable) for updates
+		setup( MultiTenancyStrategyName.DISCRIMINATOR, TenantAwareIdTermMode.ENABLED );
+		addToOtherTenant();
+
+		IndexIndexingPlan plan = index.createIndexingPlan( sessionContext );
+		plan.addOrUpdate( referenceProvider( "1" ), document -> {
+			DocumentElement nested = document.addObject( index.binding().nestedObject.self );
+			nested.addValue( index.binding().nestedObject.field2, "value" );
+		} );
+		plan.execute().join();
+
+		assertThat( countWithField( "nestedObject.field2" ) ).isEqualTo( 1 );
+		// Only the nested document of the other tenant is left in the index.
+		assertThat( countWithField( "nestedObject.field1" ) ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void delete_byTenantAwareTerm() throws IOException {
+		// Multitenancy enabled with a tenant-aware ID term, which means the backend will use
+		// indexWriter.deleteDocuments(Term) for deletion
+		setup( MultiTenancyStrategyName.DISCRIMINATOR, TenantAwareIdTermMode.ENABLED );
+		addToOtherTenant();
+
+		IndexIndexingPlan plan = index.createIndexingPlan( sessionContext );
+		plan.delete( referenceProvider( "1" ) );
+		plan.execute().join();
+
+		// Only the nested document of the other tenant is left in the index.
+		assertThat( countWithField( "nestedObject.field1" ) ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void update_byQuery_tenantAwareTermIndexOnly() throws IOException {
+		// Multitenancy enabled with a tenant-aware ID term that is indexed but not used yet,
+		// which means the backend will use indexWriter.deleteDocuments(Query) then indexWriter.addDocument for updates
+		setup( MultiTenancyStrategyName.DISCRIMINATOR, TenantAwareIdTermMode.INDEX_ONLY );
+
+		assertThat( countWithField( MetadataFields.tenantAwareIdFieldName() ) ).isEqualTo( 2 );
+
+		IndexIndexingPlan plan = index.createIndexingPlan( sessionContext );
+		plan.addOrUpdate( referenceProvider( "1" ), document -> {
+			DocumentElement nested = document.addObject( index.binding().nestedObject.self );
+			nested.addValue( index.binding().nestedObject.field2, "value" );
+		} );
+		plan.execute().join();
+
+		assertThat( countWithField( "nestedObject.field2" ) ).isEqualTo( 1 );
+		assertThat( countWithField( "nestedObject.field1" ) ).isEqualTo( 0 );
+	}
+
 	@Test
 	public void purge() throws IOException {
 		setup( MultiTenancyStrategyName.NONE );
@@ -124,8 +180,14 @@ public void purge() throws IOException {
 	}
 
 	private void setup(MultiTenancyStrategyName multiTenancyStrategyName) throws IOException {
+		setup( multiTenancyStrategyName, TenantAwareIdTermMode.DISABLED );
+	}
+
+	private void setup(MultiTenancyStrategyName multiTenancyStrategyName,
+			TenantAwareIdTermMode tenantAwareIdTermMode) throws IOException {
 		SearchSetupHelper.SetupContext setupContext = setupHelper.start()
 				.withBackendProperty( LuceneBackendSettings.MULTI_TENANCY_STRATEGY, multiTenancyStrategyName )
+				.withBackendProperty( LuceneBackendSettings.MULTI_TENANCY_TENANT_AWARE_ID_TERM, tenantAwareIdTermMode )
 				.withIndex( index );
 
 		if ( MultiTenancyStrategyName.DISCRIMINATOR.equals( multiTenancyStrategyName ) ) {
@@ -133,7 +195,7 @@ private void setup(MultiTenancyStrategyName multiTenancyStrategyName) throws IOE
 			setupContext.withMultiTenancy();
 		}
 
-		StubMapping mapping = setupContext.setup();
+		mapping = setupContext.setup();
 
 		assertThat( countWithField( "field1" ) ).isEqualTo( 0 );
 
@@ -152,6 +214,17 @@ private void setup(MultiTenancyStrategyName multiTenancyStrategyName) throws IOE
 		plan.execute().join();
 	}
 
+	private void addToOtherTenant() throws IOException {
+		IndexIndexingPlan plan = index.createIndexingPlan( mapping.session( "someOtherTenantId" ) );
+		plan.add( referenceProvider( "1" ), document -> {
+			DocumentElement nested = document.addObject( index.binding().nestedObject.self );
+			nested.addValue( index.binding().nestedObject.field1, "value" );
+		} );
+		plan.execute().join();
+
+		assertThat( countWithField( "nestedObject.field1" ) ).isEqualTo( 2 );
+	}
+
 	private int countWithField(String absoluteFieldPath) throws IOException {
 		return LuceneIndexContentUtils.readIndex(
 				setupHelper, index.name(),
@@ -14,6 +14,8 @@
 import static org.hibernate.search.util.impl.integrationtest.common.stub.backend.StubBackendUtils.reference;
 import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
 
@@ -21,11 +23,14 @@
 import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
 import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.query.SearchCursor;
 import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
 import org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.configuration.DefaultAnalysisDefinitions;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
 import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.serialization.spi.SerializationUtils;
 import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
 import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
 import org.hibernate.search.util.impl.test.annotation.TestForIssue;
@@ -325,6 +330,90 @@ public void maxResults_zero() {
 				.hasNoHits();
 	}
 
+	@Test
+	public void fetchAfter() {
+		SearchQuery<DocumentReference> query = matchAllQuerySortByField().toQuery();
+		assertThatPagingWithCursorReturnsAllDocumentsInOrder( query, 30 );
+	}
+
+	@Test
+	public void fetchAfter_stringSort() {
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "string" ).asc() )
+				.toQuery();
+		assertThatPagingWithCursorReturnsAllDocumentsInOrder( query, 30 );
+	}
+
+	@Test
+	public void fetchAfter_defaultSort() {
+		SearchQuery<DocumentReference> query = matchAllQuerySortByDefault().toQuery();
+
+		// Only the scores of the first two documents are higher than all others: don't go further.
+		SearchResult<DocumentReference> result = query.fetchAfter( null, 1 );
+		assertThatResult( result ).hasDocRefHitsExactOrder( index.typeName(), docId( 0 ) );
+		result = query.fetchAfter( result.nextCursor(), 1 );
+		assertThatResult( result ).hasDocRefHitsExactOrder( index.typeName(), docId( 1 ) );
+	}
+
+	@Test
+	public void fetchAfter_serializedCursor() {
+		SearchQuery<DocumentReference> query = matchAllQuerySortByField().toQuery();
+
+		SearchResult<DocumentReference> result = query.fetchAfter( null, 2 );
+		assertThatResult( result ).hasDocRefHitsExactOrder( index.typeName(), docId( 0 ), docId( 1 ) );
+
+		SearchCursor cursor = SerializationUtils.deserialize( SearchCursor.class,
+				SerializationUtils.serialize( result.nextCursor() ) );
+		assertThatResult( query.fetchAfter( cursor, 2 ) )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( index.typeName(), docId( 2 ), docId( 3 ) );
+	}
+
+	@Test
+	public void fetchAfter_noHits() {
+		SearchResult<DocumentReference> result = matchNoneQuery().sort( f -> f.field( "integer" ) )
+				.fetchAfter( null, 10 );
+		assertThatResult( result ).hasNoHits();
+		assertThat( result.nextCursor() ).isNull();
+	}
+
+	@Test
+	public void fetchAfter_invalidCursor() {
+		SearchCursor cursor = matchAllQuerySortByField().fetchAfter( null, 1 ).nextCursor();
+
+		assertThatThrownBy( () -> index.createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).then().field( "string" ) )
+				.fetchAfter( cursor, 1 ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Invalid search cursor",
+						"A search cursor can only be used with queries",
+						"defining the same sort as the query the cursor was obtained from" );
+	}
+
+	private void assertThatPagingWithCursorReturnsAllDocumentsInOrder(SearchQuery<DocumentReference> query,
+			int pageSize) {
+		List<DocumentReference> hits = new ArrayList<>();
+		SearchCursor cursor = null;
+		SearchResult<DocumentReference> result;
+		do {
+			result = query.fetchAfter( cursor, pageSize );
+			assertThatResult( result ).hasTotalHitCount( DOCUMENT_COUNT );
+			assertThat( result.hits() ).hasSizeLessThanOrEqualTo( pageSize );
+			hits.addAll( result.hits() );
+			cursor = result.nextCursor();
+		}
+		while ( !result.hits().isEmpty() );
+		assertThat( cursor ).isNull();
+
+		assertThatHits( hits ).hasDocRefHitsExactOrder( builder -> {
+			for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+				builder.doc( index.typeName(), docId( i ) );
+			}
+		} );
+	}
+
 	private SearchQueryOptionsStep<?, DocumentReference, ?, ?, ?> matchAllQuerySortByField() {
 		StubMappingScope scope = index.createScope();
 		return scope.query()
@@ -378,6 +467,7 @@ private void initData() {
 							}
 							document.addValue( index.binding().text, text );
 							document.addValue( index.binding().integer, i );
+							document.addValue( index.binding().string, docId( i ) );
 						}
 				) )
 				.join();
@@ -390,6 +480,7 @@ private static String docId(int i) {
 	private static class IndexBinding {
 		final IndexFieldReference<String> text;
 		final IndexFieldReference<Integer> integer;
+		final IndexFieldReference<String> string;
 
 		IndexBinding(IndexSchemaElement root) {
 			text = root.field( "text", f -> f.asString()
@@ -397,6 +488,8 @@ private static class IndexBinding {
 					.toReference();
 			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) )
 					.toReference();
+			string = root.field( "string", f -> f.asString().sortable( Sortable.YES ) )
+					.toReference();
 		}
 	}
 }
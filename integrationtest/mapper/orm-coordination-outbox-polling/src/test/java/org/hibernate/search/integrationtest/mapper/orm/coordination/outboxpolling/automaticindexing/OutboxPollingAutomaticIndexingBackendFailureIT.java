@@ -8,19 +8,27 @@
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
+import static org.hibernate.search.mapper.orm.coordination.outboxpolling.event.impl.OutboxPollingOutboxEventAdditionalJaxbMappingProducer.ENTITY_NAME;
 import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.with;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Locale;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import javax.persistence.Basic;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 
+import org.hibernate.Session;
 import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
 import org.hibernate.search.engine.reporting.EntityIndexingFailureContext;
 import org.hibernate.search.integrationtest.mapper.orm.coordination.outboxpolling.FilteringOutboxEventFinder;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.cfg.HibernateOrmMapperOutboxPollingSettings;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.event.impl.OutboxEvent;
 import org.hibernate.search.mapper.orm.common.EntityReference;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
@@ -50,6 +58,8 @@ public class OutboxPollingAutomaticIndexingBackendFailureIT {
 			// Disable the filter by default: only some of the tests actually need it.
 			.enableFilter( false );
 
+	private final OutboxEventStatementInspector statementInspector = new OutboxEventStatementInspector();
+
 	private SessionFactory sessionFactory;
 	private TestFailureHandler failureHandler;
 
@@ -161,6 +171,66 @@ public void backendFailure_retryAfter() {
 		assertThat( timeOfTheProcess - timeOfTheException.get() ).isGreaterThan( 3000 );
 	}
 
+	@Test
+	public void backendFailure_retryCountIncremented() {
+		// Delay retries, so that we can inspect the failed event before it's processed again
+		setup( 3 );
+		Instant timeBeforeTheException = Instant.now();
+		with( sessionFactory ).runInTransaction( session -> {
+			IndexedEntity entity1 = new IndexedEntity();
+			entity1.setId( 1 );
+			entity1.setIndexedField( "initialValue" );
+			session.persist( entity1 );
+
+			IndexedEntity entity2 = new IndexedEntity();
+			entity2.setId( 2 );
+			entity2.setIndexedField( "initialValue" );
+			session.persist( entity2 );
+
+			CompletableFuture<?> failingFuture = new CompletableFuture<>();
+			failingFuture.completeExceptionally( new SimulatedFailure( "Indexing work #2 failed!" ) );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.createAndExecuteFollowingWorks()
+					.add( "1", b -> b
+							.field( "indexedField", "initialValue" )
+					)
+					.createAndExecuteFollowingWorks( failingFuture )
+					.add( "2", b -> b
+							.field( "indexedField", "initialValue" )
+					);
+		} );
+		backendMock.verifyExpectationsMet();
+
+		// The event of the successfully indexed entity was deleted,
+		// and the event of the failed entity will be processed again later.
+		awaitFor( () -> with( sessionFactory ).runInTransaction( session -> {
+			List<OutboxEvent> events = findOutboxEvents( session );
+			assertThat( events ).hasSize( 1 );
+			OutboxEvent event = events.get( 0 );
+			assertThat( event.getEntityId() ).isEqualTo( "2" );
+			assertThat( event.getStatus() ).isEqualTo( OutboxEvent.Status.PENDING );
+			assertThat( event.getRetries() ).isEqualTo( 1 );
+			assertThat( event.getProcessAfter() ).isAfterOrEqualTo( timeBeforeTheException.plusSeconds( 3 ) );
+		} ) );
+
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				// retry (succeeds):
+				.createAndExecuteFollowingWorks()
+				.addOrUpdate( "2", b -> b
+						.field( "indexedField", "initialValue" )
+				);
+		backendMock.verifyExpectationsMet();
+
+		awaitFor( () -> with( sessionFactory ).runInTransaction( session ->
+				assertThat( findOutboxEvents( session ) ).isEmpty() ) );
+		// One statement per kind of change and per batch:
+		// deleting the event of entity 1 and updating the event of entity 2 in the first batch,
+		// deleting the event of entity 2 in the second batch.
+		assertThat( statementInspector.deletes ).hasSize( 2 );
+		assertThat( statementInspector.updates ).hasSize( 1 );
+	}
+
 	@Test
 	public void backendFailure_twoFailuresOfTheSameIndexingWork() {
 		setup( 0 );
@@ -284,6 +354,21 @@ public void backendFailure_numberOfTrialsExhausted() {
 				.isInstanceOf( SearchException.class )
 				.hasMessageContaining( "Max '3' retries exhausted to process the event. Event will be aborted." );
 		hasOneReference( entityFailure.entityReferences(), "indexed", 2 );
+
+		// The event of the failed entity is kept, but will not be processed anymore.
+		awaitFor( () -> with( sessionFactory ).runInTransaction( session -> {
+			List<OutboxEvent> events = findOutboxEvents( session );
+			assertThat( events ).hasSize( 1 );
+			OutboxEvent event = events.get( 0 );
+			assertThat( event.getEntityId() ).isEqualTo( "2" );
+			assertThat( event.getStatus() ).isEqualTo( OutboxEvent.Status.ABORTED );
+			assertThat( event.getRetries() ).isEqualTo( 2 );
+		} ) );
+		// One statement per kind of change and per batch:
+		// deleting the events of entities 1 and 3 and updating the event of entity 2 in the first batch,
+		// then updating the event of entity 2 in each of the two following batches.
+		assertThat( statementInspector.deletes ).hasSize( 1 );
+		assertThat( statementInspector.updates ).hasSize( 3 );
 	}
 
 	private void setup(int retryDelay) {
@@ -293,6 +378,7 @@ private void setup(int retryDelay) {
 				.withProperty( "hibernate.search.background_failure_handler", failureHandler )
 				.withProperty( "hibernate.search.coordination.outbox_event_finder.provider", outboxEventFinder.provider() )
 				.withProperty( "hibernate.search.coordination.event_processor.retry_delay", retryDelay )
+				.withProperty( "hibernate.session_factory.statement_inspector", statementInspector )
 				.setup( IndexedEntity.class );
 		backendMock.verifyExpectationsMet();
 	}
@@ -316,6 +402,37 @@ private static void awaitFor(ThrowingRunnable assertion) {
 		await().timeout( 2, TimeUnit.SECONDS ).untilAsserted( assertion );
 	}
 
+	// The event finder only lists events when its filter is enabled, and it is disabled in these tests.
+	private static List<OutboxEvent> findOutboxEvents(Session session) {
+		return session.createQuery( "select e from " + ENTITY_NAME + " e order by e.id", OutboxEvent.class )
+				.list();
+	}
+
+	/**
+	 * Records update and delete statements on the outbox event table.
+	 */
+	private static class OutboxEventStatementInspector implements StatementInspector {
+		private static final String TABLE_NAME = HibernateOrmMapperOutboxPollingSettings.Defaults
+				.COORDINATION_ENTITY_MAPPING_OUTBOX_EVENT_TABLE.toLowerCase( Locale.ROOT );
+
+		private final List<String> updates = new CopyOnWriteArrayList<>();
+		private final List<String> deletes = new CopyOnWriteArrayList<>();
+
+		@Override
+		public String inspect(String sql) {
+			String normalizedSql = sql.trim().toLowerCase( Locale.ROOT );
+			if ( normalizedSql.contains( TABLE_NAME ) ) {
+				if ( normalizedSql.startsWith( "update" ) ) {
+					updates.add( sql );
+				}
+				else if ( normalizedSql.startsWith( "delete" ) ) {
+					deletes.add( sql );
+				}
+			}
+			return sql;
+		}
+	}
+
 	@Entity(name = "indexed")
 	@Indexed(index = IndexedEntity.INDEX)
 	public static class IndexedEntity {
@@ -0,0 +1,246 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.coordination.outboxpolling.automaticindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.with;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.engine.reporting.EntityIndexingFailureContext;
+import org.hibernate.search.integrationtest.mapper.orm.coordination.outboxpolling.FilteringOutboxEventFinder;
+import org.hibernate.search.mapper.pojo.bridge.ValueBridge;
+import org.hibernate.search.mapper.pojo.bridge.mapping.annotation.ValueBridgeRef;
+import org.hibernate.search.mapper.pojo.bridge.runtime.ValueBridgeToIndexedValueContext;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.CoordinationStrategyExpectations;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.awaitility.core.ThrowingRunnable;
+
+/**
+ * Tests of automatic indexing with outbox-polling when the event processor pipeline depth is greater than 1,
+ * i.e. when batches of events are loaded while indexing of previous batches is still in progress.
+ */
+public class OutboxPollingAutomaticIndexingPipelinedIT {
+
+	@Rule
+	public BackendMock backendMock = new BackendMock();
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock )
+			.coordinationStrategy( CoordinationStrategyExpectations.outboxPolling() );
+
+	private final FilteringOutboxEventFinder outboxEventFinder = new FilteringOutboxEventFinder()
+			.enableFilter( false );
+
+	private final CompletableFuture<?> pendingFuture = new CompletableFuture<>();
+
+	private SessionFactory sessionFactory;
+	private TestFailureHandler failureHandler;
+
+	@Before
+	public void setup() {
+		backendMock.expectSchema( IndexedEntity.INDEX, b -> b.field( "indexedField", String.class ) );
+		failureHandler = new TestFailureHandler();
+		RecordingBridge.bridgedValues.clear();
+		sessionFactory = ormSetupHelper.start()
+				.withProperty( "hibernate.search.background_failure_handler", failureHandler )
+				.withProperty( "hibernate.search.coordination.outbox_event_finder.provider", outboxEventFinder.provider() )
+				.withProperty( "hibernate.search.coordination.event_processor.batch_size", 1 )
+				.withProperty( "hibernate.search.coordination.event_processor.pipeline_depth", 2 )
+				.withProperty( "hibernate.search.coordination.event_processor.retry_delay", 0 )
+				.setup( IndexedEntity.class );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@After
+	public void completePendingFuture() {
+		// Make sure the event processor can stop even if a test fails
+		pendingFuture.complete( null );
+	}
+
+	@Test
+	public void massiveInsert() {
+		with( sessionFactory ).runInTransaction( session -> {
+			BackendMock.DocumentWorkCallListContext context = backendMock.expectWorks( IndexedEntity.INDEX );
+			for ( int i = 0; i < 100; i++ ) {
+				int id = i;
+				session.persist( new IndexedEntity( id, "value " + id ) );
+				context.add( String.valueOf( id ), b -> b.field( "indexedField", "value " + id ) );
+			}
+		} );
+		backendMock.verifyExpectationsMet();
+
+		outboxEventFinder.awaitUntilNoMoreVisibleEvents( sessionFactory );
+		assertThat( failureHandler.genericFailures ).isEmpty();
+		assertThat( failureHandler.entityFailures ).isEmpty();
+	}
+
+	@Test
+	public void nextBatchLoadedWhileIndexingInProgress() {
+		with( sessionFactory ).runInTransaction( session -> {
+			session.persist( new IndexedEntity( 1, "value1" ) );
+			session.persist( new IndexedEntity( 2, "value2" ) );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.createAndExecuteFollowingWorks( pendingFuture )
+					.add( "1", b -> b.field( "indexedField", "value1" ) )
+					.createAndExecuteFollowingWorks()
+					.add( "2", b -> b.field( "indexedField", "value2" ) );
+		} );
+
+		// The second batch gets processed even though indexing of the first one is still in progress
+		awaitFor( () -> assertThat( RecordingBridge.bridgedValues ).contains( "value2" ) );
+		assertThat( pendingFuture ).isNotDone();
+
+		pendingFuture.complete( null );
+		backendMock.verifyExpectationsMet();
+
+		outboxEventFinder.awaitUntilNoMoreVisibleEvents( sessionFactory );
+		assertThat( failureHandler.genericFailures ).isEmpty();
+		assertThat( failureHandler.entityFailures ).isEmpty();
+	}
+
+	@Test
+	public void sameEntity_waitForBatchInFlight() throws InterruptedException {
+		with( sessionFactory ).runInTransaction( session -> {
+			session.persist( new IndexedEntity( 1, "initialValue" ) );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.createAndExecuteFollowingWorks( pendingFuture )
+					.add( "1", b -> b.field( "indexedField", "initialValue" ) );
+		} );
+		awaitFor( () -> assertThat( RecordingBridge.bridgedValues ).contains( "initialValue" ) );
+
+		with( sessionFactory ).runInTransaction( session -> {
+			IndexedEntity entity = session.getReference( IndexedEntity.class, 1 );
+			entity.setIndexedField( "updatedValue" );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.addOrUpdate( "1", b -> b.field( "indexedField", "updatedValue" ) );
+		} );
+
+		// Give the event processor a chance to (incorrectly) process the update event
+		// while indexing of the first event is still in progress.
+		Thread.sleep( 500 );
+		assertThat( RecordingBridge.bridgedValues ).doesNotContain( "updatedValue" );
+
+		pendingFuture.complete( null );
+		backendMock.verifyExpectationsMet();
+
+		outboxEventFinder.awaitUntilNoMoreVisibleEvents( sessionFactory );
+		assertThat( failureHandler.genericFailures ).isEmpty();
+		assertThat( failureHandler.entityFailures ).isEmpty();
+	}
+
+	@Test
+	public void backendFailure() {
+		with( sessionFactory ).runInTransaction( session -> {
+			session.persist( new IndexedEntity( 1, "initialValue" ) );
+			session.persist( new IndexedEntity( 2, "initialValue" ) );
+			session.persist( new IndexedEntity( 3, "initialValue" ) );
+
+			CompletableFuture<?> failingFuture = new CompletableFuture<>();
+			failingFuture.completeExceptionally( new SimulatedFailure( "Indexing work #2 failed!" ) );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.createAndExecuteFollowingWorks()
+					.add( "1", b -> b.field( "indexedField", "initialValue" ) )
+					.createAndExecuteFollowingWorks( failingFuture )
+					.add( "2", b -> b.field( "indexedField", "initialValue" ) )
+					.createAndExecuteFollowingWorks()
+					.add( "3", b -> b.field( "indexedField", "initialValue" ) )
+					// retry (succeeds):
+					.addOrUpdate( "2", b -> b.field( "indexedField", "initialValue" ) );
+		} );
+		backendMock.verifyExpectationsMet();
+
+		outboxEventFinder.awaitUntilNoMoreVisibleEvents( sessionFactory );
+		assertThat( failureHandler.genericFailures ).isEmpty();
+		List<EntityIndexingFailureContext> entityFailures = failureHandler.entityFailures.get( 2 );
+		awaitFor( () -> assertThat( entityFailures ).hasSize( 1 ) );
+		assertThat( entityFailures.get( 0 ).throwable() )
+				.isInstanceOf( SimulatedFailure.class )
+				.hasMessageContaining( "Indexing work #2 failed!" );
+	}
+
+	private static void awaitFor(ThrowingRunnable assertion) {
+		await().timeout( 5, TimeUnit.SECONDS ).untilAsserted( assertion );
+	}
+
+	@Entity(name = "indexed")
+	@Indexed(index = IndexedEntity.INDEX)
+	public static class IndexedEntity {
+
+		static final String INDEX = "IndexedEntity";
+
+		@Id
+		private Integer id;
+
+		@Basic
+		@GenericField(valueBridge = @ValueBridgeRef(type = RecordingBridge.class))
+		private String indexedField;
+
+		public IndexedEntity() {
+		}
+
+		public IndexedEntity(Integer id, String indexedField) {
+			this.id = id;
+			this.indexedField = indexedField;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getIndexedField() {
+			return indexedField;
+		}
+
+		public void setIndexedField(String indexedField) {
+			this.indexedField = indexedField;
+		}
+	}
+
+	public static class RecordingBridge implements ValueBridge<String, String> {
+		static final Set<String> bridgedValues = ConcurrentHashMap.newKeySet();
+
+		@Override
+		public String toIndexedValue(String value, ValueBridgeToIndexedValueContext context) {
+			bridgedValues.add( value );
+			return value;
+		}
+	}
+
+	private static class SimulatedFailure extends RuntimeException {
+		SimulatedFailure(String message) {
+			super( message );
+		}
+	}
+
+}
@@ -0,0 +1,182 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.coordination.outboxpolling.automaticindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.with;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.search.mapper.pojo.bridge.ValueBridge;
+import org.hibernate.search.mapper.pojo.bridge.mapping.annotation.ValueBridgeRef;
+import org.hibernate.search.mapper.pojo.bridge.runtime.ValueBridgeToIndexedValueContext;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.CoordinationStrategyExpectations;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.awaitility.core.ThrowingRunnable;
+
+/**
+ * Tests of automatic indexing with outbox-polling when event processors are woken up
+ * through PostgreSQL's LISTEN/NOTIFY as soon as events are committed.
+ * <p>
+ * This test requires a PostgreSQL database and only runs with the {@code ci-postgresql} Maven profile.
+ * <p>
+ * The polling interval is set high, so that events can only be processed quickly
+ * if event processors get woken up.
+ */
+public class OutboxPollingAutomaticIndexingPostgreSQLWakeUpIT {
+
+	// Must be high enough to detect wake-ups, but low enough for the backend mock
+	// to be able to wait for the event processors to become idle.
+	private static final int POLLING_INTERVAL = 2_000;
+
+	@Rule
+	public BackendMock backendMock = new BackendMock();
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock )
+			.coordinationStrategy( CoordinationStrategyExpectations.outboxPolling() );
+
+	private SessionFactory sessionFactory;
+
+	@Test
+	public void commit() {
+		setup();
+
+		with( sessionFactory ).runInTransaction( session -> {
+			session.persist( new IndexedEntity( 1, "initialValue" ) );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.add( "1", b -> b.field( "indexedField", "initialValue" ) );
+		} );
+		awaitWakeUp( () -> assertThat( RecordingBridge.bridgedValues ).contains( "initialValue" ) );
+		backendMock.verifyExpectationsMet();
+
+		with( sessionFactory ).runInTransaction( session -> {
+			IndexedEntity entity = session.getReference( IndexedEntity.class, 1 );
+			entity.setIndexedField( "updatedValue" );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.addOrUpdate( "1", b -> b.field( "indexedField", "updatedValue" ) );
+		} );
+		awaitWakeUp( () -> assertThat( RecordingBridge.bridgedValues ).contains( "updatedValue" ) );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void rollback() {
+		setup();
+
+		// PostgreSQL only delivers notifications on commit:
+		// rolling back must neither create events nor fail.
+		with( sessionFactory ).runNoTransaction( session -> {
+			Transaction trx = session.beginTransaction();
+			session.persist( new IndexedEntity( 1, "rolledBackValue" ) );
+			session.flush();
+			trx.rollback();
+		} );
+
+		with( sessionFactory ).runInTransaction( session -> {
+			session.persist( new IndexedEntity( 2, "committedValue" ) );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.add( "2", b -> b.field( "indexedField", "committedValue" ) );
+		} );
+		awaitWakeUp( () -> assertThat( RecordingBridge.bridgedValues ).contains( "committedValue" ) );
+		backendMock.verifyExpectationsMet();
+		assertThat( RecordingBridge.bridgedValues ).doesNotContain( "rolledBackValue" );
+	}
+
+	private void setup() {
+		backendMock.expectSchema( IndexedEntity.INDEX, b -> b.field( "indexedField", String.class ) );
+		sessionFactory = ormSetupHelper.start()
+				.withProperty( "hibernate.search.coordination.event_processor.polling_interval", POLLING_INTERVAL )
+				.withProperty( "hibernate.search.coordination.event_processor.pulse_interval", POLLING_INTERVAL )
+				.withProperty( "hibernate.search.coordination.event_processor.pulse_expiration", 3 * POLLING_INTERVAL )
+				.withProperty( "hibernate.search.coordination.event_processor.wake_up_source", "postgresql" )
+				.setup( IndexedEntity.class );
+		backendMock.verifyExpectationsMet();
+
+		// Wake-ups only matter once event processors are actually running,
+		// which requires a few pulses: wait until they process a first event.
+		with( sessionFactory ).runInTransaction( session -> {
+			session.persist( new IndexedEntity( 0, "warmUp" ) );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.add( "0", b -> b.field( "indexedField", "warmUp" ) );
+		} );
+		backendMock.verifyExpectationsMet();
+		RecordingBridge.bridgedValues.clear();
+	}
+
+	private static void awaitWakeUp(ThrowingRunnable assertion) {
+		await().timeout( POLLING_INTERVAL / 2, TimeUnit.MILLISECONDS ).untilAsserted( assertion );
+	}
+
+	@Entity(name = "indexed")
+	@Indexed(index = IndexedEntity.INDEX)
+	public static class IndexedEntity {
+
+		static final String INDEX = "IndexedEntity";
+
+		@Id
+		private Integer id;
+
+		@Basic
+		@GenericField(valueBridge = @ValueBridgeRef(type = RecordingBridge.class))
+		private String indexedField;
+
+		public IndexedEntity() {
+		}
+
+		public IndexedEntity(Integer id, String indexedField) {
+			this.id = id;
+			this.indexedField = indexedField;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getIndexedField() {
+			return indexedField;
+		}
+
+		public void setIndexedField(String indexedField) {
+			this.indexedField = indexedField;
+		}
+	}
+
+	public static class RecordingBridge implements ValueBridge<String, String> {
+		static final Set<String> bridgedValues = ConcurrentHashMap.newKeySet();
+
+		@Override
+		public String toIndexedValue(String value, ValueBridgeToIndexedValueContext context) {
+			bridgedValues.add( value );
+			return value;
+		}
+	}
+
+}
@@ -0,0 +1,211 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.coordination.outboxpolling.automaticindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.with;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.event.spi.OutboxEventWakeUpSource;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.event.spi.OutboxEventWakeUpSourceStartContext;
+import org.hibernate.search.mapper.pojo.bridge.ValueBridge;
+import org.hibernate.search.mapper.pojo.bridge.mapping.annotation.ValueBridgeRef;
+import org.hibernate.search.mapper.pojo.bridge.runtime.ValueBridgeToIndexedValueContext;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.CoordinationStrategyExpectations;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.awaitility.core.ThrowingRunnable;
+
+/**
+ * Tests of automatic indexing with outbox-polling when event processors are woken up
+ * by a wake-up source as soon as events are committed.
+ * <p>
+ * The polling interval is set high, so that events can only be processed quickly
+ * if event processors get woken up.
+ */
+public class OutboxPollingAutomaticIndexingWakeUpIT {
+
+	// Must be high enough to detect wake-ups, but low enough for the backend mock
+	// to be able to wait for the event processors to become idle.
+	private static final int POLLING_INTERVAL = 2_000;
+
+	@Rule
+	public BackendMock backendMock = new BackendMock();
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock )
+			.coordinationStrategy( CoordinationStrategyExpectations.outboxPolling() );
+
+	private SessionFactory sessionFactory;
+
+	@Test
+	public void local() {
+		setup( "local" );
+
+		with( sessionFactory ).runInTransaction( session -> {
+			session.persist( new IndexedEntity( 1, "initialValue" ) );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.add( "1", b -> b.field( "indexedField", "initialValue" ) );
+		} );
+		awaitWakeUp( () -> assertThat( RecordingBridge.bridgedValues ).contains( "initialValue" ) );
+		backendMock.verifyExpectationsMet();
+
+		with( sessionFactory ).runInTransaction( session -> {
+			IndexedEntity entity = session.getReference( IndexedEntity.class, 1 );
+			entity.setIndexedField( "updatedValue" );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.addOrUpdate( "1", b -> b.field( "indexedField", "updatedValue" ) );
+		} );
+		awaitWakeUp( () -> assertThat( RecordingBridge.bridgedValues ).contains( "updatedValue" ) );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void custom() {
+		RecordingWakeUpSource wakeUpSource = new RecordingWakeUpSource();
+		setup( wakeUpSource );
+		assertThat( wakeUpSource.context ).isNotNull();
+		int eventsSentCountBefore = wakeUpSource.eventsSentCount.get();
+
+		with( sessionFactory ).runInTransaction( session -> {
+			session.persist( new IndexedEntity( 1, "initialValue" ) );
+			session.persist( new IndexedEntity( 2, "initialValue" ) );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.add( "1", b -> b.field( "indexedField", "initialValue" ) )
+					.add( "2", b -> b.field( "indexedField", "initialValue" ) );
+		} );
+		// Events were sent, but the event processors were not woken up yet.
+		// The source may be notified more than once per transaction, e.g. on each flush.
+		assertThat( wakeUpSource.eventsSentCount.get() ).isGreaterThan( eventsSentCountBefore );
+		assertThat( RecordingBridge.bridgedValues ).isEmpty();
+
+		wakeUpSource.context.wakeUpEventProcessors();
+		awaitWakeUp( () -> assertThat( RecordingBridge.bridgedValues ).contains( "initialValue" ) );
+		backendMock.verifyExpectationsMet();
+
+		// Transactions without events do not send any signal.
+		int eventsSentCountAfterEvents = wakeUpSource.eventsSentCount.get();
+		with( sessionFactory ).runInTransaction( session -> {
+			session.getReference( IndexedEntity.class, 1 );
+		} );
+		assertThat( wakeUpSource.eventsSentCount ).hasValue( eventsSentCountAfterEvents );
+	}
+
+	private void setup(Object wakeUpSource) {
+		backendMock.expectSchema( IndexedEntity.INDEX, b -> b.field( "indexedField", String.class ) );
+		sessionFactory = ormSetupHelper.start()
+				.withProperty( "hibernate.search.coordination.event_processor.polling_interval", POLLING_INTERVAL )
+				.withProperty( "hibernate.search.coordination.event_processor.pulse_interval", POLLING_INTERVAL )
+				.withProperty( "hibernate.search.coordination.event_processor.pulse_expiration", 3 * POLLING_INTERVAL )
+				.withProperty( "hibernate.search.coordination.event_processor.wake_up_source", wakeUpSource )
+				.setup( IndexedEntity.class );
+		backendMock.verifyExpectationsMet();
+
+		// Wake-ups only matter once event processors are actually running,
+		// which requires a few pulses: wait until they process a first event.
+		with( sessionFactory ).runInTransaction( session -> {
+			session.persist( new IndexedEntity( 0, "warmUp" ) );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.add( "0", b -> b.field( "indexedField", "warmUp" ) );
+		} );
+		backendMock.verifyExpectationsMet();
+		RecordingBridge.bridgedValues.clear();
+	}
+
+	private static void awaitWakeUp(ThrowingRunnable assertion) {
+		await().timeout( POLLING_INTERVAL / 2, TimeUnit.MILLISECONDS ).untilAsserted( assertion );
+	}
+
+	@Entity(name = "indexed")
+	@Indexed(index = IndexedEntity.INDEX)
+	public static class IndexedEntity {
+
+		static final String INDEX = "IndexedEntity";
+
+		@Id
+		private Integer id;
+
+		@Basic
+		@GenericField(valueBridge = @ValueBridgeRef(type = RecordingBridge.class))
+		private String indexedField;
+
+		public IndexedEntity() {
+		}
+
+		public IndexedEntity(Integer id, String indexedField) {
+			this.id = id;
+			this.indexedField = indexedField;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getIndexedField() {
+			return indexedField;
+		}
+
+		public void setIndexedField(String indexedField) {
+			this.indexedField = indexedField;
+		}
+	}
+
+	public static class RecordingBridge implements ValueBridge<String, String> {
+		static final Set<String> bridgedValues = ConcurrentHashMap.newKeySet();
+
+		@Override
+		public String toIndexedValue(String value, ValueBridgeToIndexedValueContext context) {
+			bridgedValues.add( value );
+			return value;
+		}
+	}
+
+	private static class RecordingWakeUpSource implements OutboxEventWakeUpSource {
+		private final AtomicInteger eventsSentCount = new AtomicInteger();
+		private volatile OutboxEventWakeUpSourceStartContext context;
+
+		@Override
+		public void start(OutboxEventWakeUpSourceStartContext context) {
+			this.context = context;
+		}
+
+		@Override
+		public void eventsSent(Session session) {
+			eventsSentCount.incrementAndGet();
+		}
+
+		@Override
+		public void stop() {
+			context = null;
+		}
+	}
+
+}
@@ -6,11 +6,15 @@
  */
 package org.hibernate.search.integrationtest.mapper.orm.massindexing;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Fail.fail;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.Table;
@@ -26,7 +30,9 @@
 import org.hibernate.search.mapper.orm.session.SearchSession;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingMonitor;
 import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.index.StubSchemaManagementWork;
 import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
@@ -40,6 +46,8 @@
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 
+import org.awaitility.Awaitility;
+
 /**
  * Very basic test to probe an use of {@link MassIndexer} api.
  */
@@ -162,6 +170,144 @@ Book.INDEX, targetTenantId(), DocumentCommitStrategy.NONE, DocumentRefreshStrate
 		backendMock.verifyExpectationsMet();
 	}
 
+	@Test
+	public void idLoadingPartitions() {
+		setupHolder.with( targetTenantId() ).runNoTransaction( session -> {
+			SearchSession searchSession = Search.session( session );
+			MassIndexer indexer = searchSession.massIndexer()
+					.idLoadingPartitions( 2 )
+					.batchSizeToLoadObjects( 1 );
+
+			// add operations on indexes can follow any random order,
+			// since they are executed by different threads
+			backendMock.expectWorks(
+					Book.INDEX, targetTenantId(), DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+			)
+					.add( "1", b -> b
+							.field( "title", TITLE_1 )
+							.field( "author", AUTHOR_1 )
+					)
+					.add( "2", b -> b
+							.field( "title", TITLE_2 )
+							.field( "author", AUTHOR_2 )
+					)
+					.add( "3", b -> b
+							.field( "title", TITLE_3 )
+							.field( "author", AUTHOR_3 )
+					);
+
+			backendMock.expectIndexScaleWorks( Book.INDEX, targetTenantId() )
+					.purge()
+					.mergeSegments()
+					.flush()
+					.refresh();
+
+			try {
+				indexer.startAndWait();
+			}
+			catch (InterruptedException e) {
+				fail( "Unexpected InterruptedException: " + e.getMessage() );
+			}
+		} );
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void indexingBatchesInFlight() {
+		int batchesInFlight = 2;
+		AtomicLong loadedEntities = new AtomicLong();
+		AtomicLong addedDocuments = new AtomicLong();
+		AtomicLong maxBatchesInFlight = new AtomicLong();
+		MassIndexingMonitor monitor = new MassIndexingMonitor() {
+			@Override
+			public void documentsAdded(long increment) {
+				addedDocuments.addAndGet( increment );
+			}
+
+			@Override
+			public void documentsBuilt(long increment) {
+			}
+
+			@Override
+			public void entitiesLoaded(long increment) {
+				// Entities of a batch are reported as loaded right before the batch is submitted to the backend,
+				// and documents of a batch are reported as added once the loading thread has waited for that batch.
+				long loaded = loadedEntities.addAndGet( increment );
+				maxBatchesInFlight.accumulateAndGet( loaded - addedDocuments.get(), Math::max );
+			}
+
+			@Override
+			public void addToTotalCount(long increment) {
+			}
+
+			@Override
+			public void indexingCompleted() {
+			}
+		};
+
+		CompletableFuture<?> indexingFuture1 = new CompletableFuture<>();
+		CompletableFuture<?> indexingFuture2 = new CompletableFuture<>();
+		CompletableFuture<?> indexingFuture3 = new CompletableFuture<>();
+
+		setupHolder.with( targetTenantId() ).runNoTransaction( session -> {
+			SearchSession searchSession = Search.session( session );
+			MassIndexer indexer = searchSession.massIndexer()
+					.threadsToLoadObjects( 1 )
+					.batchSizeToLoadObjects( 1 )
+					.indexingBatchesInFlight( batchesInFlight )
+					.monitor( monitor );
+
+			backendMock.expectIndexScaleWorks( Book.INDEX, targetTenantId() )
+					.purge()
+					.mergeSegments();
+
+			// Indexing will not complete until we complete the futures explicitly.
+			backendMock.expectWorks(
+					Book.INDEX, targetTenantId(), DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+			)
+					.createAndExecuteFollowingWorks( indexingFuture1 )
+					.add( "1", b -> b
+							.field( "title", TITLE_1 )
+							.field( "author", AUTHOR_1 )
+					)
+					.createAndExecuteFollowingWorks( indexingFuture2 )
+					.add( "2", b -> b
+							.field( "title", TITLE_2 )
+							.field( "author", AUTHOR_2 )
+					)
+					.createAndExecuteFollowingWorks( indexingFuture3 )
+					.add( "3", b -> b
+							.field( "title", TITLE_3 )
+							.field( "author", AUTHOR_3 )
+					);
+
+			CompletableFuture<?> massIndexingFuture = indexer.start().toCompletableFuture();
+
+			// The loading thread submits as many batches as allowed...
+			Awaitility.await().untilAsserted( () -> assertThat( loadedEntities ).hasValue( batchesInFlight ) );
+			// ... then blocks until the oldest batch gets indexed.
+			Awaitility.await().during( Duration.ofMillis( 500 ) ).atMost( Duration.ofSeconds( 5 ) )
+					.untilAsserted( () -> assertThat( loadedEntities ).hasValue( batchesInFlight ) );
+			assertThat( massIndexingFuture ).isNotDone();
+
+			backendMock.expectIndexScaleWorks( Book.INDEX, targetTenantId() )
+					.flush()
+					.refresh();
+
+			indexingFuture1.complete( null );
+			indexingFuture2.complete( null );
+			indexingFuture3.complete( null );
+
+			Futures.unwrappedExceptionJoin( massIndexingFuture );
+		} );
+
+		backendMock.verifyExpectationsMet();
+		assertThat( loadedEntities ).hasValue( 3 );
+		assertThat( addedDocuments ).hasValue( 3 );
+		assertThat( maxBatchesInFlight ).hasValue( batchesInFlight );
+	}
+
 	@Test
 	public void dropAndCreateSchemaOnStart() {
 		setupHolder.with( targetTenantId() ).runNoTransaction( session -> {
@@ -0,0 +1,479 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.massindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Fail.fail;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.io.PrintWriter;
+import java.nio.file.Path;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Logger;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Lob;
+import javax.persistence.Table;
+import javax.sql.DataSource;
+
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.cfg.spi.EngineSpiSettings;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingCheckpointStore;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.common.rule.ThreadSpy;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.ReusableOrmSetupHolder;
+
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.MethodRule;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests recording mass indexing checkpoints and resuming mass indexing from a checkpoint.
+ */
+public class MassIndexingCheckpointIT {
+
+	public static final String TITLE_1 = "Oliver Twist";
+	public static final String TITLE_2 = "Ulysses";
+	public static final String TITLE_3 = "Frankenstein";
+
+	@ClassRule
+	public static BackendMock backendMock = new BackendMock();
+
+	@ClassRule
+	public static ReusableOrmSetupHolder setupHolder = ReusableOrmSetupHolder.withBackendMock( backendMock );
+
+	@ClassRule
+	public static ThreadSpy threadSpy = new ThreadSpy();
+
+	@Rule
+	public MethodRule setupHolderMethodRule = setupHolder.methodRule();
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@ReusableOrmSetupHolder.Setup
+	public void setup(OrmSetupHelper.SetupContext setupContext) {
+		backendMock.expectAnySchema( Book.INDEX );
+
+		setupContext.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_ENABLED, false )
+				.withPropertyRadical( EngineSpiSettings.Radicals.THREAD_PROVIDER, threadSpy.getThreadProvider() )
+				// Not indexed: only used as a table for JDBC checkpoint stores
+				.withAnnotatedTypes( Book.class, CheckpointRow.class );
+	}
+
+	@Before
+	public void initData() {
+		setupHolder.runInTransaction( session -> {
+			session.persist( new Book( 1, TITLE_1 ) );
+			session.persist( new Book( 2, TITLE_2 ) );
+			session.persist( new Book( 3, TITLE_3 ) );
+		} );
+	}
+
+	@Test
+	public void checkpointStore() {
+		RecordingCheckpointStore store = new RecordingCheckpointStore();
+		store.save( "some obsolete checkpoint" );
+
+		setupHolder.runNoTransaction( session -> {
+			MassIndexer indexer = Search.session( session ).massIndexer()
+					.idLoadingPartitions( 3 )
+					.checkpointStore( store );
+
+			backendMock.expectWorks( Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE )
+					.add( "1", b -> b.field( "title", TITLE_1 ) )
+					.add( "2", b -> b.field( "title", TITLE_2 ) )
+					.add( "3", b -> b.field( "title", TITLE_3 ) );
+
+			backendMock.expectIndexScaleWorks( Book.INDEX )
+					.purge()
+					.mergeSegments()
+					// One flush per completed partition
+					.flush()
+					.flush()
+					.flush()
+					.flush()
+					.refresh();
+
+			startAndWait( indexer );
+		} );
+
+		backendMock.verifyExpectationsMet();
+
+		// The obsolete checkpoint was discarded, then a checkpoint was saved for each completed partition
+		assertThat( store.saved ).hasSize( 1 + 1 + 3 );
+		assertThat( store.saved.get( store.saved.size() - 1 ) )
+				.contains( "group.0.name=Book" )
+				.contains( "group.0.partition.count=3" )
+				.contains( "group.0.partition.0.completed=true" )
+				.contains( "group.0.partition.1.completed=true" )
+				.contains( "group.0.partition.2.completed=true" );
+		// The checkpoint was cleared on success
+		assertThat( store.content ).isNull();
+	}
+
+	@Test
+	public void checkpointRanges() {
+		RecordingCheckpointStore store = new RecordingCheckpointStore();
+		int idLoadingThreadsBefore = threadSpy.getCreatedThreads( "ID loading" ).size();
+
+		setupHolder.runNoTransaction( session -> {
+			MassIndexer indexer = Search.session( session ).massIndexer()
+					.idLoadingPartitions( 1 )
+					.checkpointRanges( 3 )
+					.checkpointStore( store );
+
+			backendMock.expectWorks( Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE )
+					.add( "1", b -> b.field( "title", TITLE_1 ) )
+					.add( "2", b -> b.field( "title", TITLE_2 ) )
+					.add( "3", b -> b.field( "title", TITLE_3 ) );
+
+			backendMock.expectIndexScaleWorks( Book.INDEX )
+					.purge()
+					.mergeSegments()
+					// One flush per completed range
+					.flush()
+					.flush()
+					.flush()
+					.flush()
+					.refresh();
+
+			startAndWait( indexer );
+		} );
+
+		backendMock.verifyExpectationsMet();
+
+		// The number of ranges does not depend on the number of ID loading threads...
+		// A checkpoint was saved on start, then for each completed range
+		assertThat( store.saved ).hasSize( 1 + 3 );
+		assertThat( store.saved.get( store.saved.size() - 1 ) )
+				.contains( "group.0.partition.count=3" )
+				.contains( "group.0.partition.0.completed=true" )
+				.contains( "group.0.partition.1.completed=true" )
+				.contains( "group.0.partition.2.completed=true" );
+		// ... and ranges are still loaded by a single thread.
+		assertThat( threadSpy.getCreatedThreads( "ID loading" ) ).hasSize( idLoadingThreadsBefore + 1 );
+	}
+
+	@Test
+	public void resumeFrom() throws IOException {
+		Path checkpointFile = temporaryFolder.getRoot().toPath().resolve( "checkpoint.properties" );
+		Files.write( checkpointFile, String.join( "\n",
+				"group.0.name=Book",
+				"group.0.partition.count=3",
+				"group.0.partition.0.descriptor=I::2",
+				"group.0.partition.0.completed=true",
+				"group.0.partition.1.descriptor=I:2:3",
+				"group.0.partition.1.completed=false",
+				"group.0.partition.2.descriptor=I:3:",
+				"group.0.partition.2.completed=false"
+		).getBytes( StandardCharsets.UTF_8 ) );
+
+		setupHolder.runNoTransaction( session -> {
+			MassIndexer indexer = Search.session( session ).massIndexer()
+					.resumeFrom( MassIndexingCheckpointStore.file( checkpointFile ) );
+
+			// The first partition was already indexed: only the others are indexed again.
+			// The index may already contain these documents, hence the "addOrUpdate".
+			backendMock.expectWorks( Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE )
+					.addOrUpdate( "2", b -> b.field( "title", TITLE_2 ) )
+					.addOrUpdate( "3", b -> b.field( "title", TITLE_3 ) );
+
+			// No purge when resuming
+			backendMock.expectIndexScaleWorks( Book.INDEX )
+					.flush()
+					.flush()
+					.flush()
+					.refresh();
+
+			startAndWait( indexer );
+		} );
+
+		backendMock.verifyExpectationsMet();
+
+		assertThat( checkpointFile ).doesNotExist();
+	}
+
+	@Test
+	public void resumeFrom_noCheckpoint() {
+		Path checkpointFile = temporaryFolder.getRoot().toPath().resolve( "checkpoint.properties" );
+
+		setupHolder.runNoTransaction( session -> {
+			MassIndexer indexer = Search.session( session ).massIndexer()
+					.resumeFrom( MassIndexingCheckpointStore.file( checkpointFile ) );
+
+			// Without a checkpoint, this is just a regular mass indexing
+			backendMock.expectWorks( Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE )
+					.add( "1", b -> b.field( "title", TITLE_1 ) )
+					.add( "2", b -> b.field( "title", TITLE_2 ) )
+					.add( "3", b -> b.field( "title", TITLE_3 ) );
+
+			backendMock.expectIndexScaleWorks( Book.INDEX )
+					.purge()
+					.mergeSegments()
+					.flush()
+					.flush()
+					.refresh();
+
+			startAndWait( indexer );
+		} );
+
+		backendMock.verifyExpectationsMet();
+
+		assertThat( checkpointFile ).doesNotExist();
+	}
+
+	@Test
+	public void jdbcStore_saveLoadClear() {
+		MassIndexingCheckpointStore store = MassIndexingCheckpointStore.jdbc( dataSource(),
+				CheckpointRow.TABLE_NAME, "myCheckpoint" );
+
+		assertThat( store.load() ).isNull();
+
+		// Insert
+		store.save( "first checkpoint" );
+		assertThat( store.load() ).isEqualTo( "first checkpoint" );
+
+		// Update
+		store.save( "second checkpoint" );
+		assertThat( store.load() ).isEqualTo( "second checkpoint" );
+		Long rowCount = setupHolder.applyNoTransaction( session -> session.createQuery(
+				"select count(c) from " + CheckpointRow.NAME + " c", Long.class ).getSingleResult() );
+		assertThat( rowCount ).isEqualTo( 1L );
+
+		store.clear();
+		assertThat( store.load() ).isNull();
+
+		// Clearing a store that has no checkpoint is fine
+		store.clear();
+		assertThat( store.load() ).isNull();
+	}
+
+	@Test
+	public void jdbcStore_multipleCheckpointNames() {
+		DataSource dataSource = dataSource();
+		MassIndexingCheckpointStore store1 = MassIndexingCheckpointStore.jdbc( dataSource,
+				CheckpointRow.TABLE_NAME, "checkpoint1" );
+		MassIndexingCheckpointStore store2 = MassIndexingCheckpointStore.jdbc( dataSource,
+				CheckpointRow.TABLE_NAME, "checkpoint2" );
+
+		store1.save( "content1" );
+		store2.save( "content2" );
+		assertThat( store1.load() ).isEqualTo( "content1" );
+		assertThat( store2.load() ).isEqualTo( "content2" );
+
+		store1.clear();
+		assertThat( store1.load() ).isNull();
+		assertThat( store2.load() ).isEqualTo( "content2" );
+
+		store2.clear();
+		assertThat( store2.load() ).isNull();
+	}
+
+	@Test
+	public void jdbcStore_resumeFrom() {
+		MassIndexingCheckpointStore store = MassIndexingCheckpointStore.jdbc( dataSource(),
+				CheckpointRow.TABLE_NAME, "myCheckpoint" );
+		store.save( String.join( "\n",
+				"group.0.name=Book",
+				"group.0.partition.count=2",
+				"group.0.partition.0.descriptor=I::3",
+				"group.0.partition.0.completed=true",
+				"group.0.partition.1.descriptor=I:3:",
+				"group.0.partition.1.completed=false"
+		) );
+
+		setupHolder.runNoTransaction( session -> {
+			MassIndexer indexer = Search.session( session ).massIndexer()
+					.resumeFrom( store );
+
+			backendMock.expectWorks( Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE )
+					.addOrUpdate( "3", b -> b.field( "title", TITLE_3 ) );
+
+			backendMock.expectIndexScaleWorks( Book.INDEX )
+					.flush()
+					.flush()
+					.refresh();
+
+			startAndWait( indexer );
+		} );
+
+		backendMock.verifyExpectationsMet();
+
+		assertThat( store.load() ).isNull();
+	}
+
+	private static DataSource dataSource() {
+		return new ConnectionProviderDataSource( setupHolder.sessionFactory().getServiceRegistry()
+				.getService( ConnectionProvider.class ) );
+	}
+
+	private static void startAndWait(MassIndexer indexer) {
+		try {
+			indexer.startAndWait();
+		}
+		catch (InterruptedException e) {
+			fail( "Unexpected InterruptedException: " + e.getMessage() );
+		}
+	}
+
+	private static class RecordingCheckpointStore implements MassIndexingCheckpointStore {
+		private final List<String> saved = new CopyOnWriteArrayList<>();
+		private volatile String content;
+
+		@Override
+		public String load() {
+			return content;
+		}
+
+		@Override
+		public void save(String checkpoint) {
+			saved.add( checkpoint );
+			content = checkpoint;
+		}
+
+		@Override
+		public void clear() {
+			content = null;
+		}
+	}
+
+	/**
+	 * Exposes the connection pool of Hibernate ORM as a {@link DataSource},
+	 * returning connections to the pool when they are closed.
+	 */
+	private static class ConnectionProviderDataSource implements DataSource {
+		private final ConnectionProvider connectionProvider;
+
+		private ConnectionProviderDataSource(ConnectionProvider connectionProvider) {
+			this.connectionProvider = connectionProvider;
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			Connection connection = connectionProvider.getConnection();
+			return (Connection) Proxy.newProxyInstance( Connection.class.getClassLoader(),
+					new Class<?>[] { Connection.class },
+					(proxy, method, args) -> {
+						if ( "close".equals( method.getName() ) && method.getParameterCount() == 0 ) {
+							connectionProvider.closeConnection( connection );
+							return null;
+						}
+						try {
+							return method.invoke( connection, args );
+						}
+						catch (InvocationTargetException e) {
+							throw e.getCause();
+						}
+					} );
+		}
+
+		@Override
+		public Connection getConnection(String username, String password) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public PrintWriter getLogWriter() {
+			return null;
+		}
+
+		@Override
+		public void setLogWriter(PrintWriter out) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void setLoginTimeout(int seconds) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public int getLoginTimeout() {
+			return 0;
+		}
+
+		@Override
+		public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+			throw new SQLFeatureNotSupportedException();
+		}
+
+		@Override
+		public <T> T unwrap(Class<T> iface) throws SQLException {
+			throw new SQLException( "Cannot unwrap to " + iface );
+		}
+
+		@Override
+		public boolean isWrapperFor(Class<?> iface) {
+			return false;
+		}
+	}
+
+	@Entity(name = CheckpointRow.NAME)
+	@Table(name = CheckpointRow.TABLE_NAME)
+	public static class CheckpointRow {
+
+		public static final String NAME = "CheckpointRow";
+		public static final String TABLE_NAME = "massindexing_checkpoint";
+
+		@Id
+		private String name;
+
+		@Lob
+		private String content;
+	}
+
+	@Entity(name = Book.NAME)
+	@Table(name = "book")
+	@Indexed(index = Book.INDEX)
+	public static class Book {
+
+		public static final String NAME = "Book";
+		public static final String INDEX = "Book";
+
+		@Id
+		private Integer id;
+
+		@GenericField
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+	}
+}
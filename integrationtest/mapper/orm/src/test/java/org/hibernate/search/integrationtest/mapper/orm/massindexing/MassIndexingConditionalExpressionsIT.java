@@ -409,6 +409,60 @@ public void rootIndexed_someSubclassesIndexed_requestMassIndexingOnRoot_withPara
 		backendMock.verifyExpectationsMet();
 	}
 
+	@Test
+	public void rootIndexed_someSubclassesIndexed_requestMassIndexingOnRoot_idLoadingPartitions() {
+		setupHolder.runNoTransaction( session -> {
+			SearchSession searchSession = Search.session( session );
+			MassIndexer indexer = searchSession.massIndexer( H2_Root_Indexed.class )
+					.idLoadingPartitions( 4 );
+			indexer.type( H2_Root_Indexed.class ).reindexOnly( "e.rootNumber = 2" );
+			indexer.type( H2_B_Indexed.class ).reindexOnly( "e.rootNumber = 0" );
+
+			backendMock.expectWorks( H2_Root_Indexed.NAME, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE )
+					.add( "2", b -> b.field( "rootText", "text2" ) )
+					.add( "4", b -> b.field( "rootText", "text4" ) );
+			backendMock.expectWorks( H2_A_C_Indexed.NAME, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE )
+					.add( "10", b -> b.field( "rootText", "text10" )
+							.field( "aText", "text10" )
+							.field( "cText", "text10" ) )
+					.add( "12", b -> b.field( "rootText", "text12" )
+							.field( "aText", "text12" )
+							.field( "cText", "text12" ) );
+			backendMock.expectWorks( H2_B_Indexed.NAME, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE )
+					.add( "13", b -> b
+							.field( "rootText", "text13" )
+							.field( "bText", "text13" ) )
+					.add( "15", b -> b
+							.field( "rootText", "text15" )
+							.field( "bText", "text15" ) );
+
+			backendMock.expectIndexScaleWorks( H2_Root_Indexed.NAME, session.getTenantIdentifier() )
+					.purge()
+					.mergeSegments()
+					.flush()
+					.refresh();
+			backendMock.expectIndexScaleWorks( H2_A_C_Indexed.NAME, session.getTenantIdentifier() )
+					.purge()
+					.mergeSegments()
+					.flush()
+					.refresh();
+			backendMock.expectIndexScaleWorks( H2_B_Indexed.NAME, session.getTenantIdentifier() )
+					.purge()
+					.mergeSegments()
+					.flush()
+					.refresh();
+
+			try {
+				indexer.startAndWait();
+			}
+			catch (InterruptedException e) {
+				fail( "Unexpected InterruptedException: " + e.getMessage() );
+			}
+		} );
+
+		backendMock.verifyExpectationsMet();
+	}
+
 	@Test
 	public void rootIndexed_someSubclassesIndexed_requestMassIndexingOnIndexedSubclass() {
 		setupHolder.runNoTransaction( session -> {
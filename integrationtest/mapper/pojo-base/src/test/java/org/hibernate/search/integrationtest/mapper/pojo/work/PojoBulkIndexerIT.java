@@ -0,0 +1,186 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.pojo.work;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.test.FutureAssert.assertThatFuture;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.DocumentId;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.standalone.mapping.SearchMapping;
+import org.hibernate.search.mapper.pojo.standalone.session.SearchSession;
+import org.hibernate.search.mapper.pojo.standalone.work.SearchIndexingOperation;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.pojo.standalone.StandalonePojoMappingSetupHelper;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Tests for {@link org.hibernate.search.mapper.pojo.standalone.work.SearchBulkIndexer}.
+ */
+public class PojoBulkIndexerIT {
+
+	@Rule
+	public final BackendMock backendMock = new BackendMock();
+
+	@Rule
+	public final StandalonePojoMappingSetupHelper setupHelper =
+			StandalonePojoMappingSetupHelper.withBackendMock( MethodHandles.lookup(), backendMock );
+
+	private SearchMapping mapping;
+
+	@Before
+	public void setup() {
+		backendMock.expectSchema( IndexedEntity.INDEX, b -> b
+				.field( "value", String.class )
+		);
+
+		mapping = setupHelper.start().setup( IndexedEntity.class );
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void coalescing() {
+		try ( SearchSession session = mapping.createSession() ) {
+			IndexedEntity entity1 = new IndexedEntity( 1, "val1" );
+			IndexedEntity entity1Updated = new IndexedEntity( 1, "val1-updated" );
+			IndexedEntity entity2 = new IndexedEntity( 2, "val2" );
+			IndexedEntity entity3 = new IndexedEntity( 3, "val3" );
+			IndexedEntity entity4 = new IndexedEntity( 4, "val4" );
+
+			backendMock.expectWorks( IndexedEntity.INDEX, DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE )
+					// add then update: the latest version of the entity is indexed
+					.addOrUpdate( "1", b -> b.field( "value", "val1-updated" ) )
+					// delete then add: the entity may still be in the index
+					.addOrUpdate( "2", b -> b.field( "value", "val2" ) )
+					// add then delete
+					.delete( "3" )
+					// add then add
+					.add( "4", b -> b.field( "value", "val4" ) )
+					// not coalesced
+					.delete( "5" );
+
+			CompletionStage<?> future = session.indexer().bulk().execute( Arrays.asList(
+					SearchIndexingOperation.add( entity1 ),
+					SearchIndexingOperation.delete( IndexedEntity.class, 2, null ),
+					SearchIndexingOperation.add( entity3 ),
+					SearchIndexingOperation.add( entity4 ),
+					SearchIndexingOperation.addOrUpdate( entity1Updated ),
+					SearchIndexingOperation.add( entity2 ),
+					SearchIndexingOperation.delete( entity3 ),
+					SearchIndexingOperation.add( entity4 ),
+					SearchIndexingOperation.delete( IndexedEntity.class, 5, null )
+			) );
+			backendMock.verifyExpectationsMet();
+			assertThatFuture( future ).isSuccessful();
+		}
+	}
+
+	@Test
+	public void coalescingWindow() {
+		try ( SearchSession session = mapping.createSession() ) {
+			IndexedEntity entity1 = new IndexedEntity( 1, "val1" );
+			IndexedEntity entity1Updated = new IndexedEntity( 1, "val1-updated" );
+
+			// With a window of 1, operations on the same entity cannot be coalesced
+			backendMock.expectWorks( IndexedEntity.INDEX, DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE )
+					.add( "1", b -> b.field( "value", "val1" ) )
+					.addOrUpdate( "1", b -> b.field( "value", "val1-updated" ) );
+
+			CompletionStage<?> future = session.indexer().bulk()
+					.coalescingWindow( 1 )
+					.execute( Arrays.asList(
+							SearchIndexingOperation.add( entity1 ),
+							SearchIndexingOperation.addOrUpdate( entity1Updated )
+					) );
+			backendMock.verifyExpectationsMet();
+			assertThatFuture( future ).isSuccessful();
+		}
+	}
+
+	@Test
+	public void pending() {
+		CompletableFuture<?> futureFromBackend = new CompletableFuture<>();
+		try ( SearchSession session = mapping.createSession() ) {
+			backendMock.expectWorks( IndexedEntity.INDEX, DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE )
+					.createAndExecuteFollowingWorks( futureFromBackend )
+					.add( "1", b -> b.field( "value", "val1" ) );
+
+			CompletionStage<?> future = session.indexer().bulk().execute( Arrays.asList(
+					SearchIndexingOperation.add( new IndexedEntity( 1, "val1" ) )
+			) );
+			backendMock.verifyExpectationsMet();
+			assertThatFuture( future ).isPending();
+
+			futureFromBackend.complete( null );
+			assertThatFuture( future ).isSuccessful();
+		}
+	}
+
+	@Test
+	public void failure() {
+		RuntimeException exception = new RuntimeException( "Some message" );
+		CompletableFuture<?> futureFromBackend = new CompletableFuture<>();
+		futureFromBackend.completeExceptionally( exception );
+		try ( SearchSession session = mapping.createSession() ) {
+			backendMock.expectWorks( IndexedEntity.INDEX, DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE )
+					.createAndExecuteFollowingWorks( futureFromBackend )
+					.add( "1", b -> b.field( "value", "val1" ) );
+
+			Iterator<SearchIndexingOperation> operations = Arrays.asList(
+					SearchIndexingOperation.add( new IndexedEntity( 1, "val1" ) ),
+					SearchIndexingOperation.add( new IndexedEntity( 2, "val2" ) ),
+					SearchIndexingOperation.add( new IndexedEntity( 3, "val3" ) )
+			).iterator();
+			CompletionStage<?> future = session.indexer().bulk()
+					.coalescingWindow( 1 )
+					.maxOperationsInFlight( 1 )
+					.execute( operations );
+			backendMock.verifyExpectationsMet();
+			assertThatFuture( future ).isFailed( exception );
+			// Operations are no longer consumed after a failure
+			assertThat( operations.hasNext() ).isTrue();
+		}
+	}
+
+	@Indexed(index = IndexedEntity.INDEX)
+	public static final class IndexedEntity {
+
+		static final String INDEX = "IndexedEntity";
+
+		@DocumentId
+		private final Integer id;
+
+		@GenericField
+		private final String value;
+
+		IndexedEntity(Integer id, String value) {
+			this.id = id;
+			this.value = value;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getValue() {
+			return value;
+		}
+	}
+}
@@ -0,0 +1,237 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.base;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.engine.search.sort.dsl.SortOrder;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.AbstractBackendHolder;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.MappedIndex;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.SearchMappedIndex;
+import org.hibernate.search.util.common.data.Range;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Abstract class for JMH benchmarks related to searching,
+ * i.e. query execution, including predicates, sorts, aggregations, projections and paging.
+ * <p>
+ * Each thread only reads from the index it is assigned to,
+ * and no write happens during an iteration,
+ * so results are not affected by concurrent indexing.
+ * <p>
+ * Implementations must use a backend holder creating {@link SearchMappedIndex} instances.
+ * <p>
+ * Both throughput and query latency are measured;
+ * latency is sampled, so that percentiles are reported in addition to the average.
+ */
+@Fork(1)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public abstract class AbstractSearchBenchmarks extends AbstractBackendBenchmarks {
+
+	private static final AggregationKey<Map<String, Long>> TERMS_AGGREGATION_KEY = AggregationKey.of( "terms" );
+	private static final AggregationKey<Map<Range<Long>, Long>> RANGE_AGGREGATION_KEY = AggregationKey.of( "range" );
+
+	private static final String OBJECT_SHORT_TEXT_FIELD_PATH =
+			SearchMappedIndex.OBJECT_FIELD_NAME + "." + MappedIndex.SHORT_TEXT_FIELD_NAME;
+	private static final String OBJECT_NUMERIC_FIELD_PATH =
+			SearchMappedIndex.OBJECT_FIELD_NAME + "." + MappedIndex.NUMERIC_FIELD_NAME;
+
+	private StubMappingScope scope;
+
+	@Setup(Level.Iteration)
+	public void prepareIteration() {
+		scope = getIndexPartition().getIndex().createScope();
+	}
+
+	@Benchmark
+	@Threads(2 * AbstractBackendHolder.INDEX_COUNT)
+	public void matchPredicate(QueryParams params, Blackhole blackhole) {
+		SearchResult<DocumentReference> results = scope.query()
+				.where( f -> f.match().field( MappedIndex.LONG_TEXT_FIELD_NAME )
+						.matching( params.getQueryMatchText() ) )
+				.fetch( params.getQueryMaxResults() );
+
+		consume( results, blackhole );
+	}
+
+	@Benchmark
+	@Threads(2 * AbstractBackendHolder.INDEX_COUNT)
+	public void boolPredicate(QueryParams params, Blackhole blackhole) {
+		SearchResult<DocumentReference> results = scope.query()
+				.where( f -> f.bool()
+						.must( f.match().field( MappedIndex.LONG_TEXT_FIELD_NAME )
+								.matching( params.getQueryMatchText() ) )
+						.should( f.match().field( MappedIndex.SHORT_TEXT_FIELD_NAME )
+								.matching( params.getQueryMatchText() ) )
+						.filter( f.range().field( MappedIndex.NUMERIC_FIELD_NAME ).atMost( 1000L ) ) )
+				.fetch( params.getQueryMaxResults() );
+
+		consume( results, blackhole );
+	}
+
+	@Benchmark
+	@Threads(2 * AbstractBackendHolder.INDEX_COUNT)
+	public void rangePredicate(QueryParams params, Blackhole blackhole) {
+		SearchResult<DocumentReference> results = scope.query()
+				.where( f -> f.range().field( MappedIndex.NUMERIC_FIELD_NAME ).between( 100L, 1000L ) )
+				.fetch( params.getQueryMaxResults() );
+
+		consume( results, blackhole );
+	}
+
+	@Benchmark
+	@Threads(2 * AbstractBackendHolder.INDEX_COUNT)
+	public void fieldSort(QueryParams params, Blackhole blackhole) {
+		SearchResult<DocumentReference> results = scope.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( MappedIndex.NUMERIC_FIELD_NAME ).order( SortOrder.DESC )
+						.then().field( MappedIndex.SHORT_TEXT_FIELD_NAME ) )
+				.fetch( params.getQueryMaxResults() );
+
+		consume( results, blackhole );
+	}
+
+	@Benchmark
+	@Threads(2 * AbstractBackendHolder.INDEX_COUNT)
+	public void termsAggregation(QueryParams params, Blackhole blackhole) {
+		SearchResult<DocumentReference> results = scope.query()
+				.where( f -> f.matchAll() )
+				.aggregation( TERMS_AGGREGATION_KEY, f -> f.terms()
+						.field( MappedIndex.SHORT_TEXT_FIELD_NAME, String.class ) )
+				.fetch( params.getQueryMaxResults() );
+
+		consume( results, blackhole );
+		blackhole.consume( results.aggregation( TERMS_AGGREGATION_KEY ) );
+	}
+
+	@Benchmark
+	@Threads(2 * AbstractBackendHolder.INDEX_COUNT)
+	public void rangeAggregation(QueryParams params, Blackhole blackhole) {
+		SearchResult<DocumentReference> results = scope.query()
+				.where( f -> f.matchAll() )
+				.aggregation( RANGE_AGGREGATION_KEY, f -> f.range()
+						.field( MappedIndex.NUMERIC_FIELD_NAME, Long.class )
+						.range( Range.canonical( null, 100L ) )
+						.range( Range.canonical( 100L, 1000L ) )
+						.range( Range.canonical( 1000L, null ) ) )
+				.fetch( params.getQueryMaxResults() );
+
+		consume( results, blackhole );
+		blackhole.consume( results.aggregation( RANGE_AGGREGATION_KEY ) );
+	}
+
+	@Benchmark
+	@Threads(2 * AbstractBackendHolder.INDEX_COUNT)
+	public void fieldProjection(QueryParams params, Blackhole blackhole) {
+		SearchResult<String> results = scope.query()
+				.select( f -> f.field( MappedIndex.SHORT_TEXT_FIELD_NAME, String.class ) )
+				.where( f -> f.matchAll() )
+				.fetch( params.getQueryMaxResults() );
+
+		consume( results, blackhole );
+	}
+
+	@Benchmark
+	@Threads(2 * AbstractBackendHolder.INDEX_COUNT)
+	public void compositeProjection(QueryParams params, Blackhole blackhole) {
+		SearchResult<List<?>> results = scope.query()
+				.select( f -> f.composite()
+						.from( f.field( MappedIndex.SHORT_TEXT_FIELD_NAME, String.class ),
+								f.field( MappedIndex.NUMERIC_FIELD_NAME, Long.class ) )
+						.asList() )
+				.where( f -> f.matchAll() )
+				.fetch( params.getQueryMaxResults() );
+
+		consume( results, blackhole );
+	}
+
+	@Benchmark
+	@Threads(2 * AbstractBackendHolder.INDEX_COUNT)
+	public void objectProjection(QueryParams params, Blackhole blackhole) {
+		SearchResult<List<?>> results = scope.query()
+				.select( f -> f.object( SearchMappedIndex.OBJECT_FIELD_NAME )
+						.from( f.field( OBJECT_SHORT_TEXT_FIELD_PATH, String.class ),
+								f.field( OBJECT_NUMERIC_FIELD_PATH, Long.class ) )
+						.asList() )
+				.where( f -> f.matchAll() )
+				.fetch( params.getQueryMaxResults() );
+
+		consume( results, blackhole );
+	}
+
+	@Benchmark
+	@Threads(2 * AbstractBackendHolder.INDEX_COUNT)
+	public void documentProjection(QueryParams params, Blackhole blackhole) {
+		SearchResult<?> results = executeDocumentProjectionQuery( scope, params.getQueryMaxResults() );
+
+		consume( results, blackhole );
+	}
+
+	@Benchmark
+	@Threads(2 * AbstractBackendHolder.INDEX_COUNT)
+	public void deepOffset(QueryParams params, Blackhole blackhole) {
+		SearchResult<DocumentReference> results = scope.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( MappedIndex.NUMERIC_FIELD_NAME ) )
+				.fetch( params.getQueryDeepOffset(), params.getQueryMaxResults() );
+
+		consume( results, blackhole );
+	}
+
+	@Benchmark
+	@Threads(2 * AbstractBackendHolder.INDEX_COUNT)
+	public void scroll(QueryParams params, Blackhole blackhole) {
+		try ( SearchScroll<DocumentReference> scroll = scope.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( MappedIndex.NUMERIC_FIELD_NAME ) )
+				.scroll( params.getQueryMaxResults() ) ) {
+			for ( SearchScrollResult<DocumentReference> chunk = scroll.next(); chunk.hasHits();
+					chunk = scroll.next() ) {
+				for ( DocumentReference hit : chunk.hits() ) {
+					blackhole.consume( hit );
+				}
+			}
+		}
+	}
+
+	/**
+	 * @param scope The scope to create the query from.
+	 * @param maxResults The maximum number of hits to fetch.
+	 * @return The result of a query that matches all documents and projects on the backend-specific document representation,
+	 * e.g. the Lucene {@code Document} or the Elasticsearch {@code _source}.
+	 */
+	protected abstract SearchResult<?> executeDocumentProjectionQuery(StubMappingScope scope, int maxResults);
+
+	private static void consume(SearchResult<?> results, Blackhole blackhole) {
+		blackhole.consume( results.total().hitCount() );
+		for ( Object hit : results.hits() ) {
+			blackhole.consume( hit );
+		}
+	}
+
+}
@@ -16,8 +16,28 @@ public class QueryParams {
 	@Param({ "100" })
 	private int maxResults;
 
+	/**
+	 * The text to look for in full-text predicates.
+	 */
+	@Param({ "the" })
+	private String matchText;
+
+	/**
+	 * The offset to use when benchmarking deep paging.
+	 */
+	@Param({ "5000" })
+	private int deepOffset;
+
 	public int getQueryMaxResults() {
 		return maxResults;
 	}
 
+	public String getQueryMatchText() {
+		return matchText;
+	}
+
+	public int getQueryDeepOffset() {
+		return deepOffset;
+	}
+
 }
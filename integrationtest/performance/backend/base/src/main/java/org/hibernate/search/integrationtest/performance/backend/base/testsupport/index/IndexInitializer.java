@@ -79,6 +79,8 @@ public void addToIndex(MappedIndex index, LongStream idStream) {
 		} );
 		CompletableFuture.allOf( futures.toArray( new CompletableFuture[0] ) ).join();
 		workspace.flush().join();
+		// Make sure search benchmarks see the documents right away
+		workspace.refresh().join();
 
 		log( index, " ... added " + futures.size() + " documents to the index." );
 	}
@@ -0,0 +1,96 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.base.testsupport.index;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaObjectField;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.ObjectStructure;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.mapper.mapping.building.spi.IndexedEntityBindingContext;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.analysis.Analyzers;
+
+import org.openjdk.jmh.annotations.CompilerControl;
+
+/**
+ * An index with the same fields as {@link MappedIndex},
+ * but also sortable, aggregable and projectable, and with an object field,
+ * so that it can be used in search benchmarks.
+ * <p>
+ * Only used in search benchmarks, so that the additional docvalues
+ * do not affect the workload of indexing benchmarks.
+ */
+@CompilerControl(CompilerControl.Mode.INLINE)
+public class SearchMappedIndex extends MappedIndex {
+
+	public static final String OBJECT_FIELD_NAME = "object";
+
+	private final ObjectStructure objectStructure;
+
+	private IndexFieldReference<String> shortTextField;
+	private IndexFieldReference<String> longTextField;
+	private IndexFieldReference<Long> numericField;
+	private IndexObjectFieldReference objectField;
+	private IndexFieldReference<String> objectShortTextField;
+	private IndexFieldReference<Long> objectNumericField;
+
+	/**
+	 * @param indexId The identifier of the index.
+	 * @param objectStructure The structure of the object field:
+	 * {@link ObjectStructure#FLATTENED} where the backend supports object projections on flattened fields,
+	 * {@link ObjectStructure#NESTED} otherwise.
+	 */
+	public SearchMappedIndex(int indexId, ObjectStructure objectStructure) {
+		super( indexId );
+		name( "search_index_" + indexId );
+		typeName( "search_type_" + indexId );
+		this.objectStructure = objectStructure;
+	}
+
+	@Override
+	protected void bind(IndexedEntityBindingContext context) {
+		IndexSchemaElement root = context.schemaElement();
+		shortTextField = root.field(
+				SHORT_TEXT_FIELD_NAME,
+				f -> f.asString().normalizer( Analyzers.NORMALIZER_ENGLISH )
+						.sortable( Sortable.YES ).aggregable( Aggregable.YES ).projectable( Projectable.YES )
+		)
+				.toReference();
+		longTextField = root.field( LONG_TEXT_FIELD_NAME, f -> f.asString().analyzer( Analyzers.ANALYZER_ENGLISH ) )
+				.toReference();
+		numericField = root.field(
+				NUMERIC_FIELD_NAME,
+				f -> f.asLong().sortable( Sortable.YES ).aggregable( Aggregable.YES ).projectable( Projectable.YES )
+		)
+				.toReference();
+
+		IndexSchemaObjectField object = root.objectField( OBJECT_FIELD_NAME, objectStructure );
+		objectField = object.toReference();
+		objectShortTextField = object.field(
+				SHORT_TEXT_FIELD_NAME,
+				f -> f.asString().normalizer( Analyzers.NORMALIZER_ENGLISH ).projectable( Projectable.YES )
+		)
+				.toReference();
+		objectNumericField = object.field( NUMERIC_FIELD_NAME, f -> f.asLong().projectable( Projectable.YES ) )
+				.toReference();
+	}
+
+	@Override
+	public void populate(DocumentElement documentElement, String shortText, String longText, long numeric) {
+		documentElement.addValue( shortTextField, shortText );
+		documentElement.addValue( longTextField, longText );
+		documentElement.addValue( numericField, numeric );
+		DocumentElement object = documentElement.addObject( objectField );
+		object.addValue( objectShortTextField, shortText );
+		object.addValue( objectNumericField, numeric );
+	}
+
+}
@@ -0,0 +1,339 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.mapper.pojo.base;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.mapper.pojo.bridge.ValueBridge;
+import org.hibernate.search.mapper.pojo.bridge.builtin.impl.DefaultDoubleBridge;
+import org.hibernate.search.mapper.pojo.bridge.builtin.impl.DefaultIntegerBridge;
+import org.hibernate.search.mapper.pojo.bridge.builtin.impl.DefaultStringBridge;
+import org.hibernate.search.mapper.pojo.bridge.runtime.IdentifierBridgeFromDocumentIdentifierContext;
+import org.hibernate.search.mapper.pojo.bridge.runtime.IdentifierBridgeToDocumentIdentifierContext;
+import org.hibernate.search.mapper.pojo.bridge.runtime.PropertyBridgeWriteContext;
+import org.hibernate.search.mapper.pojo.bridge.runtime.RoutingBridgeRouteContext;
+import org.hibernate.search.mapper.pojo.bridge.runtime.TypeBridgeWriteContext;
+import org.hibernate.search.mapper.pojo.bridge.runtime.ValueBridgeFromIndexedValueContext;
+import org.hibernate.search.mapper.pojo.bridge.runtime.ValueBridgeToIndexedValueContext;
+import org.hibernate.search.mapper.pojo.bridge.runtime.impl.ValueBridgeToIndexedValueContextImpl;
+import org.hibernate.search.mapper.pojo.bridge.runtime.spi.BridgeMappingContext;
+import org.hibernate.search.mapper.pojo.extractor.ContainerExtractor;
+import org.hibernate.search.mapper.pojo.extractor.ValueProcessor;
+import org.hibernate.search.mapper.pojo.extractor.builtin.impl.CollectionElementExtractor;
+import org.hibernate.search.mapper.pojo.extractor.impl.ContainerExtractingProcessor;
+import org.hibernate.search.mapper.pojo.extractor.impl.ContainerExtractorHolder;
+import org.hibernate.search.mapper.pojo.model.path.PojoModelPath;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
+import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessor;
+import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessorContainerElementNode;
+import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessorMultiNode;
+import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessorOriginalTypeNode;
+import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessorPropertyNode;
+import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessorValueBridgeNode;
+import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorRootContext;
+import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorSessionContext;
+import org.hibernate.search.util.common.reflect.spi.ValueHandleFactory;
+import org.hibernate.search.util.common.reflect.spi.ValueReadHandle;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the cost of turning an entity into a document through the indexing processor tree,
+ * excluding the cost of the document itself: values are sent to a {@link Blackhole}.
+ * <p>
+ * Run with {@code -prof gc} to compare the number of bytes allocated per processed entity
+ * across collection types.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class IndexingProcessorBenchmarks {
+
+	private static final int ENTITY_COUNT = 64;
+
+	@Param({ "ArrayList", "LinkedList" })
+	private String tagsCollection;
+
+	private PojoIndexingProcessor<Book> processor;
+	private Book[] entities;
+	private final RootContext context = new RootContext();
+
+	@Setup(Level.Trial)
+	public void setup() throws NoSuchMethodException, IllegalAccessException {
+		ValueHandleFactory handleFactory = ValueHandleFactory.usingMethodHandle( MethodHandles.lookup() );
+
+		PojoIndexingProcessor<Author> authorProcessor = new PojoIndexingProcessorMultiNode<>( Collections.singletonList(
+				property( handleFactory, Author.class, "getName",
+						valueBridge( DefaultStringBridge.INSTANCE ) )
+		) );
+		List<PojoIndexingProcessor<? super Book>> bookProperties = Arrays.asList(
+				property( handleFactory, Book.class, "getTitle",
+						valueBridge( DefaultStringBridge.INSTANCE ) ),
+				property( handleFactory, Book.class, "getPageCount",
+						valueBridge( DefaultIntegerBridge.INSTANCE ) ),
+				property( handleFactory, Book.class, "getRating",
+						valueBridge( DefaultDoubleBridge.INSTANCE ) ),
+				property( handleFactory, Book.class, "getTags",
+						new PojoIndexingProcessorContainerElementNode<>(
+								new CollectionElementExtractorHolder<>( new CollectionElementExtractor<>() ),
+								valueBridge( DefaultStringBridge.INSTANCE ) ) ),
+				property( handleFactory, Book.class, "getAuthor",
+						new PojoIndexingProcessorOriginalTypeNode<>(
+								Collections.singletonList( new IndexObjectFieldReference() { } ),
+								authorProcessor, false ) )
+		);
+		processor = new PojoIndexingProcessorOriginalTypeNode<>( Collections.emptyList(),
+				new PojoIndexingProcessorMultiNode<>( bookProperties ), true );
+
+		entities = new Book[ENTITY_COUNT];
+		for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+			List<String> tags = "LinkedList".equals( tagsCollection ) ? new LinkedList<>() : new ArrayList<>();
+			tags.add( "tag" + i );
+			tags.add( "tag" + ( i + 1 ) );
+			tags.add( "tag" + ( i + 2 ) );
+			entities[i] = new Book( "Title #" + i, 100 + i, i / 10.0, tags,
+					new Author( "Author #" + i ) );
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		processor.close();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ENTITY_COUNT)
+	public void process(Blackhole blackhole) {
+		BlackholeDocumentElement document = new BlackholeDocumentElement( blackhole );
+		for ( Book entity : entities ) {
+			processor.process( document, entity, context );
+		}
+	}
+
+	private static <T, P> PojoIndexingProcessor<T> property(ValueHandleFactory handleFactory,
+			Class<T> holderType, String getterName, PojoIndexingProcessor<? super P> nested)
+			throws NoSuchMethodException, IllegalAccessException {
+		@SuppressWarnings("unchecked") // We trust the caller to pass a getter returning P
+		ValueReadHandle<P> handle = (ValueReadHandle<P>) handleFactory.createForMethod(
+				holderType.getMethod( getterName ) );
+		PojoModelPath modelPath = PojoModelPath.ofValue( getterName );
+		return new PojoIndexingProcessorPropertyNode<>( handle, nested, modelPath );
+	}
+
+	private static <V> PojoIndexingProcessorValueBridgeNode<V, V> valueBridge(ValueBridge<V, V> bridge) {
+		return new PojoIndexingProcessorValueBridgeNode<>( BeanHolder.of( bridge ),
+				new IndexFieldReference<V>() { } );
+	}
+
+	private static final class CollectionElementExtractorHolder<C, V> implements ContainerExtractorHolder<C, V> {
+		private final ContainerExtractor<? super C, V> extractor;
+
+		@SuppressWarnings("unchecked") // CollectionElementExtractor extracts elements of type V from a C
+		CollectionElementExtractorHolder(CollectionElementExtractor<?> extractor) {
+			this.extractor = (ContainerExtractor<? super C, V>) extractor;
+		}
+
+		@Override
+		public void close() {
+			// Nothing to do
+		}
+
+		@Override
+		public <T, C2> ValueProcessor<T, C, C2> wrap(ValueProcessor<T, ? super V, C2> perValueProcessor) {
+			return new ContainerExtractingProcessor<>( extractor, perValueProcessor );
+		}
+
+		@Override
+		public boolean multiValued() {
+			return true;
+		}
+
+		@Override
+		public void appendToString(StringBuilder builder) {
+			builder.append( extractor );
+		}
+	}
+
+	private static final class BlackholeDocumentElement implements DocumentElement {
+		private final Blackhole blackhole;
+
+		BlackholeDocumentElement(Blackhole blackhole) {
+			this.blackhole = blackhole;
+		}
+
+		@Override
+		public <F> void addValue(IndexFieldReference<F> fieldReference, F value) {
+			blackhole.consume( value );
+		}
+
+		@Override
+		public DocumentElement addObject(IndexObjectFieldReference fieldReference) {
+			return this;
+		}
+
+		@Override
+		public void addNullObject(IndexObjectFieldReference fieldReference) {
+			// Nothing to do
+		}
+
+		@Override
+		public void addValue(String relativeFieldName, Object value) {
+			blackhole.consume( value );
+		}
+
+		@Override
+		public DocumentElement addObject(String relativeFieldName) {
+			return this;
+		}
+
+		@Override
+		public void addNullObject(String relativeFieldName) {
+			// Nothing to do
+		}
+	}
+
+	private static final class RootContext
+			implements PojoIndexingProcessorRootContext, PojoIndexingProcessorSessionContext, BridgeMappingContext {
+		private final ValueBridgeToIndexedValueContext valueBridgeToIndexedValueContext =
+				new ValueBridgeToIndexedValueContextImpl( this );
+
+		@Override
+		public PojoIndexingProcessorSessionContext sessionContext() {
+			return this;
+		}
+
+		@Override
+		public boolean isDeleted(Object unproxiedObject) {
+			return false;
+		}
+
+		@Override
+		public PojoRuntimeIntrospector runtimeIntrospector() {
+			return PojoRuntimeIntrospector.simple();
+		}
+
+		@Override
+		public BridgeMappingContext mappingContext() {
+			return this;
+		}
+
+		@Override
+		public ValueBridgeToIndexedValueContext valueBridgeToIndexedValueContext() {
+			return valueBridgeToIndexedValueContext;
+		}
+
+		@Override
+		public String tenantIdentifier() {
+			return null;
+		}
+
+		@Override
+		public IdentifierBridgeToDocumentIdentifierContext identifierBridgeToDocumentIdentifierContext() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public IdentifierBridgeFromDocumentIdentifierContext identifierBridgeFromDocumentIdentifierContext() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public RoutingBridgeRouteContext routingBridgeRouteContext() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public TypeBridgeWriteContext typeBridgeWriteContext() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public PropertyBridgeWriteContext propertyBridgeWriteContext() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public ValueBridgeFromIndexedValueContext valueBridgeFromIndexedValueContext() {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	public static final class Book {
+		private final String title;
+		private final Integer pageCount;
+		private final Double rating;
+		private final List<String> tags;
+		private final Author author;
+
+		Book(String title, Integer pageCount, Double rating, List<String> tags, Author author) {
+			this.title = title;
+			this.pageCount = pageCount;
+			this.rating = rating;
+			this.tags = tags;
+			this.author = author;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public Integer getPageCount() {
+			return pageCount;
+		}
+
+		public Double getRating() {
+			return rating;
+		}
+
+		public List<String> getTags() {
+			return tags;
+		}
+
+		public Author getAuthor() {
+			return author;
+		}
+	}
+
+	public static final class Author {
+		private final String name;
+
+		Author(String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.util.common;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.util.common.reflect.spi.ValueHandleFactory;
+import org.hibernate.search.util.common.reflect.spi.ValueReadHandle;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the cost of reading entity properties through the value handles
+ * produced by each {@link ValueHandleFactory}.
+ * <p>
+ * {@link #readProperties(Blackhole)} invokes handles for several properties from the same call site,
+ * as is the case when building documents;
+ * {@link #readSingleProperty(Blackhole)} invokes a single handle.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ValueReadHandleBenchmarks {
+
+	private static final String[] GETTERS = { "getId", "getTitle", "getPageCount", "getRating" };
+	private static final int ENTITY_COUNT = 64;
+
+	@Param({ "java_lang_reflect", "method_handle", "lambda_metafactory" })
+	private String factory;
+
+	private ValueReadHandle<?>[] handles;
+	private Book[] entities;
+
+	@Setup(Level.Trial)
+	public void setup() throws NoSuchMethodException, IllegalAccessException {
+		ValueHandleFactory valueHandleFactory = createFactory( factory );
+		handles = new ValueReadHandle<?>[GETTERS.length];
+		for ( int i = 0; i < GETTERS.length; i++ ) {
+			Method method = Book.class.getMethod( GETTERS[i] );
+			handles[i] = valueHandleFactory.createForMethod( method );
+		}
+		entities = new Book[ENTITY_COUNT];
+		for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+			entities[i] = new Book( i, "Title #" + i, 100 + i, i / 10.0 );
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ENTITY_COUNT * 4)
+	public void readProperties(Blackhole blackhole) {
+		for ( Book entity : entities ) {
+			for ( ValueReadHandle<?> handle : handles ) {
+				blackhole.consume( handle.get( entity ) );
+			}
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ENTITY_COUNT)
+	public void readSingleProperty(Blackhole blackhole) {
+		ValueReadHandle<?> handle = handles[1];
+		for ( Book entity : entities ) {
+			blackhole.consume( handle.get( entity ) );
+		}
+	}
+
+	private static ValueHandleFactory createFactory(String name) {
+		switch ( name ) {
+			case "java_lang_reflect":
+				return ValueHandleFactory.usingJavaLangReflect();
+			case "method_handle":
+				return ValueHandleFactory.usingMethodHandle( MethodHandles.lookup() );
+			case "lambda_metafactory":
+				return ValueHandleFactory.usingLambdaMetafactory( MethodHandles.lookup() );
+			default:
+				throw new IllegalArgumentException( "Unknown factory: " + name );
+		}
+	}
+
+	public static final class Book {
+		private final Integer id;
+		private final String title;
+		private final int pageCount;
+		private final double rating;
+
+		Book(Integer id, String title, int pageCount, double rating) {
+			this.id = id;
+			this.title = title;
+			this.pageCount = pageCount;
+			this.rating = rating;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public int getPageCount() {
+			return pageCount;
+		}
+
+		public double getRating() {
+			return rating;
+		}
+	}
+}
@@ -9,7 +9,10 @@
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.invoke.MethodHandles;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
 
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.avro.generated.impl.PojoIndexingQueueEventPayloadDto;
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.logging.impl.Log;
@@ -27,39 +30,106 @@ public final class EventPayloadSerializationUtils {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	/**
+	 * The original format: an Avro-encoded payload, without any header.
+	 * <p>
+	 * Such payloads always start with an even byte:
+	 * the zig-zag encoded index (0 or 1) of the type of the first (union) field of the record.
+	 */
+	public static final int FORMAT_VERSION_1 = 1;
+	/**
+	 * A one-byte header, followed by an Avro-encoded payload that may be compressed, depending on the header.
+	 * <p>
+	 * Headers are odd bytes, so that such payloads are never mistaken for {@link #FORMAT_VERSION_1 version 1} payloads.
+	 */
+	public static final int FORMAT_VERSION_2 = 2;
+
+	private static final byte HEADER_VERSION_2_PLAIN = 0x01;
+	private static final byte HEADER_VERSION_2_DEFLATE = 0x03;
+
+	// Avro readers and writers are thread-safe, and costly to create as they resolve the schema.
+	private static final SpecificDatumWriter<PojoIndexingQueueEventPayloadDto> WRITER =
+			new SpecificDatumWriter<>( PojoIndexingQueueEventPayloadDto.class );
+	private static final SpecificDatumReader<PojoIndexingQueueEventPayloadDto> READER =
+			new SpecificDatumReader<>( PojoIndexingQueueEventPayloadDto.class );
+
 	private EventPayloadSerializationUtils() {
 	}
 
 	public static byte[] serialize(PojoIndexingQueueEventPayload payload) {
-		SpecificDatumWriter<PojoIndexingQueueEventPayloadDto> writer =
-				new SpecificDatumWriter<>( PojoIndexingQueueEventPayloadDto.class );
-
-		ByteArrayOutputStream out = new ByteArrayOutputStream();
-		Encoder encoder = EncoderFactory.get().directBinaryEncoder( out, null );
+		return encode( payload );
+	}
 
+	/**
+	 * @param payload The payload to serialize.
+	 * @param compressionThreshold The size of the Avro-encoded payload, in bytes,
+	 * above which the payload gets compressed.
+	 * @return The payload serialized in {@link #FORMAT_VERSION_2 version 2} of the format.
+	 */
+	public static byte[] serialize(PojoIndexingQueueEventPayload payload, int compressionThreshold) {
+		byte[] encoded = encode( payload );
+		boolean compress = encoded.length > compressionThreshold;
+		ByteArrayOutputStream out = new ByteArrayOutputStream( compress ? encoded.length / 2 : encoded.length + 1 );
 		try {
-			writer.write( EventPayloadToDtoConverterUtils.convert( payload ), encoder );
-			encoder.flush();
+			if ( compress ) {
+				out.write( HEADER_VERSION_2_DEFLATE );
+				try ( DeflaterOutputStream deflaterOut = new DeflaterOutputStream( out ) ) {
+					deflaterOut.write( encoded );
+				}
+			}
+			else {
+				out.write( HEADER_VERSION_2_PLAIN );
+				out.write( encoded );
+			}
 		}
 		catch (IOException | RuntimeException e) {
 			throw log.unableToSerializeOutboxEventPayloadWithAvro( e.getMessage(), e );
 		}
-
 		return out.toByteArray();
 	}
 
+	/**
+	 * @param payloadData The serialized payload, in any version of the format.
+	 * @return The deserialized payload.
+	 */
 	public static PojoIndexingQueueEventPayload deserialize(byte[] payloadData) {
-		SpecificDatumReader<PojoIndexingQueueEventPayloadDto> reader = new SpecificDatumReader<>(
-				PojoIndexingQueueEventPayloadDto.class );
+		// Closing the stream releases the native resources of the inflater, if any.
+		try ( InputStream in = openPayload( payloadData ) ) {
+			BinaryDecoder decoder = DecoderFactory.get().binaryDecoder( in, null );
+			return EventPayloadFromDtoConverterUtils.convert( READER.read( null, decoder ) );
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.unableToDeserializeOutboxEventPayloadWithAvro( e.getMessage(), e );
+		}
+	}
 
-		ByteArrayInputStream in = new ByteArrayInputStream( payloadData );
-		BinaryDecoder decoder = DecoderFactory.get().binaryDecoder( in, null );
+	private static InputStream openPayload(byte[] payloadData) {
+		if ( payloadData.length == 0 || ( payloadData[0] & 1 ) == 0 ) {
+			return new ByteArrayInputStream( payloadData );
+		}
+		else if ( payloadData[0] == HEADER_VERSION_2_PLAIN ) {
+			return new ByteArrayInputStream( payloadData, 1, payloadData.length - 1 );
+		}
+		else if ( payloadData[0] == HEADER_VERSION_2_DEFLATE ) {
+			return new InflaterInputStream( new ByteArrayInputStream( payloadData, 1, payloadData.length - 1 ) );
+		}
+		else {
+			throw log.unknownOutboxEventPayloadFormat( payloadData[0] );
+		}
+	}
+
+	private static byte[] encode(PojoIndexingQueueEventPayload payload) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		Encoder encoder = EncoderFactory.get().directBinaryEncoder( out, null );
 
 		try {
-			return EventPayloadFromDtoConverterUtils.convert( reader.read( null, decoder ) );
+			WRITER.write( EventPayloadToDtoConverterUtils.convert( payload ), encoder );
+			encoder.flush();
 		}
 		catch (IOException | RuntimeException e) {
-			throw log.unableToDeserializeOutboxEventPayloadWithAvro( e.getMessage(), e );
+			throw log.unableToSerializeOutboxEventPayloadWithAvro( e.getMessage(), e );
 		}
+
+		return out.toByteArray();
 	}
 }
@@ -0,0 +1,78 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.coordination.outboxpolling.avro.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.cfg.HibernateOrmMapperOutboxPollingSettings;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.logging.impl.Log;
+import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingQueueEventPayload;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Serializes outbox event payloads according to the configured format.
+ * <p>
+ * Deserialization does not need any configuration:
+ * see {@link EventPayloadSerializationUtils#deserialize(byte[])}.
+ */
+public final class EventPayloadSerializer {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final ConfigurationProperty<Integer> PAYLOAD_FORMAT_VERSION =
+			ConfigurationProperty.forKey( HibernateOrmMapperOutboxPollingSettings.CoordinationRadicals.OUTBOX_EVENT_PAYLOAD_FORMAT_VERSION )
+					.asIntegerStrictlyPositive()
+					.withDefault( HibernateOrmMapperOutboxPollingSettings.Defaults.COORDINATION_OUTBOX_EVENT_PAYLOAD_FORMAT_VERSION )
+					.build();
+
+	private static final ConfigurationProperty<Integer> PAYLOAD_COMPRESSION_THRESHOLD =
+			ConfigurationProperty.forKey( HibernateOrmMapperOutboxPollingSettings.CoordinationRadicals.OUTBOX_EVENT_PAYLOAD_COMPRESSION_THRESHOLD )
+					.asIntegerPositiveOrZero()
+					.withDefault( HibernateOrmMapperOutboxPollingSettings.Defaults.COORDINATION_OUTBOX_EVENT_PAYLOAD_COMPRESSION_THRESHOLD )
+					.build();
+
+	public static EventPayloadSerializer create(ConfigurationPropertySource configurationSource) {
+		int formatVersion = PAYLOAD_FORMAT_VERSION.getAndTransform( configurationSource,
+				EventPayloadSerializer::checkFormatVersion );
+		int compressionThreshold = PAYLOAD_COMPRESSION_THRESHOLD.get( configurationSource );
+		return new EventPayloadSerializer( formatVersion, compressionThreshold );
+	}
+
+	private static int checkFormatVersion(int formatVersion) {
+		if ( formatVersion != EventPayloadSerializationUtils.FORMAT_VERSION_1
+				&& formatVersion != EventPayloadSerializationUtils.FORMAT_VERSION_2 ) {
+			throw log.invalidOutboxEventPayloadFormatVersion( formatVersion,
+					EventPayloadSerializationUtils.FORMAT_VERSION_1, EventPayloadSerializationUtils.FORMAT_VERSION_2 );
+		}
+		return formatVersion;
+	}
+
+	private final int formatVersion;
+	private final int compressionThreshold;
+
+	private EventPayloadSerializer(int formatVersion, int compressionThreshold) {
+		this.formatVersion = formatVersion;
+		this.compressionThreshold = compressionThreshold;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "formatVersion=" + formatVersion
+				+ ", compressionThreshold=" + compressionThreshold
+				+ "]";
+	}
+
+	public byte[] serialize(PojoIndexingQueueEventPayload payload) {
+		if ( formatVersion == EventPayloadSerializationUtils.FORMAT_VERSION_1 ) {
+			return EventPayloadSerializationUtils.serialize( payload );
+		}
+		return EventPayloadSerializationUtils.serialize( payload, compressionThreshold );
+	}
+}
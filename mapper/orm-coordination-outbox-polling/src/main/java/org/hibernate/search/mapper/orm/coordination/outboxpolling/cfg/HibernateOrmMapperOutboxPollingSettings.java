@@ -253,6 +253,105 @@ private HibernateOrmMapperOutboxPollingSettings() {
 	public static final String COORDINATION_EVENT_PROCESSOR_RETRY_DELAY =
 			PREFIX + Radicals.COORDINATION_EVENT_PROCESSOR_RETRY_DELAY;
 
+	/**
+	 * In the event processor, how many batches of outbox events, at most, can be processed concurrently.
+	 * <p>
+	 * Only available when {@value HibernateOrmMapperSettings#COORDINATION_STRATEGY} is
+	 * {@value #COORDINATION_STRATEGY_NAME}.
+	 * <p>
+	 * With a value of {@code 1}, the event processor waits for indexing of a batch to complete
+	 * before it loads the next batch.
+	 * With higher values, the event processor loads the next batches while indexing of previous batches
+	 * is still in progress in the backend, so that the database and the backend are used concurrently.
+	 * Events affecting the same entity are still processed in order.
+	 * <ul>
+	 *   <li>Low values mean less memory used and fewer database connections held by the event processor,
+	 *   but lower throughput when the backend takes a long time to execute indexing works.</li>
+	 *   <li>High values mean higher throughput when the backend takes a long time to execute indexing works,
+	 *   but more memory used and more database connections held by the event processor.</li>
+	 * </ul>
+	 * <p>
+	 * Expects a positive Integer value, such as {@code 2},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#COORDINATION_EVENT_PROCESSOR_PIPELINE_DEPTH}.
+	 */
+	public static final String COORDINATION_EVENT_PROCESSOR_PIPELINE_DEPTH =
+			PREFIX + Radicals.COORDINATION_EVENT_PROCESSOR_PIPELINE_DEPTH;
+
+	/**
+	 * In the event processor, a source of signals waking up event processors
+	 * as soon as new outbox events are committed.
+	 * <p>
+	 * Only available when {@value HibernateOrmMapperSettings#COORDINATION_STRATEGY} is
+	 * {@value #COORDINATION_STRATEGY_NAME}.
+	 * <p>
+	 * When a wake-up source is configured, event processors no longer need to wait
+	 * for the {@link #COORDINATION_EVENT_PROCESSOR_POLLING_INTERVAL polling interval}
+	 * to process new events: the polling interval merely acts as a fallback,
+	 * and can be raised to reduce the stress on the database when there are no events to process.
+	 * <p>
+	 * Expects a reference to a bean of type
+	 * {@link org.hibernate.search.mapper.orm.coordination.outboxpolling.event.spi.OutboxEventWakeUpSource},
+	 * or one of the following built-in names:
+	 * <ul>
+	 *   <li>{@code local}: event processors are woken up after the commit of transactions
+	 *   that sent outbox events from the same application.
+	 *   Events sent from other applications are still only detected through polling.</li>
+	 *   <li>{@code postgresql}: event processors are woken up through PostgreSQL's {@code LISTEN}/{@code NOTIFY},
+	 *   regardless of the application that sent outbox events.
+	 *   Requires a PostgreSQL database and the PostgreSQL JDBC driver.</li>
+	 * </ul>
+	 * <p>
+	 * No default: event processors only detect new events through polling.
+	 */
+	public static final String COORDINATION_EVENT_PROCESSOR_WAKE_UP_SOURCE =
+			PREFIX + Radicals.COORDINATION_EVENT_PROCESSOR_WAKE_UP_SOURCE;
+
+	/**
+	 * The version of the format used to write the payload of outbox events.
+	 * <p>
+	 * Only available when {@value HibernateOrmMapperSettings#COORDINATION_STRATEGY} is
+	 * {@value #COORDINATION_STRATEGY_NAME}.
+	 * <p>
+	 * Payloads are always read regardless of the version of the format they were written in,
+	 * but older versions of Hibernate Search cannot read payloads written in a more recent version of the format.
+	 * When upgrading applications one node at a time,
+	 * only raise the format version once all nodes are able to read it.
+	 * <ul>
+	 *   <li>{@code 1}: the payload is written as is. Readable by all versions of Hibernate Search.</li>
+	 *   <li>{@code 2}: payloads larger than the
+	 *   {@link #COORDINATION_OUTBOX_EVENT_PAYLOAD_COMPRESSION_THRESHOLD compression threshold} are compressed.</li>
+	 * </ul>
+	 * <p>
+	 * Expects a positive Integer value, such as {@code 2},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#COORDINATION_OUTBOX_EVENT_PAYLOAD_FORMAT_VERSION}.
+	 */
+	public static final String COORDINATION_OUTBOX_EVENT_PAYLOAD_FORMAT_VERSION =
+			PREFIX + Radicals.COORDINATION_OUTBOX_EVENT_PAYLOAD_FORMAT_VERSION;
+
+	/**
+	 * The size, in bytes, above which the payload of outbox events gets compressed.
+	 * <p>
+	 * Only available when {@value HibernateOrmMapperSettings#COORDINATION_STRATEGY} is
+	 * {@value #COORDINATION_STRATEGY_NAME},
+	 * and only taken into account when the {@link #COORDINATION_OUTBOX_EVENT_PAYLOAD_FORMAT_VERSION payload format version}
+	 * is {@code 2} or more.
+	 * <ul>
+	 *   <li>Low values mean smaller outbox events, but more time spent compressing and decompressing payloads.</li>
+	 *   <li>High values mean less time spent compressing and decompressing payloads, but larger outbox events.</li>
+	 * </ul>
+	 * <p>
+	 * Expects a positive or zero Integer value in bytes, such as {@code 512},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#COORDINATION_OUTBOX_EVENT_PAYLOAD_COMPRESSION_THRESHOLD}.
+	 */
+	public static final String COORDINATION_OUTBOX_EVENT_PAYLOAD_COMPRESSION_THRESHOLD =
+			PREFIX + Radicals.COORDINATION_OUTBOX_EVENT_PAYLOAD_COMPRESSION_THRESHOLD;
+
 	/**
 	 * In the mass indexer, how long to wait for another query to the agent table
 	 * when actively waiting for event processors to suspend themselves, in milliseconds.
@@ -456,6 +555,10 @@ private Radicals() {
 		public static final String COORDINATION_EVENT_PROCESSOR_BATCH_SIZE = COORDINATION_PREFIX + CoordinationRadicals.EVENT_PROCESSOR_BATCH_SIZE;
 		public static final String COORDINATION_EVENT_PROCESSOR_TRANSACTION_TIMEOUT = COORDINATION_PREFIX + CoordinationRadicals.EVENT_PROCESSOR_TRANSACTION_TIMEOUT;
 		public static final String COORDINATION_EVENT_PROCESSOR_RETRY_DELAY = COORDINATION_PREFIX + CoordinationRadicals.EVENT_PROCESSOR_RETRY_DELAY;
+		public static final String COORDINATION_EVENT_PROCESSOR_PIPELINE_DEPTH = COORDINATION_PREFIX + CoordinationRadicals.EVENT_PROCESSOR_PIPELINE_DEPTH;
+		public static final String COORDINATION_EVENT_PROCESSOR_WAKE_UP_SOURCE = COORDINATION_PREFIX + CoordinationRadicals.EVENT_PROCESSOR_WAKE_UP_SOURCE;
+		public static final String COORDINATION_OUTBOX_EVENT_PAYLOAD_FORMAT_VERSION = COORDINATION_PREFIX + CoordinationRadicals.OUTBOX_EVENT_PAYLOAD_FORMAT_VERSION;
+		public static final String COORDINATION_OUTBOX_EVENT_PAYLOAD_COMPRESSION_THRESHOLD = COORDINATION_PREFIX + CoordinationRadicals.OUTBOX_EVENT_PAYLOAD_COMPRESSION_THRESHOLD;
 		public static final String COORDINATION_MASS_INDEXER_POLLING_INTERVAL = COORDINATION_PREFIX + CoordinationRadicals.MASS_INDEXER_POLLING_INTERVAL;
 		public static final String COORDINATION_MASS_INDEXER_PULSE_INTERVAL = COORDINATION_PREFIX + CoordinationRadicals.MASS_INDEXER_PULSE_INTERVAL;
 		public static final String COORDINATION_MASS_INDEXER_PULSE_EXPIRATION = COORDINATION_PREFIX + CoordinationRadicals.MASS_INDEXER_PULSE_EXPIRATION;
@@ -488,6 +591,11 @@ private CoordinationRadicals() {
 		public static final String EVENT_PROCESSOR_BATCH_SIZE = EVENT_PROCESSOR_PREFIX + "batch_size";
 		public static final String EVENT_PROCESSOR_TRANSACTION_TIMEOUT = EVENT_PROCESSOR_PREFIX + "transaction_timeout";
 		public static final String EVENT_PROCESSOR_RETRY_DELAY = EVENT_PROCESSOR_PREFIX + "retry_delay";
+		public static final String EVENT_PROCESSOR_PIPELINE_DEPTH = EVENT_PROCESSOR_PREFIX + "pipeline_depth";
+		public static final String EVENT_PROCESSOR_WAKE_UP_SOURCE = EVENT_PROCESSOR_PREFIX + "wake_up_source";
+		public static final String OUTBOX_EVENT_PAYLOAD_PREFIX = "outbox_event.payload.";
+		public static final String OUTBOX_EVENT_PAYLOAD_FORMAT_VERSION = OUTBOX_EVENT_PAYLOAD_PREFIX + "format_version";
+		public static final String OUTBOX_EVENT_PAYLOAD_COMPRESSION_THRESHOLD = OUTBOX_EVENT_PAYLOAD_PREFIX + "compression_threshold";
 		public static final String MASS_INDEXER_PREFIX = "mass_indexer.";
 		public static final String MASS_INDEXER_POLLING_INTERVAL = MASS_INDEXER_PREFIX + "polling_interval";
 		public static final String MASS_INDEXER_PULSE_INTERVAL = MASS_INDEXER_PREFIX + "pulse_interval";
@@ -520,6 +628,9 @@ private Defaults() {
 		public static final int COORDINATION_EVENT_PROCESSOR_PULSE_EXPIRATION = 30000;
 		public static final int COORDINATION_EVENT_PROCESSOR_BATCH_SIZE = 50;
 		public static final int COORDINATION_EVENT_PROCESSOR_RETRY_DELAY = 30;
+		public static final int COORDINATION_EVENT_PROCESSOR_PIPELINE_DEPTH = 1;
+		public static final int COORDINATION_OUTBOX_EVENT_PAYLOAD_FORMAT_VERSION = 1;
+		public static final int COORDINATION_OUTBOX_EVENT_PAYLOAD_COMPRESSION_THRESHOLD = 512;
 		public static final int COORDINATION_MASS_INDEXER_POLLING_INTERVAL = 100;
 		public static final int COORDINATION_MASS_INDEXER_PULSE_INTERVAL = 2000;
 		public static final int COORDINATION_MASS_INDEXER_PULSE_EXPIRATION = 30000;
@@ -0,0 +1,48 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.coordination.outboxpolling.event.impl;
+
+import org.hibernate.Session;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.event.spi.OutboxEventWakeUpSource;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.event.spi.OutboxEventWakeUpSourceStartContext;
+
+/**
+ * Wakes up the event processors of this application
+ * after the commit of transactions that sent outbox events from this same application.
+ */
+public final class LocalOutboxEventWakeUpSource implements OutboxEventWakeUpSource {
+
+	public static final String NAME = "local";
+
+	private volatile OutboxEventWakeUpSourceStartContext context;
+
+	@Override
+	public void start(OutboxEventWakeUpSourceStartContext context) {
+		this.context = context;
+	}
+
+	@Override
+	public void eventsSent(Session session) {
+		// If the transaction is rolled back or never completes in this session
+		// (e.g. when events were sent from a temporary session),
+		// event processors will simply detect events on the next polling.
+		session.unwrap( SessionImplementor.class ).getActionQueue()
+				.registerProcess( (AfterTransactionCompletionProcess) (success, ignored) -> {
+					OutboxEventWakeUpSourceStartContext currentContext = context;
+					if ( success && currentContext != null ) {
+						currentContext.wakeUpEventProcessors();
+					}
+				} );
+	}
+
+	@Override
+	public void stop() {
+		context = null;
+	}
+}
@@ -11,6 +11,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.Session;
 import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
@@ -40,10 +41,43 @@ public OutboxEventProcessingPlan(AutomaticIndexingMappingContext mapping, Sessio
 	}
 
 	void processEvents(List<OutboxEvent> events) {
+		awaitAndReport( submitEvents( events ) );
+	}
+
+	/**
+	 * Loads the entities affected by the given events and submits indexing works to the backend,
+	 * without waiting for the works to complete.
+	 * <p>
+	 * Must be followed by a call to {@link #awaitAndReport(CompletableFuture)} with the returned future.
+	 *
+	 * @param events The events to process.
+	 * @return A future to pass to {@link #awaitAndReport(CompletableFuture)}.
+	 */
+	CompletableFuture<MultiEntityOperationExecutionReport<EntityReference>> submitEvents(List<OutboxEvent> events) {
 		this.events = events;
 		try {
 			addEventsToThePlan();
-			reportBackendResult( Futures.unwrappedExceptionGet( processingPlan.executeAndReport() ) );
+			return processingPlan.executeAndReport();
+		}
+		catch (Throwable throwable) {
+			reportMapperFailure( throwable );
+			// Failures were already reported: there's nothing left to report
+			return CompletableFuture.completedFuture( null );
+		}
+	}
+
+	/**
+	 * Waits for the completion of works submitted through {@link #submitEvents(List)},
+	 * and reports failures, so that {@link #getFailedEvents()} returns the events whose processing failed.
+	 *
+	 * @param future The future returned by {@link #submitEvents(List)}.
+	 */
+	void awaitAndReport(CompletableFuture<MultiEntityOperationExecutionReport<EntityReference>> future) {
+		try {
+			MultiEntityOperationExecutionReport<EntityReference> report = Futures.unwrappedExceptionGet( future );
+			if ( report != null ) {
+				reportBackendResult( report );
+			}
 		}
 		catch (Throwable throwable) {
 			if ( throwable instanceof InterruptedException ) {
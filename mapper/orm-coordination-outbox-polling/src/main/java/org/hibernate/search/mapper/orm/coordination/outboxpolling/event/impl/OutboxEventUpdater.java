@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.mapper.orm.coordination.outboxpolling.event.impl;
 
+import static org.hibernate.search.mapper.orm.coordination.outboxpolling.event.impl.OutboxPollingOutboxEventAdditionalJaxbMappingProducer.ENTITY_NAME;
+
 import java.lang.invoke.MethodHandles;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -25,6 +27,14 @@ public class OutboxEventUpdater {
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 	private static final int MAX_RETRIES = 3;
 
+	private static final String DELETE_QUERY = "delete from " + ENTITY_NAME + " e where e.id in (:ids)";
+	private static final String RETRY_QUERY = "update " + ENTITY_NAME + " e"
+			+ " set e.retries = e.retries + 1, e.processAfter = :processAfter"
+			+ " where e.id in (:ids)";
+	private static final String ABORT_QUERY = "update " + ENTITY_NAME + " e"
+			+ " set e.status = :status"
+			+ " where e.id in (:ids)";
+
 	private final FailureHandler failureHandler;
 	private final OutboxEventLoader loader;
 	private final OutboxEventProcessingPlan processingPlan;
@@ -54,7 +64,14 @@ public boolean thereAreStillEventsToProcess() {
 
 	public void process() {
 		List<OutboxEvent> lockedEvents = loader.loadLocking( session, eventsIds, processorName );
-		List<OutboxEvent> eventToDelete = new ArrayList<>( lockedEvents );
+		if ( lockedEvents.isEmpty() ) {
+			return;
+		}
+
+		List<Long> eventIdsToDelete = new ArrayList<>( lockedEvents.size() );
+		List<Long> eventIdsToRetry = new ArrayList<>();
+		List<Long> eventIdsToAbort = new ArrayList<>();
+		Instant processAfter = ( retryAfter > 0 ) ? Instant.now().plusSeconds( retryAfter ) : Instant.now();
 
 		for ( OutboxEvent event : lockedEvents ) {
 			Long id = event.getId();
@@ -63,36 +80,48 @@ public void process() {
 
 			if ( !failedEventIds.contains( id ) ) {
 				// The event was processed successfully; we will simply delete it.
+				eventIdsToDelete.add( id );
 				continue;
 			}
 
-			// We won't delete this event.
-			eventToDelete.remove( event );
-
 			// Failed events have to be processed differently:
 			// we try to update their retry count instead of deleting them,
 			// so that the process will try to process them again.
 			int attempts = event.getRetries() + 1;
 			if ( attempts >= MAX_RETRIES ) {
 				notifyMaxRetriesReached( event );
-				event.setStatus( OutboxEvent.Status.ABORTED );
+				eventIdsToAbort.add( id );
 			}
 			else {
 				// We will simply increment the retry count of this event,
 				// and the event processor will process it once more in the next batch
-				event.setRetries( attempts );
-
-				Instant processAfter = ( retryAfter > 0 ) ? Instant.now().plusSeconds( retryAfter ) : Instant.now();
-				event.setProcessAfter( processAfter );
-
+				eventIdsToRetry.add( id );
 				log.automaticIndexingRetry(
 						event.getId(), event.getEntityName(), event.getEntityId(), attempts, processAfter
 				);
 			}
 		}
 
-		for ( OutboxEvent event : eventToDelete ) {
-			session.remove( event );
+		// We update and delete events with set-based statements,
+		// so that we execute at most three statements per transaction regardless of the number of events,
+		// and so that Hibernate ORM does not need to track changes to each event.
+		// The loaded events are left untouched, so flushing the session will not trigger any additional statement.
+		if ( !eventIdsToDelete.isEmpty() ) {
+			session.createQuery( DELETE_QUERY )
+					.setParameter( "ids", eventIdsToDelete )
+					.executeUpdate();
+		}
+		if ( !eventIdsToRetry.isEmpty() ) {
+			session.createQuery( RETRY_QUERY )
+					.setParameter( "processAfter", processAfter )
+					.setParameter( "ids", eventIdsToRetry )
+					.executeUpdate();
+		}
+		if ( !eventIdsToAbort.isEmpty() ) {
+			session.createQuery( ABORT_QUERY )
+					.setParameter( "status", OutboxEvent.Status.ABORTED )
+					.setParameter( "ids", eventIdsToAbort )
+					.executeUpdate();
 		}
 	}
 
@@ -9,21 +9,29 @@
 import java.lang.invoke.MethodHandles;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.search.engine.backend.common.spi.MultiEntityOperationExecutionReport;
 import org.hibernate.search.engine.backend.orchestration.spi.SingletonTask;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.mapper.orm.automaticindexing.spi.AutomaticIndexingMappingContext;
+import org.hibernate.search.mapper.orm.common.EntityReference;
 import org.hibernate.search.mapper.orm.common.spi.SessionHelper;
 import org.hibernate.search.mapper.orm.common.spi.TransactionHelper;
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.cfg.HibernateOrmMapperOutboxPollingSettings;
@@ -80,6 +88,12 @@ public static String namePrefix(String tenantId) {
 					.withDefault( HibernateOrmMapperOutboxPollingSettings.Defaults.COORDINATION_EVENT_PROCESSOR_RETRY_DELAY )
 					.build();
 
+	private static final ConfigurationProperty<Integer> PIPELINE_DEPTH =
+			ConfigurationProperty.forKey( HibernateOrmMapperOutboxPollingSettings.CoordinationRadicals.EVENT_PROCESSOR_PIPELINE_DEPTH )
+					.asIntegerStrictlyPositive()
+					.withDefault( HibernateOrmMapperOutboxPollingSettings.Defaults.COORDINATION_EVENT_PROCESSOR_PIPELINE_DEPTH )
+					.build();
+
 	public static Factory factory(AutomaticIndexingMappingContext mapping, Clock clock, String tenantId,
 			ConfigurationPropertySource configurationSource) {
 		OutboxEventLoader loader = OutboxEventLoader.create( mapping.sessionFactory().getJdbcServices().getDialect() );
@@ -92,11 +106,12 @@ public static Factory factory(AutomaticIndexingMappingContext mapping, Clock clo
 
 		int batchSize = BATCH_SIZE.get( configurationSource );
 		int retryDelay = RETRY_DELAY.get( configurationSource );
+		int pipelineDepth = PIPELINE_DEPTH.get( configurationSource );
 		Integer transactionTimeout = TRANSACTION_TIMEOUT.get( configurationSource )
 				.orElse( null );
 
 		return new Factory( mapping, clock, tenantId, loader, pollingInterval, pulseInterval, pulseExpiration,
-				batchSize, retryDelay, transactionTimeout );
+				batchSize, retryDelay, pipelineDepth, transactionTimeout );
 	}
 
 	public static class Factory {
@@ -109,11 +124,12 @@ public static class Factory {
 		private final Duration pulseExpiration;
 		private final int batchSize;
 		private final int retryDelay;
+		private final int pipelineDepth;
 		private final Integer transactionTimeout;
 
 		private Factory(AutomaticIndexingMappingContext mapping, Clock clock, String tenantId,
 				OutboxEventLoader loader, Duration pollingInterval, Duration pulseInterval, Duration pulseExpiration,
-				int batchSize, int retryDelay, Integer transactionTimeout) {
+				int batchSize, int retryDelay, int pipelineDepth, Integer transactionTimeout) {
 			this.mapping = mapping;
 			this.clock = clock;
 			this.tenantId = tenantId;
@@ -123,6 +139,7 @@ private Factory(AutomaticIndexingMappingContext mapping, Clock clock, String ten
 			this.pulseExpiration = pulseExpiration;
 			this.batchSize = batchSize;
 			this.retryDelay = retryDelay;
+			this.pipelineDepth = pipelineDepth;
 			this.transactionTimeout = transactionTimeout;
 		}
 
@@ -151,6 +168,7 @@ private enum Status {
 	private final long pollingInterval;
 	private final int batchSize;
 	private final int retryDelay;
+	private final int pipelineDepth;
 
 	private final AtomicReference<Status> status = new AtomicReference<>( Status.STOPPED );
 	private final OutboxPollingEventProcessorClusterLink clusterLink;
@@ -159,6 +177,7 @@ private enum Status {
 	private final AgentClusterLinkContextProvider clusterLinkContextProvider;
 	private final FailureHandler failureHandler;
 	private final Worker worker;
+	private final Scheduler scheduler;
 	private final SingletonTask processingTask;
 
 	public OutboxPollingEventProcessor(String name, Factory factory,
@@ -172,6 +191,7 @@ public OutboxPollingEventProcessor(String name, Factory factory,
 		this.pollingInterval = factory.pollingInterval.toMillis();
 		this.batchSize = factory.batchSize;
 		this.retryDelay = factory.retryDelay;
+		this.pipelineDepth = factory.pipelineDepth;
 		this.clusterLink = clusterLink;
 
 		transactionHelper = new TransactionHelper( mapping.sessionFactory(), factory.transactionTimeout );
@@ -181,10 +201,11 @@ public OutboxPollingEventProcessor(String name, Factory factory,
 
 		failureHandler = mapping.failureHandler();
 		this.worker = new Worker();
+		this.scheduler = new Scheduler( executor );
 		processingTask = new SingletonTask(
 				name,
 				worker,
-				new Scheduler( executor ),
+				scheduler,
 				failureHandler
 		);
 	}
@@ -199,6 +220,24 @@ public CompletableFuture<?> completion() {
 		return processingTask.completion();
 	}
 
+	/**
+	 * Makes sure the processor will poll for events as soon as possible,
+	 * instead of waiting for the polling interval.
+	 * <p>
+	 * Called when new outbox events were committed, see
+	 * {@link org.hibernate.search.mapper.orm.coordination.outboxpolling.event.spi.OutboxEventWakeUpSource}.
+	 */
+	public void wakeUp() {
+		if ( status.get() != Status.STARTED ) {
+			return;
+		}
+		// If the worker is currently running, this will lead to immediate re-execution right after it's done.
+		// See the Scheduler class below.
+		worker.wakeUpRequested = true;
+		// If the worker is waiting for the polling interval to elapse, this will execute it right now.
+		scheduler.wakeUp();
+	}
+
 	public CompletableFuture<?> preStop() {
 		status.set( Status.STOPPED );
 		return processingTask.completion();
@@ -208,6 +247,9 @@ public void stop() {
 		log.stoppingOutboxEventProcessor( name );
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
 			closer.push( SingletonTask::stop, processingTask );
+			// Batches can only be left in flight if their processing failed unexpectedly.
+			// Their events will be processed again later.
+			closer.pushAll( PipelinedBatch::close, worker.batchesInFlight );
 			closer.push( OutboxPollingEventProcessor::leaveCluster, this );
 		}
 	}
@@ -220,12 +262,21 @@ private class Worker implements SingletonTask.Worker {
 
 		private volatile OutboxPollingEventProcessingInstructions instructions;
 		private volatile boolean lastExecutionProcessedEvents;
+		private volatile boolean wakeUpRequested;
+		// Only used in pipelined mode, i.e. when pipelineDepth > 1
+		private final Deque<PipelinedBatch> batchesInFlight = new ArrayDeque<>();
 
 		@Override
 		public CompletableFuture<?> work() {
 			lastExecutionProcessedEvents = false;
+			// Events committed before this point will be found by this execution.
+			wakeUpRequested = false;
 
 			if ( instructions == null || !instructions.isStillValid() ) {
+				// Batches in flight were retrieved according to the previous instructions,
+				// and we may no longer be assigned the same shards after the pulse:
+				// complete these batches first.
+				completeBatchesInFlight();
 				// Never perform event processing in the same transaction as a pulse,
 				// to reduce transaction contention.
 				instructions = clusterLinkContextProvider.inTransaction( clusterLink::pulse );
@@ -239,6 +290,11 @@ public CompletableFuture<?> work() {
 				return CompletableFuture.completedFuture( null );
 			}
 
+			if ( pipelineDepth > 1 ) {
+				processPipelined( instructions.eventFinder.get() );
+				return CompletableFuture.completedFuture( null );
+			}
+
 			try ( SessionImplementor session = sessionHelper.openSession() ) {
 				final OutboxEventProcessingPlan eventProcessing = new OutboxEventProcessingPlan( mapping, session );
 				transactionHelper.inTransaction( session, () -> {
@@ -269,27 +325,124 @@ public CompletableFuture<?> work() {
 					eventProcessing.processEvents( events );
 				} );
 
-				// Updating events involves database locks on a table that
-				// can see heavily concurrent access (the outbox table),
-				// so we do that in a separate transaction, one that is as short as possible.
-				OutboxEventUpdater eventUpdater = new OutboxEventUpdater(
-						failureHandler, loader, eventProcessing, session, name, retryDelay );
-				// We potentially perform this update in multiple transactions,
-				// each loading as many events as possible using SKIP_LOCKED,
-				// to only load events that are not already locked by another processor.
-				// This is to avoid problems related to lock escalation in MS SQL for example,
-				// where another processor could be locking on our own events because
-				// it locked a page instead of just a row.
-				// For more information, see
-				// org.hibernate.search.mapper.orm.coordination.outboxpolling.impl.OutboxEventLoader.tryLoadLocking
-				while ( eventUpdater.thereAreStillEventsToProcess() ) {
-					transactionHelper.inTransaction( session, eventUpdater::process );
-				}
+				updateEvents( session, eventProcessing );
 
 				return CompletableFuture.completedFuture( null );
 			}
 		}
 
+		// In pipelined mode, each execution loads and submits one batch of events,
+		// but only waits for the completion of previous batches if the pipeline is full,
+		// so that the database and the backend are used concurrently.
+		private void processPipelined(OutboxEventFinder eventFinder) {
+			try {
+				PipelinedBatch batch = submitNextBatch( eventFinder );
+				if ( batch != null ) {
+					batchesInFlight.addLast( batch );
+					// Make sure we will process the next batch ASAP
+					lastExecutionProcessedEvents = true;
+					ensureScheduled();
+					while ( batchesInFlight.size() >= pipelineDepth ) {
+						batchesInFlight.removeFirst().complete();
+					}
+				}
+				else if ( !batchesInFlight.isEmpty() ) {
+					// No more events for now: wait for the batches in flight to complete,
+					// then look for new events immediately.
+					completeBatchesInFlight();
+					lastExecutionProcessedEvents = true;
+					ensureScheduled();
+				}
+			}
+			finally {
+				if ( status.get() != Status.STARTED ) {
+					// We won't be re-scheduled: make sure we don't leave any batch behind.
+					completeBatchesInFlight();
+				}
+			}
+		}
+
+		private PipelinedBatch submitNextBatch(OutboxEventFinder eventFinder) {
+			while ( true ) {
+				PipelinedBatch batch = new PipelinedBatch( sessionHelper.openSession() );
+				List<OutboxEvent> events;
+				try {
+					events = transactionHelper.inTransaction( batch.session, () -> {
+						List<OutboxEvent> found = findEventsNotInFlight( eventFinder, batch.session );
+						if ( !found.isEmpty() && !affectsEntitiesInFlight( found ) ) {
+							log.tracef( "Processing %d outbox events for '%s': '%s'", found.size(), name, found );
+							batch.submit( found );
+						}
+						return found;
+					} );
+				}
+				catch (RuntimeException | Error e) {
+					batch.close();
+					throw e;
+				}
+				if ( batch.isSubmitted() ) {
+					return batch;
+				}
+				batch.close();
+				if ( events.isEmpty() ) {
+					return null;
+				}
+				// Some events affect entities that are still being processed in batches in flight.
+				// To preserve per-entity ordering, wait for these batches to complete,
+				// then try again.
+				completeBatchesInFlight();
+			}
+		}
+
+		private List<OutboxEvent> findEventsNotInFlight(OutboxEventFinder eventFinder, SessionImplementor session) {
+			if ( batchesInFlight.isEmpty() ) {
+				return eventFinder.findOutboxEvents( session, batchSize );
+			}
+			// Events in flight are still in the outbox table until their batch completes:
+			// retrieve more events than necessary, and ignore those that are already in flight.
+			Set<Long> idsInFlight = new HashSet<>();
+			for ( PipelinedBatch batch : batchesInFlight ) {
+				for ( OutboxEvent event : batch.eventProcessing.getEvents() ) {
+					idsInFlight.add( event.getId() );
+				}
+			}
+			List<OutboxEvent> found = eventFinder.findOutboxEvents( session, batchSize + idsInFlight.size() );
+			List<OutboxEvent> result = new ArrayList<>( Math.min( batchSize, found.size() ) );
+			for ( OutboxEvent event : found ) {
+				if ( result.size() >= batchSize ) {
+					break;
+				}
+				if ( !idsInFlight.contains( event.getId() ) ) {
+					result.add( event );
+				}
+			}
+			return result;
+		}
+
+		private boolean affectsEntitiesInFlight(List<OutboxEvent> events) {
+			if ( batchesInFlight.isEmpty() ) {
+				return false;
+			}
+			Set<OutboxEventReference> referencesInFlight = new HashSet<>();
+			for ( PipelinedBatch batch : batchesInFlight ) {
+				for ( OutboxEvent event : batch.eventProcessing.getEvents() ) {
+					referencesInFlight.add( event.getReference() );
+				}
+			}
+			for ( OutboxEvent event : events ) {
+				if ( referencesInFlight.contains( event.getReference() ) ) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private void completeBatchesInFlight() {
+			while ( !batchesInFlight.isEmpty() ) {
+				batchesInFlight.removeFirst().complete();
+			}
+		}
+
 		@Override
 		public void complete() {
 			// Make sure we poll again in a few seconds.
@@ -309,8 +462,66 @@ private void ensureScheduled() {
 		}
 	}
 
+	private void updateEvents(SessionImplementor session, OutboxEventProcessingPlan eventProcessing) {
+		// Updating events involves database locks on a table that
+		// can see heavily concurrent access (the outbox table),
+		// so we do that in a separate transaction, one that is as short as possible.
+		OutboxEventUpdater eventUpdater = new OutboxEventUpdater(
+				failureHandler, loader, eventProcessing, session, name, retryDelay );
+		// We potentially perform this update in multiple transactions,
+		// each loading as many events as possible using SKIP_LOCKED,
+		// to only load events that are not already locked by another processor.
+		// This is to avoid problems related to lock escalation in MS SQL for example,
+		// where another processor could be locking on our own events because
+		// it locked a page instead of just a row.
+		// For more information, see
+		// org.hibernate.search.mapper.orm.coordination.outboxpolling.impl.OutboxEventLoader.tryLoadLocking
+		while ( eventUpdater.thereAreStillEventsToProcess() ) {
+			transactionHelper.inTransaction( session, eventUpdater::process );
+		}
+	}
+
+	/**
+	 * A batch of events whose indexing works were submitted to the backend, but not necessarily completed.
+	 * <p>
+	 * Each batch has its own session, which stays open until the batch is completed.
+	 */
+	private class PipelinedBatch {
+		private final SessionImplementor session;
+		private final OutboxEventProcessingPlan eventProcessing;
+		private CompletableFuture<MultiEntityOperationExecutionReport<EntityReference>> future;
+
+		private PipelinedBatch(SessionImplementor session) {
+			this.session = session;
+			this.eventProcessing = new OutboxEventProcessingPlan( mapping, session );
+		}
+
+		void submit(List<OutboxEvent> events) {
+			future = eventProcessing.submitEvents( events );
+		}
+
+		boolean isSubmitted() {
+			return future != null;
+		}
+
+		void complete() {
+			try {
+				eventProcessing.awaitAndReport( future );
+				updateEvents( session, eventProcessing );
+			}
+			finally {
+				close();
+			}
+		}
+
+		void close() {
+			session.close();
+		}
+	}
+
 	private class Scheduler implements SingletonTask.Scheduler {
 		private final ScheduledExecutorService delegate;
+		private final AtomicReference<WakeableExecution> wakeableExecution = new AtomicReference<>();
 
 		private Scheduler(ScheduledExecutorService delegate) {
 			this.delegate = delegate;
@@ -325,18 +536,19 @@ public Future<?> schedule(Runnable runnable) {
 				// This is to mitigate the impact of infinite loops when there is an unhandled
 				// failure while getting instructions (e.g. if the database is not up and running)
 				// TODO Ideally we should record unhandled failures in a variable and force a wait after they happen.
-				return delegate.schedule( runnable, pollingInterval, TimeUnit.MILLISECONDS );
+				return scheduleWakeable( runnable );
 			}
 			else if ( instructions.eventFinder.isPresent() ) {
-				if ( worker.lastExecutionProcessedEvents ) {
+				if ( worker.lastExecutionProcessedEvents || worker.wakeUpRequested ) {
 					// When running and there might be  more events to process,
 					// re-execute the worker immediately.
 					return delegate.submit( runnable );
 				}
 				else {
 					// When running and there are no more events to process,
-					// re-execute the worker after the polling interval.
-					return delegate.schedule( runnable, pollingInterval, TimeUnit.MILLISECONDS );
+					// re-execute the worker after the polling interval,
+					// or earlier if we get woken up.
+					return scheduleWakeable( runnable );
 				}
 			}
 			else {
@@ -349,5 +561,48 @@ else if ( instructions.eventFinder.isPresent() ) {
 				return delegate.schedule( runnable, instructions.timeInMillisecondsToExpiration(), TimeUnit.MILLISECONDS );
 			}
 		}
+
+		private Future<?> scheduleWakeable(Runnable runnable) {
+			WakeableExecution execution = new WakeableExecution( runnable );
+			wakeableExecution.set( execution );
+			Future<?> future = delegate.schedule( execution, pollingInterval, TimeUnit.MILLISECONDS );
+			if ( worker.wakeUpRequested ) {
+				// We may have been woken up concurrently, before the execution was registered.
+				wakeUp();
+			}
+			return future;
+		}
+
+		void wakeUp() {
+			WakeableExecution execution = wakeableExecution.getAndSet( null );
+			if ( execution != null && execution.claim() ) {
+				delegate.submit( execution.runnable );
+			}
+		}
+	}
+
+	/**
+	 * A delayed execution of the worker that can be triggered earlier, on wake-up.
+	 * <p>
+	 * Whichever comes first between the delay and the wake-up runs the worker; the other does nothing.
+	 */
+	private static class WakeableExecution implements Runnable {
+		private final Runnable runnable;
+		private final AtomicBoolean claimed = new AtomicBoolean( false );
+
+		private WakeableExecution(Runnable runnable) {
+			this.runnable = runnable;
+		}
+
+		@Override
+		public void run() {
+			if ( claim() ) {
+				runnable.run();
+			}
+		}
+
+		boolean claim() {
+			return claimed.compareAndSet( false, true );
+		}
 	}
 }
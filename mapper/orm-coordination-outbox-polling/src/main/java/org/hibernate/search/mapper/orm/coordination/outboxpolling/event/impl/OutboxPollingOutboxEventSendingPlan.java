@@ -16,7 +16,8 @@
 import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
 import org.hibernate.search.engine.backend.common.spi.MultiEntityOperationExecutionReport;
 import org.hibernate.search.mapper.orm.automaticindexing.spi.AutomaticIndexingQueueEventSendingPlan;
-import org.hibernate.search.mapper.orm.coordination.outboxpolling.avro.impl.EventPayloadSerializationUtils;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.avro.impl.EventPayloadSerializer;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.event.spi.OutboxEventWakeUpSource;
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.logging.impl.Log;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingQueueEventPayload;
 import org.hibernate.search.util.common.data.impl.RangeCompatibleHashFunction;
@@ -31,10 +32,15 @@ public final class OutboxPollingOutboxEventSendingPlan implements AutomaticIndex
 	private static final RangeCompatibleHashFunction HASH_FUNCTION = ShardAssignment.HASH_FUNCTION;
 
 	private final Session session;
+	private final EventPayloadSerializer payloadSerializer;
+	private final OutboxEventWakeUpSource wakeUpSourceOrNull;
 	private final List<OutboxEvent> events = new ArrayList<>();
 
-	public OutboxPollingOutboxEventSendingPlan(Session session) {
+	public OutboxPollingOutboxEventSendingPlan(Session session, EventPayloadSerializer payloadSerializer,
+			OutboxEventWakeUpSource wakeUpSourceOrNull) {
 		this.session = session;
+		this.payloadSerializer = payloadSerializer;
+		this.wakeUpSourceOrNull = wakeUpSourceOrNull;
 	}
 
 	@Override
@@ -42,7 +48,7 @@ public void append(String entityName, Object identifier, String serializedId,
 			PojoIndexingQueueEventPayload payload) {
 		events.add( new OutboxEvent( entityName, serializedId,
 				HASH_FUNCTION.hash( serializedId ),
-				EventPayloadSerializationUtils.serialize( payload ),
+				payloadSerializer.serialize( payload ),
 				identifier
 		) );
 	}
@@ -88,6 +94,9 @@ private <R> CompletableFuture<MultiEntityOperationExecutionReport<R>> sendAndRep
 			}
 			currentSession.flush();
 			log.tracef( "Persisted %d outbox events: '%s'", events.size(), events );
+			if ( wakeUpSourceOrNull != null && !events.isEmpty() ) {
+				wakeUpSourceOrNull.eventsSent( currentSession );
+			}
 			return CompletableFuture.completedFuture( builder.build() );
 		}
 		finally {
@@ -0,0 +1,162 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.coordination.outboxpolling.event.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ExecutorService;
+
+import org.hibernate.Session;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.registry.classloading.spi.ClassLoadingException;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.event.spi.OutboxEventWakeUpSource;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.event.spi.OutboxEventWakeUpSourceStartContext;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.logging.impl.Log;
+import org.hibernate.search.util.common.impl.AbstractCloser;
+import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.impl.SuppressingCloser;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Wakes up event processors through PostgreSQL's {@code LISTEN}/{@code NOTIFY}.
+ * <p>
+ * Transactions sending outbox events also send a notification,
+ * which PostgreSQL delivers to listeners when (and only if) the transaction commits.
+ * Each application listens to notifications on a dedicated connection,
+ * and wakes up its own event processors whenever it receives one.
+ * <p>
+ * The PostgreSQL JDBC driver is accessed through reflection,
+ * so that it does not become a dependency of this module.
+ */
+public final class PostgreSQLOutboxEventWakeUpSource implements OutboxEventWakeUpSource {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	public static final String NAME = "postgresql";
+
+	static final String CHANNEL = "hibernate_search_outbox_events";
+
+	private static final String PG_CONNECTION_CLASS_NAME = "org.postgresql.PGConnection";
+	private static final int NOTIFICATION_TIMEOUT_MS = 1000;
+	private static final long RETRY_DELAY_MS = 5000;
+
+	private volatile boolean started;
+	private OutboxEventWakeUpSourceStartContext context;
+	private JdbcConnectionAccess connectionAccess;
+	private Class<?> pgConnectionClass;
+	private Method getNotificationsMethod;
+	private ExecutorService listenerExecutor;
+
+	@Override
+	public void start(OutboxEventWakeUpSourceStartContext context) {
+		this.context = context;
+		SessionFactoryImplementor sessionFactory = context.sessionFactory();
+		try {
+			pgConnectionClass = sessionFactory.getServiceRegistry().requireService( ClassLoaderService.class )
+					.classForName( PG_CONNECTION_CLASS_NAME );
+			getNotificationsMethod = pgConnectionClass.getMethod( "getNotifications", int.class );
+		}
+		catch (ClassLoadingException | NoSuchMethodException e) {
+			throw log.postgresqlWakeUpSourceUnavailable( e.getMessage(), e );
+		}
+		connectionAccess = sessionFactory.getJdbcServices().getBootstrapJdbcConnectionAccess();
+		started = true;
+		listenerExecutor = context.threadPoolProvider().newFixedThreadPool( 1, "Outbox event wake-up listener" );
+		listenerExecutor.submit( this::listen );
+	}
+
+	@Override
+	public void eventsSent(Session session) {
+		// PostgreSQL only delivers the notification if the transaction commits,
+		// and delivers identical notifications sent in the same transaction only once.
+		session.doWork( connection -> {
+			try ( Statement statement = connection.createStatement() ) {
+				statement.execute( "NOTIFY " + CHANNEL );
+			}
+		} );
+	}
+
+	@Override
+	public void stop() {
+		started = false;
+		if ( listenerExecutor != null ) {
+			listenerExecutor.shutdownNow();
+		}
+	}
+
+	private void listen() {
+		while ( started ) {
+			try {
+				listenOnNewConnection();
+			}
+			catch (SQLException | ReflectiveOperationException | RuntimeException e) {
+				if ( !started ) {
+					return;
+				}
+				Throwable cause = e instanceof InvocationTargetException ? e.getCause() : e;
+				log.postgresqlWakeUpSourceListeningFailed( cause.getMessage(), RETRY_DELAY_MS, cause );
+				try {
+					Thread.sleep( RETRY_DELAY_MS );
+				}
+				catch (InterruptedException e2) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+		}
+	}
+
+	private void listenOnNewConnection() throws SQLException, ReflectiveOperationException {
+		Connection connection = connectionAccess.obtainConnection();
+		boolean originalAutoCommit = connection.getAutoCommit();
+		try {
+			// LISTEN only takes effect on commit, and notifications are only received outside of transactions.
+			connection.setAutoCommit( true );
+			try ( Statement statement = connection.createStatement() ) {
+				statement.execute( "LISTEN " + CHANNEL );
+			}
+			Object pgConnection = connection.unwrap( pgConnectionClass );
+			// Events may have been sent while we were not listening.
+			context.wakeUpEventProcessors();
+			while ( started && !Thread.currentThread().isInterrupted() ) {
+				Object[] notifications = (Object[]) getNotificationsMethod.invoke( pgConnection, NOTIFICATION_TIMEOUT_MS );
+				if ( notifications != null && notifications.length > 0 ) {
+					context.wakeUpEventProcessors();
+				}
+			}
+		}
+		catch (SQLException | ReflectiveOperationException | RuntimeException | Error e) {
+			// The connection may be dead: cleanup failures must not hide the original failure.
+			releaseListeningConnection( new SuppressingCloser( e ), connection, originalAutoCommit );
+			throw e;
+		}
+		try ( Closer<SQLException> closer = new Closer<>() ) {
+			releaseListeningConnection( closer, connection, originalAutoCommit );
+		}
+	}
+
+	private void releaseListeningConnection(AbstractCloser<?, ? super SQLException> closer, Connection connection,
+			boolean originalAutoCommit) {
+		// Each operation is attempted even if the previous ones failed.
+		// Don't leave a pooled connection listening to notifications.
+		closer.push( PostgreSQLOutboxEventWakeUpSource::unlisten, connection );
+		closer.push( c -> c.setAutoCommit( originalAutoCommit ), connection );
+		closer.push( connectionAccess::releaseConnection, connection );
+	}
+
+	private static void unlisten(Connection connection) throws SQLException {
+		try ( Statement statement = connection.createStatement() ) {
+			statement.execute( "UNLISTEN " + CHANNEL );
+		}
+	}
+}
@@ -0,0 +1,52 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.coordination.outboxpolling.event.spi;
+
+import org.hibernate.Session;
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * A source of signals waking up outbox event processors as soon as new outbox events were committed,
+ * so that event processors do not need to wait for the next polling.
+ * <p>
+ * When a wake-up source is configured, the polling interval merely acts as a fallback:
+ * event processors still poll the outbox table regularly,
+ * so the polling interval can be raised to reduce the load on the database
+ * without increasing indexing latency.
+ * <p>
+ * Implementations must be thread-safe.
+ */
+@Incubating
+public interface OutboxEventWakeUpSource {
+
+	/**
+	 * Starts delivering wake-up signals to event processors.
+	 * <p>
+	 * Called once on startup, before any call to {@link #eventsSent(Session)}.
+	 *
+	 * @param context The start context, giving access to the session factory and to the event processors.
+	 */
+	void start(OutboxEventWakeUpSourceStartContext context);
+
+	/**
+	 * Signals that outbox events were sent in the current transaction.
+	 * <p>
+	 * Called right after outbox events were flushed to the database,
+	 * while the transaction that created them is still in progress.
+	 * Implementations must not wake up event processors before that transaction is committed,
+	 * otherwise event processors would not see the new events.
+	 *
+	 * @param session The session used to send outbox events.
+	 */
+	void eventsSent(Session session);
+
+	/**
+	 * Stops delivering wake-up signals and releases any resource held by this source.
+	 */
+	void stop();
+
+}
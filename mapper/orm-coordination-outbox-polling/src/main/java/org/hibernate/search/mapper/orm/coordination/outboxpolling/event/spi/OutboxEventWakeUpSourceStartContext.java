@@ -0,0 +1,38 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.coordination.outboxpolling.event.spi;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * The context passed to {@link OutboxEventWakeUpSource#start(OutboxEventWakeUpSourceStartContext)}.
+ */
+@Incubating
+public interface OutboxEventWakeUpSourceStartContext {
+
+	/**
+	 * @return The session factory, e.g. to open database connections.
+	 */
+	SessionFactoryImplementor sessionFactory();
+
+	/**
+	 * @return A provider of thread pools, to use when spawning background processes.
+	 */
+	ThreadPoolProvider threadPoolProvider();
+
+	/**
+	 * Wakes up all the event processors of this application,
+	 * so that they poll the outbox table for events as soon as possible.
+	 * <p>
+	 * This method does not block and can be called from any thread.
+	 * Event processors that are currently working will poll again as soon as they are done.
+	 */
+	void wakeUpEventProcessors();
+
+}
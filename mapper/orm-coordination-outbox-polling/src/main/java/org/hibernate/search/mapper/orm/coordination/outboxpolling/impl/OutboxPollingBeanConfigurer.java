@@ -6,11 +6,15 @@
  */
 package org.hibernate.search.mapper.orm.coordination.outboxpolling.impl;
 
+import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.BeanReference;
 import org.hibernate.search.engine.environment.bean.spi.BeanConfigurationContext;
 import org.hibernate.search.engine.environment.bean.spi.BeanConfigurer;
 import org.hibernate.search.mapper.orm.coordination.common.spi.CoordinationStrategy;
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.cfg.HibernateOrmMapperOutboxPollingSettings;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.event.impl.LocalOutboxEventWakeUpSource;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.event.impl.PostgreSQLOutboxEventWakeUpSource;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.event.spi.OutboxEventWakeUpSource;
 
 public class OutboxPollingBeanConfigurer implements BeanConfigurer {
 
@@ -21,5 +25,13 @@ public void configure(BeanConfigurationContext context) {
 				HibernateOrmMapperOutboxPollingSettings.COORDINATION_STRATEGY_NAME,
 				BeanReference.ofInstance( new OutboxPollingCoordinationStrategy() )
 		);
+		context.define(
+				OutboxEventWakeUpSource.class, LocalOutboxEventWakeUpSource.NAME,
+				beanResolver -> BeanHolder.of( new LocalOutboxEventWakeUpSource() )
+		);
+		context.define(
+				OutboxEventWakeUpSource.class, PostgreSQLOutboxEventWakeUpSource.NAME,
+				beanResolver -> BeanHolder.of( new PostgreSQLOutboxEventWakeUpSource() )
+		);
 	}
 }
@@ -18,15 +18,18 @@
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.BeanReference;
+import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.mapper.orm.coordination.common.spi.CoordinationConfigurationContext;
 import org.hibernate.search.mapper.orm.coordination.common.spi.CoordinationStrategy;
 import org.hibernate.search.mapper.orm.coordination.common.spi.CoordinationStrategyPreStopContext;
 import org.hibernate.search.mapper.orm.coordination.common.spi.CoordinationStrategyStartContext;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.avro.impl.EventPayloadSerializer;
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.cfg.HibernateOrmMapperOutboxPollingSettings;
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.cfg.impl.HibernateOrmMapperOutboxPollingImplSettings;
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.cluster.impl.AgentRepositoryProvider;
@@ -39,6 +42,8 @@
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.event.impl.OutboxPollingMassIndexerAgent;
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.event.impl.OutboxPollingOutboxEventAdditionalJaxbMappingProducer;
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.event.impl.OutboxPollingOutboxEventSendingPlan;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.event.spi.OutboxEventWakeUpSource;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.event.spi.OutboxEventWakeUpSourceStartContext;
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.logging.impl.Log;
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.mapping.impl.OutboxPollingSearchMappingImpl;
 import org.hibernate.search.mapper.orm.tenancy.spi.TenancyConfiguration;
@@ -78,8 +83,15 @@ public class OutboxPollingCoordinationStrategy implements CoordinationStrategy {
 					.asBeanReference( OutboxEventFinderProvider.class )
 					.build();
 
+	private static final OptionalConfigurationProperty<BeanReference<? extends OutboxEventWakeUpSource>> EVENT_PROCESSOR_WAKE_UP_SOURCE =
+			ConfigurationProperty.forKey( HibernateOrmMapperOutboxPollingSettings.CoordinationRadicals.EVENT_PROCESSOR_WAKE_UP_SOURCE )
+					.asBeanReference( OutboxEventWakeUpSource.class )
+					.build();
+
 	private BeanHolder<? extends OutboxEventFinderProvider> finderProviderHolder;
 	private BeanHolder<? extends AgentRepositoryProvider> agentRepositoryProviderHolder;
+	private BeanHolder<? extends OutboxEventWakeUpSource> wakeUpSourceHolder;
+	private EventPayloadSerializer payloadSerializer;
 
 	private TenancyConfiguration tenancyConfiguration;
 	private final Map<String, TenantDelegate> tenantDelegates = new LinkedHashMap<>();
@@ -89,7 +101,8 @@ public class OutboxPollingCoordinationStrategy implements CoordinationStrategy {
 	public void configure(CoordinationConfigurationContext context) {
 		context.mappingProducer( new OutboxPollingOutboxEventAdditionalJaxbMappingProducer() );
 		context.mappingProducer( new OutboxPollingAgentAdditionalJaxbMappingProducer() );
-		context.sendIndexingEventsTo( ctx -> new OutboxPollingOutboxEventSendingPlan( ctx.session() ), true );
+		context.sendIndexingEventsTo( ctx -> new OutboxPollingOutboxEventSendingPlan( ctx.session(), payloadSerializer,
+				wakeUpSourceHolder == null ? null : wakeUpSourceHolder.get() ), true );
 	}
 
 	@Override
@@ -122,6 +135,8 @@ public CompletableFuture<?> start(CoordinationStrategyStartContext context) {
 			finderProviderHolder = BeanHolder.of( new DefaultOutboxEventFinder.Provider() );
 		}
 
+		payloadSerializer = EventPayloadSerializer.create( context.configurationPropertySource() );
+
 		tenancyConfiguration = context.tenancyConfiguration();
 		Set<String> tenantIds = tenancyConfiguration.tenantIdsOrFail();
 
@@ -145,9 +160,22 @@ public CompletableFuture<?> start(CoordinationStrategyStartContext context) {
 			}
 		}
 
+		Optional<BeanHolder<? extends OutboxEventWakeUpSource>> wakeUpSourceHolderOptional =
+				EVENT_PROCESSOR_WAKE_UP_SOURCE.getAndMap(
+						context.configurationPropertySource(), context.beanResolver()::resolve );
+		if ( wakeUpSourceHolderOptional.isPresent() ) {
+			wakeUpSourceHolder = wakeUpSourceHolderOptional.get();
+			log.debugf(
+					"Outbox event processors will be woken up by '%s'.",
+					wakeUpSourceHolder.get()
+			);
+			wakeUpSourceHolder.get().start( new WakeUpSourceStartContext( context ) );
+		}
+
 		outboxPollingSearchMapping = new OutboxPollingSearchMappingImpl( context, tenancyConfiguration );
 		return CompletableFuture.completedFuture( null );
 	}
+
 	@Override
 	public PojoMassIndexerAgent createMassIndexerAgent(PojoMassIndexerAgentCreateContext context) {
 		return tenantDelegate( context.tenantIdentifier() ).massIndexerAgentFactory
@@ -193,12 +221,14 @@ public CompletableFuture<?> preStop(CoordinationStrategyPreStopContext context)
 	@Override
 	public void stop() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			closer.push( OutboxEventWakeUpSource::stop, wakeUpSourceHolder, BeanHolder::get );
 			for ( TenantDelegate tenantDelegate : tenantDelegates.values() ) {
 				closer.pushAll( OutboxPollingEventProcessor::stop, tenantDelegate.eventProcessors );
 				closer.push( ScheduledExecutorService::shutdownNow, tenantDelegate.eventProcessorExecutor );
 			}
 			closer.push( BeanHolder::close, finderProviderHolder );
 			closer.push( BeanHolder::close, agentRepositoryProviderHolder );
+			closer.push( BeanHolder::close, wakeUpSourceHolder );
 		}
 	}
 
@@ -206,6 +236,36 @@ public OutboxPollingSearchMappingImpl outboxPollingSearchMapping() {
 		return outboxPollingSearchMapping;
 	}
 
+	private class WakeUpSourceStartContext implements OutboxEventWakeUpSourceStartContext {
+		private final CoordinationStrategyStartContext delegate;
+
+		private WakeUpSourceStartContext(CoordinationStrategyStartContext delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public SessionFactoryImplementor sessionFactory() {
+			return delegate.mapping().sessionFactory();
+		}
+
+		@Override
+		public ThreadPoolProvider threadPoolProvider() {
+			return delegate.threadPoolProvider();
+		}
+
+		@Override
+		public void wakeUpEventProcessors() {
+			for ( TenantDelegate tenantDelegate : tenantDelegates.values() ) {
+				if ( tenantDelegate.eventProcessors == null ) {
+					continue;
+				}
+				for ( OutboxPollingEventProcessor eventProcessor : tenantDelegate.eventProcessors ) {
+					eventProcessor.wakeUp();
+				}
+			}
+		}
+	}
+
 	private class TenantDelegate {
 		private final String tenantId;
 
@@ -173,4 +173,21 @@ SearchException conflictingOutboxEventBackgroundProcessorAgentShardsForStaticSha
 			+ " Either this problem is a rare occurrence, or the pulse expiration delay is too short.")
 	SearchException agentRegistrationIneffective(AgentReference agentReference);
 
+	@Message(id = ID_OFFSET + 29, value = "Unable to use the PostgreSQL outbox event wake-up source: %1$s"
+			+ " This wake-up source requires the PostgreSQL JDBC driver.")
+	SearchException postgresqlWakeUpSourceUnavailable(String causeMessage, @Cause Throwable cause);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET + 30, value = "Unable to listen to notifications of new outbox events: %1$s"
+			+ " Event processors will rely on polling until listening succeeds. Will try again in %2$d ms.")
+	void postgresqlWakeUpSourceListeningFailed(String causeMessage, long retryDelay, @Cause Throwable cause);
+
+	@Message(id = ID_OFFSET + 31, value = "Invalid outbox event payload format version: '%1$s'."
+			+ " Supported versions are '%2$s' to '%3$s'.")
+	SearchException invalidOutboxEventPayloadFormatVersion(int formatVersion, int minVersion, int maxVersion);
+
+	@Message(id = ID_OFFSET + 32, value = "Unknown outbox event payload format: header '%1$s'."
+			+ " The payload may have been written by a more recent version of Hibernate Search.")
+	SearchException unknownOutboxEventPayloadFormat(byte header);
+
 }
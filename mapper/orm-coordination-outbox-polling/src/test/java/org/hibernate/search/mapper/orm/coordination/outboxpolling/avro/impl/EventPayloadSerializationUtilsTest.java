@@ -0,0 +1,116 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.coordination.outboxpolling.avro.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.search.engine.cfg.spi.AllAwareConfigurationPropertySource;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.cfg.HibernateOrmMapperOutboxPollingSettings;
+import org.hibernate.search.mapper.pojo.route.DocumentRouteDescriptor;
+import org.hibernate.search.mapper.pojo.route.DocumentRoutesDescriptor;
+import org.hibernate.search.mapper.pojo.work.spi.DirtinessDescriptor;
+import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingQueueEventPayload;
+import org.hibernate.search.util.common.SearchException;
+
+import org.junit.Test;
+
+public class EventPayloadSerializationUtilsTest {
+
+	@Test
+	public void version1() {
+		PojoIndexingQueueEventPayload payload = payload( 3 );
+		byte[] serialized = EventPayloadSerializationUtils.serialize( payload );
+		// No header: the first byte is the (even) index of the type of the first field
+		assertThat( serialized[0] & 1 ).isZero();
+		assertRoundTrip( payload, serialized );
+	}
+
+	@Test
+	public void version2_belowThreshold() {
+		PojoIndexingQueueEventPayload payload = payload( 3 );
+		byte[] legacy = EventPayloadSerializationUtils.serialize( payload );
+		byte[] serialized = EventPayloadSerializationUtils.serialize( payload, Integer.MAX_VALUE );
+		assertThat( serialized ).hasSize( legacy.length + 1 );
+		assertThat( serialized[0] ).isEqualTo( (byte) 0x01 );
+		assertRoundTrip( payload, serialized );
+	}
+
+	@Test
+	public void version2_aboveThreshold() {
+		PojoIndexingQueueEventPayload payload = payload( 200 );
+		byte[] legacy = EventPayloadSerializationUtils.serialize( payload );
+		byte[] serialized = EventPayloadSerializationUtils.serialize( payload, 0 );
+		assertThat( serialized[0] ).isEqualTo( (byte) 0x03 );
+		// Dirty paths share long prefixes: compression is very effective
+		assertThat( serialized.length ).isLessThan( legacy.length / 4 );
+		assertRoundTrip( payload, serialized );
+	}
+
+	@Test
+	public void unknownHeader() {
+		assertThatThrownBy( () -> EventPayloadSerializationUtils.deserialize( new byte[] { 0x05, 0x00 } ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Unknown outbox event payload format", "header '5'" );
+	}
+
+	@Test
+	public void serializer_default() {
+		PojoIndexingQueueEventPayload payload = payload( 200 );
+		EventPayloadSerializer serializer = EventPayloadSerializer.create(
+				AllAwareConfigurationPropertySource.fromMap( Collections.emptyMap() ) );
+		assertThat( serializer.serialize( payload ) )
+				.isEqualTo( EventPayloadSerializationUtils.serialize( payload ) );
+	}
+
+	@Test
+	public void serializer_version2() {
+		PojoIndexingQueueEventPayload payload = payload( 200 );
+		Map<String, Object> properties = new HashMap<>();
+		properties.put( HibernateOrmMapperOutboxPollingSettings.CoordinationRadicals.OUTBOX_EVENT_PAYLOAD_FORMAT_VERSION, 2 );
+		properties.put( HibernateOrmMapperOutboxPollingSettings.CoordinationRadicals.OUTBOX_EVENT_PAYLOAD_COMPRESSION_THRESHOLD, 0 );
+		EventPayloadSerializer serializer = EventPayloadSerializer.create(
+				AllAwareConfigurationPropertySource.fromMap( properties ) );
+		byte[] serialized = serializer.serialize( payload );
+		assertThat( serialized[0] ).isEqualTo( (byte) 0x03 );
+		assertRoundTrip( payload, serialized );
+	}
+
+	@Test
+	public void serializer_invalidVersion() {
+		Map<String, Object> properties = new HashMap<>();
+		properties.put( HibernateOrmMapperOutboxPollingSettings.CoordinationRadicals.OUTBOX_EVENT_PAYLOAD_FORMAT_VERSION, 3 );
+		assertThatThrownBy( () -> EventPayloadSerializer.create( AllAwareConfigurationPropertySource.fromMap( properties ) ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "3" );
+	}
+
+	private static void assertRoundTrip(PojoIndexingQueueEventPayload expected, byte[] serialized) {
+		assertThat( EventPayloadSerializationUtils.deserialize( serialized ) )
+				.usingRecursiveComparison()
+				.isEqualTo( expected );
+	}
+
+	private static PojoIndexingQueueEventPayload payload(int dirtyPathCount) {
+		Set<String> dirtyPaths = new HashSet<>();
+		for ( int i = 0; i < dirtyPathCount; i++ ) {
+			dirtyPaths.add( "someContainedEntity.someEmbeddable.someProperty" + i );
+		}
+		return new PojoIndexingQueueEventPayload(
+				DocumentRoutesDescriptor.of( DocumentRouteDescriptor.of( "someRoutingKey" ),
+						Collections.singleton( DocumentRouteDescriptor.of( "someOtherRoutingKey" ) ) ),
+				new DirtinessDescriptor( false, true, dirtyPaths, false )
+		);
+	}
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.coordination.outboxpolling.event.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.event.spi.OutboxEventWakeUpSourceStartContext;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.mockito.quality.Strictness;
+
+public class PostgreSQLOutboxEventWakeUpSourceTest {
+
+	private static final String LISTEN = "LISTEN " + PostgreSQLOutboxEventWakeUpSource.CHANNEL;
+	private static final String UNLISTEN = "UNLISTEN " + PostgreSQLOutboxEventWakeUpSource.CHANNEL;
+
+	@Rule
+	public final MockitoRule mockito = MockitoJUnit.rule().strictness( Strictness.STRICT_STUBS );
+
+	@Mock
+	private OutboxEventWakeUpSourceStartContext contextMock;
+	@Mock
+	private SessionFactoryImplementor sessionFactoryMock;
+	@Mock
+	private ServiceRegistryImplementor serviceRegistryMock;
+	@Mock
+	private ClassLoaderService classLoaderServiceMock;
+	@Mock
+	private JdbcServices jdbcServicesMock;
+	@Mock
+	private ThreadPoolProvider threadPoolProviderMock;
+	@Mock
+	private JdbcConnectionAccess connectionAccessMock;
+	@Mock
+	private Connection connectionMock;
+	@Mock
+	private Statement statementMock;
+	@Mock
+	private FakePGConnection pgConnectionMock;
+
+	private final PostgreSQLOutboxEventWakeUpSource wakeUpSource = new PostgreSQLOutboxEventWakeUpSource();
+
+	@Before
+	@SuppressWarnings({ "unchecked", "rawtypes" }) // classForName returns a Class<T> for any T
+	public void setup() throws SQLException {
+		when( contextMock.sessionFactory() ).thenReturn( sessionFactoryMock );
+		when( contextMock.threadPoolProvider() ).thenReturn( threadPoolProviderMock );
+		when( sessionFactoryMock.getServiceRegistry() ).thenReturn( serviceRegistryMock );
+		when( serviceRegistryMock.requireService( ClassLoaderService.class ) ).thenReturn( classLoaderServiceMock );
+		when( classLoaderServiceMock.classForName( "org.postgresql.PGConnection" ) )
+				.thenReturn( (Class) FakePGConnection.class );
+		when( sessionFactoryMock.getJdbcServices() ).thenReturn( jdbcServicesMock );
+		when( jdbcServicesMock.getBootstrapJdbcConnectionAccess() ).thenReturn( connectionAccessMock );
+		when( threadPoolProviderMock.newFixedThreadPool( anyInt(), anyString() ) )
+				.thenReturn( (ThreadPoolExecutor) Executors.newFixedThreadPool( 1 ) );
+		when( connectionAccessMock.obtainConnection() ).thenReturn( connectionMock );
+		when( connectionMock.getAutoCommit() ).thenReturn( false );
+		when( connectionMock.createStatement() ).thenReturn( statementMock );
+	}
+
+	@After
+	public void stop() {
+		wakeUpSource.stop();
+	}
+
+	@Test
+	public void stop_releasesConnection() throws SQLException {
+		when( connectionMock.unwrap( FakePGConnection.class ) ).thenReturn( pgConnectionMock );
+		when( pgConnectionMock.getNotifications( anyInt() ) ).thenReturn( new Object[0] );
+
+		wakeUpSource.start( contextMock );
+		InOrder inOrder = inOrder( statementMock, contextMock, connectionMock, connectionAccessMock );
+		inOrder.verify( statementMock, timeout( 5000 ) ).execute( LISTEN );
+		inOrder.verify( contextMock, timeout( 5000 ) ).wakeUpEventProcessors();
+
+		wakeUpSource.stop();
+		inOrder.verify( statementMock, timeout( 5000 ) ).execute( UNLISTEN );
+		inOrder.verify( connectionMock, timeout( 5000 ) ).setAutoCommit( false );
+		inOrder.verify( connectionAccessMock, timeout( 5000 ) ).releaseConnection( connectionMock );
+	}
+
+	@Test
+	public void listeningFailure_cleanupFailure() throws SQLException {
+		SQLException listeningFailure = new SQLException( "Connection is dead" );
+		SQLException unlistenFailure = new SQLException( "Connection is still dead" );
+		SQLException autoCommitFailure = new SQLException( "Connection is really dead" );
+		doNothing().when( connectionMock ).setAutoCommit( true );
+		when( statementMock.execute( LISTEN ) ).thenReturn( false );
+		when( connectionMock.unwrap( FakePGConnection.class ) ).thenThrow( listeningFailure );
+		doThrow( unlistenFailure ).when( statementMock ).execute( UNLISTEN );
+		doThrow( autoCommitFailure ).when( connectionMock ).setAutoCommit( false );
+
+		wakeUpSource.start( contextMock );
+		InOrder inOrder = inOrder( statementMock, connectionMock, connectionAccessMock );
+		inOrder.verify( connectionMock, timeout( 5000 ) ).setAutoCommit( true );
+		inOrder.verify( statementMock, timeout( 5000 ) ).execute( LISTEN );
+		// Cleanup is attempted in full even though each step fails
+		inOrder.verify( statementMock, timeout( 5000 ) ).execute( UNLISTEN );
+		inOrder.verify( connectionMock, timeout( 5000 ) ).setAutoCommit( false );
+		inOrder.verify( connectionAccessMock, timeout( 5000 ) ).releaseConnection( connectionMock );
+
+		// Cleanup failures don't replace the original failure
+		assertThat( listeningFailure.getSuppressed() ).containsExactly( unlistenFailure, autoCommitFailure );
+	}
+
+	// Mirrors the part of org.postgresql.PGConnection used through reflection
+	public interface FakePGConnection {
+		Object[] getNotifications(int timeoutMillis) throws SQLException;
+	}
+
+}
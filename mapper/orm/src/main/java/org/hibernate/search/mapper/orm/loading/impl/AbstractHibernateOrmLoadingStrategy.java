@@ -56,7 +56,7 @@ public HibernateOrmQueryLoader<E, I> createQueryLoader(
 			return new HibernateOrmQueryLoader<>(
 					queryFactory, entityPersister, includedTypesFilter, conditionalExpression.get() );
 		}
-		return new HibernateOrmQueryLoader<>( queryFactory, includedTypesFilter );
+		return new HibernateOrmQueryLoader<>( queryFactory, rootEntityPersister, includedTypesFilter );
 	}
 
 }
@@ -16,6 +16,8 @@
 public abstract class ConditionalExpressionQueryFactory<E, I> implements TypeQueryFactory<E, I> {
 
 	private static final String TYPES_PARAM_NAME = "HIBERNATE_SEARCH_INCLUDED_TYPES_FILTER";
+	private static final String ID_LOWER_BOUND_PARAM_NAME = "HIBERNATE_SEARCH_ID_RANGE_LOWER_BOUND";
+	private static final String ID_UPPER_BOUND_PARAM_NAME = "HIBERNATE_SEARCH_ID_RANGE_UPPER_BOUND";
 	protected final String uniquePropertyName;
 
 	public ConditionalExpressionQueryFactory(String uniquePropertyName) {
@@ -42,6 +44,49 @@ public Query<I> createQueryForIdentifierListing(SharedSessionContractImplementor
 		);
 	}
 
+	@Override
+	public Query<Object[]> createQueryForIdentifierBounds(SharedSessionContractImplementor session,
+			EntityPersister persister, Set<? extends Class<? extends E>> includedTypesFilter,
+			ConditionalExpression conditionalExpression) {
+		String hql = "select min(e." + uniquePropertyName + "), max(e." + uniquePropertyName + ")"
+				+ " from " + persister.getEntityName() + " e";
+		if ( conditionalExpression != null ) {
+			return createQueryWithConditionalExpression( session, hql, Object[].class, "e",
+					includedTypesFilter, conditionalExpression );
+		}
+		if ( includedTypesFilter.isEmpty() ) {
+			return session.createQuery( hql, Object[].class );
+		}
+		hql += " where type(e) in (:" + TYPES_PARAM_NAME + ")";
+		Query<Object[]> query = session.createQuery( hql, Object[].class );
+		query.setParameterList( TYPES_PARAM_NAME, includedTypesFilter );
+		return query;
+	}
+
+	@Override
+	public ConditionalExpression createIdentifierRangeExpression(Object lowerBoundInclusive,
+			Object upperBoundExclusive) {
+		String lowerBoundHql = "e." + uniquePropertyName + " >= :" + ID_LOWER_BOUND_PARAM_NAME;
+		String upperBoundHql = "e." + uniquePropertyName + " < :" + ID_UPPER_BOUND_PARAM_NAME;
+		ConditionalExpression expression;
+		if ( lowerBoundInclusive == null ) {
+			expression = new ConditionalExpression( upperBoundHql );
+		}
+		else if ( upperBoundExclusive == null ) {
+			expression = new ConditionalExpression( lowerBoundHql );
+		}
+		else {
+			expression = new ConditionalExpression( lowerBoundHql + " and " + upperBoundHql );
+		}
+		if ( lowerBoundInclusive != null ) {
+			expression.param( ID_LOWER_BOUND_PARAM_NAME, lowerBoundInclusive );
+		}
+		if ( upperBoundExclusive != null ) {
+			expression.param( ID_UPPER_BOUND_PARAM_NAME, upperBoundExclusive );
+		}
+		return expression;
+	}
+
 	private <T> Query<T> createQueryWithConditionalExpression(SharedSessionContractImplementor session,
 			String hql, Class<T> returnedType, String entityAlias,
 			Set<? extends Class<? extends E>> includedTypesFilter, ConditionalExpression conditionalExpression) {
@@ -7,7 +7,10 @@
 package org.hibernate.search.mapper.orm.loading.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import org.hibernate.ScrollMode;
 import org.hibernate.ScrollableResults;
@@ -23,6 +26,129 @@
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	/**
+	 * Splits the identifier space into ranges of similar width,
+	 * based on the minimum and maximum identifier.
+	 * <p>
+	 * Only integer identifiers are supported, as we need to compute boundaries between the minimum and maximum.
+	 * Ranges may hold very different numbers of entities if identifiers are not evenly distributed,
+	 * but that's fine as long as there are enough ranges to keep all threads busy most of the time.
+	 *
+	 * @return The boundaries between ranges, in ascending order:
+	 * the first range includes all identifiers lower than the first boundary,
+	 * each following range includes identifiers from the previous boundary (inclusive) to the next boundary (exclusive),
+	 * and the last range includes all identifiers greater than or equal to the last boundary.
+	 * Empty if identifiers cannot be split into multiple ranges.
+	 */
+	public static List<Object> identifierRangeBoundaries(HibernateOrmQueryLoader<?, ?> typeQueryLoader,
+			HibernateOrmMassLoadingOptions options, SharedSessionContractImplementor session, int maxRangeCount) {
+		TransactionHelper transactionHelper = new TransactionHelper( session.getFactory(),
+				options.idLoadingTransactionTimeout() );
+		transactionHelper.begin( session );
+		Object[] bounds;
+		try {
+			bounds = typeQueryLoader.createIdentifierBoundsQuery( session )
+					.setCacheable( false ).uniqueResult();
+		}
+		catch (RuntimeException e) {
+			transactionHelper.rollbackSafely( session, e );
+			throw e;
+		}
+		transactionHelper.commit( session );
+
+		Object min = bounds[0];
+		Object max = bounds[1];
+		// min/max are null if there are no entities at all
+		if ( !isSupportedForRanges( min ) || !isSupportedForRanges( max ) ) {
+			log.debugf( "Cannot split identifiers into ranges: unsupported bounds [%s, %s]", min, max );
+			return Collections.emptyList();
+		}
+		BigInteger minValue = BigInteger.valueOf( ( (Number) min ).longValue() );
+		BigInteger width = BigInteger.valueOf( ( (Number) max ).longValue() ).subtract( minValue ).add( BigInteger.ONE );
+		// Don't create ranges that would be guaranteed to be empty
+		BigInteger rangeCount = width.min( BigInteger.valueOf( maxRangeCount ) );
+		List<Object> boundaries = new ArrayList<>( rangeCount.intValue() - 1 );
+		for ( int i = 1; i < rangeCount.intValue(); i++ ) {
+			long boundary = minValue.add( width.multiply( BigInteger.valueOf( i ) ).divide( rangeCount ) ).longValue();
+			boundaries.add( toIdentifierType( boundary, min ) );
+		}
+		log.debugf( "Split identifiers between %s and %s into %d ranges", min, max, boundaries.size() + 1 );
+		return boundaries;
+	}
+
+	/**
+	 * @return A string representation of the given identifier range,
+	 * which can be parsed back with {@link #parseIdentifierRangeDescriptor(String)}.
+	 */
+	public static String identifierRangeDescriptor(Object lowerBoundInclusive, Object upperBoundExclusive) {
+		Object sample = lowerBoundInclusive != null ? lowerBoundInclusive : upperBoundExclusive;
+		String type;
+		if ( sample instanceof Integer ) {
+			type = "I";
+		}
+		else if ( sample instanceof Short ) {
+			type = "S";
+		}
+		else {
+			type = "L";
+		}
+		return type + ":" + ( lowerBoundInclusive == null ? "" : lowerBoundInclusive )
+				+ ":" + ( upperBoundExclusive == null ? "" : upperBoundExclusive );
+	}
+
+	/**
+	 * @return An array containing the lower bound (inclusive) and upper bound (exclusive) of the range,
+	 * either of which may be {@code null}, or {@code null} if the descriptor cannot be parsed.
+	 */
+	public static Object[] parseIdentifierRangeDescriptor(String descriptor) {
+		if ( descriptor == null ) {
+			return null;
+		}
+		String[] parts = descriptor.split( ":", -1 );
+		if ( parts.length != 3 || parts[1].isEmpty() && parts[2].isEmpty() ) {
+			return null;
+		}
+		Object sample;
+		switch ( parts[0] ) {
+			case "I":
+				sample = 0;
+				break;
+			case "S":
+				sample = (short) 0;
+				break;
+			case "L":
+				sample = 0L;
+				break;
+			default:
+				return null;
+		}
+		try {
+			return new Object[] {
+					parts[1].isEmpty() ? null : toIdentifierType( Long.parseLong( parts[1] ), sample ),
+					parts[2].isEmpty() ? null : toIdentifierType( Long.parseLong( parts[2] ), sample )
+			};
+		}
+		catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	private static boolean isSupportedForRanges(Object identifier) {
+		return identifier instanceof Long || identifier instanceof Integer || identifier instanceof Short;
+	}
+
+	private static Object toIdentifierType(long value, Object identifierSample) {
+		if ( identifierSample instanceof Integer ) {
+			return (int) value;
+		}
+		else if ( identifierSample instanceof Short ) {
+			return (short) value;
+		}
+		else {
+			return value;
+		}
+	}
+
 	private final HibernateOrmMassLoadingOptions options;
 	private final PojoMassIdentifierSink<I> sink;
 	private final SharedSessionContractImplementor session;
@@ -22,10 +22,10 @@
 	private final ConditionalExpression conditionalExpression;
 
 	public HibernateOrmQueryLoader(TypeQueryFactory<E, I> queryFactory,
-			Set<Class<? extends E>> includedTypesFilter) {
+			EntityPersister persister, Set<Class<? extends E>> includedTypesFilter) {
 		this.queryFactory = queryFactory;
 		this.includedTypesFilter = includedTypesFilter;
-		this.persister = null;
+		this.persister = persister;
 		this.conditionalExpression = null;
 	}
 
@@ -54,6 +54,26 @@ public Query<I> createIdentifiersQuery(SharedSessionContractImplementor session)
 				);
 	}
 
+	public Query<Object[]> createIdentifierBoundsQuery(SharedSessionContractImplementor session) {
+		return queryFactory.createQueryForIdentifierBounds(
+				session, persister, includedTypesFilter, conditionalExpression
+		);
+	}
+
+	/**
+	 * @param lowerBoundInclusive The lower bound of identifiers, or {@code null} for no lower bound.
+	 * @param upperBoundExclusive The upper bound of identifiers, or {@code null} for no upper bound.
+	 * @return A query loader similar to this one, but whose count and identifier queries
+	 * only target entities whose identifier is within the given range.
+	 */
+	public HibernateOrmQueryLoader<E, I> restrictToIdentifierRange(Object lowerBoundInclusive,
+			Object upperBoundExclusive) {
+		ConditionalExpression rangeExpression = queryFactory.createIdentifierRangeExpression(
+				lowerBoundInclusive, upperBoundExclusive );
+		return new HibernateOrmQueryLoader<>( queryFactory, persister, includedTypesFilter,
+				conditionalExpression == null ? rangeExpression : conditionalExpression.and( rangeExpression ) );
+	}
+
 	public Query<E> createLoadingQuery(SessionImplementor session, String idParameterName) {
 		return queryFactory.createQueryForLoadByUniqueProperty( session, idParameterName );
 	}
@@ -47,6 +47,20 @@ Query<Long> createQueryForCount(SharedSessionContractImplementor session, Entity
 	Query<I> createQueryForIdentifierListing(SharedSessionContractImplementor session, EntityPersister persister,
 			Set<? extends Class<? extends E>> includedTypesFilter, ConditionalExpression conditionalExpression);
 
+	/**
+	 * @param conditionalExpression A conditional expression, or {@code null}.
+	 * @return A query returning the minimum and maximum value of the unique property, as a single row.
+	 */
+	Query<Object[]> createQueryForIdentifierBounds(SharedSessionContractImplementor session, EntityPersister persister,
+			Set<? extends Class<? extends E>> includedTypesFilter, ConditionalExpression conditionalExpression);
+
+	/**
+	 * @param lowerBoundInclusive The lower bound of the range, or {@code null} for no lower bound.
+	 * @param upperBoundExclusive The upper bound of the range, or {@code null} for no upper bound.
+	 * @return A conditional expression matching entities whose unique property is within the given range.
+	 */
+	ConditionalExpression createIdentifierRangeExpression(Object lowerBoundInclusive, Object upperBoundExclusive);
+
 	Query<E> createQueryForLoadByUniqueProperty(SessionImplementor session, String parameterName);
 
 	MultiIdentifierLoadAccess<E> createMultiIdentifierLoadAccess(SessionImplementor session);
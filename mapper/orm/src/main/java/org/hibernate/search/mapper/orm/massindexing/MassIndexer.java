@@ -10,6 +10,7 @@
 import java.util.concurrent.CompletionStage;
 
 import org.hibernate.CacheMode;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingCheckpointStore;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingFailureHandler;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingMonitor;
 import org.hibernate.search.util.common.annotation.Incubating;
@@ -50,6 +51,28 @@ public interface MassIndexer {
 	 */
 	MassIndexer threadsToLoadObjects(int numberOfThreads);
 
+	/**
+	 * Sets the number of partitions the identifiers of each entity type are split into,
+	 * each partition being loaded in parallel by a separate thread, in a separate transaction.
+	 * <p>
+	 * Partitions are ranges of identifiers of similar width, computed from the minimum and maximum identifier,
+	 * so this is only effective for entity types whose document identifier is an integer.
+	 * For other entity types, or when {@link #limitIndexedObjectsTo(long) limiting the number of indexed objects},
+	 * identifiers are always loaded by a single thread.
+	 * <p>
+	 * Useful when loading identifiers is the bottleneck,
+	 * i.e. when there are many entities and enough {@link #threadsToLoadObjects(int) threads to load objects}.
+	 * <p>
+	 * When {@link #checkpointRanges(int) more ranges are required for checkpoints},
+	 * this is the number of threads loading these ranges.
+	 * <p>
+	 * Defaults to {@code 1}.
+	 * @param partitionCount the maximum number of partitions
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	MassIndexer idLoadingPartitions(int partitionCount);
+
 	/**
 	 * Sets the batch size used to load the root entities.
 	 * @param batchSize the batch size
@@ -66,6 +89,23 @@ public interface MassIndexer {
 	 */
 	MassIndexer cacheMode(CacheMode cacheMode);
 
+	/**
+	 * Sets the number of batches of entities each entity loading thread may have in flight,
+	 * i.e. turned into documents and submitted to the backend but not yet indexed,
+	 * before it waits for the backend to catch up.
+	 * <p>
+	 * Higher values allow loading threads to keep loading entities and building documents
+	 * while the backend is indexing previous batches,
+	 * which helps when entity loading or document building is slow or inconsistent,
+	 * at the cost of keeping more entities in memory.
+	 * <p>
+	 * Defaults to {@code 2}.
+	 * @param batchCount the maximum number of batches in flight per entity loading thread
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	MassIndexer indexingBatchesInFlight(int batchCount);
+
 	/**
 	 * Merges each index into a single segment after indexing.
 	 * <p>
@@ -117,6 +157,55 @@ public interface MassIndexer {
 	 */
 	MassIndexer purgeAllOnStart(boolean purgeAll);
 
+	/**
+	 * Records checkpoints to the given store as mass indexing progresses,
+	 * so that it can be {@link #resumeFrom(MassIndexingCheckpointStore) resumed} after a crash.
+	 * <p>
+	 * A checkpoint is saved every time a range of identifiers is fully indexed;
+	 * see {@link #checkpointRanges(int)} to split identifiers into multiple ranges.
+	 * Any checkpoint already in the store is discarded when mass indexing starts,
+	 * and the checkpoint is cleared when mass indexing completes successfully.
+	 * @param store The checkpoint store, e.g. {@link MassIndexingCheckpointStore#file(java.nio.file.Path)}.
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	MassIndexer checkpointStore(MassIndexingCheckpointStore store);
+
+	/**
+	 * Resumes mass indexing from the checkpoint found in the given store, if any,
+	 * skipping identifier ranges that were already fully indexed,
+	 * and records further checkpoints to the same store.
+	 * <p>
+	 * When a checkpoint is found, indexes are neither purged nor dropped on start,
+	 * regardless of {@link #purgeAllOnStart(boolean)} and {@link #dropAndCreateSchemaOnStart(boolean)}.
+	 * When no checkpoint is found, this behaves exactly like {@link #checkpointStore(MassIndexingCheckpointStore)}.
+	 * @param store The checkpoint store.
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	MassIndexer resumeFrom(MassIndexingCheckpointStore store);
+
+	/**
+	 * Sets the minimum number of ranges the identifiers of each type are split into when recording checkpoints,
+	 * regardless of the number of threads and connections used to load identifiers,
+	 * which is set by {@link #idLoadingPartitions(int)}.
+	 * <p>
+	 * A checkpoint is saved every time a range is fully indexed,
+	 * so more ranges mean less work to do again when resuming, at the cost of more frequent flushes.
+	 * Ranges are computed from the minimum and maximum identifier,
+	 * so this only has an effect on entity types whose document identifier is an integer,
+	 * and only when the number of indexed objects is not limited.
+	 * <p>
+	 * This setting has no effect unless checkpoints are recorded,
+	 * see {@link #checkpointStore(MassIndexingCheckpointStore)} and {@link #resumeFrom(MassIndexingCheckpointStore)}.
+	 * <p>
+	 * Defaults to {@code 1}, i.e. as many ranges as {@link #idLoadingPartitions(int) ID loading partitions}.
+	 * @param rangeCount the minimum number of identifier ranges
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	MassIndexer checkpointRanges(int rangeCount);
+
 	/**
 	 * Stops indexing after having indexed a set amount of objects.
 	 * <p>
@@ -28,6 +28,13 @@ public void param(String name, Object value) {
 		params.put( name, value );
 	}
 
+	public ConditionalExpression and(ConditionalExpression other) {
+		ConditionalExpression result = new ConditionalExpression( "( " + hql + " ) and ( " + other.hql + " )" );
+		result.params.putAll( params );
+		result.params.putAll( other.params );
+		return result;
+	}
+
 	public void applyParams(Query<?> query) {
 		for ( Map.Entry<String, Object> entry : params.entrySet() ) {
 			query.setParameter( entry.getKey(), entry.getValue() );
@@ -11,6 +11,7 @@
 import org.hibernate.CacheMode;
 import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
 import org.hibernate.search.mapper.orm.massindexing.MassIndexerFilteringTypeStep;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingCheckpointStore;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingFailureHandler;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingMonitor;
 import org.hibernate.search.mapper.pojo.massindexing.spi.PojoMassIndexer;
@@ -55,12 +56,24 @@ public MassIndexer threadsToLoadObjects(int numberOfThreads) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer idLoadingPartitions(int partitionCount) {
+		delegate.idLoadingPartitions( partitionCount );
+		return this;
+	}
+
 	@Override
 	public HibernateOrmMassIndexer batchSizeToLoadObjects(int batchSize) {
 		context.objectLoadingBatchSize( batchSize );
 		return this;
 	}
 
+	@Override
+	public MassIndexer indexingBatchesInFlight(int batchCount) {
+		delegate.indexingBatchesInFlight( batchCount );
+		return this;
+	}
+
 	@Override
 	public MassIndexer mergeSegmentsOnFinish(boolean enable) {
 		delegate.mergeSegmentsOnFinish( enable );
@@ -85,6 +98,24 @@ public MassIndexer purgeAllOnStart(boolean purgeAll) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer checkpointStore(MassIndexingCheckpointStore store) {
+		delegate.checkpointStore( store );
+		return this;
+	}
+
+	@Override
+	public MassIndexer resumeFrom(MassIndexingCheckpointStore store) {
+		delegate.resumeFrom( store );
+		return this;
+	}
+
+	@Override
+	public MassIndexer checkpointRanges(int rangeCount) {
+		delegate.checkpointRanges( rangeCount );
+		return this;
+	}
+
 	@Override
 	public HibernateOrmMassIndexer limitIndexedObjectsTo(long maximum) {
 		context.objectsLimit( maximum );
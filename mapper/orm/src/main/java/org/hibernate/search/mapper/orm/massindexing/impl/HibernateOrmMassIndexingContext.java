@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.mapper.orm.massindexing.impl;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -33,6 +34,7 @@
 import org.hibernate.search.mapper.pojo.massindexing.spi.PojoMassIndexingContext;
 import org.hibernate.search.mapper.pojo.massindexing.spi.PojoMassIndexingEntityLoadingContext;
 import org.hibernate.search.mapper.pojo.massindexing.spi.PojoMassIndexingIdentifierLoadingContext;
+import org.hibernate.search.mapper.pojo.massindexing.spi.PojoMassIndexingIdentifierLoadingPartition;
 import org.hibernate.search.mapper.pojo.massindexing.spi.PojoMassIndexingLoadingStrategy;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
@@ -170,17 +172,85 @@ public int hashCode() {
 
 		@Override
 		public PojoMassIdentifierLoader createIdentifierLoader(PojoMassIndexingIdentifierLoadingContext<E, I> context) {
-			SessionFactoryImplementor sessionFactory = mappingContext.sessionFactory();
+			return createIdentifierLoader( createQueryLoader( context ), context );
+		}
+
+		@Override
+		public List<PojoMassIndexingIdentifierLoadingPartition<E, I>> createIdentifierLoadingPartitions(
+				PojoMassIndexingIdentifierLoadingContext<E, I> context, int maxPartitionCount) {
+			if ( maxPartitionCount == 1 || objectsLimit() != 0 ) {
+				// The objects limit applies to all identifiers taken together:
+				// we can't enforce it across partitions.
+				return PojoMassIndexingLoadingStrategy.super.createIdentifierLoadingPartitions( context,
+						maxPartitionCount );
+			}
+
+			HibernateOrmQueryLoader<E, I> typeQueryLoader = createQueryLoader( context );
+			List<Object> boundaries;
+			SharedSessionContractImplementor session = openStatelessSession();
+			try {
+				boundaries = HibernateOrmMassIdentifierLoader.identifierRangeBoundaries( typeQueryLoader,
+						HibernateOrmMassIndexingContext.this, session, maxPartitionCount );
+			}
+			catch (RuntimeException e) {
+				new SuppressingCloser( e ).push( SharedSessionContractImplementor::close, session );
+				throw e;
+			}
+			session.close();
+			if ( boundaries.isEmpty() ) {
+				return PojoMassIndexingLoadingStrategy.super.createIdentifierLoadingPartitions( context,
+						maxPartitionCount );
+			}
+
+			List<PojoMassIndexingIdentifierLoadingPartition<E, I>> partitions = new ArrayList<>( boundaries.size() + 1 );
+			Object lowerBound = null;
+			for ( int i = 0; i <= boundaries.size(); i++ ) {
+				Object upperBound = i < boundaries.size() ? boundaries.get( i ) : null;
+				partitions.add( new IdentifierRangePartition( typeQueryLoader, lowerBound, upperBound ) );
+				lowerBound = upperBound;
+			}
+			return partitions;
+		}
+
+		@Override
+		public List<PojoMassIndexingIdentifierLoadingPartition<E, I>> restoreIdentifierLoadingPartitions(
+				PojoMassIndexingIdentifierLoadingContext<E, I> context, List<String> descriptors) {
+			if ( descriptors.size() == 1 && descriptors.get( 0 ) == null ) {
+				return PojoMassIndexingLoadingStrategy.super.restoreIdentifierLoadingPartitions( context, descriptors );
+			}
+			if ( objectsLimit() != 0 ) {
+				return null;
+			}
+			HibernateOrmQueryLoader<E, I> typeQueryLoader = createQueryLoader( context );
+			List<PojoMassIndexingIdentifierLoadingPartition<E, I>> partitions = new ArrayList<>( descriptors.size() );
+			for ( String descriptor : descriptors ) {
+				Object[] bounds = HibernateOrmMassIdentifierLoader.parseIdentifierRangeDescriptor( descriptor );
+				if ( bounds == null ) {
+					return null;
+				}
+				partitions.add( new IdentifierRangePartition( typeQueryLoader, bounds[0], bounds[1] ) );
+			}
+			return partitions;
+		}
+
+		private HibernateOrmQueryLoader<E, I> createQueryLoader(PojoMassIndexingIdentifierLoadingContext<E, I> context) {
 			List<LoadingTypeContext<? extends E>> typeContexts = context.includedTypes().stream()
 					.map( typeContextProvider::forExactType )
 					.collect( Collectors.toList() );
+			return delegate.createQueryLoader( typeContexts, conditionalExpression );
+		}
 
-			HibernateOrmQueryLoader<E, I> typeQueryLoader = delegate.createQueryLoader(
-					typeContexts, conditionalExpression );
-			SharedSessionContractImplementor session = (SharedSessionContractImplementor) sessionFactory
+		private SharedSessionContractImplementor openStatelessSession() {
+			SessionFactoryImplementor sessionFactory = mappingContext.sessionFactory();
+			return (SharedSessionContractImplementor) sessionFactory
 					.withStatelessOptions()
 					.tenantIdentifier( sessionContext.tenantIdentifier() )
 					.openStatelessSession();
+		}
+
+		private PojoMassIdentifierLoader createIdentifierLoader(HibernateOrmQueryLoader<E, I> typeQueryLoader,
+				PojoMassIndexingIdentifierLoadingContext<E, I> context) {
+			SharedSessionContractImplementor session = openStatelessSession();
 			try {
 				PojoMassIdentifierSink<I> sink = context.createSink();
 				return new HibernateOrmMassIdentifierLoader<>( typeQueryLoader,
@@ -192,6 +262,29 @@ public PojoMassIdentifierLoader createIdentifierLoader(PojoMassIndexingIdentifie
 			}
 		}
 
+		private final class IdentifierRangePartition implements PojoMassIndexingIdentifierLoadingPartition<E, I> {
+			private final HibernateOrmQueryLoader<E, I> rangeQueryLoader;
+			private final String descriptor;
+
+			private IdentifierRangePartition(HibernateOrmQueryLoader<E, I> typeQueryLoader,
+					Object lowerBoundInclusive, Object upperBoundExclusive) {
+				this.rangeQueryLoader = typeQueryLoader.restrictToIdentifierRange( lowerBoundInclusive,
+						upperBoundExclusive );
+				this.descriptor = HibernateOrmMassIdentifierLoader.identifierRangeDescriptor( lowerBoundInclusive,
+						upperBoundExclusive );
+			}
+
+			@Override
+			public PojoMassIdentifierLoader createIdentifierLoader(PojoMassIndexingIdentifierLoadingContext<E, I> context) {
+				return HibernateOrmMassIndexingLoadingStrategy.this.createIdentifierLoader( rangeQueryLoader, context );
+			}
+
+			@Override
+			public String descriptor() {
+				return descriptor;
+			}
+		}
+
 		@Override
 		public PojoMassEntityLoader<I> createEntityLoader(PojoMassIndexingEntityLoadingContext<E> context) {
 			SessionFactoryImplementor sessionFactory = mappingContext.sessionFactory();
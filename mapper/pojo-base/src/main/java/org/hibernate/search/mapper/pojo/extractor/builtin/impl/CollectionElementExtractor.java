@@ -8,7 +8,11 @@
 
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
 
+import org.hibernate.search.mapper.pojo.extractor.ContainerExtractionContext;
+import org.hibernate.search.mapper.pojo.extractor.ValueProcessor;
 import org.hibernate.search.mapper.pojo.extractor.builtin.BuiltinContainerExtractors;
 
 public class CollectionElementExtractor<T> extends AbstractIteratorBasedElementExtractor<Collection<T>, T> {
@@ -17,8 +21,45 @@ public String toString() {
 		return BuiltinContainerExtractors.COLLECTION;
 	}
 
+	@Override
+	public <T1, C2> void extract(Collection<T> container, ValueProcessor<T1, ? super T, C2> perValueProcessor,
+			T1 target, C2 context, ContainerExtractionContext extractionContext) {
+		if ( container instanceof RandomAccess && container instanceof List ) {
+			// Avoid allocating an iterator for lists that support fast random access, e.g. ArrayList.
+			extractFromRandomAccessList( (List<T>) container, perValueProcessor, target, context, extractionContext );
+		}
+		else {
+			super.extract( container, perValueProcessor, target, context, extractionContext );
+		}
+	}
+
 	@Override
 	protected Iterator<T> iterator(Collection<T> container) {
 		return container.iterator();
 	}
+
+	private <T1, C2> void extractFromRandomAccessList(List<T> container,
+			ValueProcessor<T1, ? super T, C2> perValueProcessor, T1 target, C2 context,
+			ContainerExtractionContext extractionContext) {
+		int size;
+		try {
+			size = container.size();
+		}
+		catch (RuntimeException e) {
+			extractionContext.propagateOrIgnoreContainerExtractionException( e );
+			return;
+		}
+		for ( int i = 0; i < size; i++ ) {
+			T element;
+			try {
+				element = container.get( i );
+			}
+			catch (RuntimeException e) {
+				extractionContext.propagateOrIgnoreContainerExtractionException( e );
+				// Abort extraction completely, consistently with iterator-based extraction.
+				return;
+			}
+			perValueProcessor.process( target, element, context, extractionContext );
+		}
+	}
 }
@@ -724,4 +724,17 @@ SearchException infiniteRecursionForProjectionConstructor(
 			value = "Exception while retrieving the Jandex index for JAR '%1$s': %2$s")
 	SearchException errorDiscoveringJandexIndex(Path jarPath, String causeMessage, @Cause Exception cause);
 
+	@Message(id = ID_OFFSET + 120,
+			value = "Unable to load the mass indexing checkpoint from %1$s: %2$s")
+	SearchException unableToLoadMassIndexingCheckpoint(Object store, String causeMessage, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET + 121,
+			value = "Unable to save the mass indexing checkpoint to %1$s: %2$s")
+	SearchException unableToSaveMassIndexingCheckpoint(Object store, String causeMessage, @Cause Exception cause);
+
+	@LogMessage(level = Logger.Level.INFO)
+	@Message(id = ID_OFFSET + 122,
+			value = "Resuming mass indexing of '%1$s' from checkpoint: skipping %2$d out of %3$d identifier partition(s).")
+	void resumingMassIndexingFromCheckpoint(String groupName, int completedPartitionCount, int partitionCount);
+
 }
@@ -0,0 +1,71 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.massindexing;
+
+import java.nio.file.Path;
+import javax.sql.DataSource;
+
+import org.hibernate.search.mapper.pojo.massindexing.impl.FileMassIndexingCheckpointStore;
+import org.hibernate.search.mapper.pojo.massindexing.impl.JdbcMassIndexingCheckpointStore;
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * A store for mass indexing checkpoints,
+ * i.e. records of the identifier ranges that were fully indexed so far,
+ * allowing to resume mass indexing after a crash instead of starting over.
+ * <p>
+ * Checkpoints are opaque strings: stores only need to persist them as-is.
+ * <p>
+ * Implementations must be threadsafe.
+ */
+@Incubating
+public interface MassIndexingCheckpointStore {
+
+	/**
+	 * @return The checkpoint saved last, or {@code null} if there is none.
+	 */
+	String load();
+
+	/**
+	 * Saves a checkpoint, replacing any previously saved checkpoint.
+	 *
+	 * @param checkpoint The checkpoint to save.
+	 */
+	void save(String checkpoint);
+
+	/**
+	 * Removes the checkpoint saved last, if any.
+	 * <p>
+	 * Called when mass indexing completes successfully.
+	 */
+	void clear();
+
+	/**
+	 * @param path The path to a local file.
+	 * The file will be created when the first checkpoint is saved,
+	 * and deleted when mass indexing completes successfully.
+	 * @return A store that saves checkpoints to the given file.
+	 */
+	static MassIndexingCheckpointStore file(Path path) {
+		return new FileMassIndexingCheckpointStore( path );
+	}
+
+	/**
+	 * @param dataSource The datasource to get connections from.
+	 * @param tableName The name of the table to save checkpoints to.
+	 * The table must exist and have at least two columns:
+	 * {@code name}, a character column that is the primary key,
+	 * and {@code content}, a large character column (e.g. {@code clob}).
+	 * @param checkpointName The name of the checkpoint, i.e. the value of the {@code name} column,
+	 * allowing to use the same table for multiple, independent mass indexing processes.
+	 * @return A store that saves checkpoints to the given database table.
+	 */
+	static MassIndexingCheckpointStore jdbc(DataSource dataSource, String tableName, String checkpointName) {
+		return new JdbcMassIndexingCheckpointStore( dataSource, tableName, checkpointName );
+	}
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.massindexing.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import org.hibernate.search.mapper.pojo.logging.impl.Log;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingCheckpointStore;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+public final class FileMassIndexingCheckpointStore implements MassIndexingCheckpointStore {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final Path path;
+
+	public FileMassIndexingCheckpointStore(Path path) {
+		this.path = path.toAbsolutePath();
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[path=" + path + "]";
+	}
+
+	@Override
+	public synchronized String load() {
+		try {
+			if ( !Files.exists( path ) ) {
+				return null;
+			}
+			return new String( Files.readAllBytes( path ), StandardCharsets.UTF_8 );
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.unableToLoadMassIndexingCheckpoint( this, e.getMessage(), e );
+		}
+	}
+
+	@Override
+	public synchronized void save(String checkpoint) {
+		try {
+			// Write to a temporary file then move it,
+			// so that a crash while writing doesn't leave us with a corrupt checkpoint.
+			Path tempPath = path.resolveSibling( path.getFileName() + ".tmp" );
+			Files.write( tempPath, checkpoint.getBytes( StandardCharsets.UTF_8 ) );
+			Files.move( tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.unableToSaveMassIndexingCheckpoint( this, e.getMessage(), e );
+		}
+	}
+
+	@Override
+	public synchronized void clear() {
+		try {
+			Files.deleteIfExists( path );
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.unableToSaveMassIndexingCheckpoint( this, e.getMessage(), e );
+		}
+	}
+}
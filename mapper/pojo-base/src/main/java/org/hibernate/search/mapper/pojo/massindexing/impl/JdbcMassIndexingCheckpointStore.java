@@ -0,0 +1,103 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.massindexing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+
+import org.hibernate.search.mapper.pojo.logging.impl.Log;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingCheckpointStore;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+public final class JdbcMassIndexingCheckpointStore implements MassIndexingCheckpointStore {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final DataSource dataSource;
+	private final String tableName;
+	private final String checkpointName;
+
+	public JdbcMassIndexingCheckpointStore(DataSource dataSource, String tableName, String checkpointName) {
+		this.dataSource = dataSource;
+		this.tableName = tableName;
+		this.checkpointName = checkpointName;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[tableName=" + tableName + ", checkpointName=" + checkpointName + "]";
+	}
+
+	@Override
+	public String load() {
+		try ( Connection connection = dataSource.getConnection();
+				PreparedStatement statement = connection.prepareStatement(
+						"select content from " + tableName + " where name = ?" ) ) {
+			statement.setString( 1, checkpointName );
+			String result = null;
+			try ( ResultSet resultSet = statement.executeQuery() ) {
+				if ( resultSet.next() ) {
+					result = resultSet.getString( 1 );
+				}
+			}
+			commitIfNecessary( connection );
+			return result;
+		}
+		catch (SQLException | RuntimeException e) {
+			throw log.unableToLoadMassIndexingCheckpoint( this, e.getMessage(), e );
+		}
+	}
+
+	@Override
+	public void save(String checkpoint) {
+		try ( Connection connection = dataSource.getConnection() ) {
+			int updatedRows;
+			try ( PreparedStatement statement = connection.prepareStatement(
+					"update " + tableName + " set content = ? where name = ?" ) ) {
+				statement.setString( 1, checkpoint );
+				statement.setString( 2, checkpointName );
+				updatedRows = statement.executeUpdate();
+			}
+			if ( updatedRows == 0 ) {
+				try ( PreparedStatement statement = connection.prepareStatement(
+						"insert into " + tableName + " (name, content) values (?, ?)" ) ) {
+					statement.setString( 1, checkpointName );
+					statement.setString( 2, checkpoint );
+					statement.executeUpdate();
+				}
+			}
+			commitIfNecessary( connection );
+		}
+		catch (SQLException | RuntimeException e) {
+			throw log.unableToSaveMassIndexingCheckpoint( this, e.getMessage(), e );
+		}
+	}
+
+	@Override
+	public void clear() {
+		try ( Connection connection = dataSource.getConnection();
+				PreparedStatement statement = connection.prepareStatement(
+						"delete from " + tableName + " where name = ?" ) ) {
+			statement.setString( 1, checkpointName );
+			statement.executeUpdate();
+			commitIfNecessary( connection );
+		}
+		catch (SQLException | RuntimeException e) {
+			throw log.unableToSaveMassIndexingCheckpoint( this, e.getMessage(), e );
+		}
+	}
+
+	private static void commitIfNecessary(Connection connection) throws SQLException {
+		if ( !connection.getAutoCommit() ) {
+			connection.commit();
+		}
+	}
+}
@@ -12,6 +12,7 @@
 import java.util.concurrent.ExecutorService;
 
 import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingCheckpointStore;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingFailureHandler;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingMonitor;
 import org.hibernate.search.mapper.pojo.massindexing.spi.PojoMassIndexingContext;
@@ -42,10 +43,15 @@ public class PojoDefaultMassIndexer implements PojoMassIndexer {
 	// default settings defined here:
 	private int typesToIndexInParallel = 1;
 	private int documentBuilderThreads = 6;
+	private int idLoadingPartitions = 1;
+	private int indexingBatchesInFlight = 2;
+	private int checkpointRanges = 1;
 	private boolean mergeSegmentsOnFinish = false;
 	private boolean dropAndCreateSchemaOnStart = false;
 	private boolean purgeAtStart = true;
 	private boolean mergeSegmentsAfterPurge = true;
+	private MassIndexingCheckpointStore checkpointStore;
+	private boolean resumeFromCheckpoint = false;
 
 	private MassIndexingFailureHandler failureHandler;
 	private MassIndexingMonitor monitor;
@@ -84,6 +90,33 @@ public PojoDefaultMassIndexer threadsToLoadObjects(int numberOfThreads) {
 		return this;
 	}
 
+	@Override
+	public PojoDefaultMassIndexer idLoadingPartitions(int partitionCount) {
+		if ( partitionCount < 1 ) {
+			throw new IllegalArgumentException( "partitionCount must be at least 1" );
+		}
+		this.idLoadingPartitions = partitionCount;
+		return this;
+	}
+
+	@Override
+	public PojoDefaultMassIndexer checkpointRanges(int rangeCount) {
+		if ( rangeCount < 1 ) {
+			throw new IllegalArgumentException( "rangeCount must be at least 1" );
+		}
+		this.checkpointRanges = rangeCount;
+		return this;
+	}
+
+	@Override
+	public PojoDefaultMassIndexer indexingBatchesInFlight(int batchCount) {
+		if ( batchCount < 1 ) {
+			throw new IllegalArgumentException( "batchCount must be at least 1" );
+		}
+		this.indexingBatchesInFlight = batchCount;
+		return this;
+	}
+
 	@Override
 	public PojoDefaultMassIndexer mergeSegmentsOnFinish(boolean enable) {
 		this.mergeSegmentsOnFinish = enable;
@@ -108,6 +141,20 @@ public PojoDefaultMassIndexer purgeAllOnStart(boolean enable) {
 		return this;
 	}
 
+	@Override
+	public PojoDefaultMassIndexer checkpointStore(MassIndexingCheckpointStore store) {
+		this.checkpointStore = store;
+		this.resumeFromCheckpoint = false;
+		return this;
+	}
+
+	@Override
+	public PojoDefaultMassIndexer resumeFrom(MassIndexingCheckpointStore store) {
+		this.checkpointStore = store;
+		this.resumeFromCheckpoint = true;
+		return this;
+	}
+
 	@Override
 	public PojoDefaultMassIndexer monitor(MassIndexingMonitor monitor) {
 		this.monitor = monitor;
@@ -156,13 +203,30 @@ private PojoMassIndexingBatchCoordinator createCoordinator() {
 				getOrCreateFailureHandler(),
 				getOrCreateMonitor()
 		);
+		PojoMassIndexingCheckpointRecorder checkpointRecorder = null;
+		boolean resuming = false;
+		if ( checkpointStore != null && resumeFromCheckpoint ) {
+			checkpointRecorder = PojoMassIndexingCheckpointRecorder.resume( checkpointStore, scopeWorkspace );
+			resuming = checkpointRecorder != null;
+		}
+		if ( checkpointStore != null && checkpointRecorder == null ) {
+			checkpointRecorder = PojoMassIndexingCheckpointRecorder.start( checkpointStore, scopeWorkspace );
+		}
+		// Checkpoints are recorded per identifier range,
+		// so the number of ranges is independent of the number of threads loading them.
+		int identifierRanges = checkpointRecorder == null ? idLoadingPartitions
+				: Math.max( idLoadingPartitions, checkpointRanges );
 		return new PojoMassIndexingBatchCoordinator(
 				mappingContext,
 				notifier,
 				typeGroupsToIndex, scopeSchemaManager, detachedSession, scopeWorkspace,
-				typesToIndexInParallel, documentBuilderThreads,
-				mergeSegmentsOnFinish, dropAndCreateSchemaOnStart,
-				purgeAtStart, mergeSegmentsAfterPurge
+				typesToIndexInParallel, documentBuilderThreads, identifierRanges, idLoadingPartitions,
+				indexingBatchesInFlight,
+				mergeSegmentsOnFinish,
+				// When resuming, documents indexed before the checkpoint must be preserved.
+				dropAndCreateSchemaOnStart && !resuming,
+				purgeAtStart && !resuming, mergeSegmentsAfterPurge,
+				checkpointRecorder, resuming
 		);
 	}
 
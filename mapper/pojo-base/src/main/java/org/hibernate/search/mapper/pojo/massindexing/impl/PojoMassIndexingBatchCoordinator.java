@@ -42,10 +42,15 @@ public class PojoMassIndexingBatchCoordinator extends PojoMassIndexingFailureHan
 
 	private final int typesToIndexInParallel;
 	private final int documentBuilderThreads;
+	private final int identifierRanges;
+	private final int idLoadingThreads;
+	private final int indexingBatchesInFlight;
 	private final boolean mergeSegmentsOnFinish;
 	private final boolean dropAndCreateSchemaOnStart;
 	private final boolean purgeAtStart;
 	private final boolean mergeSegmentsAfterPurge;
+	private final PojoMassIndexingCheckpointRecorder checkpointRecorder;
+	private final boolean resuming;
 
 	private final List<CompletableFuture<?>> indexingFutures = new ArrayList<>();
 	private PojoMassIndexerAgent agent;
@@ -56,8 +61,11 @@ public PojoMassIndexingBatchCoordinator(PojoMassIndexingMappingContext mappingCo
 			PojoScopeSchemaManager scopeSchemaManager,
 			DetachedBackendSessionContext detachedSession,
 			PojoScopeWorkspace scopeWorkspace,
-			int typesToIndexInParallel, int documentBuilderThreads, boolean mergeSegmentsOnFinish,
-			boolean dropAndCreateSchemaOnStart, boolean purgeAtStart, boolean mergeSegmentsAfterPurge) {
+			int typesToIndexInParallel, int documentBuilderThreads, int identifierRanges, int idLoadingThreads,
+			int indexingBatchesInFlight,
+			boolean mergeSegmentsOnFinish,
+			boolean dropAndCreateSchemaOnStart, boolean purgeAtStart, boolean mergeSegmentsAfterPurge,
+			PojoMassIndexingCheckpointRecorder checkpointRecorder, boolean resuming) {
 		super( notifier );
 		this.mappingContext = mappingContext;
 		this.typeGroupsToIndex = typeGroupsToIndex;
@@ -67,10 +75,15 @@ public PojoMassIndexingBatchCoordinator(PojoMassIndexingMappingContext mappingCo
 		this.scopeWorkspace = scopeWorkspace;
 		this.typesToIndexInParallel = typesToIndexInParallel;
 		this.documentBuilderThreads = documentBuilderThreads;
+		this.identifierRanges = identifierRanges;
+		this.idLoadingThreads = idLoadingThreads;
+		this.indexingBatchesInFlight = indexingBatchesInFlight;
 		this.mergeSegmentsOnFinish = mergeSegmentsOnFinish;
 		this.dropAndCreateSchemaOnStart = dropAndCreateSchemaOnStart;
 		this.purgeAtStart = purgeAtStart;
 		this.mergeSegmentsAfterPurge = mergeSegmentsAfterPurge;
+		this.checkpointRecorder = checkpointRecorder;
+		this.resuming = resuming;
 	}
 
 	@Override
@@ -145,7 +158,8 @@ private void doBatchWork() throws InterruptedException {
 		return new PojoMassIndexingBatchIndexingWorkspace<>(
 				mappingContext, getNotifier(), typeGroup,
 				typeGroup.loadingStrategy(),
-				documentBuilderThreads );
+				documentBuilderThreads, identifierRanges, idLoadingThreads, indexingBatchesInFlight,
+				checkpointRecorder, resuming );
 	}
 
 	/**
@@ -156,6 +170,10 @@ private void afterBatch() throws InterruptedException {
 			Futures.unwrappedExceptionGet( scopeWorkspace.mergeSegments() );
 		}
 		flushAndRefresh();
+		if ( checkpointRecorder != null && !getNotifier().hasFailure() ) {
+			// Everything was indexed: there is nothing left to resume.
+			checkpointRecorder.clear();
+		}
 		Futures.unwrappedExceptionGet( agent.preStop() );
 		agent.stop();
 		agent = null;
@@ -8,14 +8,22 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import java.util.concurrent.ThreadPoolExecutor;
 
+import org.hibernate.search.mapper.pojo.loading.spi.PojoMassIdentifierSink;
+import org.hibernate.search.mapper.pojo.massindexing.spi.PojoMassIndexingIdentifierLoadingContext;
+import org.hibernate.search.mapper.pojo.massindexing.spi.PojoMassIndexingIdentifierLoadingPartition;
 import org.hibernate.search.mapper.pojo.massindexing.spi.PojoMassIndexingLoadingStrategy;
 import org.hibernate.search.mapper.pojo.logging.impl.Log;
 import org.hibernate.search.mapper.pojo.massindexing.spi.PojoMassIndexingMappingContext;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -41,17 +49,28 @@
 	private final PojoMassIndexingLoadingStrategy<E, I> loadingStrategy;
 
 	private final int entityExtractingThreads;
+	private final int identifierRanges;
+	private final int idLoadingThreads;
+	private final int indexingBatchesInFlight;
+	private final PojoMassIndexingCheckpointRecorder checkpointRecorder;
+	private final boolean resuming;
 
 	PojoMassIndexingBatchIndexingWorkspace(PojoMassIndexingMappingContext mappingContext,
 			PojoMassIndexingNotifier notifier,
 			PojoMassIndexingIndexedTypeGroup<E> typeGroup,
 			PojoMassIndexingLoadingStrategy<E, I> loadingStrategy,
-			int entityExtractingThreads) {
+			int entityExtractingThreads, int identifierRanges, int idLoadingThreads, int indexingBatchesInFlight,
+			PojoMassIndexingCheckpointRecorder checkpointRecorder, boolean resuming) {
 		super( notifier );
 		this.mappingContext = mappingContext;
 		this.typeGroup = typeGroup;
 		this.loadingStrategy = loadingStrategy;
 		this.entityExtractingThreads = entityExtractingThreads;
+		this.identifierRanges = identifierRanges;
+		this.idLoadingThreads = idLoadingThreads;
+		this.indexingBatchesInFlight = indexingBatchesInFlight;
+		this.checkpointRecorder = checkpointRecorder;
+		this.resuming = resuming;
 	}
 
 	@Override
@@ -60,11 +79,54 @@ public void runWithFailureHandler() throws InterruptedException {
 			throw new AssertionFailure( "BatchIndexingWorkspace instance not expected to be reused" );
 		}
 
-		PojoProducerConsumerQueue<List<I>> identifierQueue = new PojoProducerConsumerQueue<>( 1 );
+		PartitioningContext partitioningContext = new PartitioningContext();
+		List<PojoMassIndexingIdentifierLoadingPartition<E, I>> partitions = null;
+		BitSet completedPartitions = new BitSet();
+		String checkpointKey = typeGroup.checkpointKey();
+		if ( checkpointRecorder != null ) {
+			List<String> restoredDescriptors = checkpointRecorder.restoredPartitionDescriptors( checkpointKey );
+			if ( restoredDescriptors != null ) {
+				partitions = loadingStrategy.restoreIdentifierLoadingPartitions( partitioningContext,
+						restoredDescriptors );
+				if ( partitions != null ) {
+					completedPartitions = checkpointRecorder.restoredCompletedPartitions( checkpointKey );
+				}
+			}
+		}
+		if ( partitions == null ) {
+			partitions = loadingStrategy.createIdentifierLoadingPartitions( partitioningContext, identifierRanges );
+		}
+		if ( checkpointRecorder != null ) {
+			List<String> descriptors = new ArrayList<>( partitions.size() );
+			for ( PojoMassIndexingIdentifierLoadingPartition<E, I> partition : partitions ) {
+				descriptors.add( partition.descriptor() );
+			}
+			checkpointRecorder.startGroup( checkpointKey, descriptors, completedPartitions );
+			if ( !completedPartitions.isEmpty() ) {
+				log.resumingMassIndexingFromCheckpoint( typeGroup.notifiedGroupName(),
+						completedPartitions.cardinality(), partitions.size() );
+			}
+		}
+
+		Map<Integer, PojoMassIndexingIdentifierLoadingPartition<E, I>> partitionsToLoad = new LinkedHashMap<>();
+		for ( int i = 0; i < partitions.size(); i++ ) {
+			if ( !completedPartitions.get( i ) ) {
+				partitionsToLoad.put( i, partitions.get( i ) );
+			}
+		}
+		if ( partitionsToLoad.isEmpty() ) {
+			log.debugf( "All identifier partitions for %s were already indexed", typeGroup.notifiedGroupName() );
+			return;
+		}
+		log.debugf( "Loading identifiers for %s using %d partition(s)", typeGroup.notifiedGroupName(),
+				partitionsToLoad.size() );
+
+		PojoProducerConsumerQueue<PojoMassIndexingIdentifierBatch<I>> identifierQueue =
+				new PojoProducerConsumerQueue<>( partitionsToLoad.size() );
 
 		// First start the consumers, then the producers (reverse order):
 		startIndexing( identifierQueue );
-		startProducingPrimaryKeys( identifierQueue );
+		startProducingPrimaryKeys( checkpointKey, partitionsToLoad, identifierQueue );
 		// Wait for indexing to finish.
 		List<CompletableFuture<?>> allFutures = new ArrayList<>();
 		allFutures.addAll( identifierProducingFutures );
@@ -93,25 +155,32 @@ private void cancelPendingTasks() {
 		}
 	}
 
-	private void startProducingPrimaryKeys(PojoProducerConsumerQueue<List<I>> identifierQueue) {
-		final Runnable runnable = new PojoMassIndexingEntityIdentifierLoadingRunnable<>( getNotifier(), typeGroup,
-				loadingStrategy, identifierQueue );
-		//execIdentifiersLoader has size 1 and is not configurable: ensures the list is consistent as produced by one transaction
+	private void startProducingPrimaryKeys(String checkpointKey,
+			Map<Integer, PojoMassIndexingIdentifierLoadingPartition<E, I>> partitions,
+			PojoProducerConsumerQueue<PojoMassIndexingIdentifierBatch<I>> identifierQueue) {
+		//execIdentifiersLoader runs each partition in a single thread: ensures each partition is consistent as produced by one transaction
+		//there may be more partitions than threads, in which case partitions are loaded one after the other
 		final ThreadPoolExecutor identifierProducingExecutor = mappingContext.threadPoolProvider().newFixedThreadPool(
-				1,
+				Math.min( idLoadingThreads, partitions.size() ),
 				THREAD_NAME_PREFIX + typeGroup.notifiedGroupName() + " - ID loading"
 		);
 		try {
-			identifierProducingFutures.add( Futures.runAsync( runnable, identifierProducingExecutor ) );
+			for ( Map.Entry<Integer, PojoMassIndexingIdentifierLoadingPartition<E, I>> entry : partitions.entrySet() ) {
+				PojoMassIndexingPartitionProgress progress = checkpointRecorder == null ? null
+						: checkpointRecorder.partitionProgress( checkpointKey, entry.getKey() );
+				final Runnable runnable = new PojoMassIndexingEntityIdentifierLoadingRunnable<>( getNotifier(),
+						typeGroup, entry.getValue(), progress, identifierQueue );
+				identifierProducingFutures.add( Futures.runAsync( runnable, identifierProducingExecutor ) );
+			}
 		}
 		finally {
 			identifierProducingExecutor.shutdown();
 		}
 	}
 
-	private void startIndexing(PojoProducerConsumerQueue<List<I>> identifierQueue) {
+	private void startIndexing(PojoProducerConsumerQueue<PojoMassIndexingIdentifierBatch<I>> identifierQueue) {
 		final Runnable runnable = new PojoMassIndexingEntityLoadingRunnable<>( getNotifier(), typeGroup,
-				loadingStrategy, identifierQueue );
+				loadingStrategy, identifierQueue, indexingBatchesInFlight, resuming );
 		final ThreadPoolExecutor indexingExecutor = mappingContext.threadPoolProvider().newFixedThreadPool(
 				entityExtractingThreads,
 				THREAD_NAME_PREFIX + typeGroup.notifiedGroupName() + " - Entity loading"
@@ -125,4 +194,16 @@ private void startIndexing(PojoProducerConsumerQueue<List<I>> identifierQueue) {
 			indexingExecutor.shutdown();
 		}
 	}
+
+	private class PartitioningContext implements PojoMassIndexingIdentifierLoadingContext<E, I> {
+		@Override
+		public Set<PojoRawTypeIdentifier<? extends E>> includedTypes() {
+			return typeGroup.includedTypesIdentifiers();
+		}
+
+		@Override
+		public PojoMassIdentifierSink<I> createSink() {
+			throw new AssertionFailure( "Sinks must not be created while partitioning identifiers" );
+		}
+	}
 }
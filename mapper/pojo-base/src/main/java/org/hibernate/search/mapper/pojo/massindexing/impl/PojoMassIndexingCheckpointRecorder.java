@@ -0,0 +1,201 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.massindexing.impl;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.hibernate.search.mapper.pojo.logging.impl.Log;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingCheckpointStore;
+import org.hibernate.search.mapper.pojo.work.spi.PojoScopeWorkspace;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Records which identifier loading partitions were fully indexed,
+ * saving a checkpoint to a {@link MassIndexingCheckpointStore} every time a partition completes.
+ * <p>
+ * Checkpoints are serialized as {@link Properties}, with the following keys:
+ * <ul>
+ *     <li>{@code group.<g>.name}: the {@link PojoMassIndexingIndexedTypeGroup#checkpointKey() key} of group {@code g}.</li>
+ *     <li>{@code group.<g>.partition.count}: the number of partitions in group {@code g}.</li>
+ *     <li>{@code group.<g>.partition.<p>.descriptor}: the descriptor of partition {@code p},
+ *     absent if the partition has no descriptor.</li>
+ *     <li>{@code group.<g>.partition.<p>.completed}: {@code true} if partition {@code p} was fully indexed.</li>
+ * </ul>
+ */
+public final class PojoMassIndexingCheckpointRecorder {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	public static PojoMassIndexingCheckpointRecorder start(MassIndexingCheckpointStore store,
+			PojoScopeWorkspace scopeWorkspace) {
+		store.clear();
+		return new PojoMassIndexingCheckpointRecorder( store, scopeWorkspace, Collections.emptyMap() );
+	}
+
+	/**
+	 * @return A recorder initialized with the checkpoint found in the given store,
+	 * or {@code null} if there is no such checkpoint.
+	 */
+	public static PojoMassIndexingCheckpointRecorder resume(MassIndexingCheckpointStore store,
+			PojoScopeWorkspace scopeWorkspace) {
+		String checkpoint = store.load();
+		if ( checkpoint == null ) {
+			return null;
+		}
+		return new PojoMassIndexingCheckpointRecorder( store, scopeWorkspace, parse( store, checkpoint ) );
+	}
+
+	private final MassIndexingCheckpointStore store;
+	private final PojoScopeWorkspace scopeWorkspace;
+	private final Map<String, GroupState> restoredGroups;
+	// Guarded by this
+	private final Map<String, GroupState> groups = new LinkedHashMap<>();
+
+	private PojoMassIndexingCheckpointRecorder(MassIndexingCheckpointStore store, PojoScopeWorkspace scopeWorkspace,
+			Map<String, GroupState> restoredGroups) {
+		this.store = store;
+		this.scopeWorkspace = scopeWorkspace;
+		this.restoredGroups = restoredGroups;
+		// Keep track of restored groups until they are started,
+		// so that they are not lost if we crash again before that.
+		for ( Map.Entry<String, GroupState> entry : restoredGroups.entrySet() ) {
+			GroupState restored = entry.getValue();
+			GroupState state = new GroupState( new ArrayList<>( restored.descriptors ) );
+			state.completed.or( restored.completed );
+			groups.put( entry.getKey(), state );
+		}
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[store=" + store + "]";
+	}
+
+	/**
+	 * @param groupKey The key of a type group.
+	 * @return The descriptors of partitions for this group as recorded in the restored checkpoint,
+	 * or {@code null} if the restored checkpoint does not mention this group.
+	 */
+	public List<String> restoredPartitionDescriptors(String groupKey) {
+		GroupState state = restoredGroups.get( groupKey );
+		return state == null ? null : Collections.unmodifiableList( state.descriptors );
+	}
+
+	/**
+	 * @param groupKey The key of a type group.
+	 * @return The indexes of partitions for this group that were completed according to the restored checkpoint.
+	 */
+	public BitSet restoredCompletedPartitions(String groupKey) {
+		GroupState state = restoredGroups.get( groupKey );
+		return state == null ? new BitSet() : (BitSet) state.completed.clone();
+	}
+
+	public synchronized void startGroup(String groupKey, List<String> descriptors, BitSet completed) {
+		GroupState state = new GroupState( new ArrayList<>( descriptors ) );
+		state.completed.or( completed );
+		groups.put( groupKey, state );
+		save();
+	}
+
+	public PojoMassIndexingPartitionProgress partitionProgress(String groupKey, int partitionIndex) {
+		return new PojoMassIndexingPartitionProgress( this, groupKey, partitionIndex );
+	}
+
+	void partitionCompleted(String groupKey, int partitionIndex) throws InterruptedException {
+		// Make sure the documents of this partition are safely stored before we record the partition as completed.
+		Futures.unwrappedExceptionGet( scopeWorkspace.flush() );
+		synchronized ( this ) {
+			groups.get( groupKey ).completed.set( partitionIndex );
+			save();
+		}
+		log.tracef( "Partition %d of %s is complete", partitionIndex, groupKey );
+	}
+
+	public void clear() {
+		store.clear();
+	}
+
+	private void save() {
+		Properties properties = new Properties();
+		int groupIndex = 0;
+		for ( Map.Entry<String, GroupState> entry : groups.entrySet() ) {
+			String groupPrefix = "group." + groupIndex + ".";
+			GroupState state = entry.getValue();
+			properties.setProperty( groupPrefix + "name", entry.getKey() );
+			properties.setProperty( groupPrefix + "partition.count", String.valueOf( state.descriptors.size() ) );
+			for ( int i = 0; i < state.descriptors.size(); i++ ) {
+				String partitionPrefix = groupPrefix + "partition." + i + ".";
+				String descriptor = state.descriptors.get( i );
+				if ( descriptor != null ) {
+					properties.setProperty( partitionPrefix + "descriptor", descriptor );
+				}
+				properties.setProperty( partitionPrefix + "completed", String.valueOf( state.completed.get( i ) ) );
+			}
+			++groupIndex;
+		}
+		StringWriter writer = new StringWriter();
+		try {
+			properties.store( writer, null );
+		}
+		catch (IOException e) {
+			throw log.unableToSaveMassIndexingCheckpoint( store, e.getMessage(), e );
+		}
+		store.save( writer.toString() );
+	}
+
+	private static Map<String, GroupState> parse(MassIndexingCheckpointStore store, String checkpoint) {
+		Map<String, GroupState> result = new LinkedHashMap<>();
+		try {
+			Properties properties = new Properties();
+			properties.load( new StringReader( checkpoint ) );
+			for ( int groupIndex = 0; ; groupIndex++ ) {
+				String groupPrefix = "group." + groupIndex + ".";
+				String name = properties.getProperty( groupPrefix + "name" );
+				if ( name == null ) {
+					break;
+				}
+				int partitionCount = Integer.parseInt( properties.getProperty( groupPrefix + "partition.count" ) );
+				List<String> descriptors = new ArrayList<>( partitionCount );
+				BitSet completed = new BitSet();
+				for ( int i = 0; i < partitionCount; i++ ) {
+					String partitionPrefix = groupPrefix + "partition." + i + ".";
+					descriptors.add( properties.getProperty( partitionPrefix + "descriptor" ) );
+					if ( Boolean.parseBoolean( properties.getProperty( partitionPrefix + "completed" ) ) ) {
+						completed.set( i );
+					}
+				}
+				GroupState state = new GroupState( descriptors );
+				state.completed.or( completed );
+				result.put( name, state );
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.unableToLoadMassIndexingCheckpoint( store, e.getMessage(), e );
+		}
+		return result;
+	}
+
+	private static final class GroupState {
+		private final List<String> descriptors;
+		private final BitSet completed = new BitSet();
+
+		private GroupState(List<String> descriptors) {
+			this.descriptors = descriptors;
+		}
+	}
+}
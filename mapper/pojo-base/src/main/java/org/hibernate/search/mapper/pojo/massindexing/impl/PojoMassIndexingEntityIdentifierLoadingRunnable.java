@@ -14,7 +14,7 @@
 import org.hibernate.search.mapper.pojo.loading.spi.PojoMassIdentifierLoader;
 import org.hibernate.search.mapper.pojo.loading.spi.PojoMassIdentifierSink;
 import org.hibernate.search.mapper.pojo.massindexing.spi.PojoMassIndexingIdentifierLoadingContext;
-import org.hibernate.search.mapper.pojo.massindexing.spi.PojoMassIndexingLoadingStrategy;
+import org.hibernate.search.mapper.pojo.massindexing.spi.PojoMassIndexingIdentifierLoadingPartition;
 import org.hibernate.search.mapper.pojo.logging.impl.Log;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -25,16 +25,19 @@
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private final PojoMassIndexingIndexedTypeGroup<E> typeGroup;
-	private final PojoMassIndexingLoadingStrategy<E, I> loadingStrategy;
-	private final PojoProducerConsumerQueue<List<I>> identifierQueue;
+	private final PojoMassIndexingIdentifierLoadingPartition<E, I> partition;
+	private final PojoMassIndexingPartitionProgress progress;
+	private final PojoProducerConsumerQueue<PojoMassIndexingIdentifierBatch<I>> identifierQueue;
 
 	public PojoMassIndexingEntityIdentifierLoadingRunnable(PojoMassIndexingNotifier notifier,
 			PojoMassIndexingIndexedTypeGroup<E> typeGroup,
-			PojoMassIndexingLoadingStrategy<E, I> loadingStrategy,
-			PojoProducerConsumerQueue<List<I>> identifierQueue) {
+			PojoMassIndexingIdentifierLoadingPartition<E, I> partition,
+			PojoMassIndexingPartitionProgress progress,
+			PojoProducerConsumerQueue<PojoMassIndexingIdentifierBatch<I>> identifierQueue) {
 		super( notifier );
-		this.loadingStrategy = loadingStrategy;
+		this.partition = partition;
 		this.typeGroup = typeGroup;
+		this.progress = progress;
 		this.identifierQueue = identifierQueue;
 	}
 
@@ -42,13 +45,16 @@ public PojoMassIndexingEntityIdentifierLoadingRunnable(PojoMassIndexingNotifier
 	protected void runWithFailureHandler() throws InterruptedException {
 		log.trace( "started" );
 		LoadingContext context = new LoadingContext();
-		try ( PojoMassIdentifierLoader loader = loadingStrategy.createIdentifierLoader( context ) ) {
+		try ( PojoMassIdentifierLoader loader = partition.createIdentifierLoader( context ) ) {
 			long totalCount = loader.totalCount();
 			getNotifier().reportAddedTotalCount( totalCount );
 			do {
 				loader.loadNext();
 			}
 			while ( !context.done );
+			if ( progress != null ) {
+				progress.loadingDone();
+			}
 			// Only do this when stopping normally,
 			// because this operation will block if the queue is full,
 			// resuming the thread only if the queue gets consumed (consumer still working)
@@ -88,7 +94,10 @@ public PojoMassIdentifierSink<I> createSink() {
 				public void accept(List<? extends I> batch) throws InterruptedException {
 					log.tracef( "produced a list of ids %s", batch );
 					List<I> copy = new ArrayList<>( batch );
-					identifierQueue.put( copy );
+					if ( progress != null ) {
+						progress.batchStarted();
+					}
+					identifierQueue.put( new PojoMassIndexingIdentifierBatch<>( copy, progress ) );
 				}
 
 				@Override
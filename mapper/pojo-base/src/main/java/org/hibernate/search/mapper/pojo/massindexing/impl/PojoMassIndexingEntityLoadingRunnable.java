@@ -34,16 +34,21 @@
 
 	private final PojoMassIndexingIndexedTypeGroup<E> typeGroup;
 	private final PojoMassIndexingLoadingStrategy<E, I> loadingStrategy;
-	private final PojoProducerConsumerQueue<List<I>> identifierQueue;
+	private final PojoProducerConsumerQueue<PojoMassIndexingIdentifierBatch<I>> identifierQueue;
+	private final int indexingBatchesInFlight;
+	private final boolean documentsMayExist;
 
 	protected PojoMassIndexingEntityLoadingRunnable(PojoMassIndexingNotifier notifier,
 			PojoMassIndexingIndexedTypeGroup<E> typeGroup,
 			PojoMassIndexingLoadingStrategy<E, I> loadingStrategy,
-			PojoProducerConsumerQueue<List<I>> identifierQueue) {
+			PojoProducerConsumerQueue<PojoMassIndexingIdentifierBatch<I>> identifierQueue,
+			int indexingBatchesInFlight, boolean documentsMayExist) {
 		super( notifier );
 		this.typeGroup = typeGroup;
 		this.loadingStrategy = loadingStrategy;
 		this.identifierQueue = identifierQueue;
+		this.indexingBatchesInFlight = indexingBatchesInFlight;
+		this.documentsMayExist = documentsMayExist;
 	}
 
 	@Override
@@ -51,16 +56,22 @@ protected void runWithFailureHandler() throws InterruptedException {
 		log.trace( "started" );
 		LoadingContext context = new LoadingContext();
 		try ( PojoMassEntityLoader<I> entityLoader = loadingStrategy.createEntityLoader( context ) ) {
-			List<I> idList;
+			PojoMassIndexingIdentifierBatch<I> idBatch;
 			do {
-				idList = identifierQueue.take();
-				if ( idList != null ) {
+				idBatch = identifierQueue.take();
+				if ( idBatch != null ) {
+					List<I> idList = idBatch.identifiers();
 					log.tracef( "received list of ids %s", idList );
+					context.currentProgress = idBatch.progress();
 					// This will pass the loaded entities to the sink, which will trigger indexing for those entities.
 					entityLoader.load( idList );
+					context.currentProgress = null;
+					if ( idBatch.progress() != null ) {
+						idBatch.progress().batchFinished();
+					}
 				}
 			}
-			while ( idList != null );
+			while ( idBatch != null );
 			context.waitForLastBatches();
 		}
 		log.trace( "finished" );
@@ -82,20 +93,19 @@ protected String operationName() {
 	}
 
 	private final class LoadingContext implements PojoMassIndexingEntityLoadingContext<E> {
-		// The traditional implementation was equivalent to using 1.
-		// Theoretically we could raise this above 2, but it would only help
-		// if loading performance is inconsistent, so as to provide a "buffer"
-		// of ongoing indexing operations that the backend can go through
-		// while the loader is catching up.
-		// So, for now, 2 should be enough.
-		private static final int CONCURRENT_BATCHES = 2;
-
+		// The traditional implementation was equivalent to using 1 batch in flight.
+		// Higher values provide a "buffer" of ongoing indexing operations
+		// that the backend can go through while the loader is catching up,
+		// which helps when loading or document building performance is inconsistent.
+		// Waiting for the oldest batch before starting a new one
+		// is what applies backpressure from the backend to loading threads.
 		private final List<IndexingBatch> batches;
 		private int currentBatchIndex = 0;
+		private PojoMassIndexingPartitionProgress currentProgress;
 
 		public LoadingContext() {
-			batches = new ArrayList<>( CONCURRENT_BATCHES );
-			for ( int i = 0; i < CONCURRENT_BATCHES; i++ ) {
+			batches = new ArrayList<>( indexingBatchesInFlight );
+			for ( int i = 0; i < indexingBatchesInFlight; i++ ) {
 				batches.add( new IndexingBatch() );
 			}
 		}
@@ -122,8 +132,8 @@ public void accept(List<? extends E> batch) throws InterruptedException {
 					// we know the batch of entities has been processed and turned into documents,
 					// so we can safely call the loader again for the next batch,
 					// even if the loader clears the session before each batch.
-					currentBatch.startIndexingList( sessionContext, indexer, batch );
-					currentBatchIndex = ( currentBatchIndex + 1 ) % CONCURRENT_BATCHES;
+					currentBatch.startIndexingList( sessionContext, indexer, batch, currentProgress );
+					currentBatchIndex = ( currentBatchIndex + 1 ) % batches.size();
 					// We will wait for indexing to finish either the next time this method is called,
 					// or when waitForLastBatches() is called at the end.
 				}
@@ -142,11 +152,16 @@ private final class IndexingBatch {
 		private PojoMassIndexingSessionContext sessionContext;
 		private List<?> entities;
 		private CompletableFuture<?>[] indexingFutures;
+		private PojoMassIndexingPartitionProgress progress;
 
 		public void startIndexingList(PojoMassIndexingSessionContext sessionContext, PojoIndexer indexer,
-				List<?> entities) throws InterruptedException {
+				List<?> entities, PojoMassIndexingPartitionProgress progress) throws InterruptedException {
 			this.sessionContext = sessionContext;
 			this.entities = entities;
+			this.progress = progress;
+			if ( progress != null ) {
+				progress.batchStarted();
+			}
 			getNotifier().reportEntitiesLoaded( entities.size() );
 			this.indexingFutures = new CompletableFuture<?>[entities.size()];
 
@@ -174,6 +189,10 @@ private void waitForIndexingEndAndReport() throws InterruptedException {
 
 				if ( future.isCompletedExceptionally() ) {
 					Object entity = entities.get( i );
+					if ( progress != null ) {
+						// Failed entities must be indexed again when resuming.
+						progress.markFailed();
+					}
 					getNotifier().reportEntityIndexingFailure(
 							// We don't try to detect the exact entity type here,
 							// because that could fail if the type is not indexed
@@ -189,9 +208,15 @@ private void waitForIndexingEndAndReport() throws InterruptedException {
 
 			getNotifier().reportDocumentsAdded( successfulEntities );
 
+			PojoMassIndexingPartitionProgress finishedProgress = progress;
 			this.sessionContext = null;
 			this.entities = null;
 			this.indexingFutures = null;
+			this.progress = null;
+
+			if ( finishedProgress != null ) {
+				finishedProgress.batchFinished();
+			}
 		}
 
 		private CompletableFuture<?> startIndexing(PojoMassIndexingSessionContext sessionContext,
@@ -205,9 +230,17 @@ private CompletableFuture<?> startIndexing(PojoMassIndexingSessionContext sessio
 			CompletableFuture<?> future;
 			try {
 				PojoRawTypeIdentifier<?> typeIdentifier = detectTypeIdentifier( sessionContext, entity );
-				future = indexer.add( typeIdentifier, null, null, entity,
-						// Commit and refresh are handled globally after all documents are indexed.
-						DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+				if ( documentsMayExist ) {
+					// When resuming from a checkpoint, the index was not purged
+					// and may already contain some of these documents.
+					future = indexer.addOrUpdate( typeIdentifier, null, null, entity,
+							DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+				}
+				else {
+					future = indexer.add( typeIdentifier, null, null, entity,
+							// Commit and refresh are handled globally after all documents are indexed.
+							DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+				}
 			}
 			catch (RuntimeException e) {
 				future = new CompletableFuture<>();
@@ -0,0 +1,37 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.massindexing.impl;
+
+import java.util.List;
+
+/**
+ * A batch of identifiers passed from identifier loading threads to entity loading threads.
+ *
+ * @param <I> The type of identifiers.
+ */
+final class PojoMassIndexingIdentifierBatch<I> {
+
+	private final List<I> identifiers;
+	private final PojoMassIndexingPartitionProgress progress;
+
+	PojoMassIndexingIdentifierBatch(List<I> identifiers, PojoMassIndexingPartitionProgress progress) {
+		this.identifiers = identifiers;
+		this.progress = progress;
+	}
+
+	List<I> identifiers() {
+		return identifiers;
+	}
+
+	/**
+	 * @return The progress of the partition this batch belongs to,
+	 * or {@code null} if progress is not tracked (no checkpoints).
+	 */
+	PojoMassIndexingPartitionProgress progress() {
+		return progress;
+	}
+}
@@ -108,6 +108,16 @@ public String notifiedGroupName() {
 				.collect( Collectors.joining( "," ) );
 	}
 
+	/**
+	 * @return A key identifying this group in mass indexing checkpoints,
+	 * independent of the order in which types were added to the group.
+	 */
+	public String checkpointKey() {
+		return includedTypes.stream().map( PojoMassIndexingIndexedTypeContext::entityName )
+				.sorted()
+				.collect( Collectors.joining( "," ) );
+	}
+
 	public Set<PojoRawTypeIdentifier<? extends E>> includedTypesIdentifiers() {
 		return includedTypes.stream().map( PojoMassIndexingIndexedTypeContext::typeIdentifier )
 				.collect( Collectors.toCollection( LinkedHashSet::new ) );
@@ -101,6 +101,10 @@ void reportEntityIndexingFailure(PojoMassIndexingIndexedTypeGroup<?> typeGroup,
 		failureHandler.handle( contextBuilder.build() );
 	}
 
+	boolean hasFailure() {
+		return firstFailure.get() != null;
+	}
+
 	void reportIndexingCompleted() {
 		monitor.indexingCompleted();
 
@@ -0,0 +1,69 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.massindexing.impl;
+
+/**
+ * Tracks the identifier batches of a single identifier loading partition
+ * that are still being loaded or indexed,
+ * so as to notify the {@link PojoMassIndexingCheckpointRecorder} once the partition is fully indexed.
+ */
+public final class PojoMassIndexingPartitionProgress {
+
+	private final PojoMassIndexingCheckpointRecorder recorder;
+	private final String groupKey;
+	private final int partitionIndex;
+
+	// Guarded by this
+	private int pendingBatches = 0;
+	private boolean loadingDone = false;
+	private boolean failed = false;
+	private boolean completed = false;
+
+	PojoMassIndexingPartitionProgress(PojoMassIndexingCheckpointRecorder recorder, String groupKey,
+			int partitionIndex) {
+		this.recorder = recorder;
+		this.groupKey = groupKey;
+		this.partitionIndex = partitionIndex;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[groupKey=" + groupKey + ", partitionIndex=" + partitionIndex + "]";
+	}
+
+	synchronized void batchStarted() {
+		++pendingBatches;
+	}
+
+	void batchFinished() throws InterruptedException {
+		synchronized ( this ) {
+			--pendingBatches;
+		}
+		completeIfDone();
+	}
+
+	void loadingDone() throws InterruptedException {
+		synchronized ( this ) {
+			loadingDone = true;
+		}
+		completeIfDone();
+	}
+
+	synchronized void markFailed() {
+		failed = true;
+	}
+
+	private void completeIfDone() throws InterruptedException {
+		synchronized ( this ) {
+			if ( completed || failed || !loadingDone || pendingBatches > 0 ) {
+				return;
+			}
+			completed = true;
+		}
+		recorder.partitionCompleted( groupKey, partitionIndex );
+	}
+}
@@ -8,6 +8,7 @@
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingCheckpointStore;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingFailureHandler;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingMonitor;
 
@@ -39,6 +40,34 @@ public interface PojoMassIndexer {
 	 */
 	PojoMassIndexer threadsToLoadObjects(int numberOfThreads);
 
+	/**
+	 * Sets the number of partitions the identifiers of each type are split into,
+	 * each partition being loaded in parallel by a separate thread.
+	 * <p>
+	 * Only loading strategies that support partitioning will take advantage of this;
+	 * others will always load identifiers using a single thread.
+	 * <p>
+	 * Defaults to {@code 1}.
+	 * @param partitionCount the maximum number of partitions
+	 * @return {@code this} for method chaining
+	 */
+	PojoMassIndexer idLoadingPartitions(int partitionCount);
+
+	/**
+	 * Sets the number of batches of entities each entity loading thread may have in flight,
+	 * i.e. turned into documents and submitted to the backend but not yet indexed,
+	 * before it waits for the backend to catch up.
+	 * <p>
+	 * Higher values allow loading threads to keep loading entities and building documents
+	 * while the backend is indexing previous batches,
+	 * at the cost of keeping more entities in memory.
+	 * <p>
+	 * Defaults to {@code 2}.
+	 * @param batchCount the maximum number of batches in flight per entity loading thread
+	 * @return {@code this} for method chaining
+	 */
+	PojoMassIndexer indexingBatchesInFlight(int batchCount);
+
 	/**
 	 * Merges each index into a single segment after indexing.
 	 * <p>
@@ -90,6 +119,46 @@ public interface PojoMassIndexer {
 	 */
 	PojoMassIndexer purgeAllOnStart(boolean purgeAll);
 
+	/**
+	 * Records checkpoints to the given store as mass indexing progresses,
+	 * so that it can be {@link #resumeFrom(MassIndexingCheckpointStore) resumed} after a crash.
+	 * <p>
+	 * Any checkpoint already in the store is discarded when mass indexing starts,
+	 * and the checkpoint is cleared when mass indexing completes successfully.
+	 * @param store The checkpoint store.
+	 * @return {@code this} for method chaining
+	 */
+	PojoMassIndexer checkpointStore(MassIndexingCheckpointStore store);
+
+	/**
+	 * Resumes mass indexing from the checkpoint found in the given store, if any,
+	 * skipping identifier ranges that were already fully indexed,
+	 * and records further checkpoints to the same store.
+	 * <p>
+	 * When a checkpoint is found, indexes are neither purged nor dropped on start,
+	 * regardless of {@link #purgeAllOnStart(boolean)} and {@link #dropAndCreateSchemaOnStart(boolean)}.
+	 * When no checkpoint is found, this behaves exactly like {@link #checkpointStore(MassIndexingCheckpointStore)}.
+	 * @param store The checkpoint store.
+	 * @return {@code this} for method chaining
+	 */
+	PojoMassIndexer resumeFrom(MassIndexingCheckpointStore store);
+
+	/**
+	 * Sets the minimum number of ranges the identifiers of each type are split into when recording checkpoints,
+	 * regardless of the number of threads loading identifiers, which is set by {@link #idLoadingPartitions(int)}.
+	 * <p>
+	 * A checkpoint is saved every time a range is fully indexed,
+	 * so more ranges mean less work to do again when resuming, at the cost of more frequent flushes.
+	 * Only loading strategies that support partitioning will take advantage of this.
+	 * <p>
+	 * This setting has no effect unless checkpoints are recorded.
+	 * <p>
+	 * Defaults to {@code 1}, i.e. as many ranges as {@link #idLoadingPartitions(int) ID loading partitions}.
+	 * @param rangeCount the minimum number of identifier ranges
+	 * @return {@code this} for method chaining
+	 */
+	PojoMassIndexer checkpointRanges(int rangeCount);
+
 	/**
 	 * Starts the indexing process in background (asynchronous).
 	 * <p>
@@ -0,0 +1,41 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.massindexing.spi;
+
+import java.util.List;
+
+import org.hibernate.search.mapper.pojo.loading.spi.PojoMassIdentifierLoader;
+
+/**
+ * A partition of the identifiers to load during mass indexing,
+ * as returned by {@link PojoMassIndexingLoadingStrategy#createIdentifierLoadingPartitions(PojoMassIndexingIdentifierLoadingContext, int)}.
+ * <p>
+ * Identifiers of each partition are loaded by a separate loader, in parallel with other partitions.
+ *
+ * @param <E> The type of loaded entities.
+ * @param <I> The type of entity identifiers.
+ */
+public interface PojoMassIndexingIdentifierLoadingPartition<E, I> {
+
+	/**
+	 * @param context A context, used to retrieve information about targeted types and to create the sink.
+	 * @return An entity identifier loader, loading only the identifiers of this partition.
+	 */
+	PojoMassIdentifierLoader createIdentifierLoader(PojoMassIndexingIdentifierLoadingContext<E, I> context);
+
+	/**
+	 * @return A string describing the bounds of this partition,
+	 * to be recorded in mass indexing checkpoints and later passed to
+	 * {@link PojoMassIndexingLoadingStrategy#restoreIdentifierLoadingPartitions(PojoMassIndexingIdentifierLoadingContext, List)}
+	 * when resuming mass indexing.
+	 * {@code null} if this partition covers all identifiers.
+	 */
+	default String descriptor() {
+		return null;
+	}
+
+}
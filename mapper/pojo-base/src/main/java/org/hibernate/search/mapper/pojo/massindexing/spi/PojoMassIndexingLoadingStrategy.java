@@ -6,6 +6,9 @@
  */
 package org.hibernate.search.mapper.pojo.massindexing.spi;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.hibernate.search.mapper.pojo.loading.spi.PojoMassIdentifierLoader;
 import org.hibernate.search.mapper.pojo.loading.spi.PojoMassEntityLoader;
 
@@ -38,6 +41,48 @@
 	 */
 	PojoMassIdentifierLoader createIdentifierLoader(PojoMassIndexingIdentifierLoadingContext<E, I> context);
 
+	/**
+	 * Splits the identifiers to load into partitions that can be loaded in parallel.
+	 * <p>
+	 * Partitions must be disjoint, and all partitions taken together must cover all the identifiers
+	 * that {@link #createIdentifierLoader(PojoMassIndexingIdentifierLoadingContext)} would load.
+	 * <p>
+	 * The default implementation returns a single partition relying on
+	 * {@link #createIdentifierLoader(PojoMassIndexingIdentifierLoadingContext)}.
+	 *
+	 * @param context A context, used to retrieve information about targeted types.
+	 * Sinks must not be created from this context: each partition will be passed its own context.
+	 * @param maxPartitionCount The maximum number of partitions to return. Always strictly positive.
+	 * @return A non-empty list of identifier loading partitions.
+	 */
+	default List<PojoMassIndexingIdentifierLoadingPartition<E, I>> createIdentifierLoadingPartitions(
+			PojoMassIndexingIdentifierLoadingContext<E, I> context, int maxPartitionCount) {
+		return Collections.singletonList( this::createIdentifierLoader );
+	}
+
+	/**
+	 * Re-creates identifier loading partitions from their {@link PojoMassIndexingIdentifierLoadingPartition#descriptor() descriptors},
+	 * as recorded in a mass indexing checkpoint.
+	 * <p>
+	 * The default implementation only supports restoring a single partition whose descriptor is {@code null},
+	 * i.e. the partition returned by the default implementation of
+	 * {@link #createIdentifierLoadingPartitions(PojoMassIndexingIdentifierLoadingContext, int)}.
+	 *
+	 * @param context A context, used to retrieve information about targeted types.
+	 * Sinks must not be created from this context: each partition will be passed its own context.
+	 * @param descriptors The descriptors of partitions, in order. Elements may be {@code null}.
+	 * @return A list of identifier loading partitions, in the same order as {@code descriptors},
+	 * or {@code null} if the partitions cannot be restored,
+	 * in which case all identifiers will be loaded and indexed again.
+	 */
+	default List<PojoMassIndexingIdentifierLoadingPartition<E, I>> restoreIdentifierLoadingPartitions(
+			PojoMassIndexingIdentifierLoadingContext<E, I> context, List<String> descriptors) {
+		if ( descriptors.size() == 1 && descriptors.get( 0 ) == null ) {
+			return Collections.singletonList( this::createIdentifierLoader );
+		}
+		return null;
+	}
+
 	/**
 	 * @param context A context, used to retrieve information about targeted types and to create the sink.
 	 * @return An entity loader.
@@ -6,6 +6,9 @@
  */
 package org.hibernate.search.mapper.pojo.processing.impl;
 
+import java.util.Arrays;
+import java.util.Collection;
+
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
 import org.hibernate.search.mapper.pojo.bridge.TypeBridge;
@@ -26,16 +29,17 @@
 public class PojoIndexingProcessorCastedTypeNode<T, U> extends PojoIndexingProcessor<T> {
 
 	private final PojoCaster<? super U> caster;
-	private final Iterable<IndexObjectFieldReference> parentIndexObjectReferences;
+	// Use an array rather than a collection to avoid allocating an iterator for each processed object
+	private final IndexObjectFieldReference[] parentIndexObjectReferences;
 	private final PojoIndexingProcessor<? super U> nested;
 	private final boolean isEntityType;
 
 	public PojoIndexingProcessorCastedTypeNode(PojoCaster<? super U> caster,
-			Iterable<IndexObjectFieldReference> parentIndexObjectReferences,
+			Collection<IndexObjectFieldReference> parentIndexObjectReferences,
 			PojoIndexingProcessor<? super U> nested,
 			boolean isEntityType) {
 		this.caster = caster;
-		this.parentIndexObjectReferences = parentIndexObjectReferences;
+		this.parentIndexObjectReferences = parentIndexObjectReferences.toArray( new IndexObjectFieldReference[0] );
 		this.nested = nested;
 		this.isEntityType = isEntityType;
 	}
@@ -49,7 +53,7 @@ public void close() {
 	public void appendTo(ToStringTreeBuilder builder) {
 		builder.attribute( "operation", "process type (with cast)" );
 		builder.attribute( "caster", caster );
-		builder.attribute( "objectFieldsToCreate", parentIndexObjectReferences );
+		builder.attribute( "objectFieldsToCreate", Arrays.asList( parentIndexObjectReferences ) );
 		builder.attribute( "nested", nested );
 		builder.attribute( "isEntityType", isEntityType );
 	}
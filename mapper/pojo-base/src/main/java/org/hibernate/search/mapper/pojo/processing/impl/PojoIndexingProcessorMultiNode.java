@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.mapper.pojo.processing.impl;
 
+import java.util.Arrays;
 import java.util.Collection;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
@@ -20,22 +21,24 @@
  */
 public class PojoIndexingProcessorMultiNode<T> extends PojoIndexingProcessor<T> {
 
-	private final Collection<? extends PojoIndexingProcessor<? super T>> elements;
+	// Use an array rather than a collection to avoid allocating an iterator for each processed object
+	private final PojoIndexingProcessor<? super T>[] elements;
 
+	@SuppressWarnings("unchecked")
 	public PojoIndexingProcessorMultiNode(Collection<? extends PojoIndexingProcessor<? super T>> elements) {
-		this.elements = elements;
+		this.elements = elements.toArray( new PojoIndexingProcessor[0] );
 	}
 
 	@Override
 	public void close() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
-			closer.pushAll( PojoIndexingProcessor::close, elements );
+			closer.pushAll( PojoIndexingProcessor::close, Arrays.asList( elements ) );
 		}
 	}
 
 	@Override
 	public void appendTo(ToStringTreeBuilder builder) {
-		builder.attribute( null, elements );
+		builder.attribute( null, Arrays.asList( elements ) );
 	}
 
 	@Override
@@ -6,6 +6,9 @@
  */
 package org.hibernate.search.mapper.pojo.processing.impl;
 
+import java.util.Arrays;
+import java.util.Collection;
+
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
 import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorRootContext;
@@ -20,13 +23,14 @@
  */
 public class PojoIndexingProcessorOriginalTypeNode<T> extends PojoIndexingProcessor<T> {
 
-	private final Iterable<IndexObjectFieldReference> parentIndexObjectReferences;
+	// Use an array rather than a collection to avoid allocating an iterator for each processed object
+	private final IndexObjectFieldReference[] parentIndexObjectReferences;
 	private final PojoIndexingProcessor<? super T> nested;
 	private final boolean isEntityType;
 
-	public PojoIndexingProcessorOriginalTypeNode(Iterable<IndexObjectFieldReference> parentIndexObjectReferences,
+	public PojoIndexingProcessorOriginalTypeNode(Collection<IndexObjectFieldReference> parentIndexObjectReferences,
 			PojoIndexingProcessor<? super T> nested, boolean isEntityType) {
-		this.parentIndexObjectReferences = parentIndexObjectReferences;
+		this.parentIndexObjectReferences = parentIndexObjectReferences.toArray( new IndexObjectFieldReference[0] );
 		this.nested = nested;
 		this.isEntityType = isEntityType;
 	}
@@ -39,7 +43,7 @@ public void close() {
 	@Override
 	public void appendTo(ToStringTreeBuilder builder) {
 		builder.attribute( "operation", "process type" );
-		builder.attribute( "objectFieldsToCreate", parentIndexObjectReferences );
+		builder.attribute( "objectFieldsToCreate", Arrays.asList( parentIndexObjectReferences ) );
 		builder.attribute( "nested", nested );
 		builder.attribute( "isEntityType", isEntityType );
 	}
@@ -74,6 +74,11 @@ public CompletableFuture<?> delete(PojoRawTypeIdentifier<?> typeIdentifier, Obje
 				.delete( providedId, providedRoutes, commitStrategy, refreshStrategy );
 	}
 
+	@Override
+	public Object identifier(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, Object entity) {
+		return getDelegate( typeIdentifier ).identifier( providedId, entity );
+	}
+
 	private PojoTypeIndexer<?, ?> getDelegate(PojoRawTypeIdentifier<?> typeIdentifier) {
 		// Call get() before resorting to computeIfAbsent,
 		// because it's faster and will be enough in the vast majority of cases.
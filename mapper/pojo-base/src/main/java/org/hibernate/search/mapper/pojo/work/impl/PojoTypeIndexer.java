@@ -46,6 +46,11 @@ public boolean isDeleted(Object unproxiedObject) {
 		return false;
 	}
 
+	I identifier(Object providedId, Object entity) {
+		Supplier<E> entitySupplier = entity == null ? null : typeContext.toEntitySupplier( sessionContext, entity );
+		return typeContext.identifierMapping().getIdentifier( providedId, entitySupplier );
+	}
+
 	CompletableFuture<?> add(Object providedId, DocumentRoutesDescriptor providedRoutes, Object entity,
 			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy) {
 		Supplier<E> entitySupplier = typeContext.toEntitySupplier( sessionContext, entity );
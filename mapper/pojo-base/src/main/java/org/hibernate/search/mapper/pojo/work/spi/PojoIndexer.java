@@ -110,4 +110,17 @@ CompletableFuture<?> delete(PojoRawTypeIdentifier<?> typeIdentifier, Object prov
 			DocumentRoutesDescriptor providedRoutes,
 			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy);
 
+	/**
+	 * Computes the identifier of an entity, the same way other methods of this interface do.
+	 * <p>
+	 * Useful to detect multiple operations targeting the same entity before submitting them.
+	 *
+	 * @param typeIdentifier The identifier of the entity type.
+	 * @param providedId A value to extract the entity identifier from.
+	 * If {@code null}, Hibernate Search will attempt to extract the identifier from the entity.
+	 * @param entity The entity, or {@code null} if {@code providedId} is not {@code null}.
+	 * @return The entity identifier.
+	 */
+	Object identifier(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, Object entity);
+
 }
@@ -0,0 +1,130 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.extractor.builtin.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.hibernate.search.mapper.pojo.extractor.ContainerExtractionContext;
+
+import org.junit.Test;
+
+public class CollectionElementExtractorTest {
+
+	private final CollectionElementExtractor<String> extractor = new CollectionElementExtractor<>();
+
+	private final List<RuntimeException> ignoredExceptions = new ArrayList<>();
+	private final ContainerExtractionContext ignoringContext = ignoredExceptions::add;
+	private final ContainerExtractionContext propagatingContext = exception -> {
+		throw exception;
+	};
+
+	@Test
+	public void randomAccessList() {
+		assertThat( extract( new ArrayList<>( Arrays.asList( "1", null, "3" ) ) ) )
+				.containsExactly( "1", null, "3" );
+		assertThat( extract( new ArrayList<>() ) ).isEmpty();
+	}
+
+	@Test
+	public void otherCollections() {
+		assertThat( extract( new LinkedList<>( Arrays.asList( "1", null, "3" ) ) ) )
+				.containsExactly( "1", null, "3" );
+		assertThat( extract( new LinkedHashSet<>( Arrays.asList( "1", null, "3" ) ) ) )
+				.containsExactly( "1", null, "3" );
+	}
+
+	@Test
+	public void nullContainer() {
+		assertThat( extract( null ) ).isEmpty();
+	}
+
+	@Test
+	public void randomAccessList_doesNotUseIterator() {
+		List<String> list = new FailingRandomAccessList( Arrays.asList( "1", "2" ), -1 ) {
+			@Override
+			public Iterator<String> iterator() {
+				throw new UnsupportedOperationException( "Random access lists should not be iterated" );
+			}
+		};
+		assertThat( extract( list ) ).containsExactly( "1", "2" );
+	}
+
+	@Test
+	public void randomAccessList_getFailure_ignored() {
+		List<String> list = new FailingRandomAccessList( Arrays.asList( "1", "2", "3" ), 1 );
+		// Extraction is aborted on the first failure, consistently with iterator-based extraction
+		assertThat( extract( list, ignoringContext ) ).containsExactly( "1" );
+		assertThat( ignoredExceptions ).hasSize( 1 )
+				.allSatisfy( e -> assertThat( e ).hasMessage( "Failure on get(1)" ) );
+	}
+
+	@Test
+	public void randomAccessList_getFailure_propagated() {
+		List<String> list = new FailingRandomAccessList( Arrays.asList( "1", "2", "3" ), 1 );
+		assertThatThrownBy( () -> extract( list, propagatingContext ) )
+				.hasMessage( "Failure on get(1)" );
+	}
+
+	@Test
+	public void randomAccessList_sizeFailure_ignored() {
+		List<String> list = new FailingRandomAccessList( Arrays.asList( "1", "2" ), -1 ) {
+			@Override
+			public int size() {
+				throw new IllegalStateException( "Failure on size()" );
+			}
+		};
+		assertThat( extract( list, ignoringContext ) ).isEmpty();
+		assertThat( ignoredExceptions ).hasSize( 1 )
+				.allSatisfy( e -> assertThat( e ).hasMessage( "Failure on size()" ) );
+	}
+
+	private List<String> extract(Collection<String> container) {
+		return extract( container, propagatingContext );
+	}
+
+	private List<String> extract(Collection<String> container, ContainerExtractionContext extractionContext) {
+		List<String> result = new ArrayList<>();
+		extractor.extract( container, (target, value, context, ignored) -> target.add( value ),
+				result, null, extractionContext );
+		return result;
+	}
+
+	private static class FailingRandomAccessList extends AbstractList<String> implements RandomAccess {
+		private final List<String> delegate;
+		private final int failingIndex;
+
+		FailingRandomAccessList(List<String> delegate, int failingIndex) {
+			this.delegate = delegate;
+			this.failingIndex = failingIndex;
+		}
+
+		@Override
+		public String get(int index) {
+			if ( index == failingIndex ) {
+				throw new IllegalStateException( "Failure on get(" + index + ")" );
+			}
+			return delegate.get( index );
+		}
+
+		@Override
+		public int size() {
+			return delegate.size();
+		}
+	}
+
+}
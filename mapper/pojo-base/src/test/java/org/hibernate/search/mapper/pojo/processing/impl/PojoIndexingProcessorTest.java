@@ -0,0 +1,223 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.processing.impl;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.mapper.pojo.bridge.ValueBridge;
+import org.hibernate.search.mapper.pojo.common.annotation.impl.SearchProcessingWithContextException;
+import org.hibernate.search.mapper.pojo.model.path.PojoModelPath;
+import org.hibernate.search.mapper.pojo.model.spi.PojoCaster;
+import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorRootContext;
+import org.hibernate.search.util.common.reflect.spi.ValueReadHandle;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+/**
+ * Checks the behavior of processor nodes when processing entities and when closing.
+ */
+@SuppressWarnings("unchecked") // Raw types are the only way to mock parameterized types
+public class PojoIndexingProcessorTest {
+
+	private final PojoIndexingProcessorRootContext context =
+			mock( PojoIndexingProcessorRootContext.class, RETURNS_DEEP_STUBS );
+	private final DocumentElement target = mock( DocumentElement.class );
+	private final IndexFieldReference<String> fieldReference = mock( IndexFieldReference.class );
+	private final ValueReadHandle<Integer> handle = mock( ValueReadHandle.class );
+
+	@Before
+	public void unproxyIsIdentity() {
+		when( context.sessionContext().runtimeIntrospector().unproxy( any() ) )
+				.thenAnswer( invocation -> invocation.getArgument( 0 ) );
+	}
+
+	@Test
+	public void propertyNode_valueBridge() {
+		PojoIndexingProcessorValueBridgeNode<Integer, String> bridgeNode = new PojoIndexingProcessorValueBridgeNode<>(
+				BeanHolder.of( toStringBridge() ), fieldReference );
+		PojoIndexingProcessor<Object> node = new PojoIndexingProcessorPropertyNode<>(
+				handle, bridgeNode, PojoModelPath.ofValue( "myProperty" ) );
+
+		Object source = new Object();
+		when( handle.get( source ) ).thenReturn( 42 );
+		node.process( target, source, context );
+		verify( target ).addValue( fieldReference, "42" );
+		verifyNoMoreInteractions( target );
+
+		when( handle.get( source ) ).thenReturn( null );
+		node.process( target, source, context );
+		verify( target ).addValue( fieldReference, null );
+	}
+
+	@Test
+	public void propertyNode_otherNested() {
+		PojoIndexingProcessor<Integer> nested = mock( PojoIndexingProcessor.class );
+		PojoIndexingProcessor<Object> node = new PojoIndexingProcessorPropertyNode<>(
+				handle, nested, PojoModelPath.ofValue( "myProperty" ) );
+
+		Object source = new Object();
+		when( handle.get( source ) ).thenReturn( 42 );
+		node.process( target, source, context );
+		verify( nested ).process( target, 42, context );
+	}
+
+	@Test
+	public void propertyNode_failure() {
+		RuntimeException bridgeFailure = new RuntimeException( "Some message" );
+		PojoIndexingProcessorValueBridgeNode<Integer, String> bridgeNode = new PojoIndexingProcessorValueBridgeNode<>(
+				BeanHolder.of( (value, bridgeContext) -> {
+					throw bridgeFailure;
+				} ),
+				fieldReference );
+		PojoIndexingProcessor<Object> node = new PojoIndexingProcessorPropertyNode<>(
+				handle, bridgeNode, PojoModelPath.ofValue( "myProperty" ) );
+
+		Object source = new Object();
+		when( handle.get( source ) ).thenReturn( 42 );
+		assertThatThrownBy( () -> node.process( target, source, context ) )
+				.isInstanceOf( SearchProcessingWithContextException.class )
+				.hasCause( bridgeFailure )
+				.hasMessageContainingAll( "Some message", "myProperty" );
+
+		// Exceptions that already carry a context are re-thrown as is
+		SearchProcessingWithContextException handleFailure = new SearchProcessingWithContextException(
+				"Handle failure", null, null );
+		when( handle.get( source ) ).thenThrow( handleFailure );
+		assertThatThrownBy( () -> node.process( target, source, context ) )
+				.isSameAs( handleFailure );
+		verifyNoInteractions( target );
+	}
+
+	@Test
+	public void propertyNode_close() throws Exception {
+		ValueBridge<Integer, String> bridge = mock( ValueBridge.class );
+		BeanHolder<ValueBridge<Integer, String>> bridgeHolder = mock( BeanHolder.class );
+		when( bridgeHolder.get() ).thenReturn( bridge );
+		PojoIndexingProcessor<Object> node = new PojoIndexingProcessorPropertyNode<>( handle,
+				new PojoIndexingProcessorValueBridgeNode<>( bridgeHolder, fieldReference ),
+				PojoModelPath.ofValue( "myProperty" ) );
+
+		node.close();
+		InOrder inOrder = inOrder( bridge, bridgeHolder );
+		inOrder.verify( bridge ).close();
+		inOrder.verify( bridgeHolder ).close();
+	}
+
+	@Test
+	public void multiNode() {
+		PojoIndexingProcessor<Object> element1 = mock( PojoIndexingProcessor.class );
+		PojoIndexingProcessor<Object> element2 = mock( PojoIndexingProcessor.class );
+		PojoIndexingProcessor<Object> node = new PojoIndexingProcessorMultiNode<>(
+				Arrays.asList( element1, element2 ) );
+
+		Object source = new Object();
+		node.process( target, source, context );
+		InOrder inOrder = inOrder( element1, element2 );
+		inOrder.verify( element1 ).process( target, source, context );
+		inOrder.verify( element2 ).process( target, source, context );
+
+		node.close();
+		verify( element1 ).close();
+		verify( element2 ).close();
+	}
+
+	@Test
+	public void multiNode_close_failure() {
+		PojoIndexingProcessor<Object> element1 = mock( PojoIndexingProcessor.class );
+		PojoIndexingProcessor<Object> element2 = mock( PojoIndexingProcessor.class );
+		RuntimeException closeFailure = new RuntimeException( "Some message" );
+		doThrow( closeFailure ).when( element1 ).close();
+		PojoIndexingProcessor<Object> node = new PojoIndexingProcessorMultiNode<>(
+				Arrays.asList( element1, element2 ) );
+
+		// All elements are closed even if one fails
+		assertThatThrownBy( node::close ).isSameAs( closeFailure );
+		verify( element2 ).close();
+	}
+
+	@Test
+	public void originalTypeNode() {
+		IndexObjectFieldReference objectReference1 = mock( IndexObjectFieldReference.class );
+		IndexObjectFieldReference objectReference2 = mock( IndexObjectFieldReference.class );
+		DocumentElement object1 = mock( DocumentElement.class );
+		DocumentElement object2 = mock( DocumentElement.class );
+		when( target.addObject( objectReference1 ) ).thenReturn( object1 );
+		when( object1.addObject( objectReference2 ) ).thenReturn( object2 );
+		PojoIndexingProcessor<Object> nested = mock( PojoIndexingProcessor.class );
+		PojoIndexingProcessor<Object> node = new PojoIndexingProcessorOriginalTypeNode<>(
+				Arrays.asList( objectReference1, objectReference2 ), nested, false );
+
+		Object source = new Object();
+		node.process( target, source, context );
+		verify( nested ).process( object2, source, context );
+
+		// Null sources are ignored
+		node.process( target, null, context );
+		verifyNoMoreInteractions( nested );
+	}
+
+	@Test
+	public void originalTypeNode_noObjectField_deleted() {
+		PojoIndexingProcessor<Object> nested = mock( PojoIndexingProcessor.class );
+		PojoIndexingProcessor<Object> node = new PojoIndexingProcessorOriginalTypeNode<>(
+				Collections.emptyList(), nested, true );
+
+		Object source = new Object();
+		node.process( target, source, context );
+		verify( nested ).process( target, source, context );
+
+		// Deleted entities are ignored
+		when( context.isDeleted( source ) ).thenReturn( true );
+		node.process( target, source, context );
+		verifyNoMoreInteractions( nested );
+		verifyNoInteractions( target );
+	}
+
+	@Test
+	public void castedTypeNode() {
+		IndexObjectFieldReference objectReference = mock( IndexObjectFieldReference.class );
+		DocumentElement object = mock( DocumentElement.class );
+		when( target.addObject( objectReference ) ).thenReturn( object );
+		PojoCaster<String> caster = mock( PojoCaster.class );
+		PojoIndexingProcessor<String> nested = mock( PojoIndexingProcessor.class );
+		PojoIndexingProcessor<Object> node = new PojoIndexingProcessorCastedTypeNode<Object, String>(
+				caster, Collections.singletonList( objectReference ), nested, true );
+
+		Object source = new Object();
+		when( caster.cast( source ) ).thenReturn( "casted" );
+		node.process( target, source, context );
+		verify( nested ).process( object, "casted", context );
+
+		// Deleted entities are ignored
+		when( context.isDeleted( "casted" ) ).thenReturn( true );
+		node.process( target, source, context );
+		verifyNoMoreInteractions( nested );
+	}
+
+	private static ValueBridge<Integer, String> toStringBridge() {
+		return (value, bridgeContext) -> value == null ? null : value.toString();
+	}
+
+}
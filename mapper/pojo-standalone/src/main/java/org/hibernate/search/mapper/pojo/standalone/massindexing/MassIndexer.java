@@ -10,6 +10,7 @@
 import java.util.concurrent.CompletionStage;
 
 import org.hibernate.search.mapper.pojo.standalone.loading.MassLoadingOptions;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingCheckpointStore;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingFailureHandler;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingMonitor;
 import org.hibernate.search.util.common.annotation.Incubating;
@@ -51,6 +52,23 @@ public interface MassIndexer {
 	 */
 	MassIndexer batchSizeToLoadObjects(int batchSize);
 
+	/**
+	 * Sets the number of batches of entities each entity loading thread may have in flight,
+	 * i.e. turned into documents and submitted to the backend but not yet indexed,
+	 * before it waits for the backend to catch up.
+	 * <p>
+	 * Higher values allow loading threads to keep loading entities and building documents
+	 * while the backend is indexing previous batches,
+	 * which helps when entity loading or document building is slow or inconsistent,
+	 * at the cost of keeping more entities in memory.
+	 * <p>
+	 * Defaults to {@code 2}.
+	 * @param batchCount the maximum number of batches in flight per entity loading thread
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	MassIndexer indexingBatchesInFlight(int batchCount);
+
 	/**
 	 * Merges each index into a single segment after indexing.
 	 * <p>
@@ -102,6 +120,33 @@ public interface MassIndexer {
 	 */
 	MassIndexer purgeAllOnStart(boolean purgeAll);
 
+	/**
+	 * Records checkpoints to the given store as mass indexing progresses,
+	 * so that it can be {@link #resumeFrom(MassIndexingCheckpointStore) resumed} after a crash.
+	 * <p>
+	 * A checkpoint is saved every time all identifiers returned by an identifier loader are fully indexed.
+	 * Any checkpoint already in the store is discarded when mass indexing starts,
+	 * and the checkpoint is cleared when mass indexing completes successfully.
+	 * @param store The checkpoint store, e.g. {@link MassIndexingCheckpointStore#file(java.nio.file.Path)}.
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	MassIndexer checkpointStore(MassIndexingCheckpointStore store);
+
+	/**
+	 * Resumes mass indexing from the checkpoint found in the given store, if any,
+	 * skipping types that were already fully indexed,
+	 * and records further checkpoints to the same store.
+	 * <p>
+	 * When a checkpoint is found, indexes are neither purged nor dropped on start,
+	 * regardless of {@link #purgeAllOnStart(boolean)} and {@link #dropAndCreateSchemaOnStart(boolean)}.
+	 * When no checkpoint is found, this behaves exactly like {@link #checkpointStore(MassIndexingCheckpointStore)}.
+	 * @param store The checkpoint store.
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	MassIndexer resumeFrom(MassIndexingCheckpointStore store);
+
 	/**
 	 * Starts the indexing process in background (asynchronous).
 	 * <p>
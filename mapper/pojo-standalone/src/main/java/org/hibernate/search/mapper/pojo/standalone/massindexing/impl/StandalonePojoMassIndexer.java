@@ -10,6 +10,7 @@
 
 import org.hibernate.search.mapper.pojo.standalone.loading.impl.StandalonePojoLoadingContext;
 import org.hibernate.search.mapper.pojo.standalone.massindexing.MassIndexer;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingCheckpointStore;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingFailureHandler;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingMonitor;
 import org.hibernate.search.mapper.pojo.massindexing.spi.PojoMassIndexer;
@@ -42,6 +43,12 @@ public MassIndexer batchSizeToLoadObjects(int batchSize) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer indexingBatchesInFlight(int batchCount) {
+		delegate.indexingBatchesInFlight( batchCount );
+		return this;
+	}
+
 	@Override
 	public MassIndexer mergeSegmentsOnFinish(boolean enable) {
 		delegate.mergeSegmentsOnFinish( enable );
@@ -66,6 +73,18 @@ public MassIndexer purgeAllOnStart(boolean purgeAll) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer checkpointStore(MassIndexingCheckpointStore store) {
+		delegate.checkpointStore( store );
+		return this;
+	}
+
+	@Override
+	public MassIndexer resumeFrom(MassIndexingCheckpointStore store) {
+		delegate.resumeFrom( store );
+		return this;
+	}
+
 	@Override
 	public CompletionStage<?> start() {
 		return delegate.start();
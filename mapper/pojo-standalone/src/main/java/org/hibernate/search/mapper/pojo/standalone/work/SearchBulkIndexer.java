@@ -0,0 +1,76 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.standalone.work;
+
+import java.util.Iterator;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * An indexer for large streams of indexing operations, e.g. events from a change data capture feed.
+ * <p>
+ * Operations are submitted directly to the backend, like with {@link SearchIndexer},
+ * but multiple operations targeting the same entity within a {@link #coalescingWindow(int) window}
+ * are coalesced into a single operation,
+ * and the number of operations executing concurrently is {@link #maxOperationsInFlight(int) bounded},
+ * so that streams of any length can be consumed without exhausting memory.
+ * <p>
+ * Entities to reindex as a result of these operations will not be resolved.
+ */
+@Incubating
+public interface SearchBulkIndexer {
+
+	/**
+	 * Sets the number of distinct entities whose operations are buffered before being submitted to the backend.
+	 * <p>
+	 * Within a window, only the last operation targeting a given entity is executed;
+	 * an {@link SearchIndexingOperation.Kind#ADD add} following another operation on the same entity
+	 * is executed as an {@link SearchIndexingOperation.Kind#ADD_OR_UPDATE add-or-update}.
+	 * <p>
+	 * Larger windows remove more duplicates, at the cost of memory and latency.
+	 * Defaults to {@code 1000}.
+	 *
+	 * @param size The size of the coalescing window. Must be strictly positive.
+	 * @return {@code this} for method chaining.
+	 */
+	SearchBulkIndexer coalescingWindow(int size);
+
+	/**
+	 * Sets the maximum number of operations submitted to the backend and not yet completed.
+	 * <p>
+	 * When this limit is reached, consuming operations blocks until some operations complete.
+	 * Defaults to {@code 1000}.
+	 *
+	 * @param maxOperationsInFlight The maximum number of operations in flight. Must be strictly positive.
+	 * @return {@code this} for method chaining.
+	 */
+	SearchBulkIndexer maxOperationsInFlight(int maxOperationsInFlight);
+
+	/**
+	 * Consumes the given operations in the calling thread and submits them to the backend.
+	 * <p>
+	 * If an operation fails, no further operation is consumed.
+	 *
+	 * @param operations The operations to execute.
+	 * @return A {@link CompletionStage} that completes once all submitted operations completed,
+	 * exceptionally if any operation failed.
+	 */
+	CompletionStage<?> execute(Iterator<? extends SearchIndexingOperation> operations);
+
+	/**
+	 * Shorthand for {@code execute(operations.iterator())}; see {@link #execute(Iterator)}.
+	 *
+	 * @param operations The operations to execute.
+	 * @return A {@link CompletionStage} that completes once all submitted operations completed,
+	 * exceptionally if any operation failed.
+	 */
+	default CompletionStage<?> execute(Iterable<? extends SearchIndexingOperation> operations) {
+		return execute( operations.iterator() );
+	}
+
+}
@@ -215,4 +215,13 @@ default CompletionStage<?> delete(Object providedId, Object entity) {
 	 */
 	CompletionStage<?> delete(Class<?> entityClass, Object providedId, DocumentRoutesDescriptor providedRoutes);
 
+	/**
+	 * Creates an indexer for large streams of indexing operations,
+	 * coalescing operations targeting the same entity and bounding the number of operations in flight.
+	 *
+	 * @return A new bulk indexer.
+	 * @see SearchBulkIndexer
+	 */
+	SearchBulkIndexer bulk();
+
 }
@@ -0,0 +1,246 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.standalone.work;
+
+import org.hibernate.search.mapper.pojo.route.DocumentRoutesDescriptor;
+import org.hibernate.search.util.common.annotation.Incubating;
+import org.hibernate.search.util.common.impl.Contracts;
+
+/**
+ * An indexing operation to submit to a {@link SearchBulkIndexer}.
+ * <p>
+ * Operations are created through the static methods of this class,
+ * which mirror the methods of {@link SearchIndexer}.
+ * Refer to the corresponding {@link SearchIndexer} methods for details about each parameter.
+ */
+@Incubating
+public final class SearchIndexingOperation {
+
+	/**
+	 * Shorthand for {@code add(null, null, entity)}; see {@link #add(Object, DocumentRoutesDescriptor, Object)}.
+	 *
+	 * @param entity The entity to add to the index.
+	 * @return An operation adding the entity to the index.
+	 */
+	public static SearchIndexingOperation add(Object entity) {
+		return add( null, null, entity );
+	}
+
+	/**
+	 * Shorthand for {@code add(providedId, null, entity)}; see {@link #add(Object, DocumentRoutesDescriptor, Object)}.
+	 *
+	 * @param providedId A value to extract the document ID from.
+	 * @param entity The entity to add to the index.
+	 * @return An operation adding the entity to the index.
+	 */
+	public static SearchIndexingOperation add(Object providedId, Object entity) {
+		return add( providedId, null, entity );
+	}
+
+	/**
+	 * @param providedId A value to extract the document ID from.
+	 * @param providedRoutes The route to the current index shard.
+	 * @param entity The entity to add to the index.
+	 * @return An operation adding the entity to the index.
+	 * @see SearchIndexer#add(Object, DocumentRoutesDescriptor, Object)
+	 */
+	public static SearchIndexingOperation add(Object providedId, DocumentRoutesDescriptor providedRoutes,
+			Object entity) {
+		Contracts.assertNotNull( entity, "entity" );
+		return new SearchIndexingOperation( Kind.ADD, null, providedId, providedRoutes, entity );
+	}
+
+	/**
+	 * @param entityClass The class of the entity to add to the index.
+	 * @param providedId A value to extract the document ID from.
+	 * @param providedRoutes The route to the current index shard.
+	 * @return An operation adding the entity to the index.
+	 * @see SearchIndexer#add(Class, Object, DocumentRoutesDescriptor)
+	 */
+	public static SearchIndexingOperation add(Class<?> entityClass, Object providedId,
+			DocumentRoutesDescriptor providedRoutes) {
+		Contracts.assertNotNull( entityClass, "entityClass" );
+		return new SearchIndexingOperation( Kind.ADD, entityClass, providedId, providedRoutes, null );
+	}
+
+	/**
+	 * Shorthand for {@code addOrUpdate(null, null, entity)}; see {@link #addOrUpdate(Object, DocumentRoutesDescriptor, Object)}.
+	 *
+	 * @param entity The entity to update in the index.
+	 * @return An operation updating the entity in the index.
+	 */
+	public static SearchIndexingOperation addOrUpdate(Object entity) {
+		return addOrUpdate( null, null, entity );
+	}
+
+	/**
+	 * Shorthand for {@code addOrUpdate(providedId, null, entity)}; see {@link #addOrUpdate(Object, DocumentRoutesDescriptor, Object)}.
+	 *
+	 * @param providedId A value to extract the document ID from.
+	 * @param entity The entity to update in the index.
+	 * @return An operation updating the entity in the index.
+	 */
+	public static SearchIndexingOperation addOrUpdate(Object providedId, Object entity) {
+		return addOrUpdate( providedId, null, entity );
+	}
+
+	/**
+	 * @param providedId A value to extract the document ID from.
+	 * @param providedRoutes The routes to the current and previous index shards.
+	 * @param entity The entity to update in the index.
+	 * @return An operation updating the entity in the index.
+	 * @see SearchIndexer#addOrUpdate(Object, DocumentRoutesDescriptor, Object)
+	 */
+	public static SearchIndexingOperation addOrUpdate(Object providedId, DocumentRoutesDescriptor providedRoutes,
+			Object entity) {
+		Contracts.assertNotNull( entity, "entity" );
+		return new SearchIndexingOperation( Kind.ADD_OR_UPDATE, null, providedId, providedRoutes, entity );
+	}
+
+	/**
+	 * @param entityClass The class of the entity to update in the index.
+	 * @param providedId A value to extract the document ID from.
+	 * @param providedRoutes The routes to the current and previous index shards.
+	 * @return An operation updating the entity in the index.
+	 * @see SearchIndexer#addOrUpdate(Class, Object, DocumentRoutesDescriptor)
+	 */
+	public static SearchIndexingOperation addOrUpdate(Class<?> entityClass, Object providedId,
+			DocumentRoutesDescriptor providedRoutes) {
+		Contracts.assertNotNull( entityClass, "entityClass" );
+		return new SearchIndexingOperation( Kind.ADD_OR_UPDATE, entityClass, providedId, providedRoutes, null );
+	}
+
+	/**
+	 * Shorthand for {@code delete(null, null, entity)}; see {@link #delete(Object, DocumentRoutesDescriptor, Object)}.
+	 *
+	 * @param entity The entity to delete from the index.
+	 * @return An operation deleting the entity from the index.
+	 */
+	public static SearchIndexingOperation delete(Object entity) {
+		return delete( null, null, entity );
+	}
+
+	/**
+	 * Shorthand for {@code delete(providedId, null, entity)}; see {@link #delete(Object, DocumentRoutesDescriptor, Object)}.
+	 *
+	 * @param providedId A value to extract the document ID from.
+	 * @param entity The entity to delete from the index.
+	 * @return An operation deleting the entity from the index.
+	 */
+	public static SearchIndexingOperation delete(Object providedId, Object entity) {
+		return delete( providedId, null, entity );
+	}
+
+	/**
+	 * @param providedId A value to extract the document ID from.
+	 * @param providedRoutes The routes to the current and previous index shards.
+	 * @param entity The entity to delete from the index.
+	 * @return An operation deleting the entity from the index.
+	 * @see SearchIndexer#delete(Object, DocumentRoutesDescriptor, Object)
+	 */
+	public static SearchIndexingOperation delete(Object providedId, DocumentRoutesDescriptor providedRoutes,
+			Object entity) {
+		Contracts.assertNotNull( entity, "entity" );
+		return new SearchIndexingOperation( Kind.DELETE, null, providedId, providedRoutes, entity );
+	}
+
+	/**
+	 * @param entityClass The class of the entity to delete from the index.
+	 * @param providedId A value to extract the document ID from.
+	 * @param providedRoutes The routes to the current and previous index shards.
+	 * @return An operation deleting the entity from the index.
+	 * @see SearchIndexer#delete(Class, Object, DocumentRoutesDescriptor)
+	 */
+	public static SearchIndexingOperation delete(Class<?> entityClass, Object providedId,
+			DocumentRoutesDescriptor providedRoutes) {
+		Contracts.assertNotNull( entityClass, "entityClass" );
+		return new SearchIndexingOperation( Kind.DELETE, entityClass, providedId, providedRoutes, null );
+	}
+
+	private final Kind kind;
+	private final Class<?> entityClass;
+	private final Object providedId;
+	private final DocumentRoutesDescriptor providedRoutes;
+	private final Object entity;
+
+	private SearchIndexingOperation(Kind kind, Class<?> entityClass, Object providedId,
+			DocumentRoutesDescriptor providedRoutes, Object entity) {
+		this.kind = kind;
+		this.entityClass = entityClass;
+		this.providedId = providedId;
+		this.providedRoutes = providedRoutes;
+		this.entity = entity;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "kind=" + kind
+				+ ", entityClass=" + entityClass
+				+ ", providedId=" + providedId
+				+ ", providedRoutes=" + providedRoutes
+				+ ", entity=" + entity
+				+ "]";
+	}
+
+	/**
+	 * @return The kind of operation.
+	 */
+	public Kind kind() {
+		return kind;
+	}
+
+	/**
+	 * @return The class of the entity targeted by this operation,
+	 * or {@code null} if the operation was created from an entity instance.
+	 */
+	public Class<?> entityClass() {
+		return entityClass;
+	}
+
+	/**
+	 * @return The value to extract the document ID from, or {@code null}.
+	 */
+	public Object providedId() {
+		return providedId;
+	}
+
+	/**
+	 * @return The routes to index shards, or {@code null}.
+	 */
+	public DocumentRoutesDescriptor providedRoutes() {
+		return providedRoutes;
+	}
+
+	/**
+	 * @return The entity targeted by this operation,
+	 * or {@code null} if the operation was created from an entity class.
+	 */
+	public Object entity() {
+		return entity;
+	}
+
+	/**
+	 * The kind of an indexing operation.
+	 */
+	public enum Kind {
+
+		/**
+		 * Add an entity to the index, assuming that the entity is absent from the index.
+		 */
+		ADD,
+		/**
+		 * Update an entity in the index, or add it if it's absent from the index.
+		 */
+		ADD_OR_UPDATE,
+		/**
+		 * Delete an entity from the index.
+		 */
+		DELETE
+
+	}
+}
@@ -0,0 +1,225 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.standalone.work.impl;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
+import org.hibernate.search.mapper.pojo.standalone.work.SearchBulkIndexer;
+import org.hibernate.search.mapper.pojo.standalone.work.SearchIndexingOperation;
+import org.hibernate.search.mapper.pojo.work.spi.PojoIndexer;
+import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.impl.Contracts;
+import org.hibernate.search.util.common.impl.Futures;
+
+public class SearchBulkIndexerImpl implements SearchBulkIndexer {
+
+	private final PojoRuntimeIntrospector introspector;
+	private final PojoIndexer delegate;
+	private final DocumentCommitStrategy commitStrategy;
+	private final DocumentRefreshStrategy refreshStrategy;
+
+	private int coalescingWindow = 1000;
+	private int maxOperationsInFlight = 1000;
+
+	public SearchBulkIndexerImpl(PojoRuntimeIntrospector introspector, PojoIndexer delegate,
+			DocumentCommitStrategy commitStrategy,
+			DocumentRefreshStrategy refreshStrategy) {
+		this.introspector = introspector;
+		this.delegate = delegate;
+		this.commitStrategy = commitStrategy;
+		this.refreshStrategy = refreshStrategy;
+	}
+
+	@Override
+	public SearchBulkIndexer coalescingWindow(int size) {
+		Contracts.assertStrictlyPositive( size, "size" );
+		this.coalescingWindow = size;
+		return this;
+	}
+
+	@Override
+	public SearchBulkIndexer maxOperationsInFlight(int maxOperationsInFlight) {
+		Contracts.assertStrictlyPositive( maxOperationsInFlight, "maxOperationsInFlight" );
+		this.maxOperationsInFlight = maxOperationsInFlight;
+		return this;
+	}
+
+	@Override
+	public CompletionStage<?> execute(Iterator<? extends SearchIndexingOperation> operations) {
+		Execution execution = new Execution( coalescingWindow, maxOperationsInFlight );
+		execution.consume( operations );
+		return execution.future;
+	}
+
+	private PojoRawTypeIdentifier<?> typeIdentifier(SearchIndexingOperation operation) {
+		Class<?> entityClass = operation.entityClass();
+		return entityClass != null
+				? PojoRawTypeIdentifier.of( entityClass )
+				: introspector.detectEntityType( operation.entity() );
+	}
+
+	private CompletableFuture<?> submit(PojoRawTypeIdentifier<?> typeIdentifier, SearchIndexingOperation operation) {
+		switch ( operation.kind() ) {
+			case ADD:
+				return delegate.add( typeIdentifier, operation.providedId(), operation.providedRoutes(),
+						operation.entity(), commitStrategy, refreshStrategy );
+			case ADD_OR_UPDATE:
+				return delegate.addOrUpdate( typeIdentifier, operation.providedId(), operation.providedRoutes(),
+						operation.entity(), commitStrategy, refreshStrategy );
+			case DELETE:
+				if ( operation.entity() == null ) {
+					return delegate.delete( typeIdentifier, operation.providedId(), operation.providedRoutes(),
+							commitStrategy, refreshStrategy );
+				}
+				else {
+					return delegate.delete( typeIdentifier, operation.providedId(), operation.providedRoutes(),
+							operation.entity(), commitStrategy, refreshStrategy );
+				}
+			default:
+				throw new AssertionFailure( "Unexpected operation kind: " + operation.kind() );
+		}
+	}
+
+	private static SearchIndexingOperation coalesce(SearchIndexingOperation previous, SearchIndexingOperation next) {
+		if ( previous == null || next.kind() != SearchIndexingOperation.Kind.ADD
+				|| previous.kind() == SearchIndexingOperation.Kind.ADD ) {
+			return next;
+		}
+		// The entity may already be in the index: an "add" could lead to duplicates.
+		return next.entityClass() != null
+				? SearchIndexingOperation.addOrUpdate( next.entityClass(), next.providedId(), next.providedRoutes() )
+				: SearchIndexingOperation.addOrUpdate( next.providedId(), next.providedRoutes(), next.entity() );
+	}
+
+	private final class Execution {
+		private final CompletableFuture<Object> future = new CompletableFuture<>();
+		private final int coalescingWindow;
+		private final Semaphore inFlightPermits;
+		// Starts at 1 to account for the consumption of operations itself
+		private final AtomicInteger pending = new AtomicInteger( 1 );
+		private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+		private Execution(int coalescingWindow, int maxOperationsInFlight) {
+			this.coalescingWindow = coalescingWindow;
+			this.inFlightPermits = new Semaphore( maxOperationsInFlight );
+		}
+
+		void consume(Iterator<? extends SearchIndexingOperation> operations) {
+			Map<OperationKey, SearchIndexingOperation> window = new LinkedHashMap<>();
+			try {
+				while ( failure.get() == null && operations.hasNext() ) {
+					SearchIndexingOperation operation = operations.next();
+					PojoRawTypeIdentifier<?> typeIdentifier = typeIdentifier( operation );
+					OperationKey key = new OperationKey( typeIdentifier,
+							delegate.identifier( typeIdentifier, operation.providedId(), operation.entity() ) );
+					window.put( key, coalesce( window.get( key ), operation ) );
+					if ( window.size() >= coalescingWindow ) {
+						submitAll( window );
+						window.clear();
+					}
+				}
+				submitAll( window );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				fail( e );
+			}
+			catch (RuntimeException e) {
+				fail( e );
+			}
+			finally {
+				done();
+			}
+		}
+
+		private void submitAll(Map<OperationKey, SearchIndexingOperation> window) throws InterruptedException {
+			for ( Map.Entry<OperationKey, SearchIndexingOperation> entry : window.entrySet() ) {
+				inFlightPermits.acquire();
+				if ( failure.get() != null ) {
+					inFlightPermits.release();
+					return;
+				}
+				pending.incrementAndGet();
+				CompletableFuture<?> operationFuture;
+				try {
+					operationFuture = submit( entry.getKey().typeIdentifier, entry.getValue() );
+				}
+				catch (RuntimeException e) {
+					inFlightPermits.release();
+					fail( e );
+					done();
+					return;
+				}
+				operationFuture.whenComplete( Futures.handler( (result, throwable) -> {
+					inFlightPermits.release();
+					if ( throwable != null ) {
+						fail( throwable );
+					}
+					done();
+				} ) );
+			}
+		}
+
+		private void fail(Throwable throwable) {
+			if ( !failure.compareAndSet( null, throwable ) && failure.get() != throwable ) {
+				failure.get().addSuppressed( throwable );
+			}
+		}
+
+		private void done() {
+			if ( pending.decrementAndGet() > 0 ) {
+				return;
+			}
+			Throwable throwable = failure.get();
+			if ( throwable == null ) {
+				future.complete( null );
+			}
+			else {
+				future.completeExceptionally( throwable );
+			}
+		}
+	}
+
+	private static final class OperationKey {
+		private final PojoRawTypeIdentifier<?> typeIdentifier;
+		private final Object identifier;
+
+		private OperationKey(PojoRawTypeIdentifier<?> typeIdentifier, Object identifier) {
+			this.typeIdentifier = typeIdentifier;
+			this.identifier = identifier;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( obj == null || getClass() != obj.getClass() ) {
+				return false;
+			}
+			OperationKey other = (OperationKey) obj;
+			return typeIdentifier.equals( other.typeIdentifier ) && identifier.equals( other.identifier );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( typeIdentifier, identifier );
+		}
+	}
+}
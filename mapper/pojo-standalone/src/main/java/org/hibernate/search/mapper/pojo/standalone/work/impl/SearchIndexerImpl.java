@@ -10,6 +10,7 @@
 
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.mapper.pojo.standalone.work.SearchBulkIndexer;
 import org.hibernate.search.mapper.pojo.standalone.work.SearchIndexer;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
@@ -68,6 +69,11 @@ public CompletionStage<?> delete(Class<?> entityClass, Object providedId, Docume
 				commitStrategy, refreshStrategy );
 	}
 
+	@Override
+	public SearchBulkIndexer bulk() {
+		return new SearchBulkIndexerImpl( introspector, delegate, commitStrategy, refreshStrategy );
+	}
+
 	private <T> PojoRawTypeIdentifier<? extends T> getTypeIdentifier(T entity) {
 		return introspector.detectEntityType( entity );
 	}
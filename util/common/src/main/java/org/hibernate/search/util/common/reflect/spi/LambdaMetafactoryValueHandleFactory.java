@@ -0,0 +1,84 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.util.common.reflect.spi;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.function.Function;
+
+import org.hibernate.search.util.common.annotation.impl.SuppressForbiddenApis;
+import org.hibernate.search.util.common.impl.ReflectionHelper;
+import org.hibernate.search.util.common.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reflect.impl.FunctionValueReadHandle;
+import org.hibernate.search.util.common.reflect.impl.MethodHandleValueCreateHandle;
+import org.hibernate.search.util.common.reflect.impl.MethodHandleValueReadHandle;
+
+@SuppressForbiddenApis(reason = "MethodHandles don't always work, but usage of this class is configurable,"
+		+ " so it should only be used in contexts where MethodHandles actually work.")
+final class LambdaMetafactoryValueHandleFactory implements ValueHandleFactory {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final MethodType FUNCTION_FACTORY_TYPE = MethodType.methodType( Function.class );
+	private static final MethodType FUNCTION_APPLY_TYPE = MethodType.methodType( Object.class, Object.class );
+
+	private final MethodHandles.Lookup lookup;
+
+	LambdaMetafactoryValueHandleFactory(MethodHandles.Lookup lookup) {
+		this.lookup = lookup;
+	}
+
+	@Override
+	public <T> ValueCreateHandle<T> createForConstructor(Constructor<T> constructor) throws IllegalAccessException {
+		return new MethodHandleValueCreateHandle<>( constructor, lookup.unreflectConstructor( constructor ) );
+	}
+
+	@Override
+	public ValueReadHandle<?> createForField(Field field) throws IllegalAccessException {
+		// LambdaMetafactory only accepts method handles pointing to methods, not to fields.
+		return new MethodHandleValueReadHandle<>( field, lookup.unreflectGetter( field ) );
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public ValueReadHandle<?> createForMethod(Method method) throws IllegalAccessException {
+		MethodHandle getter = lookup.unreflect( method );
+		Class<?> returnType = method.getReturnType();
+		if ( returnType.isPrimitive() ) {
+			returnType = ReflectionHelper.getPrimitiveWrapperType( returnType );
+		}
+		try {
+			CallSite callSite = LambdaMetafactory.metafactory( lookup, "apply", FUNCTION_FACTORY_TYPE,
+					FUNCTION_APPLY_TYPE, getter,
+					MethodType.methodType( returnType, method.getDeclaringClass() ) );
+			Function<Object, ?> function = (Function<Object, ?>) callSite.getTarget().invoke();
+			return new FunctionValueReadHandle<>( method, function );
+		}
+		catch (LambdaConversionException | RuntimeException e) {
+			// Some members cannot be accessed through generated classes,
+			// e.g. because the lookup does not have full privileges: use the method handle directly.
+			log.debugf( e, "Unable to generate an accessor for '%s'; falling back to a method handle.", method );
+			return new MethodHandleValueReadHandle<>( method, getter );
+		}
+		catch (Error e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			// Should not happen: the target of the call site is a simple factory.
+			log.debugf( e, "Unable to generate an accessor for '%s'; falling back to a method handle.", method );
+			return new MethodHandleValueReadHandle<>( method, getter );
+		}
+	}
+}
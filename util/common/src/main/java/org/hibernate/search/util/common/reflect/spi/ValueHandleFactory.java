@@ -37,4 +37,19 @@ static ValueHandleFactory usingMethodHandle(MethodHandles.Lookup lookup) {
 		return new MethodHandleValueHandleFactory( lookup );
 	}
 
+	/**
+	 * @param lookup A lookup with sufficient access rights to access all relevant fields and methods.
+	 * Ideally, the lookup should have full privilege access (e.g. {@link MethodHandles#lookup()}
+	 * called from the package of mapped types),
+	 * as {@link java.lang.invoke.LambdaMetafactory} can only generate accessors for such lookups.
+	 * @return A factory producing value handles that rely on classes generated through
+	 * {@link java.lang.invoke.LambdaMetafactory} to get the value of a method,
+	 * which are generally faster than plain {@link java.lang.invoke.MethodHandle}s.
+	 * Falls back to {@link java.lang.invoke.MethodHandle} for fields,
+	 * and for methods that cannot be accessed through generated classes.
+	 */
+	static ValueHandleFactory usingLambdaMetafactory(MethodHandles.Lookup lookup) {
+		return new LambdaMetafactoryValueHandleFactory( lookup );
+	}
+
 }
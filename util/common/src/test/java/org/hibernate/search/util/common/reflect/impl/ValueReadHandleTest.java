@@ -10,6 +10,7 @@
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
 import static org.junit.Assume.assumeFalse;
+import static org.junit.Assume.assumeTrue;
 
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.AccessibleObject;
@@ -39,6 +40,7 @@ public static List<Object[]> params() {
 		MethodHandles.Lookup lookup = MethodHandles.lookup();
 		return Arrays.asList( new Object[][] {
 				{ ValueHandleFactory.usingMethodHandle( lookup ) },
+				{ ValueHandleFactory.usingLambdaMetafactory( lookup ) },
 				{ ValueHandleFactory.usingJavaLangReflect() }
 		} );
 	}
@@ -146,7 +148,7 @@ public void failure_method_illegalAccessException() throws Exception {
 				"Cannot test IllegalAccessException with MethodHandles: "
 						+ " if we don't use setAccessible(true), we can't create the handle,"
 						+ " and if we do use setAccessible(true), the handle has full access to the field/method.",
-				factory.getClass().getSimpleName().contains( "MethodHandle" )
+				isMethodHandleBased()
 		);
 
 		Method method = EntityType.class.getDeclaredMethod( "illegalAccessExceptionThrowingMethod" );
@@ -168,7 +170,7 @@ public void failure_field_illegalAccessException() throws Exception {
 				"Cannot test IllegalAccessException with MethodHandles: "
 						+ " if we don't use setAccessible(true), we can't create the handle,"
 						+ " and if we do use setAccessible(true), the handle has full access to the field/method.",
-				factory.getClass().getSimpleName().contains( "MethodHandle" )
+				isMethodHandleBased()
 		);
 
 		Field field = EntityType.class.getDeclaredField( "illegalAccessExceptionThrowingField" );
@@ -247,6 +249,34 @@ private void testMethodValueReadHandleSuccess(String methodName) throws IllegalA
 		assertThat( valueReadHandle ).isNotEqualTo( differentMethodValueReadHandle );
 	}
 
+	@Test
+	public void primitiveMethod() throws Exception {
+		Method method = EntityType.class.getDeclaredMethod( "primitiveMethod" );
+		setAccessible( method );
+
+		ValueReadHandle<?> valueReadHandle = factory.createForMethod( method );
+
+		assertThat( valueReadHandle.get( new EntityType() ) ).isEqualTo( 42 );
+	}
+
+	@Test
+	public void lambdaMetafactory_generatedAccessor() throws Exception {
+		assumeTrue( "This test only makes sense with LambdaMetafactory",
+				factory.getClass().getSimpleName().contains( "LambdaMetafactory" ) );
+
+		Method method = EntityType.class.getDeclaredMethod( "publicMethod" );
+
+		ValueReadHandle<?> valueReadHandle = factory.createForMethod( method );
+
+		assertThat( valueReadHandle ).isInstanceOf( FunctionValueReadHandle.class );
+		assertThat( valueReadHandle.get( new EntityType() ) ).isEqualTo( "publicMethodValue" );
+	}
+
+	private boolean isMethodHandleBased() {
+		String factoryName = factory.getClass().getSimpleName();
+		return factoryName.contains( "MethodHandle" ) || factoryName.contains( "LambdaMetafactory" );
+	}
+
 	private static void setAccessible(Member member) {
 		if ( !Modifier.isPublic( member.getModifiers() ) ) {
 			( (AccessibleObject) member ).setAccessible( true );
@@ -292,6 +322,9 @@ protected String protectedMethod() {
 		public String publicMethod() {
 			return "publicMethodValue";
 		}
+		public int primitiveMethod() {
+			return 42;
+		}
 		public String otherMethod() {
 			return "otherMethod";
 		}
@@ -12,6 +12,7 @@
 
 import org.hibernate.search.engine.common.dsl.spi.DslExtensionState;
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContext;
+import org.hibernate.search.engine.search.query.SearchCursor;
 import org.hibernate.search.engine.search.query.SearchScroll;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
 import org.hibernate.search.engine.search.query.SearchQuery;
@@ -71,6 +72,14 @@ public SearchResult<H> fetch(Integer offset, Integer limit) {
 		return result;
 	}
 
+	@Override
+	public SearchResult<H> fetchAfter(SearchCursor cursor, Integer limit) {
+		if ( cursor != null ) {
+			throw new UnsupportedOperationException( "Cursors not supported in the stub backend" );
+		}
+		return fetch( null, limit );
+	}
+
 	@Override
 	public List<H> fetchHits(Integer offset, Integer limit) {
 		return fetch( offset, limit ).hits();